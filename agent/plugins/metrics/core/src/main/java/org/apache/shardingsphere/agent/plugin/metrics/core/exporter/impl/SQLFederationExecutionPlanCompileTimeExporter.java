@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.GaugeMetricFamilyMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.MetricsExporter;
+import org.apache.shardingsphere.sqlfederation.optimizer.statement.SQLStatementCompilerEngine;
+import org.apache.shardingsphere.sqlfederation.optimizer.statement.SQLStatementCompilerEngineFactory;
+
+import java.util.Collections;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SQL federation execution plan compile time exporter.
+ */
+public final class SQLFederationExecutionPlanCompileTimeExporter implements MetricsExporter {
+    
+    private final MetricConfiguration config = new MetricConfiguration("sql_federation_execution_plan_compile_time_millis",
+            MetricCollectorType.GAUGE_METRIC_FAMILY, "Total compile time millis of SQL federation execution plans", Collections.singletonList("schema"), Collections.emptyMap());
+    
+    @Override
+    public Optional<GaugeMetricFamilyMetricsCollector> export(final String pluginType) {
+        GaugeMetricFamilyMetricsCollector result = MetricsCollectorRegistry.get(config, pluginType);
+        result.cleanMetrics();
+        for (Entry<String, SQLStatementCompilerEngine> entry : SQLStatementCompilerEngineFactory.getSQLStatementCompilerEngines().entrySet()) {
+            CacheStats stats = entry.getValue().getExecutionPlanCacheStats();
+            result.addMetric(Collections.singletonList(entry.getKey()), TimeUnit.NANOSECONDS.toMillis(stats.totalLoadTime()));
+        }
+        return Optional.of(result);
+    }
+}
@@ -25,6 +25,9 @@ import org.apache.shardingsphere.agent.api.PluginConfiguration;
 import org.apache.shardingsphere.agent.plugin.core.config.validator.PluginConfigurationValidator;
 import org.apache.shardingsphere.agent.plugin.core.context.PluginContext;
 import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.BuildInfoExporter;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.SQLFederationExecutionPlanCacheExporter;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.SQLFederationExecutionPlanCompileTimeExporter;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.SQLStatementShapeCacheExporter;
 import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.jdbc.JDBCMetaDataInfoExporter;
 import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.jdbc.JDBCStateExporter;
 import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy.ProxyMetaDataInfoExporter;
@@ -65,6 +68,9 @@ public final class PrometheusPluginLifecycleService implements PluginLifecycleSe
     
     private void registerCollector(final boolean isCollectJVMInformation, final boolean isEnhancedForProxy) {
         new PrometheusMetricsExporter(new BuildInfoExporter()).register();
+        new PrometheusMetricsExporter(new SQLStatementShapeCacheExporter()).register();
+        new PrometheusMetricsExporter(new SQLFederationExecutionPlanCacheExporter()).register();
+        new PrometheusMetricsExporter(new SQLFederationExecutionPlanCompileTimeExporter()).register();
         if (isEnhancedForProxy) {
             registerCollectorForProxy();
         } else {
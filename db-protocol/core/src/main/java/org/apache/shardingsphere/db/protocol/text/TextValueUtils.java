@@ -0,0 +1,255 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.text;
+
+import io.netty.buffer.ByteBuf;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Text value utility class.
+ *
+ * <p>Numeric and temporal values are written into byte buf as ASCII text with digit tables, without intermediate strings.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TextValueUtils {
+    
+    /**
+     * Length of date text in format of {@code yyyy-MM-dd}.
+     */
+    public static final int DATE_LENGTH = 10;
+    
+    /**
+     * Length of time text in format of {@code HH:mm:ss}.
+     */
+    public static final int TIME_LENGTH = 8;
+    
+    /**
+     * Length of date time text in format of {@code yyyy-MM-dd HH:mm:ss}.
+     */
+    public static final int DATE_TIME_LENGTH = 19;
+    
+    private static final int MAX_COMPACT_DECIMAL_DIGITS = 18;
+    
+    private static final int NANOS_DIGITS = 9;
+    
+    private static final byte[] DIGIT_TENS = new byte[100];
+    
+    private static final byte[] DIGIT_ONES = new byte[100];
+    
+    private static final long[] POWERS_OF_TEN = new long[MAX_COMPACT_DECIMAL_DIGITS + 1];
+    
+    private static final byte[] LONG_MIN_VALUE = String.valueOf(Long.MIN_VALUE).getBytes(StandardCharsets.US_ASCII);
+    
+    static {
+        for (int i = 0; i < 100; i++) {
+            DIGIT_TENS[i] = (byte) ('0' + i / 10);
+            DIGIT_ONES[i] = (byte) ('0' + i % 10);
+        }
+        POWERS_OF_TEN[0] = 1L;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10L;
+        }
+    }
+    
+    /**
+     * Get text length of long value.
+     *
+     * @param value long value
+     * @return text length
+     */
+    public static int getLength(final long value) {
+        if (Long.MIN_VALUE == value) {
+            return LONG_MIN_VALUE.length;
+        }
+        return value < 0L ? getDigitCount(-value) + 1 : getDigitCount(value);
+    }
+    
+    private static int getDigitCount(final long value) {
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            if (value < POWERS_OF_TEN[i]) {
+                return i;
+            }
+        }
+        return POWERS_OF_TEN.length;
+    }
+    
+    /**
+     * Write long value as text.
+     *
+     * @param byteBuf byte buf
+     * @param value long value
+     */
+    public static void writeLong(final ByteBuf byteBuf, final long value) {
+        if (Long.MIN_VALUE == value) {
+            byteBuf.writeBytes(LONG_MIN_VALUE);
+            return;
+        }
+        if (value < 0L) {
+            byteBuf.writeByte('-');
+            writeDigits(byteBuf, -value, getDigitCount(-value));
+            return;
+        }
+        writeDigits(byteBuf, value, getDigitCount(value));
+    }
+    
+    private static void writeDigits(final ByteBuf byteBuf, final long value, final int digitCount) {
+        byteBuf.ensureWritable(digitCount);
+        int startIndex = byteBuf.writerIndex();
+        int index = startIndex + digitCount;
+        long remaining = value;
+        while (index - startIndex > 1) {
+            int twoDigits = (int) (remaining % 100L);
+            remaining /= 100L;
+            byteBuf.setByte(--index, DIGIT_ONES[twoDigits]);
+            byteBuf.setByte(--index, DIGIT_TENS[twoDigits]);
+        }
+        if (index > startIndex) {
+            byteBuf.setByte(--index, DIGIT_ONES[(int) (remaining % 10L)]);
+        }
+        byteBuf.writerIndex(startIndex + digitCount);
+    }
+    
+    /**
+     * Judge whether decimal value is compact, which means its unscaled value and scale fit into long digits.
+     *
+     * @param value decimal value
+     * @return is compact decimal or not
+     */
+    public static boolean isCompactDecimal(final BigDecimal value) {
+        return value.scale() >= 0 && value.scale() <= MAX_COMPACT_DECIMAL_DIGITS && value.precision() <= MAX_COMPACT_DECIMAL_DIGITS;
+    }
+    
+    /**
+     * Get plain text length of compact decimal value.
+     *
+     * @param unscaledValue unscaled value of compact decimal
+     * @param scale scale of compact decimal
+     * @return plain text length
+     */
+    public static int getDecimalLength(final long unscaledValue, final int scale) {
+        if (0 == scale) {
+            return getLength(unscaledValue);
+        }
+        int signLength = unscaledValue < 0L ? 1 : 0;
+        return signLength + Math.max(getDigitCount(Math.abs(unscaledValue)), scale + 1) + 1;
+    }
+    
+    /**
+     * Write compact decimal value as plain text.
+     *
+     * @param byteBuf byte buf
+     * @param unscaledValue unscaled value of compact decimal
+     * @param scale scale of compact decimal
+     */
+    public static void writeDecimal(final ByteBuf byteBuf, final long unscaledValue, final int scale) {
+        if (0 == scale) {
+            writeLong(byteBuf, unscaledValue);
+            return;
+        }
+        if (unscaledValue < 0L) {
+            byteBuf.writeByte('-');
+        }
+        long absoluteValue = Math.abs(unscaledValue);
+        long integerPart = absoluteValue / POWERS_OF_TEN[scale];
+        writeDigits(byteBuf, integerPart, getDigitCount(integerPart));
+        byteBuf.writeByte('.');
+        writeDigits(byteBuf, absoluteValue % POWERS_OF_TEN[scale], scale);
+    }
+    
+    /**
+     * Judge whether year can be written as four digits.
+     *
+     * @param year year
+     * @return can be written as four digits or not
+     */
+    public static boolean isFourDigitsYear(final int year) {
+        return year >= 1000 && year <= 9999;
+    }
+    
+    /**
+     * Write date as text in format of {@code yyyy-MM-dd}.
+     *
+     * @param byteBuf byte buf
+     * @param year four digits year
+     * @param month month
+     * @param dayOfMonth day of month
+     */
+    public static void writeDate(final ByteBuf byteBuf, final int year, final int month, final int dayOfMonth) {
+        writeDigits(byteBuf, year, 4);
+        byteBuf.writeByte('-');
+        writeDigits(byteBuf, month, 2);
+        byteBuf.writeByte('-');
+        writeDigits(byteBuf, dayOfMonth, 2);
+    }
+    
+    /**
+     * Write time as text in format of {@code HH:mm:ss}.
+     *
+     * @param byteBuf byte buf
+     * @param hour hour
+     * @param minute minute
+     * @param second second
+     */
+    public static void writeTime(final ByteBuf byteBuf, final int hour, final int minute, final int second) {
+        writeDigits(byteBuf, hour, 2);
+        byteBuf.writeByte(':');
+        writeDigits(byteBuf, minute, 2);
+        byteBuf.writeByte(':');
+        writeDigits(byteBuf, second, 2);
+    }
+    
+    /**
+     * Get text length of nanos fraction, trailing zeros are not counted and zero nanos are written as one digit.
+     *
+     * @param nanos nanos
+     * @return text length of nanos fraction including decimal point
+     */
+    public static int getNanosLength(final int nanos) {
+        return 0 == nanos ? 2 : NANOS_DIGITS - getTrailingZeroCount(nanos) + 1;
+    }
+    
+    private static int getTrailingZeroCount(final int nanos) {
+        int result = 0;
+        int remaining = nanos;
+        while (0 == remaining % 10) {
+            remaining /= 10;
+            result++;
+        }
+        return result;
+    }
+    
+    /**
+     * Write nanos fraction as text in the same format with {@link java.sql.Timestamp#toString()}.
+     *
+     * @param byteBuf byte buf
+     * @param nanos nanos
+     */
+    public static void writeNanos(final ByteBuf byteBuf, final int nanos) {
+        byteBuf.writeByte('.');
+        if (0 == nanos) {
+            byteBuf.writeByte('0');
+            return;
+        }
+        int trailingZeroCount = getTrailingZeroCount(nanos);
+        writeDigits(byteBuf, nanos / POWERS_OF_TEN[trailingZeroCount], NANOS_DIGITS - trailingZeroCount);
+    }
+}
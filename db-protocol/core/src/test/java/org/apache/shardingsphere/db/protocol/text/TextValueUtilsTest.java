@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.text;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class TextValueUtilsTest {
+    
+    @Test
+    void assertWriteLong() {
+        for (long each : new long[]{0L, 1L, -1L, 9L, 10L, 99L, 100L, -12345L, 1234567890123L, Long.MAX_VALUE, Long.MIN_VALUE, Long.MIN_VALUE + 1L, Integer.MIN_VALUE}) {
+            ByteBuf byteBuf = Unpooled.buffer(1);
+            TextValueUtils.writeLong(byteBuf, each);
+            assertThat(byteBuf.toString(StandardCharsets.US_ASCII), is(String.valueOf(each)));
+            assertThat(TextValueUtils.getLength(each), is(String.valueOf(each).length()));
+        }
+    }
+    
+    @Test
+    void assertWriteDecimal() {
+        for (String each : new String[]{"0", "0.00", "1.5", "-1.5", "0.005", "-0.005", "123456.789", "999999999999999999", "0.000000000000000001", "-12.340"}) {
+            BigDecimal decimal = new BigDecimal(each);
+            assertThat(TextValueUtils.isCompactDecimal(decimal), is(true));
+            long unscaledValue = decimal.unscaledValue().longValue();
+            ByteBuf byteBuf = Unpooled.buffer();
+            TextValueUtils.writeDecimal(byteBuf, unscaledValue, decimal.scale());
+            assertThat(byteBuf.toString(StandardCharsets.US_ASCII), is(decimal.toPlainString()));
+            assertThat(TextValueUtils.getDecimalLength(unscaledValue, decimal.scale()), is(decimal.toPlainString().length()));
+        }
+    }
+    
+    @Test
+    void assertIsNotCompactDecimal() {
+        assertThat(TextValueUtils.isCompactDecimal(new BigDecimal("1E+3")), is(false));
+        assertThat(TextValueUtils.isCompactDecimal(new BigDecimal("1234567890123456789")), is(false));
+        assertThat(TextValueUtils.isCompactDecimal(new BigDecimal("0.0000000000000000001")), is(false));
+    }
+    
+    @Test
+    void assertIsFourDigitsYear() {
+        assertThat(TextValueUtils.isFourDigitsYear(1000), is(true));
+        assertThat(TextValueUtils.isFourDigitsYear(9999), is(true));
+        assertThat(TextValueUtils.isFourDigitsYear(999), is(false));
+        assertThat(TextValueUtils.isFourDigitsYear(10000), is(false));
+    }
+    
+    @Test
+    void assertWriteDateTime() {
+        ByteBuf byteBuf = Unpooled.buffer();
+        TextValueUtils.writeDate(byteBuf, 2024, 1, 9);
+        byteBuf.writeByte(' ');
+        TextValueUtils.writeTime(byteBuf, 8, 5, 0);
+        assertThat(byteBuf.toString(StandardCharsets.US_ASCII), is("2024-01-09 08:05:00"));
+        assertThat(byteBuf.readableBytes(), is(TextValueUtils.DATE_TIME_LENGTH));
+    }
+    
+    @Test
+    void assertWriteNanos() {
+        for (int each : new int[]{0, 1, 10, 100000000, 120000000, 123456789, 999999999}) {
+            Timestamp timestamp = Timestamp.valueOf("2024-01-09 08:05:00");
+            timestamp.setNanos(each);
+            String expected = timestamp.toString().substring(TextValueUtils.DATE_TIME_LENGTH);
+            ByteBuf byteBuf = Unpooled.buffer();
+            TextValueUtils.writeNanos(byteBuf, each);
+            assertThat(byteBuf.toString(StandardCharsets.US_ASCII), is(expected));
+            assertThat(TextValueUtils.getNanosLength(each), is(expected.length()));
+        }
+    }
+}
@@ -20,14 +20,14 @@ package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.protocol.MySQLDefaultTextProtocolValue;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.protocol.MySQLTextProtocolValue;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
-import org.apache.shardingsphere.infra.util.datetime.DateTimeFormatterFactory;
 
-import java.math.BigDecimal;
-import java.sql.Timestamp;
-import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Text result set row packet for MySQL.
@@ -40,39 +40,38 @@ public final class MySQLTextResultSetRowPacket extends MySQLPacket {
     
     private static final int NULL = 0xfb;
     
+    private static final MySQLTextProtocolValue DEFAULT_TEXT_PROTOCOL_VALUE = new MySQLDefaultTextProtocolValue();
+    
     private final Collection<Object> data;
     
+    private final List<MySQLTextProtocolValue> textProtocolValues;
+    
+    public MySQLTextResultSetRowPacket(final Collection<Object> data) {
+        this(data, Collections.emptyList());
+    }
+    
     public MySQLTextResultSetRowPacket(final MySQLPacketPayload payload, final int columnCount) {
         data = new ArrayList<>(columnCount);
         for (int i = 0; i < columnCount; i++) {
             data.add(payload.readStringLenenc());
         }
+        textProtocolValues = Collections.emptyList();
     }
     
     @Override
     protected void write(final MySQLPacketPayload payload) {
+        int columnIndex = 0;
         for (Object each : data) {
             if (null == each) {
                 payload.writeInt1(NULL);
-                continue;
+            } else {
+                getTextProtocolValue(columnIndex).write(payload, each);
             }
-            writeDataIntoPayload(payload, each);
+            columnIndex++;
         }
     }
     
-    private void writeDataIntoPayload(final MySQLPacketPayload payload, final Object data) {
-        if (data instanceof byte[]) {
-            payload.writeBytesLenenc((byte[]) data);
-        } else if (data instanceof Timestamp && 0 == ((Timestamp) data).getNanos()) {
-            payload.writeStringLenenc(data.toString().split("\\.")[0]);
-        } else if (data instanceof BigDecimal) {
-            payload.writeStringLenenc(((BigDecimal) data).toPlainString());
-        } else if (data instanceof Boolean) {
-            payload.writeBytesLenenc((boolean) data ? new byte[]{1} : new byte[]{0});
-        } else if (data instanceof LocalDateTime) {
-            payload.writeStringLenenc(DateTimeFormatterFactory.getStandardFormatter().format((LocalDateTime) data));
-        } else {
-            payload.writeStringLenenc(data.toString());
-        }
+    private MySQLTextProtocolValue getTextProtocolValue(final int columnIndex) {
+        return columnIndex < textProtocolValues.size() ? textProtocolValues.get(columnIndex) : DEFAULT_TEXT_PROTOCOL_VALUE;
     }
 }
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.protocol;
+
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.apache.shardingsphere.db.protocol.text.TextValueUtils;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * Date time text protocol value for MySQL.
+ */
+public final class MySQLDateTimeTextProtocolValue implements MySQLTextProtocolValue {
+    
+    private final MySQLTextProtocolValue defaultTextProtocolValue = new MySQLDefaultTextProtocolValue();
+    
+    @Override
+    public void write(final MySQLPacketPayload payload, final Object value) {
+        if (value instanceof Timestamp) {
+            writeTimestamp(payload, (Timestamp) value);
+        } else if (value instanceof LocalDateTime && TextValueUtils.isFourDigitsYear(((LocalDateTime) value).getYear())) {
+            payload.writeIntLenenc(TextValueUtils.DATE_TIME_LENGTH);
+            writeDateTime(payload, (LocalDateTime) value);
+        } else if (value instanceof Date) {
+            writeDate(payload, (Date) value);
+        } else if (value instanceof Time) {
+            LocalTime localTime = ((Time) value).toLocalTime();
+            payload.writeIntLenenc(TextValueUtils.TIME_LENGTH);
+            TextValueUtils.writeTime(payload.getByteBuf(), localTime.getHour(), localTime.getMinute(), localTime.getSecond());
+        } else {
+            defaultTextProtocolValue.write(payload, value);
+        }
+    }
+    
+    private void writeTimestamp(final MySQLPacketPayload payload, final Timestamp value) {
+        LocalDateTime localDateTime = value.toLocalDateTime();
+        if (!TextValueUtils.isFourDigitsYear(localDateTime.getYear())) {
+            defaultTextProtocolValue.write(payload, value);
+            return;
+        }
+        int nanos = value.getNanos();
+        payload.writeIntLenenc(0 == nanos ? TextValueUtils.DATE_TIME_LENGTH : TextValueUtils.DATE_TIME_LENGTH + TextValueUtils.getNanosLength(nanos));
+        writeDateTime(payload, localDateTime);
+        if (0 != nanos) {
+            TextValueUtils.writeNanos(payload.getByteBuf(), nanos);
+        }
+    }
+    
+    private void writeDateTime(final MySQLPacketPayload payload, final LocalDateTime value) {
+        TextValueUtils.writeDate(payload.getByteBuf(), value.getYear(), value.getMonthValue(), value.getDayOfMonth());
+        payload.getByteBuf().writeByte(' ');
+        TextValueUtils.writeTime(payload.getByteBuf(), value.getHour(), value.getMinute(), value.getSecond());
+    }
+    
+    private void writeDate(final MySQLPacketPayload payload, final Date value) {
+        LocalDate localDate = value.toLocalDate();
+        if (!TextValueUtils.isFourDigitsYear(localDate.getYear())) {
+            defaultTextProtocolValue.write(payload, value);
+            return;
+        }
+        payload.writeIntLenenc(TextValueUtils.DATE_LENGTH);
+        TextValueUtils.writeDate(payload.getByteBuf(), localDate.getYear(), localDate.getMonthValue(), localDate.getDayOfMonth());
+    }
+}
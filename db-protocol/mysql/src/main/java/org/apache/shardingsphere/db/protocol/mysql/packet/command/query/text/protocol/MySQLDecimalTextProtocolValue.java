@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.protocol;
+
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.apache.shardingsphere.db.protocol.text.TextValueUtils;
+
+import java.math.BigDecimal;
+
+/**
+ * Decimal text protocol value for MySQL.
+ */
+public final class MySQLDecimalTextProtocolValue implements MySQLTextProtocolValue {
+    
+    private final MySQLTextProtocolValue defaultTextProtocolValue = new MySQLDefaultTextProtocolValue();
+    
+    @Override
+    public void write(final MySQLPacketPayload payload, final Object value) {
+        if (value instanceof BigDecimal && TextValueUtils.isCompactDecimal((BigDecimal) value)) {
+            long unscaledValue = ((BigDecimal) value).unscaledValue().longValue();
+            int scale = ((BigDecimal) value).scale();
+            payload.writeIntLenenc(TextValueUtils.getDecimalLength(unscaledValue, scale));
+            TextValueUtils.writeDecimal(payload.getByteBuf(), unscaledValue, scale);
+        } else {
+            defaultTextProtocolValue.write(payload, value);
+        }
+    }
+}
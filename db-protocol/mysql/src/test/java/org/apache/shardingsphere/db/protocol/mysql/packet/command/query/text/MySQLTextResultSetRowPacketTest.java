@@ -17,6 +17,10 @@
 
 package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text;
 
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.protocol.MySQLDefaultTextProtocolValue;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.protocol.MySQLIntegerTextProtocolValue;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -24,12 +28,15 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
 import java.util.Collections;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -84,4 +91,13 @@ class MySQLTextResultSetRowPacketTest {
         actual.write(payload);
         verify(payload).writeStringLenenc(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss").format(LocalDateTime.parse(localDateTimeStr, DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss"))));
     }
+    
+    @Test
+    void assertWriteWithTextProtocolValues() {
+        MySQLPacketPayload actualPayload = new MySQLPacketPayload(Unpooled.buffer(), StandardCharsets.UTF_8);
+        new MySQLTextResultSetRowPacket(Arrays.asList(null, 123L, "value"), Arrays.asList(new MySQLIntegerTextProtocolValue(), new MySQLIntegerTextProtocolValue())).write(actualPayload);
+        MySQLPacketPayload expectedPayload = new MySQLPacketPayload(Unpooled.buffer(), StandardCharsets.UTF_8);
+        new MySQLTextResultSetRowPacket(Arrays.asList(null, 123L, "value"), Collections.singletonList(new MySQLDefaultTextProtocolValue())).write(expectedPayload);
+        assertThat(ByteBufUtil.getBytes(actualPayload.getByteBuf()), is(ByteBufUtil.getBytes(expectedPayload.getByteBuf())));
+    }
 }
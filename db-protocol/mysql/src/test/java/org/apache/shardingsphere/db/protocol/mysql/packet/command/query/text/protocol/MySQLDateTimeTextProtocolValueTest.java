@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.protocol;
+
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class MySQLDateTimeTextProtocolValueTest {
+    
+    @Test
+    void assertWriteTimestampWithoutNanos() {
+        assertThat(write(Timestamp.valueOf("2024-01-09 08:05:00")), is(writeText("2024-01-09 08:05:00")));
+    }
+    
+    @Test
+    void assertWriteTimestampWithNanos() {
+        assertThat(write(Timestamp.valueOf("2024-01-09 08:05:00.12")), is(writeText("2024-01-09 08:05:00.12")));
+    }
+    
+    @Test
+    void assertWriteTimestampWithFiveDigitsYear() {
+        Timestamp timestamp = Timestamp.valueOf(LocalDateTime.of(10000, 1, 1, 0, 0));
+        String text = timestamp.toString();
+        assertThat(write(timestamp), is(writeText(text.substring(0, text.lastIndexOf('.')))));
+    }
+    
+    @Test
+    void assertWriteLocalDateTime() {
+        assertThat(write(LocalDateTime.of(2024, 1, 9, 8, 5, 0, 120000000)), is(writeText("2024-01-09 08:05:00")));
+    }
+    
+    @Test
+    void assertWriteDate() {
+        assertThat(write(Date.valueOf("2024-01-09")), is(writeText("2024-01-09")));
+    }
+    
+    @Test
+    void assertWriteTime() {
+        assertThat(write(Time.valueOf("08:05:00")), is(writeText("08:05:00")));
+    }
+    
+    @Test
+    void assertWriteWithNotDateTimeValue() {
+        assertThat(write("2024"), is(writeText("2024")));
+    }
+    
+    private byte[] write(final Object value) {
+        MySQLPacketPayload payload = new MySQLPacketPayload(Unpooled.buffer(), StandardCharsets.UTF_8);
+        new MySQLDateTimeTextProtocolValue().write(payload, value);
+        return ByteBufUtil.getBytes(payload.getByteBuf());
+    }
+    
+    private byte[] writeText(final String value) {
+        MySQLPacketPayload payload = new MySQLPacketPayload(Unpooled.buffer(), StandardCharsets.UTF_8);
+        payload.writeStringLenenc(value);
+        return ByteBufUtil.getBytes(payload.getByteBuf());
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.protocol;
+
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class MySQLIntegerTextProtocolValueTest {
+    
+    @Test
+    void assertWrite() {
+        for (Object each : new Object[]{0L, -1L, Long.MAX_VALUE, Long.MIN_VALUE, Integer.MIN_VALUE, (short) 12345, (byte) -128}) {
+            assertThat(write(each), is(writeText(each.toString())));
+        }
+    }
+    
+    @Test
+    void assertWriteWithNotIntegerValue() {
+        assertThat(write("123"), is(writeText("123")));
+    }
+    
+    private byte[] write(final Object value) {
+        MySQLPacketPayload payload = new MySQLPacketPayload(Unpooled.buffer(), StandardCharsets.UTF_8);
+        new MySQLIntegerTextProtocolValue().write(payload, value);
+        return ByteBufUtil.getBytes(payload.getByteBuf());
+    }
+    
+    private byte[] writeText(final String value) {
+        MySQLPacketPayload payload = new MySQLPacketPayload(Unpooled.buffer(), StandardCharsets.UTF_8);
+        payload.writeStringLenenc(value);
+        return ByteBufUtil.getBytes(payload.getByteBuf());
+    }
+}
@@ -22,14 +22,16 @@ import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.db.protocol.binary.BinaryCell;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.protocol.PostgreSQLBinaryProtocolValue;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.protocol.PostgreSQLBinaryProtocolValueFactory;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.text.PostgreSQLDefaultTextProtocolValue;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.text.PostgreSQLTextProtocolValue;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLIdentifierPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLIdentifierTag;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLMessagePacketType;
 import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
 
-import java.sql.SQLException;
-import java.sql.SQLXML;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Data row packet for PostgreSQL.
@@ -38,17 +40,27 @@ import java.util.Collection;
 @Getter
 public final class PostgreSQLDataRowPacket extends PostgreSQLIdentifierPacket {
     
+    private static final PostgreSQLTextProtocolValue DEFAULT_TEXT_PROTOCOL_VALUE = new PostgreSQLDefaultTextProtocolValue();
+    
     private final Collection<Object> data;
     
+    private final List<PostgreSQLTextProtocolValue> textProtocolValues;
+    
+    public PostgreSQLDataRowPacket(final Collection<Object> data) {
+        this(data, Collections.emptyList());
+    }
+    
     @Override
     protected void write(final PostgreSQLPacketPayload payload) {
         payload.writeInt2(data.size());
+        int columnIndex = 0;
         for (Object each : data) {
             if (each instanceof BinaryCell) {
                 writeBinaryValue(payload, (BinaryCell) each);
             } else {
-                writeTextValue(payload, each);
+                writeTextValue(payload, each, columnIndex);
             }
+            columnIndex++;
         }
     }
     
@@ -63,29 +75,16 @@ public final class PostgreSQLDataRowPacket extends PostgreSQLIdentifierPacket {
         binaryProtocolValue.write(payload, value);
     }
     
-    private void writeTextValue(final PostgreSQLPacketPayload payload, final Object each) {
+    private void writeTextValue(final PostgreSQLPacketPayload payload, final Object each, final int columnIndex) {
         if (null == each) {
             payload.writeInt4(0xFFFFFFFF);
-        } else if (each instanceof byte[]) {
-            payload.writeInt4(((byte[]) each).length);
-            payload.writeBytes((byte[]) each);
-        } else if (each instanceof SQLXML) {
-            writeSQLXMLData(payload, each);
         } else {
-            byte[] columnData = each.toString().getBytes(payload.getCharset());
-            payload.writeInt4(columnData.length);
-            payload.writeBytes(columnData);
+            getTextProtocolValue(columnIndex).write(payload, each);
         }
     }
     
-    private void writeSQLXMLData(final PostgreSQLPacketPayload payload, final Object data) {
-        try {
-            byte[] dataBytes = ((SQLXML) data).getString().getBytes(payload.getCharset());
-            payload.writeInt4(dataBytes.length);
-            payload.writeBytes(dataBytes);
-        } catch (final SQLException ex) {
-            throw new IllegalStateException(ex);
-        }
+    private PostgreSQLTextProtocolValue getTextProtocolValue(final int columnIndex) {
+        return columnIndex < textProtocolValues.size() ? textProtocolValues.get(columnIndex) : DEFAULT_TEXT_PROTOCOL_VALUE;
     }
     
     @Override
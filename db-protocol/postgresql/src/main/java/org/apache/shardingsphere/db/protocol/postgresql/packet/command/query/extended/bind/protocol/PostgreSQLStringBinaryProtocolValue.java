@@ -26,7 +26,7 @@ public final class PostgreSQLStringBinaryProtocolValue implements PostgreSQLBina
     
     @Override
     public int getColumnLength(final Object value) {
-        return value.toString().length();
+        return value instanceof byte[] ? ((byte[]) value).length : value.toString().length();
     }
     
     @Override
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.text;
+
+import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
+import org.apache.shardingsphere.db.protocol.text.TextValueUtils;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * Date time text protocol value for PostgreSQL.
+ */
+public final class PostgreSQLDateTimeTextProtocolValue implements PostgreSQLTextProtocolValue {
+    
+    private final PostgreSQLTextProtocolValue defaultTextProtocolValue = new PostgreSQLDefaultTextProtocolValue();
+    
+    @Override
+    public void write(final PostgreSQLPacketPayload payload, final Object value) {
+        if (value instanceof Timestamp) {
+            writeTimestamp(payload, (Timestamp) value);
+        } else if (value instanceof Date) {
+            writeDate(payload, (Date) value);
+        } else if (value instanceof Time) {
+            LocalTime localTime = ((Time) value).toLocalTime();
+            payload.writeInt4(TextValueUtils.TIME_LENGTH);
+            TextValueUtils.writeTime(payload.getByteBuf(), localTime.getHour(), localTime.getMinute(), localTime.getSecond());
+        } else {
+            defaultTextProtocolValue.write(payload, value);
+        }
+    }
+    
+    private void writeTimestamp(final PostgreSQLPacketPayload payload, final Timestamp value) {
+        LocalDateTime localDateTime = value.toLocalDateTime();
+        if (!TextValueUtils.isFourDigitsYear(localDateTime.getYear())) {
+            defaultTextProtocolValue.write(payload, value);
+            return;
+        }
+        payload.writeInt4(TextValueUtils.DATE_TIME_LENGTH + TextValueUtils.getNanosLength(value.getNanos()));
+        TextValueUtils.writeDate(payload.getByteBuf(), localDateTime.getYear(), localDateTime.getMonthValue(), localDateTime.getDayOfMonth());
+        payload.getByteBuf().writeByte(' ');
+        TextValueUtils.writeTime(payload.getByteBuf(), localDateTime.getHour(), localDateTime.getMinute(), localDateTime.getSecond());
+        TextValueUtils.writeNanos(payload.getByteBuf(), value.getNanos());
+    }
+    
+    private void writeDate(final PostgreSQLPacketPayload payload, final Date value) {
+        LocalDate localDate = value.toLocalDate();
+        if (!TextValueUtils.isFourDigitsYear(localDate.getYear())) {
+            defaultTextProtocolValue.write(payload, value);
+            return;
+        }
+        payload.writeInt4(TextValueUtils.DATE_LENGTH);
+        TextValueUtils.writeDate(payload.getByteBuf(), localDate.getYear(), localDate.getMonthValue(), localDate.getDayOfMonth());
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.text;
+
+import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
+import org.apache.shardingsphere.db.protocol.text.TextValueUtils;
+
+import java.math.BigDecimal;
+
+/**
+ * Decimal text protocol value for PostgreSQL.
+ */
+public final class PostgreSQLDecimalTextProtocolValue implements PostgreSQLTextProtocolValue {
+    
+    private static final int MIN_PLAIN_ADJUSTED_EXPONENT = -6;
+    
+    private final PostgreSQLTextProtocolValue defaultTextProtocolValue = new PostgreSQLDefaultTextProtocolValue();
+    
+    @Override
+    public void write(final PostgreSQLPacketPayload payload, final Object value) {
+        if (value instanceof BigDecimal && isPlainText((BigDecimal) value)) {
+            long unscaledValue = ((BigDecimal) value).unscaledValue().longValue();
+            int scale = ((BigDecimal) value).scale();
+            payload.writeInt4(TextValueUtils.getDecimalLength(unscaledValue, scale));
+            TextValueUtils.writeDecimal(payload.getByteBuf(), unscaledValue, scale);
+        } else {
+            defaultTextProtocolValue.write(payload, value);
+        }
+    }
+    
+    private boolean isPlainText(final BigDecimal value) {
+        return TextValueUtils.isCompactDecimal(value) && value.precision() - value.scale() - 1 >= MIN_PLAIN_ADJUSTED_EXPONENT;
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.text;
+
+import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
+
+import java.sql.SQLException;
+import java.sql.SQLXML;
+
+/**
+ * Default text protocol value for PostgreSQL.
+ */
+public final class PostgreSQLDefaultTextProtocolValue implements PostgreSQLTextProtocolValue {
+    
+    @Override
+    public void write(final PostgreSQLPacketPayload payload, final Object value) {
+        if (value instanceof byte[]) {
+            payload.writeInt4(((byte[]) value).length);
+            payload.writeBytes((byte[]) value);
+        } else if (value instanceof SQLXML) {
+            writeSQLXMLData(payload, (SQLXML) value);
+        } else {
+            byte[] columnData = value.toString().getBytes(payload.getCharset());
+            payload.writeInt4(columnData.length);
+            payload.writeBytes(columnData);
+        }
+    }
+    
+    private void writeSQLXMLData(final PostgreSQLPacketPayload payload, final SQLXML value) {
+        try {
+            byte[] dataBytes = value.getString().getBytes(payload.getCharset());
+            payload.writeInt4(dataBytes.length);
+            payload.writeBytes(dataBytes);
+        } catch (final SQLException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.text;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.sql.Types;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Text protocol value factory for PostgreSQL.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PostgreSQLTextProtocolValueFactory {
+    
+    private static final PostgreSQLTextProtocolValue DEFAULT_TEXT_PROTOCOL_VALUE = new PostgreSQLDefaultTextProtocolValue();
+    
+    private static final Map<Integer, PostgreSQLTextProtocolValue> TEXT_PROTOCOL_VALUES = new HashMap<>();
+    
+    static {
+        setIntegerTextProtocolValue();
+        setDecimalTextProtocolValue();
+        setDateTimeTextProtocolValue();
+    }
+    
+    private static void setIntegerTextProtocolValue() {
+        PostgreSQLIntegerTextProtocolValue textProtocolValue = new PostgreSQLIntegerTextProtocolValue();
+        TEXT_PROTOCOL_VALUES.put(Types.TINYINT, textProtocolValue);
+        TEXT_PROTOCOL_VALUES.put(Types.SMALLINT, textProtocolValue);
+        TEXT_PROTOCOL_VALUES.put(Types.INTEGER, textProtocolValue);
+        TEXT_PROTOCOL_VALUES.put(Types.BIGINT, textProtocolValue);
+    }
+    
+    private static void setDecimalTextProtocolValue() {
+        PostgreSQLDecimalTextProtocolValue textProtocolValue = new PostgreSQLDecimalTextProtocolValue();
+        TEXT_PROTOCOL_VALUES.put(Types.DECIMAL, textProtocolValue);
+        TEXT_PROTOCOL_VALUES.put(Types.NUMERIC, textProtocolValue);
+    }
+    
+    private static void setDateTimeTextProtocolValue() {
+        PostgreSQLDateTimeTextProtocolValue textProtocolValue = new PostgreSQLDateTimeTextProtocolValue();
+        TEXT_PROTOCOL_VALUES.put(Types.DATE, textProtocolValue);
+        TEXT_PROTOCOL_VALUES.put(Types.TIME, textProtocolValue);
+        TEXT_PROTOCOL_VALUES.put(Types.TIMESTAMP, textProtocolValue);
+    }
+    
+    /**
+     * Get text protocol value.
+     *
+     * @param jdbcType JDBC type of column
+     * @return text protocol value
+     */
+    public static PostgreSQLTextProtocolValue getTextProtocolValue(final int jdbcType) {
+        return TEXT_PROTOCOL_VALUES.getOrDefault(jdbcType, DEFAULT_TEXT_PROTOCOL_VALUE);
+    }
+}
@@ -17,8 +17,13 @@
 
 package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query;
 
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
 import org.apache.shardingsphere.db.protocol.binary.BinaryCell;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.PostgreSQLColumnType;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.text.PostgreSQLDecimalTextProtocolValue;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.text.PostgreSQLDefaultTextProtocolValue;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.text.PostgreSQLIntegerTextProtocolValue;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLMessagePacketType;
 import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
 import org.junit.jupiter.api.BeforeEach;
@@ -29,9 +34,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
+import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
 import java.sql.SQLXML;
+import java.util.Arrays;
 import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -118,6 +125,16 @@ class PostgreSQLDataRowPacketTest {
         verify(payload).writeInt4(value);
     }
     
+    @Test
+    void assertWriteWithTextProtocolValues() {
+        PostgreSQLPacketPayload actualPayload = new PostgreSQLPacketPayload(Unpooled.buffer(), StandardCharsets.UTF_8);
+        new PostgreSQLDataRowPacket(Arrays.asList(null, 123L, new BigDecimal("1.50"), "value"),
+                Arrays.asList(new PostgreSQLIntegerTextProtocolValue(), new PostgreSQLIntegerTextProtocolValue(), new PostgreSQLDecimalTextProtocolValue())).write(actualPayload);
+        PostgreSQLPacketPayload expectedPayload = new PostgreSQLPacketPayload(Unpooled.buffer(), StandardCharsets.UTF_8);
+        new PostgreSQLDataRowPacket(Arrays.asList(null, 123L, new BigDecimal("1.50"), "value"), Collections.singletonList(new PostgreSQLDefaultTextProtocolValue())).write(expectedPayload);
+        assertThat(ByteBufUtil.getBytes(actualPayload.getByteBuf()), is(ByteBufUtil.getBytes(expectedPayload.getByteBuf())));
+    }
+    
     @Test
     void assertGetIdentifier() {
         assertThat(new PostgreSQLDataRowPacket(Collections.emptyList()).getIdentifier(), is(PostgreSQLMessagePacketType.DATA_ROW));
@@ -55,6 +55,7 @@ class PostgreSQLStringBinaryProtocolValueTest {
         }).when(byteBuf).readBytes(any(byte[].class));
         PostgreSQLStringBinaryProtocolValue actual = new PostgreSQLStringBinaryProtocolValue();
         assertThat(actual.getColumnLength("str"), is("str".length()));
+        assertThat(actual.getColumnLength(new byte[]{(byte) 0xC3, (byte) 0xA9}), is(2));
         assertThat(actual.read(payload, "a".length()), is("a"));
         actual.write(payload, "a");
         verify(byteBuf).writeBytes("a".getBytes(StandardCharsets.UTF_8));
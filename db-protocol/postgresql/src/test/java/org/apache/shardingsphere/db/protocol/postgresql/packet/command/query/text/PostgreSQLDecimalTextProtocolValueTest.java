@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.text;
+
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class PostgreSQLDecimalTextProtocolValueTest {
+    
+    @Test
+    void assertWriteCompactDecimal() {
+        for (String each : new String[]{"0", "0.00", "-1.50", "0.000001", "0.0000001", "123456789.123456789"}) {
+            assertThat(write(new BigDecimal(each)), is(writeText(new BigDecimal(each).toString())));
+        }
+    }
+    
+    @Test
+    void assertWriteNotCompactDecimal() {
+        for (String each : new String[]{"1E+3", "12345678901234567890.5"}) {
+            assertThat(write(new BigDecimal(each)), is(writeText(new BigDecimal(each).toString())));
+        }
+    }
+    
+    @Test
+    void assertWriteWithNotDecimalValue() {
+        assertThat(write(1.5D), is(writeText("1.5")));
+    }
+    
+    private byte[] write(final Object value) {
+        PostgreSQLPacketPayload payload = new PostgreSQLPacketPayload(Unpooled.buffer(), StandardCharsets.UTF_8);
+        new PostgreSQLDecimalTextProtocolValue().write(payload, value);
+        return ByteBufUtil.getBytes(payload.getByteBuf());
+    }
+    
+    private byte[] writeText(final String value) {
+        PostgreSQLPacketPayload payload = new PostgreSQLPacketPayload(Unpooled.buffer(), StandardCharsets.UTF_8);
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        payload.writeInt4(bytes.length);
+        payload.writeBytes(bytes);
+        return ByteBufUtil.getBytes(payload.getByteBuf());
+    }
+}
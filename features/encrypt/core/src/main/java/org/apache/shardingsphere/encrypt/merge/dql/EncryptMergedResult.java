@@ -25,6 +25,8 @@ import org.apache.shardingsphere.infra.binder.context.segment.select.projection.
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.infra.exception.core.external.sql.identifier.SQLExceptionIdentifier;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.batch.RowBatch;
+import org.apache.shardingsphere.infra.merge.result.BatchMergedResult;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
@@ -32,14 +34,16 @@ import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import java.io.InputStream;
 import java.io.Reader;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.List;
 import java.util.Optional;
 
 /**
  * Merged result for encrypt.
  */
 @RequiredArgsConstructor
-public final class EncryptMergedResult implements MergedResult {
+public final class EncryptMergedResult implements BatchMergedResult {
     
     private final ShardingSphereDatabase database;
     
@@ -54,11 +58,47 @@ public final class EncryptMergedResult implements MergedResult {
         return mergedResult.next();
     }
     
+    @Override
+    public boolean isBatchSupported() {
+        return mergedResult instanceof BatchMergedResult && ((BatchMergedResult) mergedResult).isBatchSupported();
+    }
+    
+    @Override
+    public RowBatch nextBatch(final int maxRowCount) throws SQLException {
+        RowBatch result = ((BatchMergedResult) mergedResult).nextBatch(maxRowCount);
+        if (0 == result.getRowCount()) {
+            return result;
+        }
+        for (int columnIndex = 1; columnIndex <= result.getColumnCount(); columnIndex++) {
+            Optional<ColumnDecryptor> columnDecryptor = findColumnDecryptor(columnIndex);
+            if (columnDecryptor.isPresent()) {
+                decryptColumn(result, columnIndex, columnDecryptor.get());
+            }
+        }
+        return result;
+    }
+    
+    private void decryptColumn(final RowBatch rowBatch, final int columnIndex, final ColumnDecryptor columnDecryptor) {
+        List<Object> cipherValues = new ArrayList<>(rowBatch.getRowCount());
+        for (int rowIndex = 0; rowIndex < rowBatch.getRowCount(); rowIndex++) {
+            cipherValues.add(rowBatch.getValue(rowIndex, columnIndex));
+        }
+        List<Object> plainValues = columnDecryptor.decrypt(cipherValues);
+        for (int rowIndex = 0; rowIndex < rowBatch.getRowCount(); rowIndex++) {
+            rowBatch.setValue(rowIndex, columnIndex, plainValues.get(rowIndex));
+        }
+    }
+    
     @Override
     public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        Optional<ColumnDecryptor> columnDecryptor = findColumnDecryptor(columnIndex);
+        return columnDecryptor.isPresent() ? columnDecryptor.get().decrypt(mergedResult.getValue(columnIndex, Object.class)) : mergedResult.getValue(columnIndex, type);
+    }
+    
+    private Optional<ColumnDecryptor> findColumnDecryptor(final int columnIndex) {
         Optional<ColumnProjection> columnProjection = selectStatementContext.findColumnProjection(columnIndex);
         if (!columnProjection.isPresent()) {
-            return mergedResult.getValue(columnIndex, type);
+            return Optional.empty();
         }
         String originalTableName = columnProjection.get().getOriginalTable().getValue();
         String originalColumnName = columnProjection.get().getOriginalColumn().getValue();
@@ -67,19 +107,12 @@ public final class EncryptMergedResult implements MergedResult {
                 : this.database;
         Optional<EncryptRule> rule = database.getRuleMetaData().findSingleRule(EncryptRule.class);
         if (!rule.isPresent() || !rule.get().findEncryptTable(originalTableName).map(optional -> optional.isEncryptColumn(originalColumnName)).orElse(false)) {
-            return mergedResult.getValue(columnIndex, type);
+            return Optional.empty();
         }
-        Object cipherValue = mergedResult.getValue(columnIndex, Object.class);
         EncryptColumn encryptColumn = rule.get().getEncryptTable(originalTableName).getEncryptColumn(originalColumnName);
         String schemaName = selectStatementContext.getTablesContext().getSchemaName()
                 .orElseGet(() -> new DatabaseTypeRegistry(selectStatementContext.getDatabaseType()).getDefaultSchemaName(database.getName()));
-        try {
-            return encryptColumn.getCipher().decrypt(database.getName(), schemaName, originalTableName, originalColumnName, cipherValue);
-            // CHECKSTYLE:OFF
-        } catch (final Exception ex) {
-            // CHECKSTYLE:ON
-            throw new DecryptFailedException(String.valueOf(cipherValue), new SQLExceptionIdentifier(database.getName(), originalTableName, originalColumnName), ex);
-        }
+        return Optional.of(new ColumnDecryptor(database.getName(), schemaName, originalTableName, originalColumnName, encryptColumn));
     }
     
     @Override
@@ -101,4 +134,47 @@ public final class EncryptMergedResult implements MergedResult {
     public boolean wasNull() throws SQLException {
         return mergedResult.wasNull();
     }
+    
+    @Override
+    public void close() throws SQLException {
+        mergedResult.close();
+    }
+    
+    @RequiredArgsConstructor
+    private static final class ColumnDecryptor {
+        
+        private final String databaseName;
+        
+        private final String schemaName;
+        
+        private final String tableName;
+        
+        private final String columnName;
+        
+        private final EncryptColumn encryptColumn;
+        
+        private Object decrypt(final Object cipherValue) {
+            try {
+                return encryptColumn.getCipher().decrypt(databaseName, schemaName, tableName, columnName, cipherValue);
+                // CHECKSTYLE:OFF
+            } catch (final Exception ex) {
+                // CHECKSTYLE:ON
+                throw new DecryptFailedException(String.valueOf(cipherValue), new SQLExceptionIdentifier(databaseName, tableName, columnName), ex);
+            }
+        }
+        
+        private List<Object> decrypt(final List<Object> cipherValues) {
+            try {
+                return encryptColumn.getCipher().decrypt(databaseName, schemaName, tableName, columnName, cipherValues);
+                // CHECKSTYLE:OFF
+            } catch (final Exception ignored) {
+                // CHECKSTYLE:ON
+                List<Object> result = new ArrayList<>(cipherValues.size());
+                for (Object each : cipherValues) {
+                    result.add(decrypt(each));
+                }
+                return result;
+            }
+        }
+    }
 }
@@ -27,6 +27,11 @@ import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContex
 import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.ColumnProjection;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.batch.ColumnVector;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.batch.LongColumnVector;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.batch.ObjectColumnVector;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.batch.RowBatch;
+import org.apache.shardingsphere.infra.merge.result.BatchMergedResult;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
@@ -52,10 +57,13 @@ import java.util.Date;
 import java.util.Optional;
 
 import static org.apache.shardingsphere.test.matcher.ShardingSphereArgumentVerifyMatchers.deepEq;
+import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -138,6 +146,64 @@ class EncryptMergedResultTest {
         assertThrows(DecryptFailedException.class, () -> new EncryptMergedResult(database, metaData, selectStatementContext, mergedResult).getValue(1, String.class));
     }
     
+    @Test
+    void assertNextBatchWithEncryptColumn() throws SQLException {
+        ColumnProjection columnProjection =
+                new ColumnProjection(new IdentifierValue("foo_tbl"), new IdentifierValue("foo_col"), new IdentifierValue("foo_alias"), databaseType, null, null, new ColumnSegmentBoundInfo(
+                        new TableSegmentBoundInfo(new IdentifierValue("foo_db"), new IdentifierValue("foo_schema")), new IdentifierValue("foo_tbl"), new IdentifierValue("foo_col")));
+        when(selectStatementContext.findColumnProjection(1)).thenReturn(Optional.of(columnProjection));
+        when(selectStatementContext.findColumnProjection(2)).thenReturn(Optional.empty());
+        when(selectStatementContext.getTablesContext().getSchemaName()).thenReturn(Optional.of("foo_schema"));
+        EncryptAlgorithm encryptAlgorithm = mock(EncryptAlgorithm.class);
+        when(encryptAlgorithm.decrypt(eq("foo_value"), deepEq(new AlgorithmSQLContext("foo_db", "foo_schema", "foo_tbl", "foo_col")))).thenReturn("foo_decrypted_value");
+        when(encryptAlgorithm.decrypt(eq("bar_value"), deepEq(new AlgorithmSQLContext("foo_db", "foo_schema", "foo_tbl", "foo_col")))).thenReturn("bar_decrypted_value");
+        when(encryptAlgorithm.batchDecrypt(any(), any())).thenCallRealMethod();
+        EncryptRule rule = mockRule(encryptAlgorithm);
+        ShardingSphereDatabase database = new ShardingSphereDatabase("foo_db", mock(), mock(), new RuleMetaData(Collections.singleton(rule)), Collections.emptyList());
+        ShardingSphereMetaData metaData = new ShardingSphereMetaData(Collections.singleton(database), mock(), mock(), mock());
+        BatchMergedResult batchMergedResult = mock(BatchMergedResult.class);
+        when(batchMergedResult.isBatchSupported()).thenReturn(true);
+        when(batchMergedResult.nextBatch(10)).thenReturn(createRowBatch());
+        EncryptMergedResult encryptMergedResult = new EncryptMergedResult(database, metaData, selectStatementContext, batchMergedResult);
+        assertTrue(encryptMergedResult.isBatchSupported());
+        RowBatch actual = encryptMergedResult.nextBatch(10);
+        assertThat(actual.getValue(0, 1), is("foo_decrypted_value"));
+        assertThat(actual.getValue(1, 1), is("bar_decrypted_value"));
+        assertThat(actual.getValue(0, 2), is(1L));
+        assertThat(actual.getValue(1, 2), is(2L));
+    }
+    
+    @Test
+    void assertNextBatchFailed() throws SQLException {
+        ColumnProjection columnProjection =
+                new ColumnProjection(new IdentifierValue("foo_tbl"), new IdentifierValue("foo_col"), new IdentifierValue("foo_alias"), databaseType, null, null, new ColumnSegmentBoundInfo(
+                        new TableSegmentBoundInfo(new IdentifierValue("foo_db"), new IdentifierValue("foo_schema")), new IdentifierValue("foo_tbl"), new IdentifierValue("foo_col")));
+        when(selectStatementContext.findColumnProjection(1)).thenReturn(Optional.of(columnProjection));
+        when(selectStatementContext.getTablesContext().getSchemaName()).thenReturn(Optional.of("foo_schema"));
+        EncryptAlgorithm encryptAlgorithm = mock(EncryptAlgorithm.class);
+        when(encryptAlgorithm.decrypt(eq("foo_value"), deepEq(new AlgorithmSQLContext("foo_db", "foo_schema", "foo_tbl", "foo_col")))).thenThrow(new RuntimeException("Test failed"));
+        when(encryptAlgorithm.batchDecrypt(any(), any())).thenCallRealMethod();
+        EncryptRule rule = mockRule(encryptAlgorithm);
+        ShardingSphereDatabase database = new ShardingSphereDatabase("foo_db", mock(), mock(), new RuleMetaData(Collections.singleton(rule)), Collections.emptyList());
+        ShardingSphereMetaData metaData = new ShardingSphereMetaData(Collections.singleton(database), mock(), mock(), mock());
+        BatchMergedResult batchMergedResult = mock(BatchMergedResult.class);
+        when(batchMergedResult.nextBatch(10)).thenReturn(createRowBatch());
+        DecryptFailedException actual = assertThrows(DecryptFailedException.class, () -> new EncryptMergedResult(database, metaData, selectStatementContext, batchMergedResult).nextBatch(10));
+        assertThat(actual.getMessage(), containsString("foo_value"));
+    }
+    
+    private RowBatch createRowBatch() {
+        ObjectColumnVector cipherColumnVector = new ObjectColumnVector(2);
+        cipherColumnVector.setValue(0, "foo_value");
+        cipherColumnVector.setValue(1, "bar_value");
+        LongColumnVector idColumnVector = new LongColumnVector(2);
+        idColumnVector.setLong(0, 1L);
+        idColumnVector.setLong(1, 2L);
+        RowBatch result = new RowBatch(2, new ColumnVector[]{cipherColumnVector, idColumnVector});
+        result.load(2);
+        return result;
+    }
+    
     private EncryptRule mockRule(final EncryptAlgorithm encryptAlgorithm) {
         EncryptRule result = mock(EncryptRule.class);
         EncryptTable encryptTable = mock(EncryptTable.class);
@@ -20,6 +20,8 @@ package org.apache.shardingsphere.mask.merge.dql;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.ColumnProjection;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.batch.RowBatch;
+import org.apache.shardingsphere.infra.merge.result.BatchMergedResult;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.mask.rule.MaskRule;
 import org.apache.shardingsphere.mask.rule.MaskTable;
@@ -35,7 +37,7 @@ import java.util.Optional;
  * Merged result for mask.
  */
 @RequiredArgsConstructor
-public final class MaskMergedResult implements MergedResult {
+public final class MaskMergedResult implements BatchMergedResult {
     
     private final MaskRule maskRule;
     
@@ -48,18 +50,37 @@ public final class MaskMergedResult implements MergedResult {
         return mergedResult.next();
     }
     
+    @Override
+    public boolean isBatchSupported() {
+        return mergedResult instanceof BatchMergedResult && ((BatchMergedResult) mergedResult).isBatchSupported();
+    }
+    
     @SuppressWarnings({"rawtypes", "unchecked"})
     @Override
-    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
-        Optional<ColumnProjection> columnProjection = selectStatementContext.getProjectionsContext().findColumnProjection(columnIndex);
-        if (!columnProjection.isPresent()) {
-            return mergedResult.getValue(columnIndex, type);
+    public RowBatch nextBatch(final int maxRowCount) throws SQLException {
+        RowBatch result = ((BatchMergedResult) mergedResult).nextBatch(maxRowCount);
+        if (0 == result.getRowCount()) {
+            return result;
         }
-        Optional<MaskTable> maskTable = maskRule.findMaskTable(columnProjection.get().getOriginalTable().getValue());
-        if (!maskTable.isPresent()) {
-            return mergedResult.getValue(columnIndex, type);
+        for (int columnIndex = 1; columnIndex <= result.getColumnCount(); columnIndex++) {
+            Optional<MaskAlgorithm> maskAlgorithm = findMaskAlgorithm(columnIndex);
+            if (!maskAlgorithm.isPresent()) {
+                continue;
+            }
+            for (int rowIndex = 0; rowIndex < result.getRowCount(); rowIndex++) {
+                Object originalValue = result.getValue(rowIndex, columnIndex);
+                if (null != originalValue) {
+                    result.setValue(rowIndex, columnIndex, maskAlgorithm.get().mask(originalValue));
+                }
+            }
         }
-        Optional<MaskAlgorithm> maskAlgorithm = maskTable.get().findAlgorithm(columnProjection.get().getName().getValue());
+        return result;
+    }
+    
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        Optional<MaskAlgorithm> maskAlgorithm = findMaskAlgorithm(columnIndex);
         if (!maskAlgorithm.isPresent()) {
             return mergedResult.getValue(columnIndex, type);
         }
@@ -67,6 +88,16 @@ public final class MaskMergedResult implements MergedResult {
         return null == originalValue ? null : maskAlgorithm.get().mask(originalValue);
     }
     
+    @SuppressWarnings("rawtypes")
+    private Optional<MaskAlgorithm> findMaskAlgorithm(final int columnIndex) {
+        Optional<ColumnProjection> columnProjection = selectStatementContext.getProjectionsContext().findColumnProjection(columnIndex);
+        if (!columnProjection.isPresent()) {
+            return Optional.empty();
+        }
+        Optional<MaskTable> maskTable = maskRule.findMaskTable(columnProjection.get().getOriginalTable().getValue());
+        return maskTable.isPresent() ? maskTable.get().findAlgorithm(columnProjection.get().getName().getValue()) : Optional.empty();
+    }
+    
     @Override
     public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) throws SQLException {
         return mergedResult.getCalendarValue(columnIndex, type, calendar);
@@ -86,4 +117,9 @@ public final class MaskMergedResult implements MergedResult {
     public boolean wasNull() throws SQLException {
         return mergedResult.wasNull();
     }
+    
+    @Override
+    public void close() throws SQLException {
+        mergedResult.close();
+    }
 }
@@ -19,6 +19,10 @@ package org.apache.shardingsphere.mask.merge.dql;
 
 import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.ColumnProjection;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.batch.ColumnVector;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.batch.ObjectColumnVector;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.batch.RowBatch;
+import org.apache.shardingsphere.infra.merge.result.BatchMergedResult;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.mask.rule.MaskRule;
 import org.apache.shardingsphere.mask.rule.MaskTable;
@@ -41,6 +45,7 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -96,6 +101,22 @@ class MaskMergedResultTest {
         assertNull(new MaskMergedResult(mockMaskAlgorithmAbsent(), mockSelectStatementContext(), mergedResult).getValue(1, Object.class));
     }
     
+    @Test
+    void assertNextBatch() throws SQLException {
+        BatchMergedResult batchMergedResult = mock(BatchMergedResult.class);
+        when(batchMergedResult.isBatchSupported()).thenReturn(true);
+        ObjectColumnVector columnVector = new ObjectColumnVector(2);
+        columnVector.setValue(0, "VALUE");
+        RowBatch rowBatch = new RowBatch(2, new ColumnVector[]{columnVector});
+        rowBatch.load(2);
+        when(batchMergedResult.nextBatch(10)).thenReturn(rowBatch);
+        MaskMergedResult maskMergedResult = new MaskMergedResult(mockMaskRule(), mockSelectStatementContext(), batchMergedResult);
+        assertTrue(maskMergedResult.isBatchSupported());
+        RowBatch actual = maskMergedResult.nextBatch(10);
+        assertThat(actual.getValue(0, 1), is("MASK_VALUE"));
+        assertNull(actual.getValue(1, 1));
+    }
+    
     @SuppressWarnings("unchecked")
     private MaskRule mockMaskRule() {
         MaskAlgorithm<String, String> maskAlgorithm = mock(MaskAlgorithm.class);
@@ -18,6 +18,11 @@
 package org.apache.shardingsphere.sharding.merge.common;
 
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.batch.BatchQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.batch.RowBatch;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.bytes.ColumnBytesQueryResult;
+import org.apache.shardingsphere.infra.merge.result.BatchMergedResult;
+import org.apache.shardingsphere.infra.merge.result.ColumnBytesMergedResult;
 import org.apache.shardingsphere.infra.merge.result.impl.stream.StreamMergedResult;
 
 import java.sql.SQLException;
@@ -27,12 +32,18 @@ import java.util.List;
 /**
  * Stream merged result for iterator.
  */
-public final class IteratorStreamMergedResult extends StreamMergedResult {
+public final class IteratorStreamMergedResult extends StreamMergedResult implements BatchMergedResult, ColumnBytesMergedResult {
     
     private final Iterator<QueryResult> queryResults;
     
+    private final boolean batchSupported;
+    
+    private final boolean columnBytesSupported;
+    
     public IteratorStreamMergedResult(final List<QueryResult> queryResults) {
         this.queryResults = queryResults.iterator();
+        batchSupported = queryResults.stream().allMatch(BatchQueryResult.class::isInstance);
+        columnBytesSupported = queryResults.stream().allMatch(ColumnBytesQueryResult.class::isInstance);
         setCurrentQueryResult(this.queryResults.next());
     }
     
@@ -55,4 +66,29 @@ public final class IteratorStreamMergedResult extends StreamMergedResult {
         }
         return hasNext;
     }
+    
+    @Override
+    public boolean isBatchSupported() {
+        return batchSupported;
+    }
+    
+    @Override
+    public RowBatch nextBatch(final int maxRowCount) throws SQLException {
+        RowBatch result = ((BatchQueryResult) getCurrentQueryResult()).nextBatch(maxRowCount);
+        while (0 == result.getRowCount() && queryResults.hasNext()) {
+            setCurrentQueryResult(queryResults.next());
+            result = ((BatchQueryResult) getCurrentQueryResult()).nextBatch(maxRowCount);
+        }
+        return result;
+    }
+    
+    @Override
+    public boolean isColumnBytesSupported() {
+        return columnBytesSupported;
+    }
+    
+    @Override
+    public byte[] getColumnBytes(final int columnIndex) throws SQLException {
+        return ((ColumnBytesQueryResult) getCurrentQueryResult()).getColumnBytes(columnIndex);
+    }
 }
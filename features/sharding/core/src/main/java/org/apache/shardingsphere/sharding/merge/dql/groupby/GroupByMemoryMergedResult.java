@@ -24,9 +24,15 @@ import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementCont
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.exception.dialect.exception.syntax.table.NoSuchTableException;
+import org.apache.shardingsphere.infra.exception.kernel.data.MergedRowsSpillException;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryMergedResult;
 import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.spill.MemorySizeEstimateUtils;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.spill.MergeSpillContext;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.spill.SpillRunFile;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.spill.SpillRunMergeIterator;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.spill.SpillableSortBuffer;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.sharding.exception.data.NotImplementComparableValueException;
@@ -36,10 +42,14 @@ import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.apache.shardingsphere.sql.parser.statement.core.enums.AggregationType;
 import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.table.SimpleTableSegment;
 
+import java.io.Serializable;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -52,10 +62,21 @@ import java.util.stream.Collectors;
  */
 public final class GroupByMemoryMergedResult extends MemoryMergedResult<ShardingRule> {
     
+    private static final long GROUP_OVERHEAD_BYTES = 256L;
+    
+    private static final long AGGREGATION_UNIT_BYTES = 64L;
+    
+    private static final long RETAINED_VALUE_OVERHEAD_BYTES = 32L;
+    
     public GroupByMemoryMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
         super(null, schema, selectStatementContext, queryResults);
     }
     
+    public GroupByMemoryMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema,
+                                     final MergeSpillContext spillContext) throws SQLException {
+        super(null, schema, selectStatementContext, queryResults, spillContext);
+    }
+    
     @Override
     protected List<MemoryQueryResultRow> init(final ShardingRule shardingRule, final ShardingSphereSchema schema,
                                               final SQLStatementContext sqlStatementContext, final List<QueryResult> queryResults) throws SQLException {
@@ -74,6 +95,98 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult<Sharding
         return getMemoryResultSetRows(selectStatementContext, dataMap, valueCaseSensitive);
     }
     
+    @Override
+    protected Iterator<MemoryQueryResultRow> init(final ShardingRule shardingRule, final ShardingSphereSchema schema, final SQLStatementContext sqlStatementContext,
+                                                  final List<QueryResult> queryResults, final MergeSpillContext spillContext) throws SQLException {
+        SelectStatementContext selectStatementContext = (SelectStatementContext) sqlStatementContext;
+        List<AggregationProjection> aggregationProjections = new ArrayList<>(selectStatementContext.getProjectionsContext().getAggregationProjections());
+        List<Boolean> valueCaseSensitive = queryResults.isEmpty() ? Collections.emptyList() : getValueCaseSensitive(queryResults.iterator().next(), selectStatementContext, schema);
+        Comparator<MemoryQueryResultRow> groupComparator = new GroupByRowComparator(
+                selectStatementContext, Collections.nCopies(valueCaseSensitive.size(), true), selectStatementContext.getGroupByContext().getItems());
+        Map<GroupByValue, MemoryQueryResultRow> dataMap = new HashMap<>(1024, 1F);
+        Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap = new HashMap<>(1024, 1F);
+        Collection<SpillRunFile<GroupByPartialRow>> runFiles = new LinkedList<>();
+        long estimatedBytes = 0L;
+        boolean spillable = true;
+        for (QueryResult each : queryResults) {
+            while (each.next()) {
+                GroupByValue groupByValue = new GroupByValue(each, selectStatementContext.getGroupByContext().getItems());
+                boolean isNewGroup = !dataMap.containsKey(groupByValue);
+                initForFirstGroupByValue(selectStatementContext, each, groupByValue, dataMap, aggregationMap);
+                estimatedBytes += aggregate(selectStatementContext, each, groupByValue, aggregationMap);
+                if (isNewGroup) {
+                    MemoryQueryResultRow row = dataMap.get(groupByValue);
+                    estimatedBytes += MemorySizeEstimateUtils.estimate(row) + GROUP_OVERHEAD_BYTES + AGGREGATION_UNIT_BYTES * aggregationProjections.size();
+                    spillable = spillable && isSpillable(row, runFiles);
+                }
+                if (spillable && spillContext.isExceeded(estimatedBytes)) {
+                    runFiles.add(spillPartialRows(dataMap, aggregationMap, aggregationProjections, groupComparator, spillContext));
+                    estimatedBytes = 0L;
+                }
+            }
+        }
+        if (runFiles.isEmpty()) {
+            setAggregationValueToMemoryRow(selectStatementContext, dataMap, aggregationMap);
+            return getMemoryResultSetRows(selectStatementContext, dataMap, valueCaseSensitive).iterator();
+        }
+        if (!dataMap.isEmpty()) {
+            runFiles.add(spillPartialRows(dataMap, aggregationMap, aggregationProjections, groupComparator, spillContext));
+        }
+        Iterator<MemoryQueryResultRow> result = new GroupByPartialRowCombineIterator(
+                new SpillRunMergeIterator<>(runFiles, (o1, o2) -> groupComparator.compare(o1.getRow(), o2.getRow())), groupComparator, aggregationProjections);
+        return isSortedByGroupComparator(selectStatementContext, valueCaseSensitive) ? result : sort(result, new GroupByRowComparator(selectStatementContext, valueCaseSensitive), spillContext);
+    }
+    
+    private boolean isSpillable(final MemoryQueryResultRow row, final Collection<SpillRunFile<GroupByPartialRow>> runFiles) {
+        if (row.isSerializable()) {
+            return true;
+        }
+        ShardingSpherePreconditions.checkState(runFiles.isEmpty(),
+                () -> new MergedRowsSpillException(String.format("value of class `%s` is not serializable, but rows have been spilled", getNotSerializableClassName(row))));
+        return false;
+    }
+    
+    private String getNotSerializableClassName(final MemoryQueryResultRow row) {
+        for (int i = 1; i <= row.getColumnCount(); i++) {
+            Object value = row.getCell(i);
+            if (null != value && !(value instanceof Serializable)) {
+                return value.getClass().getName();
+            }
+        }
+        return "";
+    }
+    
+    private SpillRunFile<GroupByPartialRow> spillPartialRows(final Map<GroupByValue, MemoryQueryResultRow> dataMap, final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap,
+                                                             final List<AggregationProjection> aggregationProjections, final Comparator<MemoryQueryResultRow> groupComparator,
+                                                             final MergeSpillContext spillContext) {
+        List<GroupByPartialRow> partialRows = new ArrayList<>(dataMap.size());
+        for (Entry<GroupByValue, MemoryQueryResultRow> entry : dataMap.entrySet()) {
+            Map<AggregationProjection, AggregationUnit> aggregationUnits = aggregationMap.get(entry.getKey());
+            AggregationUnit[] partialAggregationUnits = new AggregationUnit[aggregationProjections.size()];
+            for (int i = 0; i < partialAggregationUnits.length; i++) {
+                partialAggregationUnits[i] = aggregationUnits.get(aggregationProjections.get(i));
+            }
+            partialRows.add(new GroupByPartialRow(entry.getValue(), partialAggregationUnits));
+        }
+        dataMap.clear();
+        aggregationMap.clear();
+        partialRows.sort((o1, o2) -> groupComparator.compare(o1.getRow(), o2.getRow()));
+        return SpillRunFile.write(partialRows, spillContext);
+    }
+    
+    private boolean isSortedByGroupComparator(final SelectStatementContext selectStatementContext, final List<Boolean> valueCaseSensitive) {
+        return selectStatementContext.getOrderByContext().getItems().isEmpty()
+                && selectStatementContext.getGroupByContext().getItems().stream().allMatch(each -> valueCaseSensitive.get(each.getIndex()));
+    }
+    
+    private Iterator<MemoryQueryResultRow> sort(final Iterator<MemoryQueryResultRow> rows, final Comparator<MemoryQueryResultRow> comparator, final MergeSpillContext spillContext) {
+        SpillableSortBuffer<MemoryQueryResultRow> sortBuffer = new SpillableSortBuffer<>(comparator, MemorySizeEstimateUtils::estimate, spillContext);
+        while (rows.hasNext()) {
+            sortBuffer.add(rows.next());
+        }
+        return sortBuffer.sortedIterator();
+    }
+    
     private void initForFirstGroupByValue(final SelectStatementContext selectStatementContext, final QueryResult queryResult,
                                           final GroupByValue groupByValue, final Map<GroupByValue, MemoryQueryResultRow> dataMap,
                                           final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap) throws SQLException {
@@ -85,8 +198,9 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult<Sharding
                         input -> AggregationUnitFactory.create(input.getType(), input instanceof AggregationDistinctProjection, input.getSeparator().orElse(null)))));
     }
     
-    private void aggregate(final SelectStatementContext selectStatementContext, final QueryResult queryResult,
+    private long aggregate(final SelectStatementContext selectStatementContext, final QueryResult queryResult,
                            final GroupByValue groupByValue, final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap) throws SQLException {
+        long result = 0L;
         for (AggregationProjection each : selectStatementContext.getProjectionsContext().getAggregationProjections()) {
             List<Comparable<?>> values = new ArrayList<>(2);
             if (each.getDerivedAggregationProjections().isEmpty()) {
@@ -97,7 +211,15 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult<Sharding
                 }
             }
             aggregationMap.get(groupByValue).get(each).merge(values);
+            if (isRetainingValues(each)) {
+                result += MemorySizeEstimateUtils.estimate(values.get(0)) + RETAINED_VALUE_OVERHEAD_BYTES;
+            }
         }
+        return result;
+    }
+    
+    private boolean isRetainingValues(final AggregationProjection aggregationProjection) {
+        return aggregationProjection instanceof AggregationDistinctProjection || AggregationType.GROUP_CONCAT == aggregationProjection.getType();
     }
     
     private Comparable<?> getAggregationValue(final QueryResult queryResult, final AggregationProjection aggregationProjection) throws SQLException {
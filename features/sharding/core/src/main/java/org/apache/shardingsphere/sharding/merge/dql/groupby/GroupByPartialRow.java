@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Group by partial row, which holds intermediate aggregation result of a group spilled to local disk.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class GroupByPartialRow implements Serializable {
+    
+    private static final long serialVersionUID = -4739517281402263316L;
+    
+    private final MemoryQueryResultRow row;
+    
+    private final AggregationUnit[] aggregationUnits;
+    
+    /**
+     * Combine intermediate aggregation result of another partial row with same group.
+     *
+     * @param partialRow partial row to be combined
+     */
+    public void combine(final GroupByPartialRow partialRow) {
+        for (int i = 0; i < aggregationUnits.length; i++) {
+            aggregationUnits[i].combine(partialRow.aggregationUnits[i]);
+        }
+    }
+    
+    /**
+     * Get memory query result row with aggregation result.
+     *
+     * @param aggregationProjections aggregation projections in same order of aggregation units
+     * @return memory query result row
+     */
+    public MemoryQueryResultRow getAggregatedRow(final List<AggregationProjection> aggregationProjections) {
+        for (int i = 0; i < aggregationUnits.length; i++) {
+            row.setCell(aggregationProjections.get(i).getIndex(), aggregationUnits[i].getResult());
+        }
+        return row;
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Group by partial row combine iterator.
+ *
+ * <p>Partial rows must be sorted by group, then adjacent partial rows of same group are combined into one aggregated row.</p>
+ */
+@RequiredArgsConstructor
+public final class GroupByPartialRowCombineIterator implements Iterator<MemoryQueryResultRow> {
+    
+    private final Iterator<GroupByPartialRow> partialRows;
+    
+    private final Comparator<MemoryQueryResultRow> groupComparator;
+    
+    private final List<AggregationProjection> aggregationProjections;
+    
+    private GroupByPartialRow pendingPartialRow;
+    
+    @Override
+    public boolean hasNext() {
+        return null != pendingPartialRow || partialRows.hasNext();
+    }
+    
+    @Override
+    public MemoryQueryResultRow next() {
+        GroupByPartialRow result = null == pendingPartialRow ? partialRows.next() : pendingPartialRow;
+        pendingPartialRow = null;
+        while (partialRows.hasNext()) {
+            GroupByPartialRow each = partialRows.next();
+            if (0 != groupComparator.compare(result.getRow(), each.getRow())) {
+                pendingPartialRow = each;
+                break;
+            }
+            result.combine(each);
+        }
+        return result.getAggregatedRow(aggregationProjections);
+    }
+}
@@ -39,12 +39,16 @@ public final class GroupByRowComparator implements Comparator<MemoryQueryResultR
     
     private final List<Boolean> valueCaseSensitive;
     
+    private final Collection<OrderByItem> orderByItems;
+    
+    public GroupByRowComparator(final SelectStatementContext selectStatementContext, final List<Boolean> valueCaseSensitive) {
+        this(selectStatementContext, valueCaseSensitive,
+                selectStatementContext.getOrderByContext().getItems().isEmpty() ? selectStatementContext.getGroupByContext().getItems() : selectStatementContext.getOrderByContext().getItems());
+    }
+    
     @Override
     public int compare(final MemoryQueryResultRow o1, final MemoryQueryResultRow o2) {
-        if (!selectStatementContext.getOrderByContext().getItems().isEmpty()) {
-            return compare(o1, o2, selectStatementContext.getOrderByContext().getItems());
-        }
-        return compare(o1, o2, selectStatementContext.getGroupByContext().getItems());
+        return compare(o1, o2, orderByItems);
     }
     
     @SuppressWarnings("rawtypes")
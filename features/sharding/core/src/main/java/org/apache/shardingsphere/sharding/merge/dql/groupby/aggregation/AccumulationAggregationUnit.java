@@ -28,6 +28,8 @@ import java.util.List;
 @RequiredArgsConstructor
 public final class AccumulationAggregationUnit implements AggregationUnit {
     
+    private static final long serialVersionUID = -1259801256942641786L;
+    
     private BigDecimal result;
     
     @Override
@@ -41,6 +43,14 @@ public final class AccumulationAggregationUnit implements AggregationUnit {
         result = result.add(new BigDecimal(values.get(0).toString()));
     }
     
+    @Override
+    public void combine(final AggregationUnit aggregationUnit) {
+        BigDecimal otherResult = ((AccumulationAggregationUnit) aggregationUnit).result;
+        if (null != otherResult) {
+            result = null == result ? otherResult : result.add(otherResult);
+        }
+    }
+    
     @Override
     public Comparable<?> getResult() {
         return result;
@@ -21,6 +21,7 @@ import lombok.RequiredArgsConstructor;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -29,6 +30,8 @@ import java.util.List;
 @RequiredArgsConstructor
 public final class AverageAggregationUnit implements AggregationUnit {
     
+    private static final long serialVersionUID = -587950326848977040L;
+    
     private BigDecimal count;
     
     private BigDecimal sum;
@@ -48,6 +51,14 @@ public final class AverageAggregationUnit implements AggregationUnit {
         sum = sum.add(new BigDecimal(values.get(1).toString()));
     }
     
+    @Override
+    public void combine(final AggregationUnit aggregationUnit) {
+        AverageAggregationUnit other = (AverageAggregationUnit) aggregationUnit;
+        if (null != other.count && null != other.sum) {
+            merge(Arrays.asList(other.count, other.sum));
+        }
+    }
+    
     @Override
     public Comparable<?> getResult() {
         if (null == count || BigDecimal.ZERO.compareTo(count) == 0) {
@@ -28,6 +28,8 @@ import java.util.List;
 @RequiredArgsConstructor
 public final class BitXorAggregationUnit implements AggregationUnit {
     
+    private static final long serialVersionUID = -918615833121216985L;
+    
     private BigInteger result;
     
     @Override
@@ -41,6 +43,14 @@ public final class BitXorAggregationUnit implements AggregationUnit {
         result = result.xor(new BigInteger(values.get(0).toString()));
     }
     
+    @Override
+    public void combine(final AggregationUnit aggregationUnit) {
+        BigInteger otherResult = ((BitXorAggregationUnit) aggregationUnit).result;
+        if (null != otherResult) {
+            result = null == result ? otherResult : result.xor(otherResult);
+        }
+    }
+    
     @Override
     public Comparable<?> getResult() {
         return result;
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 
 import lombok.RequiredArgsConstructor;
 
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -27,6 +28,8 @@ import java.util.List;
 @RequiredArgsConstructor
 public final class ComparableAggregationUnit implements AggregationUnit {
     
+    private static final long serialVersionUID = 1921640899483315687L;
+    
     private final boolean asc;
     
     private Comparable<?> result;
@@ -47,6 +50,11 @@ public final class ComparableAggregationUnit implements AggregationUnit {
         }
     }
     
+    @Override
+    public void combine(final AggregationUnit aggregationUnit) {
+        merge(Collections.singletonList(((ComparableAggregationUnit) aggregationUnit).result));
+    }
+    
     @Override
     public Comparable<?> getResult() {
         return result;
@@ -21,9 +21,11 @@ import lombok.RequiredArgsConstructor;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.util.Collection;
-import java.util.LinkedHashSet;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 
 /**
  * Distinct average aggregation unit.
@@ -31,20 +33,20 @@ import java.util.List;
 @RequiredArgsConstructor
 public final class DistinctAverageAggregationUnit implements AggregationUnit {
     
+    private static final long serialVersionUID = 3982308083960668128L;
+    
     private BigDecimal count;
     
     private BigDecimal sum;
     
-    private final Collection<Comparable<?>> countValues = new LinkedHashSet<>();
-    
-    private final Collection<Comparable<?>> sumValues = new LinkedHashSet<>();
+    private final Map<Comparable<?>, Comparable<?>> countSumValues = new LinkedHashMap<>();
     
     @Override
     public void merge(final List<Comparable<?>> values) {
         if (null == values || null == values.get(0) || null == values.get(1)) {
             return;
         }
-        if (countValues.add(values.get(0)) && sumValues.add(values.get(0))) {
+        if (null == countSumValues.putIfAbsent(values.get(0), values.get(1))) {
             if (null == count) {
                 count = BigDecimal.ZERO;
             }
@@ -56,6 +58,13 @@ public final class DistinctAverageAggregationUnit implements AggregationUnit {
         }
     }
     
+    @Override
+    public void combine(final AggregationUnit aggregationUnit) {
+        for (Entry<Comparable<?>, Comparable<?>> entry : ((DistinctAverageAggregationUnit) aggregationUnit).countSumValues.entrySet()) {
+            merge(Arrays.asList(entry.getKey(), entry.getValue()));
+        }
+    }
+    
     @Override
     public Comparable<?> getResult() {
         if (null == count || BigDecimal.ZERO.compareTo(count) == 0) {
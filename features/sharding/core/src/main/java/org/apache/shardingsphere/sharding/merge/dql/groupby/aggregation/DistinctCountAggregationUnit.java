@@ -29,6 +29,8 @@ import java.util.List;
 @RequiredArgsConstructor
 public final class DistinctCountAggregationUnit implements AggregationUnit {
     
+    private static final long serialVersionUID = 1480141274773013272L;
+    
     private final Collection<Comparable<?>> values = new HashSet<>();
     
     @Override
@@ -39,6 +41,11 @@ public final class DistinctCountAggregationUnit implements AggregationUnit {
         this.values.add(values.get(0));
     }
     
+    @Override
+    public void combine(final AggregationUnit aggregationUnit) {
+        values.addAll(((DistinctCountAggregationUnit) aggregationUnit).values);
+    }
+    
     @Override
     public Comparable<?> getResult() {
         return values.size();
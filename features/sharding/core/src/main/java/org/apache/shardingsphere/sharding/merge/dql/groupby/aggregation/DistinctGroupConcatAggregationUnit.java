@@ -26,6 +26,8 @@ import java.util.List;
  */
 public final class DistinctGroupConcatAggregationUnit implements AggregationUnit {
     
+    private static final long serialVersionUID = 1422563871168108484L;
+    
     private static final String DEFAULT_SEPARATOR = ",";
     
     private final Collection<String> values = new LinkedHashSet<>();
@@ -44,6 +46,11 @@ public final class DistinctGroupConcatAggregationUnit implements AggregationUnit
         this.values.add(String.valueOf(values.get(0)));
     }
     
+    @Override
+    public void combine(final AggregationUnit aggregationUnit) {
+        values.addAll(((DistinctGroupConcatAggregationUnit) aggregationUnit).values);
+    }
+    
     @Override
     public Comparable<?> getResult() {
         return String.join(separator, values);
@@ -26,6 +26,8 @@ import java.util.List;
  */
 public final class GroupConcatAggregationUnit implements AggregationUnit {
     
+    private static final long serialVersionUID = -2048218180272897959L;
+    
     private static final String DEFAULT_SEPARATOR = ",";
     
     private final Collection<String> values = new ArrayList<>();
@@ -44,6 +46,11 @@ public final class GroupConcatAggregationUnit implements AggregationUnit {
         this.values.add(String.valueOf(values.get(0)));
     }
     
+    @Override
+    public void combine(final AggregationUnit aggregationUnit) {
+        values.addAll(((GroupConcatAggregationUnit) aggregationUnit).values);
+    }
+    
     @Override
     public Comparable<?> getResult() {
         return String.join(separator, values);
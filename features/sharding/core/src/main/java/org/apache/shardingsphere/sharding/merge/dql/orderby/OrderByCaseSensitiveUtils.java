@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.item.ColumnOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.item.OrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.table.SimpleTableSegment;
+
+import java.sql.SQLException;
+
+/**
+ * Order by case sensitive utility class.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class OrderByCaseSensitiveUtils {
+    
+    /**
+     * Judge whether values of order by item are case sensitive.
+     *
+     * @param orderByItem order by item
+     * @param queryResult query result
+     * @param selectStatementContext select statement context
+     * @param schema ShardingSphere schema
+     * @return values of order by item are case sensitive or not
+     * @throws SQLException SQL exception
+     */
+    public static boolean isCaseSensitive(final OrderByItem orderByItem, final QueryResult queryResult,
+                                          final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
+        for (SimpleTableSegment each : selectStatementContext.getTablesContext().getSimpleTables()) {
+            String tableName = each.getTableName().getIdentifier().getValue();
+            ShardingSphereTable table = schema.getTable(tableName);
+            OrderByItemSegment orderByItemSegment = orderByItem.getSegment();
+            if (orderByItemSegment instanceof ColumnOrderByItemSegment) {
+                String columnName = ((ColumnOrderByItemSegment) orderByItemSegment).getColumn().getIdentifier().getValue();
+                if (table.containsColumn(columnName)) {
+                    return table.getColumn(columnName).isCaseSensitive();
+                }
+            } else if (orderByItemSegment instanceof IndexOrderByItemSegment) {
+                int columnIndex = ((IndexOrderByItemSegment) orderByItemSegment).getColumnIndex();
+                String columnName = queryResult.getMetaData().getColumnName(columnIndex);
+                if (table.containsColumn(columnName)) {
+                    return table.getColumn(columnName).isCaseSensitive();
+                }
+            } else {
+                return false;
+            }
+        }
+        return false;
+    }
+}
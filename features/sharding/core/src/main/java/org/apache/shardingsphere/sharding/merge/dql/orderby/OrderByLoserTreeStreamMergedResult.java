@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.impl.stream.StreamMergedResult;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.sharding.merge.dql.orderby.key.OrderByKeyBuffer;
+import org.apache.shardingsphere.sharding.merge.dql.orderby.key.OrderByKeyBufferFactory;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Stream merged result for order by with loser tree.
+ *
+ * <p>Every query result is a leaf of the loser tree, and every inner node keeps the loser of its sub tree,
+ * so that advancing the winner costs log(n) comparisons along a single path.
+ * Current order by values of all query results are kept in typed key buffers, which are compared without boxing where possible.</p>
+ */
+public final class OrderByLoserTreeStreamMergedResult extends StreamMergedResult {
+    
+    private final QueryResult[] queryResults;
+    
+    private final int[] orderByColumnIndexes;
+    
+    private final OrderByKeyBuffer[] keyBuffers;
+    
+    private final boolean[] exhausted;
+    
+    private final int[] tree;
+    
+    private boolean isFirstNext;
+    
+    public OrderByLoserTreeStreamMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
+        this.queryResults = queryResults.toArray(new QueryResult[0]);
+        Collection<OrderByItem> orderByItems = selectStatementContext.getOrderByContext().getItems();
+        orderByColumnIndexes = new int[orderByItems.size()];
+        keyBuffers = new OrderByKeyBuffer[orderByItems.size()];
+        int index = 0;
+        for (OrderByItem each : orderByItems) {
+            orderByColumnIndexes[index] = each.getIndex();
+            boolean caseSensitive = OrderByCaseSensitiveUtils.isCaseSensitive(each, queryResults.get(0), selectStatementContext, schema);
+            keyBuffers[index] = OrderByKeyBufferFactory.create(queryResults.get(0).getMetaData(), each.getIndex(), this.queryResults.length, each.getSegment().getOrderDirection(),
+                    each.getSegment().getNullsOrderType(selectStatementContext.getDatabaseType()), caseSensitive);
+            index++;
+        }
+        exhausted = new boolean[this.queryResults.length];
+        for (int i = 0; i < this.queryResults.length; i++) {
+            loadNextRow(i);
+        }
+        tree = buildTree();
+        setCurrentQueryResult(exhausted[tree[0]] ? queryResults.get(0) : this.queryResults[tree[0]]);
+        isFirstNext = true;
+    }
+    
+    private int[] buildTree() {
+        int leafCount = queryResults.length;
+        int[] result = new int[leafCount];
+        int[] winners = new int[leafCount * 2];
+        for (int i = 0; i < leafCount; i++) {
+            winners[leafCount + i] = i;
+        }
+        for (int node = leafCount - 1; node > 0; node--) {
+            int left = winners[node * 2];
+            int right = winners[node * 2 + 1];
+            boolean isLeftWinner = isBefore(left, right);
+            winners[node] = isLeftWinner ? left : right;
+            result[node] = isLeftWinner ? right : left;
+        }
+        result[0] = winners[1];
+        return result;
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (exhausted[tree[0]]) {
+            return false;
+        }
+        if (isFirstNext) {
+            isFirstNext = false;
+            return true;
+        }
+        int winner = tree[0];
+        loadNextRow(winner);
+        replay(winner);
+        if (exhausted[tree[0]]) {
+            return false;
+        }
+        setCurrentQueryResult(queryResults[tree[0]]);
+        return true;
+    }
+    
+    private void loadNextRow(final int slot) throws SQLException {
+        QueryResult queryResult = queryResults[slot];
+        if (!queryResult.next()) {
+            exhausted[slot] = true;
+            return;
+        }
+        for (int i = 0; i < keyBuffers.length; i++) {
+            keyBuffers[i].load(slot, queryResult.getValue(orderByColumnIndexes[i], Object.class));
+        }
+    }
+    
+    private void replay(final int slot) {
+        int winner = slot;
+        for (int node = (slot + queryResults.length) >> 1; node > 0; node >>= 1) {
+            if (isBefore(tree[node], winner)) {
+                int loser = winner;
+                winner = tree[node];
+                tree[node] = loser;
+            }
+        }
+        tree[0] = winner;
+    }
+    
+    private boolean isBefore(final int thisSlot, final int otherSlot) {
+        if (exhausted[thisSlot]) {
+            return false;
+        }
+        if (exhausted[otherSlot]) {
+            return true;
+        }
+        for (OrderByKeyBuffer each : keyBuffers) {
+            int result = each.compare(thisSlot, otherSlot);
+            if (0 != result) {
+                return result < 0;
+            }
+        }
+        return thisSlot < otherSlot;
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby.key;
+
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.NullsOrderType;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.sharding.exception.data.NotImplementComparableValueException;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.OrderDirection;
+
+/**
+ * Abstract order by key buffer.
+ *
+ * <p>Values which do not match the typed storage of the buffer are kept as {@code Comparable} and compared as they are.</p>
+ */
+public abstract class AbstractOrderByKeyBuffer implements OrderByKeyBuffer {
+    
+    private final boolean ascending;
+    
+    private final boolean nullsFirst;
+    
+    private final boolean[] nulls;
+    
+    private final Comparable<?>[] untypedValues;
+    
+    protected AbstractOrderByKeyBuffer(final int size, final OrderDirection orderDirection, final NullsOrderType nullsOrderType) {
+        ascending = OrderDirection.ASC == orderDirection;
+        nullsFirst = NullsOrderType.FIRST == nullsOrderType;
+        nulls = new boolean[size];
+        untypedValues = new Comparable<?>[size];
+    }
+    
+    @Override
+    public final void load(final int slot, final Object value) {
+        ShardingSpherePreconditions.checkState(null == value || value instanceof Comparable, () -> new NotImplementComparableValueException("Order by", value));
+        nulls[slot] = null == value;
+        untypedValues[slot] = null == value || loadTypedValue(slot, value) ? null : (Comparable<?>) value;
+    }
+    
+    @Override
+    public final int compare(final int thisSlot, final int otherSlot) {
+        if (nulls[thisSlot]) {
+            return nulls[otherSlot] ? 0 : nullsFirst ? -1 : 1;
+        }
+        if (nulls[otherSlot]) {
+            return nullsFirst ? 1 : -1;
+        }
+        int result = null == untypedValues[thisSlot] && null == untypedValues[otherSlot] ? compareTypedValues(thisSlot, otherSlot) : compareUntypedValues(thisSlot, otherSlot);
+        return ascending ? result : -result;
+    }
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private int compareUntypedValues(final int thisSlot, final int otherSlot) {
+        Comparable thisValue = null == untypedValues[thisSlot] ? getTypedValue(thisSlot) : untypedValues[thisSlot];
+        Comparable otherValue = null == untypedValues[otherSlot] ? getTypedValue(otherSlot) : untypedValues[otherSlot];
+        return thisValue.compareTo(otherValue);
+    }
+    
+    /**
+     * Load not null value into typed storage.
+     *
+     * @param slot slot of query result
+     * @param value not null order by value
+     * @return whether value is loaded into typed storage
+     */
+    protected abstract boolean loadTypedValue(int slot, Object value);
+    
+    /**
+     * Compare values of two slots in typed storage with ascending order.
+     *
+     * @param thisSlot this slot
+     * @param otherSlot other slot
+     * @return compare result
+     */
+    protected abstract int compareTypedValues(int thisSlot, int otherSlot);
+    
+    /**
+     * Get value of slot in typed storage.
+     *
+     * @param slot slot of query result
+     * @return value in typed storage
+     */
+    protected abstract Comparable<?> getTypedValue(int slot);
+}
@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby.key;
+
+/**
+ * Order by key buffer, which keeps the current order by value of one order by item for every merged query result.
+ */
+public interface OrderByKeyBuffer {
+    
+    /**
+     * Load order by value into slot.
+     *
+     * @param slot slot of query result
+     * @param value order by value
+     */
+    void load(int slot, Object value);
+    
+    /**
+     * Compare order by values of two slots with order direction and nulls order type.
+     *
+     * @param thisSlot this slot
+     * @param otherSlot other slot
+     * @return compare result
+     */
+    int compare(int thisSlot, int otherSlot);
+}
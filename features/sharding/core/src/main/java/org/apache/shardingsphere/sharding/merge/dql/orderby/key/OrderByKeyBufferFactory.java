@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby.key;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.NullsOrderType;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.OrderDirection;
+
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * Order by key buffer factory.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class OrderByKeyBufferFactory {
+    
+    /**
+     * Create order by key buffer instance.
+     *
+     * @param metaData query result meta data
+     * @param columnIndex column index of order by item
+     * @param size size of merged query results
+     * @param orderDirection order direction
+     * @param nullsOrderType order type for nulls value
+     * @param caseSensitive case sensitive
+     * @return order by key buffer instance
+     * @throws SQLException SQL exception
+     */
+    public static OrderByKeyBuffer create(final QueryResultMetaData metaData, final int columnIndex, final int size,
+                                          final OrderDirection orderDirection, final NullsOrderType nullsOrderType, final boolean caseSensitive) throws SQLException {
+        switch (metaData.getColumnType(columnIndex)) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+                return new LongOrderByKeyBuffer(size, orderDirection, nullsOrderType);
+            case Types.BIGINT:
+                return metaData.isSigned(columnIndex)
+                        ? new LongOrderByKeyBuffer(size, orderDirection, nullsOrderType)
+                        : new ComparableOrderByKeyBuffer(size, orderDirection, nullsOrderType, caseSensitive);
+            case Types.DECIMAL:
+            case Types.NUMERIC:
+                return new DecimalOrderByKeyBuffer(size, orderDirection, nullsOrderType);
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+            case Types.NCHAR:
+            case Types.NVARCHAR:
+            case Types.LONGNVARCHAR:
+                return new StringOrderByKeyBuffer(size, orderDirection, nullsOrderType, caseSensitive);
+            default:
+                return new ComparableOrderByKeyBuffer(size, orderDirection, nullsOrderType, caseSensitive);
+        }
+    }
+}
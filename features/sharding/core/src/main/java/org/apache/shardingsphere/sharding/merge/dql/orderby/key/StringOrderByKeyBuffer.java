@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby.key;
+
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.NullsOrderType;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.OrderDirection;
+
+/**
+ * Order by key buffer for string values.
+ *
+ * <p>Values of case insensitive column are upper cased once when loaded, instead of on every comparison.</p>
+ */
+public final class StringOrderByKeyBuffer extends AbstractOrderByKeyBuffer {
+    
+    private final boolean caseSensitive;
+    
+    private final String[] values;
+    
+    public StringOrderByKeyBuffer(final int size, final OrderDirection orderDirection, final NullsOrderType nullsOrderType, final boolean caseSensitive) {
+        super(size, orderDirection, nullsOrderType);
+        this.caseSensitive = caseSensitive;
+        values = new String[size];
+    }
+    
+    @Override
+    protected boolean loadTypedValue(final int slot, final Object value) {
+        if (value instanceof String) {
+            values[slot] = caseSensitive ? (String) value : ((String) value).toUpperCase();
+            return true;
+        }
+        return false;
+    }
+    
+    @Override
+    protected int compareTypedValues(final int thisSlot, final int otherSlot) {
+        return values[thisSlot].compareTo(values[otherSlot]);
+    }
+    
+    @Override
+    protected Comparable<?> getTypedValue(final int slot) {
+        return values[slot];
+    }
+}
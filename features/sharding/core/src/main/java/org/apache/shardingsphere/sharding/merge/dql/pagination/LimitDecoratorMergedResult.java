@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.sharding.merge.dql.pagination;
 
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.batch.RowBatch;
+import org.apache.shardingsphere.infra.merge.result.BatchMergedResult;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.merge.result.impl.decorator.DecoratorMergedResult;
 import org.apache.shardingsphere.infra.binder.context.segment.select.pagination.PaginationContext;
@@ -26,7 +28,7 @@ import java.sql.SQLException;
 /**
  * Decorator merged result for limit pagination.
  */
-public final class LimitDecoratorMergedResult extends DecoratorMergedResult {
+public final class LimitDecoratorMergedResult extends DecoratorMergedResult implements BatchMergedResult {
     
     private final PaginationContext paginationContext;
     
@@ -60,4 +62,27 @@ public final class LimitDecoratorMergedResult extends DecoratorMergedResult {
         }
         return ++rowNumber <= paginationContext.getActualRowCount().get() && getMergedResult().next();
     }
+    
+    @Override
+    public boolean isBatchSupported() {
+        return getMergedResult() instanceof BatchMergedResult && ((BatchMergedResult) getMergedResult()).isBatchSupported();
+    }
+    
+    @Override
+    public RowBatch nextBatch(final int maxRowCount) throws SQLException {
+        if (skipAll) {
+            return RowBatch.EMPTY;
+        }
+        if (!paginationContext.getActualRowCount().isPresent()) {
+            return ((BatchMergedResult) getMergedResult()).nextBatch(maxRowCount);
+        }
+        long remainingRowCount = paginationContext.getActualRowCount().get() - rowNumber;
+        if (remainingRowCount <= 0L) {
+            return RowBatch.EMPTY;
+        }
+        RowBatch result = ((BatchMergedResult) getMergedResult()).nextBatch((int) Math.min(maxRowCount, remainingRowCount));
+        result.limit((int) remainingRowCount);
+        rowNumber += result.getRowCount();
+        return result;
+    }
 }
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.metadata.data.dialect.type;
+
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.sharding.metadata.data.dialect.DialectShardingColumnStatisticsTableCollector;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Sharding column statistics table data collector of MySQL.
+ *
+ * <p>Distinct counts come from the cardinality of indexes led by the column, null counts and histograms are not maintained by MySQL index statistics.</p>
+ */
+public final class MySQLShardingColumnStatisticsTableCollector implements DialectShardingColumnStatisticsTableCollector {
+    
+    private static final String FETCH_COLUMN_CARDINALITY_SQL = "SELECT COLUMN_NAME, MAX(CARDINALITY) AS DISTINCT_COUNT FROM information_schema.STATISTICS "
+            + "WHERE TABLE_SCHEMA = ? AND TABLE_NAME = ? AND SEQ_IN_INDEX = 1 GROUP BY COLUMN_NAME";
+    
+    @Override
+    public Collection<List<Object>> collect(final Connection connection, final DataNode dataNode) throws SQLException {
+        Collection<List<Object>> result = new LinkedList<>();
+        try (PreparedStatement preparedStatement = connection.prepareStatement(FETCH_COLUMN_CARDINALITY_SQL)) {
+            preparedStatement.setString(1, connection.getCatalog());
+            preparedStatement.setString(2, dataNode.getTableName());
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    result.add(Arrays.asList(resultSet.getString("COLUMN_NAME"), resultSet.getBigDecimal("DISTINCT_COUNT"), null, null));
+                }
+            }
+        }
+        return result;
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "MySQL";
+    }
+}
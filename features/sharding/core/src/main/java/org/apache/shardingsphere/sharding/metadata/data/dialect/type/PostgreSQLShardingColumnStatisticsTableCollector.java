@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.metadata.data.dialect.type;
+
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.sharding.metadata.data.dialect.DialectShardingColumnStatisticsTableCollector;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Sharding column statistics table data collector of PostgreSQL.
+ *
+ * <p>Column statistics come from PG_STATS, which are maintained by ANALYZE. Histogram bounds are equi-depth.</p>
+ */
+public final class PostgreSQLShardingColumnStatisticsTableCollector implements DialectShardingColumnStatisticsTableCollector {
+    
+    private static final String FETCH_COLUMN_STATISTICS_SQL = "SELECT S.ATTNAME, S.N_DISTINCT, S.NULL_FRAC, S.HISTOGRAM_BOUNDS::TEXT AS HISTOGRAM_BOUNDS, C.RELTUPLES FROM PG_STATS S "
+            + "JOIN PG_NAMESPACE N ON N.NSPNAME = S.SCHEMANAME JOIN PG_CLASS C ON C.RELNAMESPACE = N.OID AND C.RELNAME = S.TABLENAME WHERE S.SCHEMANAME = ? AND S.TABLENAME = ?";
+    
+    @Override
+    public Collection<List<Object>> collect(final Connection connection, final DataNode dataNode) throws SQLException {
+        Collection<List<Object>> result = new LinkedList<>();
+        try (PreparedStatement preparedStatement = connection.prepareStatement(FETCH_COLUMN_STATISTICS_SQL)) {
+            preparedStatement.setString(1, dataNode.getSchemaName());
+            preparedStatement.setString(2, dataNode.getTableName());
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    double tableRows = Math.max(resultSet.getDouble("RELTUPLES"), 0D);
+                    double distinct = resultSet.getDouble("N_DISTINCT");
+                    BigDecimal distinctCount = toCount(distinct < 0D ? -distinct * tableRows : distinct);
+                    BigDecimal nullCount = toCount(resultSet.getDouble("NULL_FRAC") * tableRows);
+                    result.add(Arrays.asList(resultSet.getString("ATTNAME"), distinctCount, nullCount, resultSet.getString("HISTOGRAM_BOUNDS")));
+                }
+            }
+        }
+        return result;
+    }
+    
+    private BigDecimal toCount(final double value) {
+        return BigDecimal.valueOf(value).setScale(0, RoundingMode.HALF_UP);
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "PostgreSQL";
+    }
+}
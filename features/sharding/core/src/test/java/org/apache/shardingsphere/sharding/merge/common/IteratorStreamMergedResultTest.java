@@ -21,6 +21,9 @@ import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatem
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.batch.BatchQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.batch.RowBatch;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.bytes.ColumnBytesQueryResult;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
@@ -45,6 +48,8 @@ import java.util.Collections;
 import java.util.List;
 import java.util.stream.Stream;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
@@ -94,6 +99,41 @@ class IteratorStreamMergedResultTest {
         assertFalse(actual.next());
     }
     
+    @Test
+    void assertIsBatchSupported() {
+        assertFalse(new IteratorStreamMergedResult(Arrays.asList(mock(BatchQueryResult.class), mock(QueryResult.class))).isBatchSupported());
+        assertTrue(new IteratorStreamMergedResult(Arrays.asList(mock(BatchQueryResult.class), mock(BatchQueryResult.class))).isBatchSupported());
+    }
+    
+    @Test
+    void assertNextBatch() throws SQLException {
+        BatchQueryResult emptyQueryResult = mock(BatchQueryResult.class);
+        when(emptyQueryResult.nextBatch(10)).thenReturn(RowBatch.EMPTY);
+        RowBatch rowBatch = mock(RowBatch.class);
+        when(rowBatch.getRowCount()).thenReturn(2);
+        BatchQueryResult queryResult = mock(BatchQueryResult.class);
+        when(queryResult.nextBatch(10)).thenReturn(rowBatch, RowBatch.EMPTY);
+        IteratorStreamMergedResult actual = new IteratorStreamMergedResult(Arrays.asList(emptyQueryResult, queryResult, emptyQueryResult));
+        assertThat(actual.nextBatch(10), is(rowBatch));
+        assertThat(actual.nextBatch(10).getRowCount(), is(0));
+    }
+    
+    @Test
+    void assertIsColumnBytesSupported() {
+        assertFalse(new IteratorStreamMergedResult(Arrays.asList(mock(ColumnBytesQueryResult.class), mock(QueryResult.class))).isColumnBytesSupported());
+        assertTrue(new IteratorStreamMergedResult(Arrays.asList(mock(ColumnBytesQueryResult.class), mock(ColumnBytesQueryResult.class))).isColumnBytesSupported());
+    }
+    
+    @Test
+    void assertGetColumnBytes() throws SQLException {
+        ColumnBytesQueryResult queryResult = mock(ColumnBytesQueryResult.class);
+        when(queryResult.next()).thenReturn(true);
+        when(queryResult.getColumnBytes(1)).thenReturn(new byte[]{'1'});
+        IteratorStreamMergedResult actual = new IteratorStreamMergedResult(Collections.singletonList(queryResult));
+        assertTrue(actual.next());
+        assertThat(actual.getColumnBytes(1), is(new byte[]{'1'}));
+    }
+    
     @ParameterizedTest(name = "{0}")
     @ArgumentsSource(TestCaseArgumentsProvider.class)
     void assertNextForNotEmpty(final String name, final int index) throws SQLException {
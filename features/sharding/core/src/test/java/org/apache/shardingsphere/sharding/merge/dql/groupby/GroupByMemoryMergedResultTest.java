@@ -17,10 +17,16 @@
 
 package org.apache.shardingsphere.sharding.merge.dql.groupby;
 
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.database.core.metadata.database.enums.NullsOrderType;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultColumnMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.type.RawMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
@@ -52,8 +58,11 @@ import org.mockito.quality.Strictness;
 
 import java.math.BigDecimal;
 import java.sql.SQLException;
+import java.sql.Types;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -113,6 +122,67 @@ class GroupByMemoryMergedResultTest {
         assertFalse(actual.next());
     }
     
+    @Test
+    void assertNextWithSpilledGroups() throws SQLException {
+        when(database.getName()).thenReturn("db_schema");
+        QueryResult queryResult1 = createRawQueryResult(Collections.singletonList(Arrays.asList(20, 0, 2, 2, 20)));
+        QueryResult queryResult2 = createRawQueryResult(Collections.emptyList());
+        QueryResult queryResult3 = createRawQueryResult(Arrays.asList(Arrays.asList(20, 0, 2, 2, 20), Arrays.asList(30, 0, 3, 3, 30)));
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(TypedSPILoader.getService(DatabaseType.class, "MySQL"), 1L);
+        MergedResult actual = resultMerger.merge(Arrays.asList(queryResult1, queryResult2, queryResult3), createSelectStatementContext(), database, mock(ConnectionContext.class));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(new BigDecimal(30)));
+        assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(10));
+        assertThat(actual.getValue(3, Object.class), is(3));
+        assertThat(actual.getValue(4, Object.class), is(new BigDecimal(3)));
+        assertThat(actual.getValue(5, Object.class), is(new BigDecimal(30)));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(new BigDecimal(40)));
+        assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(10));
+        assertThat(actual.getValue(3, Object.class), is(2));
+        assertThat(actual.getValue(4, Object.class), is(new BigDecimal(4)));
+        assertThat(actual.getValue(5, Object.class), is(new BigDecimal(40)));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    void assertGetValueBeforeNextWithSpilledGroups() throws SQLException {
+        when(database.getName()).thenReturn("db_schema");
+        QueryResult queryResult1 = createRawQueryResult(Collections.singletonList(Arrays.asList(20, 0, 2, 2, 20)));
+        QueryResult queryResult2 = createRawQueryResult(Collections.singletonList(Arrays.asList(30, 0, 3, 3, 30)));
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(TypedSPILoader.getService(DatabaseType.class, "MySQL"), 1L);
+        MergedResult actual = resultMerger.merge(Arrays.asList(queryResult1, queryResult2), createSelectStatementContext(), database, mock(ConnectionContext.class));
+        assertThat(actual.getValue(3, Object.class), is(3));
+        actual.close();
+    }
+    
+    @Test
+    void assertNextWithNotSerializableValueWhenSpillEnabled() throws SQLException {
+        when(database.getName()).thenReturn("db_schema");
+        QueryResult queryResult1 = createRawQueryResult(Collections.singletonList(Arrays.asList(20, 0, new NotSerializableValue(2), 2, 20)));
+        QueryResult queryResult2 = createRawQueryResult(Arrays.asList(Arrays.asList(20, 0, new NotSerializableValue(2), 2, 20), Arrays.asList(30, 0, new NotSerializableValue(3), 3, 30)));
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(TypedSPILoader.getService(DatabaseType.class, "MySQL"), 1L);
+        MergedResult actual = resultMerger.merge(Arrays.asList(queryResult1, queryResult2), createSelectStatementContext(), database, mock(ConnectionContext.class));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(new BigDecimal(30)));
+        assertThat(actual.getValue(3, Object.class), is(new NotSerializableValue(3)));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(new BigDecimal(40)));
+        assertThat(actual.getValue(3, Object.class), is(new NotSerializableValue(2)));
+        assertFalse(actual.next());
+        actual.close();
+    }
+    
+        private QueryResult createRawQueryResult(final List<List<Object>> rows) {
+        List<RawQueryResultColumnMetaData> columns = Arrays.asList(
+                new RawQueryResultColumnMetaData("", "COUNT(*)", "COUNT(*)", Types.INTEGER, "INT", 10, 0),
+                new RawQueryResultColumnMetaData("", "AVG(num)", "AVG(num)", Types.INTEGER, "INT", 10, 0),
+                new RawQueryResultColumnMetaData("", "id", "id", Types.INTEGER, "INT", 10, 0),
+                new RawQueryResultColumnMetaData("", "AVG_DERIVED_COUNT_0", "AVG_DERIVED_COUNT_0", Types.INTEGER, "INT", 10, 0),
+                new RawQueryResultColumnMetaData("", "AVG_DERIVED_SUM_0", "AVG_DERIVED_SUM_0", Types.INTEGER, "INT", 10, 0));
+        return new RawMemoryQueryResult(new RawQueryResultMetaData(columns), rows.stream().map(MemoryQueryResultDataRow::new).collect(Collectors.toList()));
+    }
+    
     private SelectStatementContext createSelectStatementContext() {
         SelectStatement selectStatement = new MySQLSelectStatement();
         ProjectionsSegment projectionsSegment = new ProjectionsSegment(0, 0);
@@ -261,4 +331,16 @@ class GroupByMemoryMergedResultTest {
         return new SelectStatementContext(
                 new ShardingSphereMetaData(Collections.singleton(database), mock(), mock(), mock()), Collections.emptyList(), selectStatement, "foo_db", Collections.emptyList());
     }
+    
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class NotSerializableValue implements Comparable<NotSerializableValue> {
+        
+        private final int value;
+        
+        @Override
+        public int compareTo(final NotSerializableValue o) {
+            return Integer.compare(value, o.value);
+        }
+    }
 }
@@ -36,4 +36,15 @@ class AccumulationAggregationUnitTest {
         accumulationAggregationUnit.merge(Collections.singletonList(10));
         assertThat(((Number) accumulationAggregationUnit.getResult()).intValue(), is(12));
     }
+    
+    @Test
+    void assertCombine() {
+        AccumulationAggregationUnit accumulationAggregationUnit = new AccumulationAggregationUnit();
+        accumulationAggregationUnit.merge(Collections.singletonList(1));
+        AccumulationAggregationUnit partialAggregationUnit = new AccumulationAggregationUnit();
+        partialAggregationUnit.merge(Collections.singletonList(10));
+        accumulationAggregationUnit.combine(partialAggregationUnit);
+        accumulationAggregationUnit.combine(new AccumulationAggregationUnit());
+        assertThat(((Number) accumulationAggregationUnit.getResult()).intValue(), is(11));
+    }
 }
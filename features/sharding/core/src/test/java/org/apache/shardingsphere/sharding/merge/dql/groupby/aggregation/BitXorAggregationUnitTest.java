@@ -37,4 +37,16 @@ class BitXorAggregationUnitTest {
         bitXorAggregationUnit.merge(Collections.singletonList(new BigInteger("10")));
         assertThat(((Number) bitXorAggregationUnit.getResult()).intValue(), is(9));
     }
+    
+    @Test
+    void assertCombine() {
+        BitXorAggregationUnit bitXorAggregationUnit = new BitXorAggregationUnit();
+        bitXorAggregationUnit.merge(Collections.singletonList(new BigInteger("1")));
+        BitXorAggregationUnit partialAggregationUnit = new BitXorAggregationUnit();
+        partialAggregationUnit.merge(Collections.singletonList(new BigInteger("2")));
+        partialAggregationUnit.merge(Collections.singletonList(new BigInteger("10")));
+        bitXorAggregationUnit.combine(partialAggregationUnit);
+        bitXorAggregationUnit.combine(new BitXorAggregationUnit());
+        assertThat(((Number) bitXorAggregationUnit.getResult()).intValue(), is(9));
+    }
 }
@@ -47,4 +47,15 @@ class ComparableAggregationUnitTest {
         comparableAggregation.merge(Collections.singletonList(5));
         assertThat(comparableAggregation.getResult(), is(10));
     }
+    
+    @Test
+    void assertCombine() {
+        ComparableAggregationUnit comparableAggregation = new ComparableAggregationUnit(true);
+        comparableAggregation.merge(Collections.singletonList(10));
+        ComparableAggregationUnit partialAggregationUnit = new ComparableAggregationUnit(true);
+        partialAggregationUnit.merge(Collections.singletonList(5));
+        comparableAggregation.combine(partialAggregationUnit);
+        comparableAggregation.combine(new ComparableAggregationUnit(true));
+        assertThat(comparableAggregation.getResult(), is(5));
+    }
 }
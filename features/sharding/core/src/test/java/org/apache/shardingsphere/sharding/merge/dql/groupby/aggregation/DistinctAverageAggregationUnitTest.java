@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class DistinctAverageAggregationUnitTest {
+    
+    @Test
+    void assertDistinctAvgAggregation() {
+        DistinctAverageAggregationUnit distinctAvgAggregationUnit = new DistinctAverageAggregationUnit();
+        distinctAvgAggregationUnit.merge(null);
+        distinctAvgAggregationUnit.merge(Arrays.asList(null, null));
+        distinctAvgAggregationUnit.merge(Arrays.asList(10, 50));
+        distinctAvgAggregationUnit.merge(Arrays.asList(10, 20));
+        distinctAvgAggregationUnit.merge(Arrays.asList(5, 40));
+        assertThat(distinctAvgAggregationUnit.getResult(), is(new BigDecimal("6.0000")));
+    }
+    
+    @Test
+    void assertCombine() {
+        DistinctAverageAggregationUnit distinctAvgAggregationUnit = new DistinctAverageAggregationUnit();
+        distinctAvgAggregationUnit.merge(Arrays.asList(10, 50));
+        DistinctAverageAggregationUnit partialAggregationUnit = new DistinctAverageAggregationUnit();
+        partialAggregationUnit.merge(Arrays.asList(10, 20));
+        partialAggregationUnit.merge(Arrays.asList(5, 40));
+        distinctAvgAggregationUnit.combine(partialAggregationUnit);
+        assertThat(distinctAvgAggregationUnit.getResult(), is(new BigDecimal("6.0000")));
+    }
+}
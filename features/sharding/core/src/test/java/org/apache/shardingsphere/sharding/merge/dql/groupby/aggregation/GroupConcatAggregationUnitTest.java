@@ -48,4 +48,26 @@ class GroupConcatAggregationUnitTest {
         distinctGroupConcatAggregationUnit.merge(Collections.singletonList("003"));
         assertThat(distinctGroupConcatAggregationUnit.getResult(), is(" 001 003"));
     }
+    
+    @Test
+    void assertCombineGroupConcatAggregation() {
+        GroupConcatAggregationUnit groupConcatAggregationUnit = new GroupConcatAggregationUnit(" ");
+        groupConcatAggregationUnit.merge(Collections.singletonList("001"));
+        GroupConcatAggregationUnit partialAggregationUnit = new GroupConcatAggregationUnit(" ");
+        partialAggregationUnit.merge(Collections.singletonList("002"));
+        partialAggregationUnit.merge(Collections.singletonList("001"));
+        groupConcatAggregationUnit.combine(partialAggregationUnit);
+        assertThat(groupConcatAggregationUnit.getResult(), is("001 002 001"));
+    }
+    
+    @Test
+    void assertCombineDistinctGroupConcatAggregation() {
+        DistinctGroupConcatAggregationUnit distinctGroupConcatAggregationUnit = new DistinctGroupConcatAggregationUnit(" ");
+        distinctGroupConcatAggregationUnit.merge(Collections.singletonList("001"));
+        DistinctGroupConcatAggregationUnit partialAggregationUnit = new DistinctGroupConcatAggregationUnit(" ");
+        partialAggregationUnit.merge(Collections.singletonList("002"));
+        partialAggregationUnit.merge(Collections.singletonList("001"));
+        distinctGroupConcatAggregationUnit.combine(partialAggregationUnit);
+        assertThat(distinctGroupConcatAggregationUnit.getResult(), is("001 002"));
+    }
 }
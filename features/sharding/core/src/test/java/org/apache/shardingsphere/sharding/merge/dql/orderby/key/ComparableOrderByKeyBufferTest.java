@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby.key;
+
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.NullsOrderType;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.OrderDirection;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Timestamp;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class ComparableOrderByKeyBufferTest {
+    
+    @Test
+    void assertCompare() {
+        OrderByKeyBuffer keyBuffer = new ComparableOrderByKeyBuffer(2, OrderDirection.DESC, NullsOrderType.FIRST, true);
+        keyBuffer.load(0, new Timestamp(1000L));
+        keyBuffer.load(1, new Timestamp(2000L));
+        assertThat(keyBuffer.compare(0, 1), is(1));
+    }
+    
+    @Test
+    void assertCompareWithCaseInsensitiveString() {
+        OrderByKeyBuffer keyBuffer = new ComparableOrderByKeyBuffer(2, OrderDirection.ASC, NullsOrderType.FIRST, false);
+        keyBuffer.load(0, "a");
+        keyBuffer.load(1, "A");
+        assertThat(keyBuffer.compare(0, 1), is(0));
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby.key;
+
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.NullsOrderType;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.OrderDirection;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class DecimalOrderByKeyBufferTest {
+    
+    @Test
+    void assertCompare() {
+        OrderByKeyBuffer keyBuffer = new DecimalOrderByKeyBuffer(2, OrderDirection.ASC, NullsOrderType.FIRST);
+        keyBuffer.load(0, new BigDecimal("1.50"));
+        keyBuffer.load(1, new BigDecimal("1.5"));
+        assertThat(keyBuffer.compare(0, 1), is(0));
+        keyBuffer.load(1, new BigDecimal("2"));
+        assertThat(keyBuffer.compare(0, 1), is(-1));
+    }
+}
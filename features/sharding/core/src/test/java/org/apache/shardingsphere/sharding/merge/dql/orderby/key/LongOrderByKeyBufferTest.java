@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby.key;
+
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.NullsOrderType;
+import org.apache.shardingsphere.sharding.exception.data.NotImplementComparableValueException;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.OrderDirection;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LongOrderByKeyBufferTest {
+    
+    @Test
+    void assertCompareWithAsc() {
+        OrderByKeyBuffer keyBuffer = new LongOrderByKeyBuffer(2, OrderDirection.ASC, NullsOrderType.FIRST);
+        keyBuffer.load(0, 1);
+        keyBuffer.load(1, 2L);
+        assertThat(keyBuffer.compare(0, 1), is(-1));
+        assertThat(keyBuffer.compare(1, 0), is(1));
+    }
+    
+    @Test
+    void assertCompareWithDesc() {
+        OrderByKeyBuffer keyBuffer = new LongOrderByKeyBuffer(2, OrderDirection.DESC, NullsOrderType.FIRST);
+        keyBuffer.load(0, (short) 1);
+        keyBuffer.load(1, (byte) 2);
+        assertThat(keyBuffer.compare(0, 1), is(1));
+    }
+    
+    @Test
+    void assertCompareWithSameValues() {
+        OrderByKeyBuffer keyBuffer = new LongOrderByKeyBuffer(2, OrderDirection.ASC, NullsOrderType.FIRST);
+        keyBuffer.load(0, 1);
+        keyBuffer.load(1, 1L);
+        assertThat(keyBuffer.compare(0, 1), is(0));
+    }
+    
+    @Test
+    void assertCompareWithNullsFirst() {
+        OrderByKeyBuffer keyBuffer = new LongOrderByKeyBuffer(3, OrderDirection.DESC, NullsOrderType.FIRST);
+        keyBuffer.load(0, null);
+        keyBuffer.load(1, 1L);
+        keyBuffer.load(2, null);
+        assertThat(keyBuffer.compare(0, 1), is(-1));
+        assertThat(keyBuffer.compare(1, 0), is(1));
+        assertThat(keyBuffer.compare(0, 2), is(0));
+    }
+    
+    @Test
+    void assertCompareWithNullsLast() {
+        OrderByKeyBuffer keyBuffer = new LongOrderByKeyBuffer(2, OrderDirection.ASC, NullsOrderType.LAST);
+        keyBuffer.load(0, null);
+        keyBuffer.load(1, 1L);
+        assertThat(keyBuffer.compare(0, 1), is(1));
+        assertThat(keyBuffer.compare(1, 0), is(-1));
+    }
+    
+    @Test
+    void assertCompareWithUntypedValues() {
+        OrderByKeyBuffer keyBuffer = new LongOrderByKeyBuffer(2, OrderDirection.ASC, NullsOrderType.FIRST);
+        keyBuffer.load(0, new BigInteger("18446744073709551615"));
+        keyBuffer.load(1, new BigInteger("1"));
+        assertThat(keyBuffer.compare(0, 1), is(1));
+    }
+    
+    @Test
+    void assertLoadNotComparableValue() {
+        assertThrows(NotImplementComparableValueException.class, () -> new LongOrderByKeyBuffer(1, OrderDirection.ASC, NullsOrderType.FIRST).load(0, new Object()));
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby.key;
+
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.NullsOrderType;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.OrderDirection;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.sql.Types;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class OrderByKeyBufferFactoryTest {
+    
+    @Test
+    void assertCreateForInteger() throws SQLException {
+        assertThat(create(Types.INTEGER, false), instanceOf(LongOrderByKeyBuffer.class));
+    }
+    
+    @Test
+    void assertCreateForSignedBigint() throws SQLException {
+        assertThat(create(Types.BIGINT, true), instanceOf(LongOrderByKeyBuffer.class));
+    }
+    
+    @Test
+    void assertCreateForUnsignedBigint() throws SQLException {
+        assertThat(create(Types.BIGINT, false), instanceOf(ComparableOrderByKeyBuffer.class));
+    }
+    
+    @Test
+    void assertCreateForDecimal() throws SQLException {
+        assertThat(create(Types.DECIMAL, true), instanceOf(DecimalOrderByKeyBuffer.class));
+    }
+    
+    @Test
+    void assertCreateForVarchar() throws SQLException {
+        assertThat(create(Types.VARCHAR, false), instanceOf(StringOrderByKeyBuffer.class));
+    }
+    
+    @Test
+    void assertCreateForOtherType() throws SQLException {
+        assertThat(create(Types.TIMESTAMP, false), instanceOf(ComparableOrderByKeyBuffer.class));
+    }
+    
+    private OrderByKeyBuffer create(final int columnType, final boolean signed) throws SQLException {
+        QueryResultMetaData metaData = mock(QueryResultMetaData.class);
+        when(metaData.getColumnType(1)).thenReturn(columnType);
+        when(metaData.isSigned(1)).thenReturn(signed);
+        return OrderByKeyBufferFactory.create(metaData, 1, 2, OrderDirection.ASC, NullsOrderType.FIRST, false);
+    }
+}
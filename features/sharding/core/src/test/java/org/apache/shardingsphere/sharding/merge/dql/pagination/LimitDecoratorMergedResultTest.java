@@ -19,7 +19,12 @@ package org.apache.shardingsphere.sharding.merge.dql.pagination;
 
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.binder.context.segment.select.pagination.PaginationContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.batch.ColumnVector;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.batch.ObjectColumnVector;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.batch.RowBatch;
+import org.apache.shardingsphere.infra.merge.result.BatchMergedResult;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
@@ -35,11 +40,17 @@ import org.junit.jupiter.api.Test;
 import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Optional;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class LimitDecoratorMergedResultTest {
@@ -94,6 +105,30 @@ class LimitDecoratorMergedResultTest {
         assertFalse(actual.next());
     }
     
+    @Test
+    void assertNextBatchWithRowCount() throws SQLException {
+        BatchMergedResult mergedResult = mock(BatchMergedResult.class);
+        when(mergedResult.next()).thenReturn(true);
+        when(mergedResult.isBatchSupported()).thenReturn(true);
+        when(mergedResult.nextBatch(2)).thenReturn(createRowBatch(2));
+        when(mergedResult.nextBatch(1)).thenReturn(createRowBatch(2));
+        PaginationContext paginationContext = mock(PaginationContext.class);
+        when(paginationContext.getActualOffset()).thenReturn(1L);
+        when(paginationContext.getActualRowCount()).thenReturn(Optional.of(3L));
+        LimitDecoratorMergedResult actual = new LimitDecoratorMergedResult(mergedResult, paginationContext);
+        assertTrue(actual.isBatchSupported());
+        assertThat(actual.nextBatch(2).getRowCount(), is(2));
+        assertThat(actual.nextBatch(2).getRowCount(), is(1));
+        assertThat(actual.nextBatch(2).getRowCount(), is(0));
+        verify(mergedResult, times(2)).nextBatch(anyInt());
+    }
+    
+    private RowBatch createRowBatch(final int rowCount) {
+        RowBatch result = new RowBatch(rowCount, new ColumnVector[]{new ObjectColumnVector(rowCount)});
+        result.load(rowCount);
+        return result;
+    }
+    
     private QueryResult mockQueryResult() throws SQLException {
         QueryResult result = mock(QueryResult.class, RETURNS_DEEP_STUBS);
         when(result.next()).thenReturn(true, true, false);
@@ -19,6 +19,9 @@ package org.apache.shardingsphere.infra.algorithm.cryptographic.core;
 
 import org.apache.shardingsphere.infra.algorithm.core.ShardingSphereAlgorithm;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Cryptographic algorithm.
  */
@@ -39,4 +42,32 @@ public interface CryptographicAlgorithm extends ShardingSphereAlgorithm {
      * @return plain value
      */
     Object decrypt(Object cipherValue);
+    
+    /**
+     * Encrypt in batch.
+     *
+     * @param plainValues plain values
+     * @return cipher values in the same order of plain values
+     */
+    default List<Object> batchEncrypt(final List<Object> plainValues) {
+        List<Object> result = new ArrayList<>(plainValues.size());
+        for (Object each : plainValues) {
+            result.add(encrypt(each));
+        }
+        return result;
+    }
+    
+    /**
+     * Decrypt in batch.
+     *
+     * @param cipherValues cipher values
+     * @return plain values in the same order of cipher values
+     */
+    default List<Object> batchDecrypt(final List<Object> cipherValues) {
+        List<Object> result = new ArrayList<>(cipherValues.size());
+        for (Object each : cipherValues) {
+            result.add(decrypt(each));
+        }
+        return result;
+    }
 }
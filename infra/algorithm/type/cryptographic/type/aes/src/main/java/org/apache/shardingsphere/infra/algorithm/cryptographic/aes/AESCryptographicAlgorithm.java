@@ -27,12 +27,19 @@ import javax.crypto.Cipher;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
 import java.security.GeneralSecurityException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
+import java.util.List;
 import java.util.Properties;
 
 /**
  * AES cryptographic algorithm.
+ * 
+ * <p>
+ * Ciphers are initialized once for each thread and mode, and are reused for every value, because cipher returns to the initialized state after each final operation.
+ * A cipher is discarded if an operation failed, so that a cipher in unknown state is never reused.
+ * </p>
  */
 public final class AESCryptographicAlgorithm implements CryptographicAlgorithm {
     
@@ -40,11 +47,17 @@ public final class AESCryptographicAlgorithm implements CryptographicAlgorithm {
     
     private static final String DIGEST_ALGORITHM_NAME = "digest-algorithm-name";
     
-    private byte[] secretKey;
+    private SecretKeySpec secretKeySpec;
+    
+    private ThreadLocal<Cipher> encryptCipher;
+    
+    private ThreadLocal<Cipher> decryptCipher;
     
     @Override
     public void init(final Properties props) {
-        secretKey = getSecretKey(props);
+        secretKeySpec = new SecretKeySpec(getSecretKey(props), getType());
+        encryptCipher = ThreadLocal.withInitial(() -> createCipher(Cipher.ENCRYPT_MODE));
+        decryptCipher = ThreadLocal.withInitial(() -> createCipher(Cipher.DECRYPT_MODE));
     }
     
     private byte[] getSecretKey(final Properties props) {
@@ -56,28 +69,59 @@ public final class AESCryptographicAlgorithm implements CryptographicAlgorithm {
     }
     
     @SneakyThrows(GeneralSecurityException.class)
+    private Cipher createCipher(final int mode) {
+        Cipher result = Cipher.getInstance(getType());
+        result.init(mode, secretKeySpec);
+        return result;
+    }
+    
     @Override
     public String encrypt(final Object plainValue) {
-        if (null == plainValue) {
-            return null;
-        }
-        byte[] result = getCipher(Cipher.ENCRYPT_MODE).doFinal(String.valueOf(plainValue).getBytes(StandardCharsets.UTF_8));
-        return Base64.getEncoder().encodeToString(result);
+        return null == plainValue ? null : encrypt(encryptCipher.get(), plainValue);
     }
     
     @SneakyThrows(GeneralSecurityException.class)
+    private String encrypt(final Cipher cipher, final Object plainValue) {
+        try {
+            return Base64.getEncoder().encodeToString(cipher.doFinal(String.valueOf(plainValue).getBytes(StandardCharsets.UTF_8)));
+        } catch (final GeneralSecurityException ex) {
+            encryptCipher.remove();
+            throw ex;
+        }
+    }
+    
+    @Override
+    public List<Object> batchEncrypt(final List<Object> plainValues) {
+        Cipher cipher = encryptCipher.get();
+        List<Object> result = new ArrayList<>(plainValues.size());
+        for (Object each : plainValues) {
+            result.add(null == each ? null : encrypt(cipher, each));
+        }
+        return result;
+    }
+    
     @Override
     public Object decrypt(final Object cipherValue) {
-        if (null == cipherValue) {
-            return null;
+        return null == cipherValue ? null : decrypt(decryptCipher.get(), cipherValue);
+    }
+    
+    @SneakyThrows(GeneralSecurityException.class)
+    private String decrypt(final Cipher cipher, final Object cipherValue) {
+        try {
+            return new String(cipher.doFinal(Base64.getDecoder().decode(cipherValue.toString().trim())), StandardCharsets.UTF_8);
+        } catch (final GeneralSecurityException ex) {
+            decryptCipher.remove();
+            throw ex;
         }
-        byte[] result = getCipher(Cipher.DECRYPT_MODE).doFinal(Base64.getDecoder().decode(cipherValue.toString().trim()));
-        return new String(result, StandardCharsets.UTF_8);
     }
     
-    private Cipher getCipher(final int decryptMode) throws GeneralSecurityException {
-        Cipher result = Cipher.getInstance(getType());
-        result.init(decryptMode, new SecretKeySpec(secretKey, getType()));
+    @Override
+    public List<Object> batchDecrypt(final List<Object> cipherValues) {
+        Cipher cipher = decryptCipher.get();
+        List<Object> result = new ArrayList<>(cipherValues.size());
+        for (Object each : cipherValues) {
+            result.add(null == each ? null : decrypt(cipher, each));
+        }
         return result;
     }
     
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.keygen.snowflake;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.AbstractCollection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Collection backed by primitive long array, keys are only boxed when they are read.
+ */
+@RequiredArgsConstructor
+public final class LongArrayCollection extends AbstractCollection<Long> {
+    
+    private final long[] values;
+    
+    /**
+     * Get primitive value.
+     *
+     * @param index index of value
+     * @return primitive value
+     */
+    public long getLong(final int index) {
+        return values[index];
+    }
+    
+    @Override
+    public Iterator<Long> iterator() {
+        return new Iterator<Long>() {
+            
+            private int index;
+            
+            @Override
+            public boolean hasNext() {
+                return index < values.length;
+            }
+            
+            @Override
+            public Long next() {
+                if (index >= values.length) {
+                    throw new NoSuchElementException();
+                }
+                return values[index++];
+            }
+        };
+    }
+    
+    @Override
+    public int size() {
+        return values.length;
+    }
+}
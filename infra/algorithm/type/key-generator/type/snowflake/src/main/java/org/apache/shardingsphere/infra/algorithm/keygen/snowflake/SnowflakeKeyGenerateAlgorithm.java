@@ -31,7 +31,6 @@ import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Collection;
-import java.util.LinkedList;
 import java.util.Properties;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
@@ -47,6 +46,11 @@ import java.util.concurrent.atomic.AtomicReference;
  *     10 bits worker process id.
  *     12 bits auto increment offset in one mills
  * </pre>
+ * 
+ * <p>
+ * Last milliseconds and last sequence are packed into one state word, keys of one insert statement reserve a contiguous range of sequence by one CAS on the state word
+ * for each millisecond they occupy, so that generating keys neither takes a lock nor boxes each key.
+ * </p>
  */
 public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm, ComputeNodeInstanceContextAware {
     
@@ -79,9 +83,7 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
     
     private final AtomicInteger sequenceOffset = new AtomicInteger(-1);
     
-    private final AtomicLong sequence = new AtomicLong();
-    
-    private final AtomicLong lastMillis = new AtomicLong();
+    private final AtomicLong lastMillisAndSequence = new AtomicLong();
     
     private Properties props;
     
@@ -122,39 +124,53 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
     
     @Override
     public Collection<Long> generateKeys(final AlgorithmSQLContext context, final int keyGenerateCount) {
-        Collection<Long> result = new LinkedList<>();
-        for (int index = 0; index < keyGenerateCount; index++) {
-            result.add(generateKey());
+        long[] result = new long[keyGenerateCount];
+        int generatedCount = 0;
+        while (generatedCount < keyGenerateCount) {
+            generatedCount += reserveKeys(result, generatedCount);
         }
-        return result;
+        return new LongArrayCollection(result);
     }
     
-    private synchronized Long generateKey() {
-        long currentMillis = timeService.getCurrentMillis();
-        if (waitTolerateTimeDifferenceIfNeed(currentMillis)) {
-            currentMillis = timeService.getCurrentMillis();
-        }
-        if (lastMillis.get() == currentMillis) {
-            sequence.set(sequence.incrementAndGet() & SEQUENCE_MASK);
-            if (0L == sequence.get()) {
-                currentMillis = waitUntilNextTime(currentMillis);
+    private int reserveKeys(final long[] keys, final int offset) {
+        while (true) {
+            long current = lastMillisAndSequence.get();
+            long lastMillis = current >>> SEQUENCE_BITS;
+            long currentMillis = timeService.getCurrentMillis();
+            if (waitTolerateTimeDifferenceIfNeed(lastMillis, currentMillis)) {
+                continue;
+            }
+            long startSequence;
+            if (lastMillis == currentMillis) {
+                startSequence = (current & SEQUENCE_MASK) + 1L;
+                if (startSequence > SEQUENCE_MASK) {
+                    currentMillis = waitUntilNextTime(currentMillis);
+                    startSequence = 0L;
+                }
+            } else {
+                vibrateSequenceOffset();
+                startSequence = sequenceOffset.get();
+            }
+            int reservedCount = (int) Math.min(keys.length - offset, SEQUENCE_MASK - startSequence + 1L);
+            long endSequence = startSequence + reservedCount - 1L;
+            if (lastMillisAndSequence.compareAndSet(current, currentMillis << SEQUENCE_BITS | endSequence)) {
+                long keyPrefix = ((currentMillis - EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS) | ((long) getWorkerId() << WORKER_ID_LEFT_SHIFT_BITS);
+                for (int i = 0; i < reservedCount; i++) {
+                    keys[offset + i] = keyPrefix | (startSequence + i);
+                }
+                return reservedCount;
             }
-        } else {
-            vibrateSequenceOffset();
-            sequence.set(sequenceOffset.get());
         }
-        lastMillis.set(currentMillis);
-        return ((currentMillis - EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS) | ((long) getWorkerId() << WORKER_ID_LEFT_SHIFT_BITS) | sequence.get();
     }
     
     @SneakyThrows(InterruptedException.class)
-    private boolean waitTolerateTimeDifferenceIfNeed(final long currentMillis) {
-        if (lastMillis.get() <= currentMillis) {
+    private boolean waitTolerateTimeDifferenceIfNeed(final long lastMillis, final long currentMillis) {
+        if (lastMillis <= currentMillis) {
             return false;
         }
-        long timeDifferenceMillis = lastMillis.get() - currentMillis;
+        long timeDifferenceMillis = lastMillis - currentMillis;
         ShardingSpherePreconditions.checkState(timeDifferenceMillis < maxTolerateTimeDifferenceMillis,
-                () -> new AlgorithmExecuteException(this, "Clock is moving backwards, last time is %d milliseconds, current time is %d milliseconds.", lastMillis.get(), currentMillis));
+                () -> new AlgorithmExecuteException(this, "Clock is moving backwards, last time is %d milliseconds, current time is %d milliseconds.", lastMillis, currentMillis));
         Thread.sleep(timeDifferenceMillis);
         return true;
     }
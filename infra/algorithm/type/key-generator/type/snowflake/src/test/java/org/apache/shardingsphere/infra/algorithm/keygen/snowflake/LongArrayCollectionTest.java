@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.keygen.snowflake;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LongArrayCollectionTest {
+    
+    @Test
+    void assertGetValues() {
+        LongArrayCollection actual = new LongArrayCollection(new long[]{1L, 2L, 3L});
+        assertThat(actual.size(), is(3));
+        assertThat(actual.getLong(1), is(2L));
+        assertThat(new ArrayList<>(actual), is(Arrays.asList(1L, 2L, 3L)));
+    }
+    
+    @Test
+    void assertIteratorWithoutNextValue() {
+        Iterator<Long> actual = new LongArrayCollection(new long[]{1L}).iterator();
+        assertThat(actual.next(), is(1L));
+        assertThrows(NoSuchElementException.class, actual::next);
+    }
+}
@@ -54,6 +54,11 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     KERNEL_EXECUTOR_SIZE("kernel-executor-size", String.valueOf(0), int.class, true),
     
+    /**
+     * Whether to execute SQL and proxy commands with virtual threads, only takes effect on JDK 21 and above.
+     */
+    KERNEL_EXECUTOR_VIRTUAL_THREAD_ENABLED("kernel-executor-virtual-thread-enabled", String.valueOf(Boolean.FALSE), boolean.class, true),
+    
     /**
      * Max opened connection size for each query.
      */
@@ -69,6 +74,16 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     LOAD_TABLE_METADATA_BATCH_SIZE("load-table-metadata-batch-size", String.valueOf(1000), int.class, false),
     
+    /**
+     * Max estimated heap bytes of rows held by memory merge for each query, exceeded rows spill to local disk. 0 means no limitation.
+     */
+    MERGE_MEMORY_BUDGET("merge-memory-budget", String.valueOf(0), long.class, false),
+    
+    /**
+     * Whether to coalesce batched single-row insert values routed to the same data node into multi-row insert values.
+     */
+    BATCH_INSERT_COALESCE_ENABLED("batch-insert-coalesce-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
     /**
      * Frontend database protocol for ShardingSphere-Proxy.
      */
@@ -85,6 +100,17 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_BACKEND_QUERY_FETCH_SIZE("proxy-backend-query-fetch-size", String.valueOf(-1), int.class, false),
     
+    /**
+     * Proxy backend query batch size. Rows of query results are loaded and decorated column by column in batches of this size.
+     * The default value is 0, which means load rows one by one.
+     */
+    PROXY_BACKEND_QUERY_BATCH_SIZE("proxy-backend-query-batch-size", String.valueOf(0), int.class, false),
+    
+    /**
+     * Whether to relay bytes of character columns received from storage unit to client directly, for unmodified results of queries routed to one data node.
+     */
+    PROXY_BACKEND_QUERY_TEXT_RELAY_ENABLED("proxy-backend-query-text-relay-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
     /**
      * Proxy frontend executor size. The default value is 0, which means let Netty decide.
      */
@@ -18,9 +18,11 @@
 package org.apache.shardingsphere.infra.metadata.statistics;
 
 import com.cedarsoftware.util.CaseInsensitiveMap;
+import lombok.AccessLevel;
 import lombok.Getter;
 
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * ShardingSphere statistics.
@@ -30,6 +32,9 @@ public final class ShardingSphereStatistics {
     
     private final Map<String, ShardingSphereDatabaseData> databaseData = new CaseInsensitiveMap<>();
     
+    @Getter(AccessLevel.NONE)
+    private final AtomicLong version = new AtomicLong();
+    
     /**
      * Get ShardingSphere database.
      *
@@ -48,6 +53,7 @@ public final class ShardingSphereStatistics {
      */
     public void putDatabase(final String databaseName, final ShardingSphereDatabaseData database) {
         databaseData.put(databaseName, database);
+        version.incrementAndGet();
     }
     
     /**
@@ -57,6 +63,7 @@ public final class ShardingSphereStatistics {
      */
     public void dropDatabase(final String databaseName) {
         databaseData.remove(databaseName);
+        version.incrementAndGet();
     }
     
     /**
@@ -68,4 +75,20 @@ public final class ShardingSphereStatistics {
     public boolean containsDatabase(final String databaseName) {
         return databaseData.containsKey(databaseName);
     }
+    
+    /**
+     * Get version, which is increased whenever statistics changed.
+     *
+     * @return version
+     */
+    public long getVersion() {
+        return version.get();
+    }
+    
+    /**
+     * Increase version after schema, table or row data of statistics changed.
+     */
+    public void increaseVersion() {
+        version.incrementAndGet();
+    }
 }
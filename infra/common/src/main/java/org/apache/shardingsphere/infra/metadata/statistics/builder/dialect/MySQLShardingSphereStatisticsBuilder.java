@@ -42,6 +42,8 @@ public final class MySQLShardingSphereStatisticsBuilder implements ShardingSpher
     
     private static final String SHARDING_TABLE_STATISTICS = "sharding_table_statistics";
     
+    private static final String SHARDING_COLUMN_STATISTICS = "sharding_column_statistics";
+    
     @Override
     public ShardingSphereStatistics build(final ShardingSphereMetaData metaData) {
         ShardingSphereStatistics result = new ShardingSphereStatistics();
@@ -61,6 +63,7 @@ public final class MySQLShardingSphereStatisticsBuilder implements ShardingSpher
                 ShardingSphereSchemaData schemaData = new ShardingSphereSchemaData();
                 initClusterInformationTable(schemaData);
                 initShardingTableStatisticsTable(schemaData);
+                initShardingColumnStatisticsTable(schemaData);
                 databaseData.putSchema(SHARDINGSPHERE, schemaData);
             }
         }
@@ -76,6 +79,10 @@ public final class MySQLShardingSphereStatisticsBuilder implements ShardingSpher
         schemaData.putTable(SHARDING_TABLE_STATISTICS, new ShardingSphereTableData(SHARDING_TABLE_STATISTICS));
     }
     
+    private void initShardingColumnStatisticsTable(final ShardingSphereSchemaData schemaData) {
+        schemaData.putTable(SHARDING_COLUMN_STATISTICS, new ShardingSphereTableData(SHARDING_COLUMN_STATISTICS));
+    }
+    
     @Override
     public String getDatabaseType() {
         return "MySQL";
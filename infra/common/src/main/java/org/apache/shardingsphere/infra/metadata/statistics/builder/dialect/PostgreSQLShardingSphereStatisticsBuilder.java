@@ -48,6 +48,8 @@ public final class PostgreSQLShardingSphereStatisticsBuilder implements Sharding
     
     private static final String SHARDING_TABLE_STATISTICS = "sharding_table_statistics";
     
+    private static final String SHARDING_COLUMN_STATISTICS = "sharding_column_statistics";
+    
     private static final Map<String, Collection<String>> INIT_DATA_SCHEMA_TABLES = new LinkedHashMap<>();
     
     static {
@@ -72,6 +74,7 @@ public final class PostgreSQLShardingSphereStatisticsBuilder implements Sharding
             ShardingSphereSchemaData schemaData = new ShardingSphereSchemaData();
             initClusterInformationTable(schemaData);
             initShardingTableStatisticsTable(schemaData);
+            initShardingColumnStatisticsTable(schemaData);
             databaseData.putSchema(SHARDINGSPHERE, schemaData);
         }
         for (Entry<String, Collection<String>> entry : INIT_DATA_SCHEMA_TABLES.entrySet()) {
@@ -93,6 +96,10 @@ public final class PostgreSQLShardingSphereStatisticsBuilder implements Sharding
         schemaData.putTable(SHARDING_TABLE_STATISTICS, new ShardingSphereTableData(SHARDING_TABLE_STATISTICS));
     }
     
+    private void initShardingColumnStatisticsTable(final ShardingSphereSchemaData schemaData) {
+        schemaData.putTable(SHARDING_COLUMN_STATISTICS, new ShardingSphereTableData(SHARDING_COLUMN_STATISTICS));
+    }
+    
     private void initTables(final ShardingSphereSchema schema, final Collection<String> tables, final ShardingSphereSchemaData schemaData) {
         for (ShardingSphereTable each : schema.getAllTables()) {
             if (tables.contains(each.getName().toLowerCase())) {
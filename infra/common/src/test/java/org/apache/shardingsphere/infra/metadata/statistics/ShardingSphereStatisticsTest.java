@@ -76,4 +76,16 @@ class ShardingSphereStatisticsTest {
         assertTrue(shardingSphereStatistics.containsDatabase(TEST_DATABASE_NAME));
         assertFalse(shardingSphereStatistics.containsDatabase(NON_EXISTENT_DATABASE_NAME));
     }
+    
+    @Test
+    void assertIncreaseVersion() {
+        ShardingSphereStatistics shardingSphereStatistics = new ShardingSphereStatistics();
+        assertThat(shardingSphereStatistics.getVersion(), is(0L));
+        shardingSphereStatistics.putDatabase(TEST_DATABASE_NAME, new ShardingSphereDatabaseData());
+        assertThat(shardingSphereStatistics.getVersion(), is(1L));
+        shardingSphereStatistics.increaseVersion();
+        assertThat(shardingSphereStatistics.getVersion(), is(2L));
+        shardingSphereStatistics.dropDatabase(TEST_DATABASE_NAME);
+        assertThat(shardingSphereStatistics.getVersion(), is(3L));
+    }
 }
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.connection.kernel;
+
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Route template of batched executions.
+ *
+ * <p>Parameter sets of one batch share the same SQL, so execution units rewritten for some route units are reused by later parameter sets routed to the same route units,
+ * as long as the rewrite does not depend on parameter values.</p>
+ */
+public final class BatchRouteTemplate {
+    
+    private final Map<Collection<RouteUnit>, Collection<ExecutionUnit>> templateExecutionUnits = new HashMap<>();
+    
+    /**
+     * Find execution units with parameters.
+     *
+     * @param routeUnits route units
+     * @param params parameters
+     * @return execution units with parameters
+     */
+    public Optional<Collection<ExecutionUnit>> find(final Collection<RouteUnit> routeUnits, final List<Object> params) {
+        Collection<ExecutionUnit> executionUnits = templateExecutionUnits.get(routeUnits);
+        if (null == executionUnits) {
+            return Optional.empty();
+        }
+        Collection<ExecutionUnit> result = new LinkedHashSet<>(executionUnits.size(), 1F);
+        for (ExecutionUnit each : executionUnits) {
+            result.add(new ExecutionUnit(each.getDataSourceName(), new SQLUnit(each.getSqlUnit().getSql(), new ArrayList<>(params), each.getSqlUnit().getTableRouteMappers())));
+        }
+        return Optional.of(result);
+    }
+    
+    /**
+     * Register execution units as template.
+     *
+     * <p>Execution units are registered only if they take the original parameters as is.</p>
+     *
+     * @param routeUnits route units
+     * @param rewriteResult SQL rewrite result
+     * @param executionUnits execution units
+     * @param params parameters
+     */
+    public void register(final Collection<RouteUnit> routeUnits, final SQLRewriteResult rewriteResult, final Collection<ExecutionUnit> executionUnits, final List<Object> params) {
+        if (routeUnits.isEmpty() || !(rewriteResult instanceof RouteSQLRewriteResult) || !((RouteSQLRewriteResult) rewriteResult).isParameterIndependent()) {
+            return;
+        }
+        for (ExecutionUnit each : executionUnits) {
+            if (!params.equals(each.getSqlUnit().getParameters())) {
+                return;
+            }
+        }
+        templateExecutionUnits.put(new LinkedHashSet<>(routeUnits), executionUnits);
+    }
+    
+    /**
+     * Clear.
+     */
+    public void clear() {
+        templateExecutionUnits.clear();
+    }
+}
@@ -21,17 +21,20 @@ import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
 import org.apache.shardingsphere.infra.checker.SupportedSQLCheckEngine;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.connection.kernel.cache.KernelEnginesCache;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContextBuilder;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.log.SQLLogger;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
-import org.apache.shardingsphere.infra.rewrite.SQLRewriteEntry;
 import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
-import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
 
+import java.util.Collection;
+import java.util.Optional;
+
 /**
  * Kernel processor.
  */
@@ -55,6 +58,34 @@ public final class KernelProcessor {
         return result;
     }
     
+    /**
+     * Generate execution context with batch route template.
+     *
+     * <p>Route is evaluated for every parameter set, and rewrite is skipped if the route units have been rewritten into the batch route template.</p>
+     *
+     * @param queryContext query context
+     * @param globalRuleMetaData global rule meta data
+     * @param props configuration properties
+     * @param routeTemplate batch route template
+     * @return execution context
+     */
+    public ExecutionContext generateExecutionContext(final QueryContext queryContext, final RuleMetaData globalRuleMetaData, final ConfigurationProperties props,
+                                                     final BatchRouteTemplate routeTemplate) {
+        RouteContext routeContext = route(queryContext, globalRuleMetaData, props);
+        Optional<Collection<ExecutionUnit>> executionUnits = routeTemplate.find(routeContext.getRouteUnits(), queryContext.getParameters());
+        ExecutionContext result;
+        if (executionUnits.isPresent()) {
+            result = new ExecutionContext(queryContext, executionUnits.get(), routeContext);
+        } else {
+            check(queryContext);
+            SQLRewriteResult rewriteResult = rewrite(queryContext, globalRuleMetaData, props, routeContext);
+            result = createExecutionContext(queryContext, routeContext, rewriteResult);
+            routeTemplate.register(routeContext.getRouteUnits(), rewriteResult, result.getExecutionUnits(), queryContext.getParameters());
+        }
+        logSQL(queryContext, props, result);
+        return result;
+    }
+    
     private void check(final QueryContext queryContext) {
         if (queryContext.getHintValueContext().isSkipMetadataValidate()) {
             return;
@@ -65,12 +96,11 @@ public final class KernelProcessor {
     
     private RouteContext route(final QueryContext queryContext, final RuleMetaData globalRuleMetaData, final ConfigurationProperties props) {
         ShardingSphereDatabase database = queryContext.getUsedDatabase();
-        return new SQLRouteEngine(database.getRuleMetaData().getRules(), props).route(queryContext, globalRuleMetaData, database);
+        return KernelEnginesCache.get(database, globalRuleMetaData, props).getRouteEngine().route(queryContext, globalRuleMetaData, database);
     }
     
     private SQLRewriteResult rewrite(final QueryContext queryContext, final RuleMetaData globalRuleMetaData, final ConfigurationProperties props, final RouteContext routeContext) {
-        SQLRewriteEntry sqlRewriteEntry = new SQLRewriteEntry(queryContext.getUsedDatabase(), globalRuleMetaData, props);
-        return sqlRewriteEntry.rewrite(queryContext, routeContext);
+        return KernelEnginesCache.get(queryContext.getUsedDatabase(), globalRuleMetaData, props).getRewriteEntry().rewrite(queryContext, routeContext);
     }
     
     private ExecutionContext createExecutionContext(final QueryContext queryContext, final RouteContext routeContext, final SQLRewriteResult rewriteResult) {
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.connection.kernel.cache;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.rewrite.SQLRewriteEntry;
+import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Kernel engines built from the rules of one database.
+ */
+@HighFrequencyInvocation(canBeCached = true)
+public final class KernelEngines {
+    
+    private final List<ShardingSphereRule> rules;
+    
+    private final ShardingSphereDatabase database;
+    
+    private final RuleMetaData globalRuleMetaData;
+    
+    private final ConfigurationProperties props;
+    
+    @Getter
+    private final SQLRouteEngine routeEngine;
+    
+    @Getter
+    private final SQLRewriteEntry rewriteEntry;
+    
+    public KernelEngines(final ShardingSphereDatabase database, final RuleMetaData globalRuleMetaData, final ConfigurationProperties props) {
+        rules = new ArrayList<>(database.getRuleMetaData().getRules());
+        this.database = database;
+        this.globalRuleMetaData = globalRuleMetaData;
+        this.props = props;
+        routeEngine = new SQLRouteEngine(rules, props);
+        rewriteEntry = new SQLRewriteEntry(database, globalRuleMetaData, props);
+    }
+    
+    /**
+     * Judge whether the engines are still built from the given meta data.
+     *
+     * @param database database
+     * @param globalRuleMetaData global rule meta data
+     * @param props configuration properties
+     * @return is valid or not
+     */
+    public boolean isValid(final ShardingSphereDatabase database, final RuleMetaData globalRuleMetaData, final ConfigurationProperties props) {
+        return this.database == database && this.globalRuleMetaData == globalRuleMetaData && this.props == props && isSameRules(database.getRuleMetaData().getRules());
+    }
+    
+    private boolean isSameRules(final Collection<ShardingSphereRule> currentRules) {
+        if (rules.size() != currentRules.size()) {
+            return false;
+        }
+        int index = 0;
+        for (ShardingSphereRule each : currentRules) {
+            if (rules.get(index++) != each) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
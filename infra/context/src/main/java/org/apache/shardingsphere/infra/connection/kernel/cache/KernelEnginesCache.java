@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.connection.kernel.cache;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Kernel engines cache.
+ *
+ * <p>Engines are cached per database name. Database and rules can be replaced in place,
+ * so a cached entry is rebuilt when its database, rules, global rules or properties are not the current ones.
+ * Cache is invalidated explicitly when meta data contexts are renewed or database is dropped.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@HighFrequencyInvocation
+public final class KernelEnginesCache {
+    
+    private static final Map<String, KernelEngines> CACHE = new ConcurrentHashMap<>();
+    
+    /**
+     * Get kernel engines.
+     *
+     * @param database database
+     * @param globalRuleMetaData global rule meta data
+     * @param props configuration properties
+     * @return kernel engines
+     */
+    public static KernelEngines get(final ShardingSphereDatabase database, final RuleMetaData globalRuleMetaData, final ConfigurationProperties props) {
+        KernelEngines result = CACHE.get(database.getName());
+        if (null != result && result.isValid(database, globalRuleMetaData, props)) {
+            return result;
+        }
+        result = new KernelEngines(database, globalRuleMetaData, props);
+        CACHE.put(database.getName(), result);
+        return result;
+    }
+    
+    /**
+     * Invalidate kernel engines of database.
+     *
+     * @param databaseName database name
+     */
+    public static void invalidate(final String databaseName) {
+        CACHE.remove(databaseName);
+    }
+    
+    /**
+     * Clear cache.
+     */
+    public static void clear() {
+        CACHE.clear();
+    }
+}
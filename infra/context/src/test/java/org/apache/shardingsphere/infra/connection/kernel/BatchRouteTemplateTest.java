@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.connection.kernel;
+
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResult;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BatchRouteTemplateTest {
+    
+    private static final String SQL = "INSERT INTO t_order_0 (order_id, user_id) VALUES (?, ?)";
+    
+    @Test
+    void assertFindWithRegisteredRouteUnits() {
+        BatchRouteTemplate routeTemplate = new BatchRouteTemplate();
+        routeTemplate.register(createRouteUnits(), new RouteSQLRewriteResult(Collections.emptyMap(), true), createExecutionUnits(Arrays.asList(1, 10)), Arrays.asList(1, 10));
+        Optional<Collection<ExecutionUnit>> actual = routeTemplate.find(createRouteUnits(), Arrays.asList(2, 20));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().size(), is(1));
+        ExecutionUnit actualExecutionUnit = actual.get().iterator().next();
+        assertThat(actualExecutionUnit.getDataSourceName(), is("ds_0"));
+        assertThat(actualExecutionUnit.getSqlUnit().getSql(), is(SQL));
+        assertThat(actualExecutionUnit.getSqlUnit().getParameters(), is(Arrays.<Object>asList(2, 20)));
+    }
+    
+    @Test
+    void assertFindWithUnregisteredRouteUnits() {
+        BatchRouteTemplate routeTemplate = new BatchRouteTemplate();
+        routeTemplate.register(createRouteUnits(), new RouteSQLRewriteResult(Collections.emptyMap(), true), createExecutionUnits(Arrays.asList(1, 10)), Arrays.asList(1, 10));
+        Collection<RouteUnit> otherRouteUnits = Collections.singleton(new RouteUnit(new RouteMapper("ds_1", "ds_1"), Collections.singleton(new RouteMapper("t_order", "t_order_1"))));
+        assertFalse(routeTemplate.find(otherRouteUnits, Arrays.asList(2, 20)).isPresent());
+    }
+    
+    @Test
+    void assertRegisterWithParameterDependentRewrite() {
+        BatchRouteTemplate routeTemplate = new BatchRouteTemplate();
+        routeTemplate.register(createRouteUnits(), new RouteSQLRewriteResult(Collections.emptyMap(), false), createExecutionUnits(Arrays.asList(1, 10)), Arrays.asList(1, 10));
+        assertFalse(routeTemplate.find(createRouteUnits(), Arrays.asList(2, 20)).isPresent());
+    }
+    
+    @Test
+    void assertRegisterWithRewrittenParameters() {
+        BatchRouteTemplate routeTemplate = new BatchRouteTemplate();
+        routeTemplate.register(createRouteUnits(), new RouteSQLRewriteResult(Collections.emptyMap(), true), createExecutionUnits(Arrays.asList(1, 10, 100)), Arrays.asList(1, 10));
+        assertFalse(routeTemplate.find(createRouteUnits(), Arrays.asList(2, 20)).isPresent());
+    }
+    
+    @Test
+    void assertClear() {
+        BatchRouteTemplate routeTemplate = new BatchRouteTemplate();
+        routeTemplate.register(createRouteUnits(), new RouteSQLRewriteResult(Collections.emptyMap(), true), createExecutionUnits(Arrays.asList(1, 10)), Arrays.asList(1, 10));
+        routeTemplate.clear();
+        assertFalse(routeTemplate.find(createRouteUnits(), Arrays.asList(2, 20)).isPresent());
+    }
+    
+    private Collection<RouteUnit> createRouteUnits() {
+        return Collections.singleton(new RouteUnit(new RouteMapper("ds_0", "ds_0"), Collections.singletonList(new RouteMapper("t_order", "t_order_0"))));
+    }
+    
+    private Collection<ExecutionUnit> createExecutionUnits(final List<Object> params) {
+        return Collections.singleton(new ExecutionUnit("ds_0", new SQLUnit(SQL, params, Collections.singletonList(new RouteMapper("t_order", "t_order_0")))));
+    }
+}
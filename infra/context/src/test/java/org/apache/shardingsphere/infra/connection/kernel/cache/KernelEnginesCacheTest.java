@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.connection.kernel.cache;
+
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class KernelEnginesCacheTest {
+    
+    private final RuleMetaData globalRuleMetaData = new RuleMetaData(Collections.emptyList());
+    
+    private final ConfigurationProperties props = new ConfigurationProperties(new Properties());
+    
+    @AfterEach
+    void tearDown() {
+        KernelEnginesCache.clear();
+    }
+    
+    @Test
+    void assertGetWithSameMetaData() {
+        ShardingSphereDatabase database = mockDatabase(new RuleMetaData(Collections.emptyList()));
+        KernelEngines actual = KernelEnginesCache.get(database, globalRuleMetaData, props);
+        assertThat(KernelEnginesCache.get(database, globalRuleMetaData, props), sameInstance(actual));
+    }
+    
+    @Test
+    void assertGetAfterRulesReplacedInPlace() {
+        RuleMetaData ruleMetaData = new RuleMetaData(Collections.emptyList());
+        ShardingSphereDatabase database = mockDatabase(ruleMetaData);
+        KernelEngines expected = KernelEnginesCache.get(database, globalRuleMetaData, props);
+        ruleMetaData.getRules().add(mock(ShardingSphereRule.class));
+        KernelEngines actual = KernelEnginesCache.get(database, globalRuleMetaData, props);
+        assertThat(actual, not(sameInstance(expected)));
+        assertThat(KernelEnginesCache.get(database, globalRuleMetaData, props), sameInstance(actual));
+    }
+    
+    @Test
+    void assertGetWithReplacedDatabase() {
+        KernelEngines expected = KernelEnginesCache.get(mockDatabase(new RuleMetaData(Collections.emptyList())), globalRuleMetaData, props);
+        ShardingSphereDatabase database = mockDatabase(new RuleMetaData(Collections.emptyList()));
+        KernelEngines actual = KernelEnginesCache.get(database, globalRuleMetaData, props);
+        assertThat(actual, not(sameInstance(expected)));
+        assertThat(KernelEnginesCache.get(database, globalRuleMetaData, props), sameInstance(actual));
+    }
+    
+    @Test
+    void assertGetWithChangedProperties() {
+        ShardingSphereDatabase database = mockDatabase(new RuleMetaData(Collections.emptyList()));
+        KernelEngines expected = KernelEnginesCache.get(database, globalRuleMetaData, props);
+        assertThat(KernelEnginesCache.get(database, globalRuleMetaData, new ConfigurationProperties(new Properties())), not(sameInstance(expected)));
+    }
+    
+    @Test
+    void assertInvalidate() {
+        ShardingSphereDatabase database = mockDatabase(new RuleMetaData(Collections.emptyList()));
+        KernelEngines expected = KernelEnginesCache.get(database, globalRuleMetaData, props);
+        KernelEnginesCache.invalidate("foo_db");
+        assertThat(KernelEnginesCache.get(database, globalRuleMetaData, props), not(sameInstance(expected)));
+    }
+    
+    @Test
+    void assertClear() {
+        ShardingSphereDatabase database = mockDatabase(new RuleMetaData(Collections.emptyList()));
+        KernelEngines expected = KernelEnginesCache.get(database, globalRuleMetaData, props);
+        KernelEnginesCache.clear();
+        KernelEngines actual = KernelEnginesCache.get(database, globalRuleMetaData, props);
+        assertThat(actual, not(sameInstance(expected)));
+        assertThat(actual.isValid(database, globalRuleMetaData, props), is(true));
+    }
+    
+    private ShardingSphereDatabase mockDatabase(final RuleMetaData ruleMetaData) {
+        ShardingSphereDatabase result = mock(ShardingSphereDatabase.class);
+        when(result.getName()).thenReturn("foo_db");
+        when(result.getRuleMetaData()).thenReturn(ruleMetaData);
+        return result;
+    }
+}
@@ -147,4 +147,13 @@ public interface DialectDatabaseMetaData extends DatabaseTypedSPI {
     default boolean isDDLNeedImplicitCommit() {
         return false;
     }
+    
+    /**
+     * Get max parameter count of one SQL statement.
+     *
+     * @return max parameter count, 0 means multi-row insert values should not be coalesced
+     */
+    default int getMaxParameterCount() {
+        return 0;
+    }
 }
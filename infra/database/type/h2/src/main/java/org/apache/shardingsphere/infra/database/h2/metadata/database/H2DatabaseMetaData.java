@@ -36,6 +36,11 @@ public final class H2DatabaseMetaData implements DialectDatabaseMetaData {
         return NullsOrderType.LOW;
     }
     
+    @Override
+    public int getMaxParameterCount() {
+        return 65535;
+    }
+    
     @Override
     public String getDatabaseType() {
         return "H2";
@@ -41,4 +41,9 @@ class H2DatabaseMetaDataTest {
     void assertGetDefaultNullsOrderType() {
         assertThat(dialectDatabaseMetaData.getDefaultNullsOrderType(), is(NullsOrderType.LOW));
     }
+    
+    @Test
+    void assertGetMaxParameterCount() {
+        assertThat(dialectDatabaseMetaData.getMaxParameterCount(), is(65535));
+    }
 }
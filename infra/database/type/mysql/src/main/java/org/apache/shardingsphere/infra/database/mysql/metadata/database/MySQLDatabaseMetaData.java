@@ -93,6 +93,11 @@ public final class MySQLDatabaseMetaData implements DialectDatabaseMetaData {
         return true;
     }
     
+    @Override
+    public int getMaxParameterCount() {
+        return 65535;
+    }
+    
     @Override
     public String getDatabaseType() {
         return "MySQL";
@@ -84,6 +84,11 @@ public final class PostgreSQLDatabaseMetaData implements DialectDatabaseMetaData
         return Optional.of("public");
     }
     
+    @Override
+    public int getMaxParameterCount() {
+        return Short.MAX_VALUE;
+    }
+    
     @Override
     public String getDatabaseType() {
         return "PostgreSQL";
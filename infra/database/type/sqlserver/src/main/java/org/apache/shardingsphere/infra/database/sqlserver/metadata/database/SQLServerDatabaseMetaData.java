@@ -43,6 +43,11 @@ public final class SQLServerDatabaseMetaData implements DialectDatabaseMetaData
         return Optional.of("dbo");
     }
     
+    @Override
+    public int getMaxParameterCount() {
+        return 2100;
+    }
+    
     @Override
     public String getDatabaseType() {
         return "SQLServer";
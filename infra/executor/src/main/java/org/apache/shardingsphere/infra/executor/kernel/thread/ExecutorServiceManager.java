@@ -19,6 +19,7 @@ package org.apache.shardingsphere.infra.executor.kernel.thread;
 
 import com.alibaba.ttl.threadpool.TtlExecutors;
 import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -29,6 +30,7 @@ import java.util.concurrent.TimeUnit;
  * Executor service manager.
  */
 @Getter
+@Slf4j
 public final class ExecutorServiceManager {
     
     private static final String DEFAULT_NAME_FORMAT = "%d";
@@ -37,23 +39,52 @@ public final class ExecutorServiceManager {
     
     private final ExecutorService executorService;
     
+    private boolean pinnedEventMonitored;
+    
     public ExecutorServiceManager(final int executorSize) {
         this(executorSize, DEFAULT_NAME_FORMAT);
     }
     
+    public ExecutorServiceManager(final int executorSize, final boolean virtualThreadEnabled) {
+        this(executorSize, DEFAULT_NAME_FORMAT, virtualThreadEnabled);
+    }
+    
     public ExecutorServiceManager(final int executorSize, final String nameFormat) {
-        executorService = TtlExecutors.getTtlExecutorService(getExecutorService(executorSize, nameFormat));
+        this(executorSize, nameFormat, false);
     }
     
-    private ExecutorService getExecutorService(final int executorSize, final String nameFormat) {
+    public ExecutorServiceManager(final int executorSize, final String nameFormat, final boolean virtualThreadEnabled) {
+        executorService = TtlExecutors.getTtlExecutorService(getExecutorService(executorSize, nameFormat, virtualThreadEnabled));
+    }
+    
+    private ExecutorService getExecutorService(final int executorSize, final String nameFormat, final boolean virtualThreadEnabled) {
+        if (virtualThreadEnabled) {
+            if (VirtualThreadExecutorBuilder.isSupported()) {
+                VirtualThreadPinnedEventMonitor.start();
+                pinnedEventMonitored = true;
+                return VirtualThreadExecutorBuilder.buildExecutorService(nameFormat);
+            }
+            log.warn("Virtual thread requires JDK 21 and above, fall back to platform thread.");
+        }
         ThreadFactory threadFactory = ExecutorThreadFactoryBuilder.build(nameFormat);
         return 0 == executorSize ? Executors.newCachedThreadPool(threadFactory) : Executors.newFixedThreadPool(executorSize, threadFactory);
     }
     
+    /**
+     * Shutdown executor service without interrupting submitted tasks.
+     *
+     * <p>Submitted tasks keep running until they finish, new tasks are rejected.</p>
+     */
+    public void shutdown() {
+        stopPinnedEventMonitor();
+        executorService.shutdown();
+    }
+    
     /**
      * Close executor service.
      */
     public void close() {
+        stopPinnedEventMonitor();
         SHUTDOWN_EXECUTOR.execute(() -> {
             try {
                 executorService.shutdown();
@@ -65,4 +96,11 @@ public final class ExecutorServiceManager {
             }
         });
     }
+    
+    private void stopPinnedEventMonitor() {
+        if (pinnedEventMonitored) {
+            pinnedEventMonitored = false;
+            VirtualThreadPinnedEventMonitor.stop();
+        }
+    }
 }
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Virtual thread executor builder.
+ *
+ * <p>Virtual thread API is looked up by reflection, because it is only available on JDK 21 and above.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class VirtualThreadExecutorBuilder {
+    
+    private static final String NAME_FORMAT_PREFIX = "ShardingSphere-";
+    
+    private static final Method OF_VIRTUAL_METHOD = findMethod("java.lang.Thread", "ofVirtual");
+    
+    private static final Method FACTORY_METHOD = findMethod("java.lang.Thread$Builder", "factory");
+    
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR_METHOD = findMethod("java.util.concurrent.Executors", "newThreadPerTaskExecutor", ThreadFactory.class);
+    
+    private static Method findMethod(final String className, final String methodName, final Class<?>... parameterTypes) {
+        try {
+            return Class.forName(className).getMethod(methodName, parameterTypes);
+        } catch (final ReflectiveOperationException ignored) {
+            return null;
+        }
+    }
+    
+    /**
+     * Judge whether virtual thread is supported by current JVM.
+     *
+     * @return is supported or not
+     */
+    public static boolean isSupported() {
+        return null != OF_VIRTUAL_METHOD && null != FACTORY_METHOD && null != NEW_THREAD_PER_TASK_EXECUTOR_METHOD;
+    }
+    
+    /**
+     * Build virtual thread factory with thread name format.
+     *
+     * @param nameFormat thread name format
+     * @return virtual thread factory
+     * @throws UnsupportedOperationException unsupported operation exception if virtual thread is not supported
+     */
+    @SneakyThrows(ReflectiveOperationException.class)
+    public static ThreadFactory buildThreadFactory(final String nameFormat) {
+        if (!isSupported()) {
+            throw new UnsupportedOperationException("Virtual thread requires JDK 21 and above.");
+        }
+        ThreadFactory delegate = (ThreadFactory) FACTORY_METHOD.invoke(OF_VIRTUAL_METHOD.invoke(null));
+        AtomicLong threadCount = new AtomicLong();
+        return runnable -> {
+            Thread result = delegate.newThread(runnable);
+            result.setName(String.format(NAME_FORMAT_PREFIX + nameFormat, threadCount.getAndIncrement()));
+            return result;
+        };
+    }
+    
+    /**
+     * Build executor service which starts a new virtual thread for each task.
+     *
+     * @param nameFormat thread name format
+     * @return executor service
+     * @throws UnsupportedOperationException unsupported operation exception if virtual thread is not supported
+     */
+    @SneakyThrows(ReflectiveOperationException.class)
+    public static ExecutorService buildExecutorService(final String nameFormat) {
+        return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR_METHOD.invoke(null, buildThreadFactory(nameFormat));
+    }
+}
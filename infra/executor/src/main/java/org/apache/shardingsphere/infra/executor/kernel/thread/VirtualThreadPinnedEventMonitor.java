@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Virtual thread pinned event monitor.
+ *
+ * <p>
+ * Virtual thread which blocks inside synchronized block, such as synchronized code of JDBC drivers, pins its carrier thread and loses its scalability.
+ * This monitor streams {@code jdk.VirtualThreadPinned} events of JFR and reports them in log with stack trace.
+ * JFR event streaming API is looked up by reflection, because it is unavailable on JDK 8, and the stream runs in a daemon thread to not block JVM exit.
+ * Pinned events are counted and reported at most once per report interval with the latest event, so that a hot pinning site does not flood the log.
+ * The stream is shared by executors using virtual threads, and closed when the last of them stops it.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
+public final class VirtualThreadPinnedEventMonitor {
+    
+    private static final String EVENT_NAME = "jdk.VirtualThreadPinned";
+    
+    private static final Duration THRESHOLD = Duration.ofMillis(20L);
+    
+    private static final long REPORT_INTERVAL_MILLIS = Duration.ofMinutes(1L).toMillis();
+    
+    private static final AtomicLong PINNED_COUNT = new AtomicLong();
+    
+    private static final AtomicLong LAST_REPORT_MILLIS = new AtomicLong();
+    
+    private static int referenceCount;
+    
+    private static Object recordingStream;
+    
+    private static Method closeMethod;
+    
+    /**
+     * Start monitor if it is not started.
+     *
+     * @return whether monitor is started by current invocation
+     */
+    public static synchronized boolean start() {
+        if (referenceCount++ > 0) {
+            return false;
+        }
+        try {
+            Class<?> recordingStreamClass = Class.forName("jdk.jfr.consumer.RecordingStream");
+            Class<?> eventSettingsClass = Class.forName("jdk.jfr.EventSettings");
+            Object stream = recordingStreamClass.getConstructor().newInstance();
+            Object eventSettings = recordingStreamClass.getMethod("enable", String.class).invoke(stream, EVENT_NAME);
+            eventSettingsClass.getMethod("withThreshold", Duration.class).invoke(eventSettings, THRESHOLD);
+            eventSettingsClass.getMethod("withStackTrace").invoke(eventSettings);
+            Consumer<Object> eventConsumer = VirtualThreadPinnedEventMonitor::report;
+            recordingStreamClass.getMethod("onEvent", String.class, Consumer.class).invoke(stream, EVENT_NAME, eventConsumer);
+            Method startMethod = recordingStreamClass.getMethod("start");
+            closeMethod = recordingStreamClass.getMethod("close");
+            recordingStream = stream;
+            Thread monitorThread = ExecutorThreadFactoryBuilder.build("Virtual-Thread-Pinned-Monitor").newThread(() -> startRecordingStream(startMethod, stream));
+            monitorThread.start();
+            return true;
+        } catch (final ReflectiveOperationException ex) {
+            log.warn("Can not monitor pinned virtual threads, reason is: {}", ex.getMessage());
+            return false;
+        }
+    }
+    
+    /**
+     * Stop monitor and close JFR recording stream if no executor uses it.
+     */
+    public static synchronized void stop() {
+        if (0 == referenceCount || --referenceCount > 0 || null == recordingStream) {
+            return;
+        }
+        try {
+            closeMethod.invoke(recordingStream);
+        } catch (final ReflectiveOperationException ex) {
+            log.warn("Close pinned virtual threads monitor failed, reason is: {}", ex.getMessage());
+        }
+        recordingStream = null;
+        closeMethod = null;
+    }
+    
+    /**
+     * Judge whether monitor is running.
+     *
+     * @return monitor is running or not
+     */
+    public static synchronized boolean isRunning() {
+        return null != recordingStream;
+    }
+    
+    private static void startRecordingStream(final Method startMethod, final Object recordingStream) {
+        try {
+            startMethod.invoke(recordingStream);
+        } catch (final ReflectiveOperationException ex) {
+            log.warn("Monitor pinned virtual threads failed, reason is: {}", ex.getMessage());
+        }
+    }
+    
+    private static void report(final Object event) {
+        PINNED_COUNT.incrementAndGet();
+        long now = System.currentTimeMillis();
+        long lastReportMillis = LAST_REPORT_MILLIS.get();
+        if (now - lastReportMillis < REPORT_INTERVAL_MILLIS || !LAST_REPORT_MILLIS.compareAndSet(lastReportMillis, now)) {
+            return;
+        }
+        log.warn("Virtual threads were pinned to carrier threads {} times since last report, avoid blocking inside synchronized block to keep virtual threads scalable, latest event: {}",
+                PINNED_COUNT.getAndSet(0L), event);
+    }
+}
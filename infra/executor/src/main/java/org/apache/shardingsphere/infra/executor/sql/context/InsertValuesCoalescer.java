@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.context;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.sql.parser.statement.core.extractor.ExpressionExtractor;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.assignment.InsertValuesSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.InsertStatement;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Insert values coalescer.
+ *
+ * <p>Coalesces parameter sets of a single-row insert values SQL into multi-row insert values SQLs, each of them is bounded by the max parameter count of the dialect.</p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class InsertValuesCoalescer {
+    
+    private final String sqlPrefix;
+    
+    private final String valuesSQL;
+    
+    private final String sqlSuffix;
+    
+    private final int maxRowCount;
+    
+    /**
+     * Create new instance of insert values coalescer.
+     *
+     * @param sql SQL
+     * @param sqlStatement SQL statement parsed from SQL
+     * @param parameterCount parameter count of one row
+     * @param maxParameterCount max parameter count of one SQL statement
+     * @return created instance, empty if SQL is not a single-row insert values SQL whose parameters are all in values, or if SQL is an upsert
+     */
+    public static Optional<InsertValuesCoalescer> newInstance(final String sql, final SQLStatement sqlStatement, final int parameterCount, final int maxParameterCount) {
+        if (parameterCount < 1 || maxParameterCount / parameterCount < 2 || !(sqlStatement instanceof InsertStatement)) {
+            return Optional.empty();
+        }
+        InsertStatement insertStatement = (InsertStatement) sqlStatement;
+        if (insertStatement.getInsertSelect().isPresent() || insertStatement.getOnDuplicateKeyColumns().isPresent() || 1 != insertStatement.getValues().size()) {
+            return Optional.empty();
+        }
+        InsertValuesSegment insertValues = insertStatement.getValues().iterator().next();
+        if (parameterCount != ExpressionExtractor.getParameterMarkerExpressions(insertValues.getValues()).size()) {
+            return Optional.empty();
+        }
+        return Optional.of(new InsertValuesCoalescer(sql.substring(0, insertValues.getStartIndex()), sql.substring(insertValues.getStartIndex(), insertValues.getStopIndex() + 1),
+                sql.substring(insertValues.getStopIndex() + 1), maxParameterCount / parameterCount));
+    }
+    
+    /**
+     * Coalesce parameter sets.
+     *
+     * @param parameterSets parameter sets of single-row insert values SQL
+     * @return coalesced insert values, rows keep the order of parameter sets
+     */
+    public List<CoalescedInsertValues> coalesce(final List<List<Object>> parameterSets) {
+        List<CoalescedInsertValues> result = new ArrayList<>(2);
+        int fullRowCount = parameterSets.size() / maxRowCount * maxRowCount;
+        if (fullRowCount > 0) {
+            result.add(coalesce(parameterSets.subList(0, fullRowCount), maxRowCount));
+        }
+        if (fullRowCount < parameterSets.size()) {
+            result.add(coalesce(parameterSets.subList(fullRowCount, parameterSets.size()), parameterSets.size() - fullRowCount));
+        }
+        return result;
+    }
+    
+    private CoalescedInsertValues coalesce(final List<List<Object>> parameterSets, final int rowCount) {
+        List<List<Object>> coalescedParameterSets = new ArrayList<>(parameterSets.size() / rowCount);
+        for (int i = 0; i < parameterSets.size(); i += rowCount) {
+            List<Object> params = new ArrayList<>(parameterSets.get(i).size() * rowCount);
+            for (List<Object> each : parameterSets.subList(i, i + rowCount)) {
+                params.addAll(each);
+            }
+            coalescedParameterSets.add(params);
+        }
+        return new CoalescedInsertValues(getSQL(rowCount), rowCount, coalescedParameterSets);
+    }
+    
+    private String getSQL(final int rowCount) {
+        StringBuilder result = new StringBuilder(sqlPrefix.length() + (valuesSQL.length() + 2) * rowCount + sqlSuffix.length()).append(sqlPrefix).append(valuesSQL);
+        for (int i = 1; i < rowCount; i++) {
+            result.append(", ").append(valuesSQL);
+        }
+        return result.append(sqlSuffix).toString();
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.batch;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+
+import java.sql.SQLException;
+
+/**
+ * Query result which can load rows batch by batch.
+ */
+public interface BatchQueryResult extends QueryResult {
+    
+    /**
+     * Load next batch of rows.
+     *
+     * <p>The returned row batch may be reused by next invocation.</p>
+     *
+     * @param maxRowCount max count of rows to be loaded
+     * @return row batch, no rows in it means no more data
+     * @throws SQLException SQL exception
+     */
+    RowBatch nextBatch(int maxRowCount) throws SQLException;
+}
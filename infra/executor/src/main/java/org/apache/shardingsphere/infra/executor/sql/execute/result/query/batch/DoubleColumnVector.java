@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.batch;
+
+/**
+ * Column vector for double values.
+ */
+public final class DoubleColumnVector implements ColumnVector {
+    
+    private final double[] values;
+    
+    private final boolean[] nulls;
+    
+    public DoubleColumnVector(final int capacity) {
+        values = new double[capacity];
+        nulls = new boolean[capacity];
+    }
+    
+    /**
+     * Get double value.
+     *
+     * @param rowIndex physical row index in batch
+     * @return double value, 0 if value is null
+     */
+    public double getDouble(final int rowIndex) {
+        return values[rowIndex];
+    }
+    
+    /**
+     * Set double value.
+     *
+     * @param rowIndex physical row index in batch
+     * @param value double value
+     */
+    public void setDouble(final int rowIndex, final double value) {
+        values[rowIndex] = value;
+        nulls[rowIndex] = false;
+    }
+    
+    /**
+     * Set null.
+     *
+     * @param rowIndex physical row index in batch
+     */
+    public void setNull(final int rowIndex) {
+        values[rowIndex] = 0;
+        nulls[rowIndex] = true;
+    }
+    
+    /**
+     * Judge whether value is null.
+     *
+     * @param rowIndex physical row index in batch
+     * @return value is null or not
+     */
+    public boolean isNull(final int rowIndex) {
+        return nulls[rowIndex];
+    }
+    
+    @Override
+    public Object getValue(final int rowIndex) {
+        return nulls[rowIndex] ? null : values[rowIndex];
+    }
+    
+    @Override
+    public void setValue(final int rowIndex, final Object value) {
+        if (null == value) {
+            setNull(rowIndex);
+        } else {
+            setDouble(rowIndex, (Double) value);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.batch;
+
+/**
+ * Column vector for int values.
+ */
+public final class IntColumnVector implements ColumnVector {
+    
+    private final int[] values;
+    
+    private final boolean[] nulls;
+    
+    public IntColumnVector(final int capacity) {
+        values = new int[capacity];
+        nulls = new boolean[capacity];
+    }
+    
+    /**
+     * Get int value.
+     *
+     * @param rowIndex physical row index in batch
+     * @return int value, 0 if value is null
+     */
+    public int getInt(final int rowIndex) {
+        return values[rowIndex];
+    }
+    
+    /**
+     * Set int value.
+     *
+     * @param rowIndex physical row index in batch
+     * @param value int value
+     */
+    public void setInt(final int rowIndex, final int value) {
+        values[rowIndex] = value;
+        nulls[rowIndex] = false;
+    }
+    
+    /**
+     * Set null.
+     *
+     * @param rowIndex physical row index in batch
+     */
+    public void setNull(final int rowIndex) {
+        values[rowIndex] = 0;
+        nulls[rowIndex] = true;
+    }
+    
+    /**
+     * Judge whether value is null.
+     *
+     * @param rowIndex physical row index in batch
+     * @return value is null or not
+     */
+    public boolean isNull(final int rowIndex) {
+        return nulls[rowIndex];
+    }
+    
+    @Override
+    public Object getValue(final int rowIndex) {
+        return nulls[rowIndex] ? null : values[rowIndex];
+    }
+    
+    @Override
+    public void setValue(final int rowIndex, final Object value) {
+        if (null == value) {
+            setNull(rowIndex);
+        } else {
+            setInt(rowIndex, (Integer) value);
+        }
+    }
+}
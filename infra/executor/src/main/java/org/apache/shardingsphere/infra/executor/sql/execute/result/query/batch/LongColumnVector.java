@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.batch;
+
+/**
+ * Column vector for long values.
+ */
+public final class LongColumnVector implements ColumnVector {
+    
+    private final long[] values;
+    
+    private final boolean[] nulls;
+    
+    public LongColumnVector(final int capacity) {
+        values = new long[capacity];
+        nulls = new boolean[capacity];
+    }
+    
+    /**
+     * Get long value.
+     *
+     * @param rowIndex physical row index in batch
+     * @return long value, 0 if value is null
+     */
+    public long getLong(final int rowIndex) {
+        return values[rowIndex];
+    }
+    
+    /**
+     * Set long value.
+     *
+     * @param rowIndex physical row index in batch
+     * @param value long value
+     */
+    public void setLong(final int rowIndex, final long value) {
+        values[rowIndex] = value;
+        nulls[rowIndex] = false;
+    }
+    
+    /**
+     * Set null.
+     *
+     * @param rowIndex physical row index in batch
+     */
+    public void setNull(final int rowIndex) {
+        values[rowIndex] = 0;
+        nulls[rowIndex] = true;
+    }
+    
+    /**
+     * Judge whether value is null.
+     *
+     * @param rowIndex physical row index in batch
+     * @return value is null or not
+     */
+    public boolean isNull(final int rowIndex) {
+        return nulls[rowIndex];
+    }
+    
+    @Override
+    public Object getValue(final int rowIndex) {
+        return nulls[rowIndex] ? null : values[rowIndex];
+    }
+    
+    @Override
+    public void setValue(final int rowIndex, final Object value) {
+        if (null == value) {
+            setNull(rowIndex);
+        } else {
+            setLong(rowIndex, (Long) value);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.batch;
+
+import lombok.Getter;
+
+/**
+ * Row batch which holds values column by column.
+ *
+ * <p>Rows are addressed through a selection vector, so that decorators can drop rows without copying column vectors.
+ * Values replaced by decorators are kept in object column vectors, typed column vectors of producer are never changed.</p>
+ */
+public final class RowBatch {
+    
+    /**
+     * Empty row batch.
+     */
+    public static final RowBatch EMPTY = new RowBatch(0, new ColumnVector[0]);
+    
+    @Getter
+    private final int capacity;
+    
+    private final ColumnVector[] columns;
+    
+    private final ObjectColumnVector[] replacedColumns;
+    
+    private final boolean[] replaced;
+    
+    private final int[] selection;
+    
+    private int loadedRowCount;
+    
+    @Getter
+    private int rowCount;
+    
+    public RowBatch(final int capacity, final ColumnVector[] columns) {
+        this.capacity = capacity;
+        this.columns = columns;
+        replacedColumns = new ObjectColumnVector[columns.length];
+        replaced = new boolean[columns.length];
+        selection = new int[capacity];
+    }
+    
+    /**
+     * Mark rows loaded into column vectors and select all of them.
+     *
+     * @param loadedRowCount count of rows loaded from row index 0
+     */
+    public void load(final int loadedRowCount) {
+        this.loadedRowCount = loadedRowCount;
+        for (int i = 0; i < loadedRowCount; i++) {
+            selection[i] = i;
+        }
+        rowCount = loadedRowCount;
+        for (int i = 0; i < replaced.length; i++) {
+            replaced[i] = false;
+        }
+    }
+    
+    /**
+     * Get column count.
+     *
+     * @return column count
+     */
+    public int getColumnCount() {
+        return columns.length;
+    }
+    
+    /**
+     * Get column vector.
+     *
+     * @param columnIndex column index, start from 1
+     * @return column vector
+     */
+    public ColumnVector getColumn(final int columnIndex) {
+        return replaced[columnIndex - 1] ? replacedColumns[columnIndex - 1] : columns[columnIndex - 1];
+    }
+    
+    /**
+     * Get physical row index of selected row.
+     *
+     * @param rowIndex index of selected row
+     * @return physical row index in column vectors
+     */
+    public int getPhysicalRowIndex(final int rowIndex) {
+        return selection[rowIndex];
+    }
+    
+    /**
+     * Get value.
+     *
+     * @param rowIndex index of selected row
+     * @param columnIndex column index, start from 1
+     * @return value
+     */
+    public Object getValue(final int rowIndex, final int columnIndex) {
+        return getColumn(columnIndex).getValue(selection[rowIndex]);
+    }
+    
+    /**
+     * Set value.
+     *
+     * @param rowIndex index of selected row
+     * @param columnIndex column index, start from 1
+     * @param value value to be set
+     */
+    public void setValue(final int rowIndex, final int columnIndex, final Object value) {
+        getReplaceableColumn(columnIndex).setValue(selection[rowIndex], value);
+    }
+    
+    private ColumnVector getReplaceableColumn(final int columnIndex) {
+        ColumnVector column = columns[columnIndex - 1];
+        if (column instanceof ObjectColumnVector || replaced[columnIndex - 1]) {
+            return getColumn(columnIndex);
+        }
+        if (null == replacedColumns[columnIndex - 1]) {
+            replacedColumns[columnIndex - 1] = new ObjectColumnVector(capacity);
+        }
+        ObjectColumnVector result = replacedColumns[columnIndex - 1];
+        for (int i = 0; i < loadedRowCount; i++) {
+            result.setValue(i, column.getValue(i));
+        }
+        replaced[columnIndex - 1] = true;
+        return result;
+    }
+    
+    /**
+     * Keep first selected rows only.
+     *
+     * @param maxRowCount max count of selected rows to keep
+     */
+    public void limit(final int maxRowCount) {
+        rowCount = Math.min(rowCount, Math.max(maxRowCount, 0));
+    }
+}
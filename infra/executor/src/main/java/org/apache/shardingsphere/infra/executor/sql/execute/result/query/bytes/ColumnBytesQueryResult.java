@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.bytes;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+
+import java.sql.SQLException;
+
+/**
+ * Query result which can expose column values as bytes received from database.
+ */
+public interface ColumnBytesQueryResult extends QueryResult {
+    
+    /**
+     * Get column value as bytes received from database.
+     *
+     * <p>Only character columns are guaranteed to be returned as encoded text, other columns may be returned in the binary format of database driver.</p>
+     *
+     * @param columnIndex column index
+     * @return column value bytes, null if column value is null
+     * @throws SQLException SQL exception
+     */
+    byte[] getColumnBytes(int columnIndex) throws SQLException;
+}
@@ -20,6 +20,14 @@ package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.d
 import lombok.Getter;
 import org.apache.shardingsphere.infra.exception.kernel.data.UnsupportedDataTypeConversionException;
 import org.apache.shardingsphere.infra.exception.kernel.data.UnsupportedStreamCharsetConversionException;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.batch.BatchQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.batch.ColumnVector;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.batch.DoubleColumnVector;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.batch.IntColumnVector;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.batch.LongColumnVector;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.batch.ObjectColumnVector;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.batch.RowBatch;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.bytes.ColumnBytesQueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.metadata.JDBCQueryResultMetaData;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.stream.AbstractStreamQueryResult;
 
@@ -31,6 +39,7 @@ import java.sql.Blob;
 import java.sql.Clob;
 import java.sql.Date;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Time;
 import java.sql.Timestamp;
@@ -40,11 +49,15 @@ import java.util.Calendar;
 /**
  * JDBC query result for stream loading.
  */
-@Getter
-public final class JDBCStreamQueryResult extends AbstractStreamQueryResult {
+public final class JDBCStreamQueryResult extends AbstractStreamQueryResult implements BatchQueryResult, ColumnBytesQueryResult {
     
+    @Getter
     private final ResultSet resultSet;
     
+    private ColumnVector[] columnVectors;
+    
+    private RowBatch rowBatch;
+    
     public JDBCStreamQueryResult(final ResultSet resultSet) throws SQLException {
         super(new JDBCQueryResultMetaData(resultSet.getMetaData()));
         this.resultSet = resultSet;
@@ -111,6 +124,72 @@ public final class JDBCStreamQueryResult extends AbstractStreamQueryResult {
         return resultSet.getObject(columnIndex);
     }
     
+    @Override
+    public RowBatch nextBatch(final int maxRowCount) throws SQLException {
+        if (null == rowBatch || rowBatch.getCapacity() < maxRowCount) {
+            columnVectors = createColumnVectors(maxRowCount);
+            rowBatch = new RowBatch(maxRowCount, columnVectors);
+        }
+        int loadedRowCount = 0;
+        while (loadedRowCount < maxRowCount && resultSet.next()) {
+            loadRow(loadedRowCount++);
+        }
+        rowBatch.load(loadedRowCount);
+        return rowBatch;
+    }
+    
+    private ColumnVector[] createColumnVectors(final int capacity) throws SQLException {
+        ResultSetMetaData resultSetMetaData = resultSet.getMetaData();
+        ColumnVector[] result = new ColumnVector[resultSetMetaData.getColumnCount()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = createColumnVector(resultSetMetaData.getColumnClassName(i + 1), capacity);
+        }
+        return result;
+    }
+    
+    private ColumnVector createColumnVector(final String columnClassName, final int capacity) {
+        if (Long.class.getName().equals(columnClassName)) {
+            return new LongColumnVector(capacity);
+        }
+        if (Integer.class.getName().equals(columnClassName)) {
+            return new IntColumnVector(capacity);
+        }
+        if (Double.class.getName().equals(columnClassName)) {
+            return new DoubleColumnVector(capacity);
+        }
+        return new ObjectColumnVector(capacity);
+    }
+    
+    private void loadRow(final int rowIndex) throws SQLException {
+        for (int i = 0; i < columnVectors.length; i++) {
+            ColumnVector each = columnVectors[i];
+            if (each instanceof LongColumnVector) {
+                long value = resultSet.getLong(i + 1);
+                if (resultSet.wasNull()) {
+                    ((LongColumnVector) each).setNull(rowIndex);
+                } else {
+                    ((LongColumnVector) each).setLong(rowIndex, value);
+                }
+            } else if (each instanceof IntColumnVector) {
+                int value = resultSet.getInt(i + 1);
+                if (resultSet.wasNull()) {
+                    ((IntColumnVector) each).setNull(rowIndex);
+                } else {
+                    ((IntColumnVector) each).setInt(rowIndex, value);
+                }
+            } else if (each instanceof DoubleColumnVector) {
+                double value = resultSet.getDouble(i + 1);
+                if (resultSet.wasNull()) {
+                    ((DoubleColumnVector) each).setNull(rowIndex);
+                } else {
+                    ((DoubleColumnVector) each).setDouble(rowIndex, value);
+                }
+            } else {
+                each.setValue(rowIndex, resultSet.getObject(i + 1));
+            }
+        }
+    }
+    
     @Override
     public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) throws SQLException {
         if (Date.class == type) {
@@ -145,6 +224,11 @@ public final class JDBCStreamQueryResult extends AbstractStreamQueryResult {
         return resultSet.getCharacterStream(columnIndex);
     }
     
+    @Override
+    public byte[] getColumnBytes(final int columnIndex) throws SQLException {
+        return resultSet.getBytes(columnIndex);
+    }
+    
     @Override
     public boolean wasNull() throws SQLException {
         return resultSet.wasNull();
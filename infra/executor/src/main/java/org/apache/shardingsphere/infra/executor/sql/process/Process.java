@@ -35,6 +35,7 @@ import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Process.
@@ -66,6 +67,10 @@ public final class Process {
     
     private final AtomicBoolean interrupted;
     
+    private final AtomicInteger spillCount;
+    
+    private final AtomicLong spillBytes;
+    
     public Process(final ExecutionGroupContext<? extends SQLExecutionUnit> executionGroupContext) {
         this("", executionGroupContext, true);
     }
@@ -87,6 +92,8 @@ public final class Process {
         completedUnitCount = new AtomicInteger(0);
         this.idle = new AtomicBoolean(idle);
         interrupted = new AtomicBoolean();
+        spillCount = new AtomicInteger(0);
+        spillBytes = new AtomicLong(0L);
     }
     
     private int getTotalUnitCount(final ExecutionGroupContext<? extends SQLExecutionUnit> executionGroupContext) {
@@ -117,6 +124,16 @@ public final class Process {
         completedUnitCount.incrementAndGet();
     }
     
+    /**
+     * Record spill.
+     *
+     * @param bytes spilled bytes
+     */
+    public void recordSpill(final long bytes) {
+        spillCount.incrementAndGet();
+        spillBytes.addAndGet(bytes);
+    }
+    
     /**
      * Is interrupted.
      *
@@ -72,6 +72,8 @@ public final class ProcessRegistry {
         oldProcess.getCompletedUnitCount().addAndGet(newProcess.getCompletedUnitCount().get());
         oldProcess.getIdle().set(newProcess.getIdle().get());
         oldProcess.getInterrupted().compareAndSet(false, newProcess.getInterrupted().get());
+        oldProcess.getSpillCount().addAndGet(newProcess.getSpillCount().get());
+        oldProcess.getSpillBytes().addAndGet(newProcess.getSpillBytes().get());
         oldProcess.getProcessStatements().putAll(newProcess.getProcessStatements());
     }
     
@@ -47,4 +47,8 @@ public final class YamlProcess implements YamlConfiguration {
     private boolean idle;
     
     private boolean interrupted;
+    
+    private int spillCount;
+    
+    private long spillBytes;
 }
@@ -23,6 +23,7 @@ import org.apache.shardingsphere.infra.util.yaml.swapper.YamlConfigurationSwappe
 
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * YAML process swapper.
@@ -42,6 +43,8 @@ public final class YamlProcessSwapper implements YamlConfigurationSwapper<YamlPr
         result.setCompletedUnitCount(data.getCompletedUnitCount().get());
         result.setIdle(data.isIdle());
         result.setInterrupted(data.isInterrupted());
+        result.setSpillCount(data.getSpillCount().get());
+        result.setSpillBytes(data.getSpillBytes().get());
         return result;
     }
     
@@ -49,6 +52,6 @@ public final class YamlProcessSwapper implements YamlConfigurationSwapper<YamlPr
     public Process swapToObject(final YamlProcess yamlConfig) {
         return new Process(yamlConfig.getId(), yamlConfig.getStartMillis(), yamlConfig.getSql(), yamlConfig.getDatabaseName(), yamlConfig.getUsername(), yamlConfig.getHostname(),
                 new AtomicInteger(yamlConfig.getTotalUnitCount()), new AtomicInteger(yamlConfig.getCompletedUnitCount()), new AtomicBoolean(yamlConfig.isIdle()),
-                new AtomicBoolean(yamlConfig.isInterrupted()));
+                new AtomicBoolean(yamlConfig.isInterrupted()), new AtomicInteger(yamlConfig.getSpillCount()), new AtomicLong(yamlConfig.getSpillBytes()));
     }
 }
@@ -22,13 +22,17 @@ import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Test;
 
 import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTimeout;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ExecutorServiceManagerTest {
     
@@ -50,6 +54,29 @@ class ExecutorServiceManagerTest {
         assertTimeout(Duration.ofSeconds(1L), () -> assertFinished(finished));
     }
     
+    @Test
+    void assertExecuteWithVirtualThreadEnabled() throws ExecutionException, InterruptedException {
+        ExecutorServiceManager executorServiceManager = new ExecutorServiceManager(1, true);
+        TRANSMITTABLE_THREAD_LOCAL.set("foo");
+        assertThat(executorServiceManager.getExecutorService().submit(TRANSMITTABLE_THREAD_LOCAL::get).get(), is("foo"));
+        executorServiceManager.close();
+    }
+    
+    @Test
+    void assertShutdownWithoutInterruptingRunningTask() throws ExecutionException, InterruptedException {
+        ExecutorServiceManager executorServiceManager = new ExecutorServiceManager(1);
+        CountDownLatch started = new CountDownLatch(1);
+        Future<Boolean> future = executorServiceManager.getExecutorService().submit(() -> {
+            started.countDown();
+            Thread.sleep(200L);
+            return true;
+        });
+        started.await();
+        executorServiceManager.shutdown();
+        assertThat(future.get(), is(true));
+        assertTrue(executorServiceManager.getExecutorService().awaitTermination(1L, TimeUnit.MINUTES));
+    }
+    
     private void assertFinished(final AtomicBoolean finished) {
         Awaitility.await().atMost(1L, TimeUnit.MINUTES).pollInterval(100L, TimeUnit.MILLISECONDS).until(finished::get);
     }
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VirtualThreadExecutorBuilderTest {
+    
+    @Test
+    @EnabledForJreRange(max = JRE.JAVA_20)
+    void assertBuildThreadFactoryWhenUnsupported() {
+        assertThrows(UnsupportedOperationException.class, () -> VirtualThreadExecutorBuilder.buildThreadFactory("foo-%d"));
+    }
+    
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void assertBuildThreadFactory() {
+        assertTrue(VirtualThreadExecutorBuilder.isSupported());
+        Thread actual = VirtualThreadExecutorBuilder.buildThreadFactory("foo-%d").newThread(() -> {
+        });
+        assertThat(actual.getName(), is("ShardingSphere-foo-0"));
+        assertTrue(isVirtual(actual));
+    }
+    
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void assertBuildExecutorService() throws ExecutionException, InterruptedException {
+        ExecutorService executorService = VirtualThreadExecutorBuilder.buildExecutorService("foo-%d");
+        try {
+            assertTrue(executorService.submit(() -> isVirtual(Thread.currentThread())).get());
+        } finally {
+            executorService.shutdown();
+        }
+    }
+    
+    private boolean isVirtual(final Thread thread) {
+        try {
+            return (boolean) Thread.class.getMethod("isVirtual").invoke(thread);
+        } catch (final ReflectiveOperationException ex) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VirtualThreadPinnedEventMonitorTest {
+    
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_14)
+    void assertStopWhenLastReferenceReleased() {
+        assertTrue(VirtualThreadPinnedEventMonitor.start());
+        assertFalse(VirtualThreadPinnedEventMonitor.start());
+        VirtualThreadPinnedEventMonitor.stop();
+        assertTrue(VirtualThreadPinnedEventMonitor.isRunning());
+        VirtualThreadPinnedEventMonitor.stop();
+        assertFalse(VirtualThreadPinnedEventMonitor.isRunning());
+        VirtualThreadPinnedEventMonitor.stop();
+        assertTrue(VirtualThreadPinnedEventMonitor.start());
+        VirtualThreadPinnedEventMonitor.stop();
+        assertFalse(VirtualThreadPinnedEventMonitor.isRunning());
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.context;
+
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.assignment.InsertValuesSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.column.OnDuplicateKeyColumnsSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.InsertStatement;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class InsertValuesCoalescerTest {
+    
+    private static final String SQL = "INSERT INTO t_order_0 (order_id, status) VALUES (?, ?)";
+    
+    @Test
+    void assertNewInstanceWithNotInsertStatement() {
+        assertFalse(InsertValuesCoalescer.newInstance(SQL, mock(SQLStatement.class), 2, 100).isPresent());
+    }
+    
+    @Test
+    void assertNewInstanceWithNotEnoughMaxParameterCount() {
+        assertFalse(InsertValuesCoalescer.newInstance(SQL, createInsertStatement(), 2, 3).isPresent());
+    }
+    
+    @Test
+    void assertNewInstanceWithParametersOutOfValues() {
+        assertFalse(InsertValuesCoalescer.newInstance(SQL, createInsertStatement(), 3, 100).isPresent());
+    }
+    
+    @Test
+    void assertNewInstanceWithInsertSelect() {
+        InsertStatement insertStatement = mock(InsertStatement.class, RETURNS_DEEP_STUBS);
+        when(insertStatement.getInsertSelect().isPresent()).thenReturn(true);
+        assertFalse(InsertValuesCoalescer.newInstance(SQL, insertStatement, 2, 100).isPresent());
+    }
+    
+    @Test
+    void assertNewInstanceWithOnDuplicateKeyColumns() {
+        InsertStatement insertStatement = createInsertStatement();
+        when(insertStatement.getOnDuplicateKeyColumns()).thenReturn(Optional.of(mock(OnDuplicateKeyColumnsSegment.class)));
+        assertFalse(InsertValuesCoalescer.newInstance(SQL, insertStatement, 2, 100).isPresent());
+    }
+    
+    @Test
+    void assertCoalesceWithinMaxParameterCount() {
+        List<CoalescedInsertValues> actual = InsertValuesCoalescer.newInstance(SQL, createInsertStatement(), 2, 100).orElseThrow(IllegalStateException::new)
+                .coalesce(Arrays.asList(Arrays.asList(1, "a"), Arrays.asList(2, "b"), Arrays.asList(3, "c")));
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0).getSql(), is("INSERT INTO t_order_0 (order_id, status) VALUES (?, ?), (?, ?), (?, ?)"));
+        assertThat(actual.get(0).getRowCount(), is(3));
+        assertThat(actual.get(0).getParameterSets(), is(Collections.singletonList(Arrays.asList(1, "a", 2, "b", 3, "c"))));
+    }
+    
+    @Test
+    void assertCoalesceBeyondMaxParameterCount() {
+        List<CoalescedInsertValues> actual = InsertValuesCoalescer.newInstance(SQL, createInsertStatement(), 2, 5).orElseThrow(IllegalStateException::new)
+                .coalesce(Arrays.asList(Arrays.asList(1, "a"), Arrays.asList(2, "b"), Arrays.asList(3, "c"), Arrays.asList(4, "d"), Arrays.asList(5, "e")));
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0).getSql(), is("INSERT INTO t_order_0 (order_id, status) VALUES (?, ?), (?, ?)"));
+        assertThat(actual.get(0).getRowCount(), is(2));
+        assertThat(actual.get(0).getParameterSets(), is(Arrays.asList(Arrays.asList(1, "a", 2, "b"), Arrays.asList(3, "c", 4, "d"))));
+        assertThat(actual.get(1).getSql(), is(SQL));
+        assertThat(actual.get(1).getRowCount(), is(1));
+        assertThat(actual.get(1).getParameterSets(), is(Collections.singletonList(Arrays.asList(5, "e"))));
+    }
+    
+    private InsertStatement createInsertStatement() {
+        InsertStatement result = mock(InsertStatement.class);
+        when(result.getInsertSelect()).thenReturn(Optional.empty());
+        List<ExpressionSegment> values = Arrays.asList(
+                new ParameterMarkerExpressionSegment(49, 49, 0), new ParameterMarkerExpressionSegment(52, 52, 1));
+        when(result.getValues()).thenReturn(Collections.singleton(new InsertValuesSegment(48, 53, values)));
+        return result;
+    }
+}
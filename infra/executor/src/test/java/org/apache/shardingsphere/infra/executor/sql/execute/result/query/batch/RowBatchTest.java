@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.batch;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class RowBatchTest {
+    
+    @Test
+    void assertLoad() {
+        RowBatch actual = createRowBatch();
+        assertThat(actual.getColumnCount(), is(2));
+        assertThat(actual.getRowCount(), is(3));
+        assertThat(actual.getValue(0, 1), is(1L));
+        assertNull(actual.getValue(1, 1));
+        assertThat(actual.getValue(2, 2), is("baz"));
+    }
+    
+    @Test
+    void assertLimit() {
+        RowBatch actual = createRowBatch();
+        actual.limit(2);
+        assertThat(actual.getRowCount(), is(2));
+        actual.limit(5);
+        assertThat(actual.getRowCount(), is(2));
+        actual.limit(-1);
+        assertThat(actual.getRowCount(), is(0));
+    }
+    
+    @Test
+    void assertSetValueOfTypedColumn() {
+        RowBatch actual = createRowBatch();
+        actual.setValue(0, 1, "masked");
+        assertThat(actual.getColumn(1), instanceOf(ObjectColumnVector.class));
+        assertThat(actual.getValue(0, 1), is("masked"));
+        assertNull(actual.getValue(1, 1));
+        assertThat(actual.getValue(2, 1), is(3L));
+        actual.load(1);
+        assertThat(actual.getColumn(1), instanceOf(LongColumnVector.class));
+        assertThat(actual.getValue(0, 1), is(1L));
+    }
+    
+    @Test
+    void assertSetValueOfObjectColumn() {
+        RowBatch actual = createRowBatch();
+        actual.setValue(1, 2, "decrypted");
+        assertThat(actual.getValue(1, 2), is("decrypted"));
+    }
+    
+    private RowBatch createRowBatch() {
+        LongColumnVector longColumnVector = new LongColumnVector(4);
+        longColumnVector.setLong(0, 1L);
+        longColumnVector.setNull(1);
+        longColumnVector.setLong(2, 3L);
+        ObjectColumnVector objectColumnVector = new ObjectColumnVector(4);
+        objectColumnVector.setValue(0, "foo");
+        objectColumnVector.setValue(1, "bar");
+        objectColumnVector.setValue(2, "baz");
+        RowBatch result = new RowBatch(4, new ColumnVector[]{longColumnVector, objectColumnVector});
+        result.load(3);
+        return result;
+    }
+}
@@ -17,6 +17,9 @@
 
 package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream;
 
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.batch.IntColumnVector;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.batch.LongColumnVector;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.batch.RowBatch;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
@@ -33,12 +36,15 @@ import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.Calendar;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -256,6 +262,15 @@ class JDBCStreamQueryResultTest {
         verify(resultSet).getCharacterStream(1);
     }
     
+    @Test
+    void assertGetColumnBytes() throws SQLException {
+        ResultSet resultSet = getResultSet();
+        when(resultSet.getBytes(1)).thenReturn(new byte[]{'f', 'o', 'o'});
+        JDBCStreamQueryResult queryResult = new JDBCStreamQueryResult(resultSet);
+        queryResult.next();
+        assertThat(queryResult.getColumnBytes(1), is(new byte[]{'f', 'o', 'o'}));
+    }
+    
     @Test
     void assertWasNull() throws SQLException {
         JDBCStreamQueryResult queryResult = new JDBCStreamQueryResult(getResultSet());
@@ -276,6 +291,37 @@ class JDBCStreamQueryResultTest {
         assertTrue(actual.wasNull());
     }
     
+    @Test
+    void assertNextBatch() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class, RETURNS_DEEP_STUBS);
+        when(resultSet.getMetaData().getColumnCount()).thenReturn(3);
+        when(resultSet.getMetaData().getColumnClassName(1)).thenReturn(Long.class.getName());
+        when(resultSet.getMetaData().getColumnClassName(2)).thenReturn(Integer.class.getName());
+        when(resultSet.getMetaData().getColumnClassName(3)).thenReturn(String.class.getName());
+        when(resultSet.next()).thenReturn(true, true, true, false);
+        when(resultSet.getLong(1)).thenReturn(1L, 2L, 3L);
+        when(resultSet.getInt(2)).thenReturn(10, 0, 30);
+        when(resultSet.wasNull()).thenReturn(false, false, false, true, false, false);
+        when(resultSet.getObject(3)).thenReturn("foo", "bar", "baz");
+        JDBCStreamQueryResult queryResult = new JDBCStreamQueryResult(resultSet);
+        RowBatch actual = queryResult.nextBatch(2);
+        assertThat(actual.getRowCount(), is(2));
+        assertThat(actual.getColumn(1), instanceOf(LongColumnVector.class));
+        assertThat(actual.getColumn(2), instanceOf(IntColumnVector.class));
+        assertThat(actual.getValue(0, 1), is(1L));
+        assertThat(actual.getValue(0, 2), is(10));
+        assertThat(actual.getValue(0, 3), is("foo"));
+        assertThat(actual.getValue(1, 1), is(2L));
+        assertNull(actual.getValue(1, 2));
+        assertThat(actual.getValue(1, 3), is("bar"));
+        actual = queryResult.nextBatch(2);
+        assertThat(actual.getRowCount(), is(1));
+        assertThat(actual.getValue(0, 1), is(3L));
+        assertThat(actual.getValue(0, 2), is(30));
+        assertThat(actual.getValue(0, 3), is("baz"));
+        assertThat(queryResult.nextBatch(2).getRowCount(), is(0));
+    }
+    
     @Test
     void assertClose() throws SQLException {
         ResultSet resultSet = getResultSet();
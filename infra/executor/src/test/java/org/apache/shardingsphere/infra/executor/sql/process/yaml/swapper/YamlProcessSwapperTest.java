@@ -44,6 +44,7 @@ class YamlProcessSwapperTest {
         ExecutionGroupReportContext reportContext = new ExecutionGroupReportContext(processId, "foo_db", new Grantee("root", "localhost"));
         ExecutionGroupContext<? extends SQLExecutionUnit> executionGroupContext = new ExecutionGroupContext<>(Collections.emptyList(), reportContext);
         Process process = new Process("SELECT 1", executionGroupContext);
+        process.recordSpill(1024L);
         YamlProcess actual = new YamlProcessSwapper().swapToYamlConfiguration(process);
         assertNotNull(actual.getId());
         assertThat(actual.getStartMillis(), lessThanOrEqualTo(System.currentTimeMillis()));
@@ -53,6 +54,8 @@ class YamlProcessSwapperTest {
         assertThat(actual.getHostname(), is("localhost"));
         assertThat(actual.getCompletedUnitCount(), is(0));
         assertThat(actual.getTotalUnitCount(), is(0));
+        assertThat(actual.getSpillCount(), is(1));
+        assertThat(actual.getSpillBytes(), is(1024L));
         assertFalse(actual.isIdle());
     }
     
@@ -67,6 +70,8 @@ class YamlProcessSwapperTest {
         assertThat(actual.getHostname(), is("localhost"));
         assertThat(actual.getTotalUnitCount().get(), is(10));
         assertThat(actual.getCompletedUnitCount().get(), is(5));
+        assertThat(actual.getSpillCount().get(), is(2));
+        assertThat(actual.getSpillBytes().get(), is(2048L));
         assertTrue(actual.isIdle());
     }
     
@@ -81,6 +86,8 @@ class YamlProcessSwapperTest {
         result.setTotalUnitCount(10);
         result.setCompletedUnitCount(5);
         result.setIdle(true);
+        result.setSpillCount(2);
+        result.setSpillBytes(2048L);
         return result;
     }
 }
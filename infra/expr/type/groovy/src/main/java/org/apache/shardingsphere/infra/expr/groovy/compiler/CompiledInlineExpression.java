@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.expr.groovy.compiler;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.expr.groovy.compiler.node.ExpressionNode;
+import org.apache.shardingsphere.infra.expr.groovy.compiler.node.IntegralValues;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Compiled inline expression.
+ *
+ * <p>It is a template of literal segments and compiled expressions, which renders without Groovy closure creation and dynamic dispatch.</p>
+ */
+@RequiredArgsConstructor
+public final class CompiledInlineExpression {
+    
+    private final String[] literals;
+    
+    private final ExpressionNode[] expressions;
+    
+    /**
+     * Evaluate with arguments.
+     *
+     * @param args arguments
+     * @return evaluated value, empty if the arguments are not supported by compiled expression
+     */
+    public Optional<String> evaluate(final Map<String, Comparable<?>> args) {
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < expressions.length; i++) {
+            result.append(literals[i]);
+            Object value = expressions[i].evaluate(args);
+            if (!(value instanceof String) && !IntegralValues.isIntegral(value)) {
+                return Optional.empty();
+            }
+            result.append(value);
+        }
+        result.append(literals[expressions.length]);
+        return Optional.of(result.toString());
+    }
+}
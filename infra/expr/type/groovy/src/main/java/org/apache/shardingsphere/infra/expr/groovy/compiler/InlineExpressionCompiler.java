@@ -0,0 +1,263 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.expr.groovy.compiler;
+
+import org.apache.shardingsphere.infra.expr.groovy.compiler.node.AbsNode;
+import org.apache.shardingsphere.infra.expr.groovy.compiler.node.BinaryOperationNode;
+import org.apache.shardingsphere.infra.expr.groovy.compiler.node.BinaryOperator;
+import org.apache.shardingsphere.infra.expr.groovy.compiler.node.ExpressionNode;
+import org.apache.shardingsphere.infra.expr.groovy.compiler.node.HashCodeNode;
+import org.apache.shardingsphere.infra.expr.groovy.compiler.node.NegateNode;
+import org.apache.shardingsphere.infra.expr.groovy.compiler.node.NumberLiteralNode;
+import org.apache.shardingsphere.infra.expr.groovy.compiler.node.VariableNode;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Inline expression compiler.
+ *
+ * <p>Compiles the common subset of inline expressions, such as {@code t_order_${order_id % 4}} or {@code ds_${Math.abs(user_id.hashCode()) % 2}},
+ * which contains integral arithmetic ({@code + - * %}), {@code intdiv}, {@code hashCode()} and {@code Math.abs}.
+ * Other expressions are not compiled and should be evaluated by Groovy.</p>
+ */
+public final class InlineExpressionCompiler {
+    
+    private static final Collection<String> RESERVED_IDENTIFIERS = new HashSet<>(Arrays.asList("it", "this", "super", "owner", "delegate", "true", "false", "null", "new", "Math"));
+    
+    private final String template;
+    
+    private String expression;
+    
+    private int position;
+    
+    public InlineExpressionCompiler(final String template) {
+        this.template = template;
+    }
+    
+    /**
+     * Compile inline expression.
+     *
+     * @return compiled inline expression, empty if the inline expression is not supported
+     */
+    public Optional<CompiledInlineExpression> compile() {
+        List<String> literals = new LinkedList<>();
+        List<ExpressionNode> expressions = new LinkedList<>();
+        StringBuilder literal = new StringBuilder();
+        int index = 0;
+        while (index < template.length()) {
+            char each = template.charAt(index);
+            if ('"' == each || '\\' == each || '\n' == each || '\r' == each) {
+                return Optional.empty();
+            }
+            if ('$' != each) {
+                literal.append(each);
+                index++;
+                continue;
+            }
+            if (index + 1 >= template.length() || '{' != template.charAt(index + 1)) {
+                return Optional.empty();
+            }
+            int end = template.indexOf('}', index + 2);
+            if (-1 == end) {
+                return Optional.empty();
+            }
+            Optional<ExpressionNode> node = compileExpression(template.substring(index + 2, end));
+            if (!node.isPresent()) {
+                return Optional.empty();
+            }
+            literals.add(literal.toString());
+            literal.setLength(0);
+            expressions.add(node.get());
+            index = end + 1;
+        }
+        literals.add(literal.toString());
+        return Optional.of(new CompiledInlineExpression(literals.toArray(new String[0]), expressions.toArray(new ExpressionNode[0])));
+    }
+    
+    private Optional<ExpressionNode> compileExpression(final String expression) {
+        if (expression.contains("{")) {
+            return Optional.empty();
+        }
+        this.expression = expression;
+        position = 0;
+        ExpressionNode result = parseAdditive();
+        skipWhitespace();
+        return null == result || position != expression.length() ? Optional.empty() : Optional.of(result);
+    }
+    
+    private ExpressionNode parseAdditive() {
+        ExpressionNode result = parseMultiplicative();
+        while (null != result) {
+            if (consume('+')) {
+                result = createBinaryOperationNode(BinaryOperator.ADD, result, parseMultiplicative());
+            } else if (consume('-')) {
+                result = createBinaryOperationNode(BinaryOperator.SUBTRACT, result, parseMultiplicative());
+            } else {
+                return result;
+            }
+        }
+        return null;
+    }
+    
+    private ExpressionNode parseMultiplicative() {
+        ExpressionNode result = parseUnary();
+        while (null != result) {
+            if (consume('*')) {
+                result = createBinaryOperationNode(BinaryOperator.MULTIPLY, result, parseUnary());
+            } else if (consume('%')) {
+                result = createBinaryOperationNode(BinaryOperator.REMAINDER, result, parseUnary());
+            } else {
+                return result;
+            }
+        }
+        return null;
+    }
+    
+    private ExpressionNode createBinaryOperationNode(final BinaryOperator operator, final ExpressionNode left, final ExpressionNode right) {
+        return null == right ? null : new BinaryOperationNode(operator, left, right);
+    }
+    
+    private ExpressionNode parseUnary() {
+        if (consume('-')) {
+            ExpressionNode operand = parseUnary();
+            return null == operand ? null : new NegateNode(operand);
+        }
+        return parsePostfix();
+    }
+    
+    private ExpressionNode parsePostfix() {
+        ExpressionNode result = parsePrimary();
+        while (null != result && consume('.')) {
+            String method = parseIdentifier();
+            if (!consume('(')) {
+                return null;
+            }
+            if ("hashCode".equals(method)) {
+                result = consume(')') ? new HashCodeNode(result) : null;
+            } else if ("intdiv".equals(method)) {
+                ExpressionNode argument = parseAdditive();
+                result = null != argument && consume(')') ? new BinaryOperationNode(BinaryOperator.INT_DIV, result, argument) : null;
+            } else {
+                return null;
+            }
+        }
+        return result;
+    }
+    
+    private ExpressionNode parsePrimary() {
+        skipWhitespace();
+        if (position >= expression.length()) {
+            return null;
+        }
+        char current = expression.charAt(position);
+        if (consume('(')) {
+            ExpressionNode result = parseAdditive();
+            return null != result && consume(')') ? result : null;
+        }
+        if (Character.isDigit(current)) {
+            return parseNumberLiteral();
+        }
+        String identifier = parseIdentifier();
+        if (null == identifier) {
+            return null;
+        }
+        if ("Math".equals(identifier)) {
+            return parseMathFunction();
+        }
+        if (RESERVED_IDENTIFIERS.contains(identifier) || peek('(')) {
+            return null;
+        }
+        return new VariableNode(identifier);
+    }
+    
+    private ExpressionNode parseMathFunction() {
+        if (!consume('.') || !"abs".equals(parseIdentifier()) || !consume('(')) {
+            return null;
+        }
+        ExpressionNode argument = parseAdditive();
+        return null != argument && consume(')') ? new AbsNode(argument) : null;
+    }
+    
+    private ExpressionNode parseNumberLiteral() {
+        int start = position;
+        while (position < expression.length() && Character.isDigit(expression.charAt(position))) {
+            position++;
+        }
+        String digits = expression.substring(start, position);
+        if (digits.length() > 1 && '0' == digits.charAt(0)) {
+            return null;
+        }
+        boolean longSuffix = position < expression.length() && ('L' == expression.charAt(position) || 'l' == expression.charAt(position));
+        if (longSuffix) {
+            position++;
+        }
+        if (position < expression.length() && (Character.isLetterOrDigit(expression.charAt(position)) || '_' == expression.charAt(position) || '.' == expression.charAt(position))) {
+            return null;
+        }
+        long value;
+        try {
+            value = Long.parseLong(digits);
+        } catch (final NumberFormatException ignored) {
+            return null;
+        }
+        return !longSuffix && value <= Integer.MAX_VALUE ? new NumberLiteralNode((int) value) : new NumberLiteralNode(value);
+    }
+    
+    private String parseIdentifier() {
+        skipWhitespace();
+        if (position >= expression.length() || !Character.isJavaIdentifierStart(expression.charAt(position)) || '$' == expression.charAt(position)) {
+            return null;
+        }
+        int start = position++;
+        while (position < expression.length() && Character.isJavaIdentifierPart(expression.charAt(position)) && '$' != expression.charAt(position)) {
+            position++;
+        }
+        return expression.substring(start, position);
+    }
+    
+    private boolean isCompoundOperator(final char current, final char next) {
+        return '=' == next || '*' == current && '*' == next || ('+' == current || '-' == current) && current == next;
+    }
+    
+    private boolean peek(final char expected) {
+        skipWhitespace();
+        return position < expression.length() && expected == expression.charAt(position);
+    }
+    
+    private boolean consume(final char expected) {
+        if (!peek(expected)) {
+            return false;
+        }
+        if (position + 1 < expression.length() && isCompoundOperator(expected, expression.charAt(position + 1))) {
+            return false;
+        }
+        position++;
+        return true;
+    }
+    
+    private void skipWhitespace() {
+        while (position < expression.length() && Character.isWhitespace(expression.charAt(position))) {
+            position++;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.expr.groovy.compiler.node;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Binary operation node.
+ */
+@RequiredArgsConstructor
+public final class BinaryOperationNode implements ExpressionNode {
+    
+    private final BinaryOperator operator;
+    
+    private final ExpressionNode left;
+    
+    private final ExpressionNode right;
+    
+    @Override
+    public Object evaluate(final Map<String, Comparable<?>> args) {
+        Object leftValue = left.evaluate(args);
+        if (!IntegralValues.isIntegral(leftValue)) {
+            return null;
+        }
+        Object rightValue = right.evaluate(args);
+        if (!IntegralValues.isIntegral(rightValue)) {
+            return null;
+        }
+        if (operator.isDivision() && 0L == ((Number) rightValue).longValue()) {
+            return null;
+        }
+        if (IntegralValues.isLong(leftValue) || IntegralValues.isLong(rightValue)) {
+            return operator.apply(((Number) leftValue).longValue(), ((Number) rightValue).longValue());
+        }
+        return operator.apply(((Number) leftValue).intValue(), ((Number) rightValue).intValue());
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.expr.groovy.compiler.node;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Binary operator of integral values.
+ */
+@RequiredArgsConstructor
+@Getter
+public enum BinaryOperator {
+    
+    ADD(false) {
+        
+        @Override
+        public int apply(final int left, final int right) {
+            return left + right;
+        }
+        
+        @Override
+        public long apply(final long left, final long right) {
+            return left + right;
+        }
+    },
+    
+    SUBTRACT(false) {
+        
+        @Override
+        public int apply(final int left, final int right) {
+            return left - right;
+        }
+        
+        @Override
+        public long apply(final long left, final long right) {
+            return left - right;
+        }
+    },
+    
+    MULTIPLY(false) {
+        
+        @Override
+        public int apply(final int left, final int right) {
+            return left * right;
+        }
+        
+        @Override
+        public long apply(final long left, final long right) {
+            return left * right;
+        }
+    },
+    
+    REMAINDER(true) {
+        
+        @Override
+        public int apply(final int left, final int right) {
+            return left % right;
+        }
+        
+        @Override
+        public long apply(final long left, final long right) {
+            return left % right;
+        }
+    },
+    
+    INT_DIV(true) {
+        
+        @Override
+        public int apply(final int left, final int right) {
+            return left / right;
+        }
+        
+        @Override
+        public long apply(final long left, final long right) {
+            return left / right;
+        }
+    };
+    
+    private final boolean division;
+    
+    /**
+     * Apply on int values.
+     *
+     * @param left left value
+     * @param right right value
+     * @return result
+     */
+    public abstract int apply(int left, int right);
+    
+    /**
+     * Apply on long values.
+     *
+     * @param left left value
+     * @param right right value
+     * @return result
+     */
+    public abstract long apply(long left, long right);
+}
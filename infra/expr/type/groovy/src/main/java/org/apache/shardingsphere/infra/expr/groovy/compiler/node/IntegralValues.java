@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.expr.groovy.compiler.node;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Integral values, which follow Groovy number promotion of integer and long.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class IntegralValues {
+    
+    /**
+     * Judge whether value is integral value with int or long Groovy semantics.
+     *
+     * @param value value
+     * @return is integral or not
+     */
+    public static boolean isIntegral(final Object value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+    }
+    
+    /**
+     * Judge whether value should be calculated as long.
+     *
+     * @param value value
+     * @return is long or not
+     */
+    public static boolean isLong(final Object value) {
+        return value instanceof Long;
+    }
+}
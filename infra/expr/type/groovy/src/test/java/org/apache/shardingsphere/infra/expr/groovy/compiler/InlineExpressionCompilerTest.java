@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.expr.groovy.compiler;
+
+import groovy.lang.Closure;
+import groovy.lang.GroovyShell;
+import groovy.util.Expando;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InlineExpressionCompilerTest {
+    
+    private static final Comparable<?>[] VALUES = {0, 1, 7, -1, -7, Integer.MAX_VALUE, Integer.MIN_VALUE, 0L, 5L, -5L, 3000000000L, Long.MAX_VALUE, Long.MIN_VALUE, (short) -3, (byte) 9};
+    
+    private static final Comparable<?>[] STRING_VALUES = {"", "abc", "order_1", "Aa", "BB", "polygenelubricants"};
+    
+    @ParameterizedTest
+    @ValueSource(strings = {"t_order_${order_id % 4}", "ds_${order_id % 2}_${order_id}", "t_order_${-order_id % 4}", "t_order_${order_id * 3 + 1 - 2}", "t_order_${(order_id + 1) % 4}",
+            "t_order_${order_id.intdiv(3) % 4}", "t_order_${Math.abs(order_id) % 8}", "t_order_${order_id % 4L}", "t_order_${order_id % 2147483648}", "t_order_${order_id*2%5}",
+            "t_order_${ order_id % 4 }", "t_order_${order_id - -1}", "t_order_${order_id}", "plain_text"})
+    void assertCompileIntegralExpression(final String inlineExpression) {
+        Optional<CompiledInlineExpression> compiled = new InlineExpressionCompiler(inlineExpression).compile();
+        assertTrue(compiled.isPresent());
+        for (Comparable<?> each : VALUES) {
+            assertEvaluate(compiled.get(), inlineExpression, Collections.singletonMap("order_id", each));
+        }
+    }
+    
+    @ParameterizedTest
+    @ValueSource(strings = {"t_order_${order_id.hashCode() % 4}", "t_order_${Math.abs(order_id.hashCode()) % 4}", "t_order_${order_id}", "t_${order_id.hashCode().intdiv(7)}"})
+    void assertCompileStringExpression(final String inlineExpression) {
+        Optional<CompiledInlineExpression> compiled = new InlineExpressionCompiler(inlineExpression).compile();
+        assertTrue(compiled.isPresent());
+        for (Comparable<?> each : STRING_VALUES) {
+            assertEvaluate(compiled.get(), inlineExpression, Collections.singletonMap("order_id", each));
+        }
+    }
+    
+    @ParameterizedTest
+    @ValueSource(strings = {"ds_${user_id % 2}.t_order_${order_id % 4}", "t_order_${(user_id + order_id) % 4}", "t_order_${user_id * 10 + order_id % 10}"})
+    void assertCompileMultipleVariablesExpression(final String inlineExpression) {
+        Optional<CompiledInlineExpression> compiled = new InlineExpressionCompiler(inlineExpression).compile();
+        assertTrue(compiled.isPresent());
+        for (Comparable<?> userId : VALUES) {
+            for (Comparable<?> orderId : Arrays.asList(3, -11L, 1024)) {
+                Map<String, Comparable<?>> args = new HashMap<>(2, 1F);
+                args.put("user_id", userId);
+                args.put("order_id", orderId);
+                assertEvaluate(compiled.get(), inlineExpression, args);
+            }
+        }
+    }
+    
+    @ParameterizedTest
+    @ValueSource(strings = {"t_order_${order_id / 4}", "t_order_${order_id ** 2}", "t_order_${order_id % 4.0}", "t_order_${order_id % 010}", "t_order_${order_id % 0x10}",
+            "t_order_${order_id.toString()}", "t_order_${it}", "t_order_${'a'}", "t_order_$order_id", "t_order_${order_id", "t_order_${}", "t_order_${[0, 1]}",
+            "t_order_${order_id % 4G}", "t_order_\"${order_id}", "t_order_${order_id++}", "t_order_${Math.max(order_id, 1)}", "t_order_${order_id ? 1 : 0}", "t_order_${foo(order_id)}"})
+    void assertNotCompileUnsupportedExpression(final String inlineExpression) {
+        assertFalse(new InlineExpressionCompiler(inlineExpression).compile().isPresent());
+    }
+    
+    @ParameterizedTest
+    @ValueSource(strings = {"t_order_${order_id % 0}", "t_order_${order_id.intdiv(0)}", "t_order_${user_id}", "t_order_${order_id + 1}"})
+    void assertEvaluateUnsupportedArguments(final String inlineExpression) {
+        Optional<CompiledInlineExpression> compiled = new InlineExpressionCompiler(inlineExpression).compile();
+        assertTrue(compiled.isPresent());
+        assertFalse(compiled.get().evaluate(Collections.singletonMap("order_id", new BigDecimal("1.5"))).isPresent());
+        assertFalse(compiled.get().evaluate(Collections.singletonMap("order_id", 1.5D)).isPresent());
+    }
+    
+    private void assertEvaluate(final CompiledInlineExpression compiled, final String inlineExpression, final Map<String, Comparable<?>> args) {
+        Optional<String> actual = compiled.evaluate(args);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is(evaluateWithGroovy(inlineExpression, args)));
+    }
+    
+    private String evaluateWithGroovy(final String inlineExpression, final Map<String, Comparable<?>> args) {
+        Closure<?> closure = ((Closure<?>) new GroovyShell().evaluate("{it -> \"" + inlineExpression + "\"}")).rehydrate(new Expando(), null, null);
+        closure.setResolveStrategy(Closure.DELEGATE_ONLY);
+        args.forEach(closure::setProperty);
+        return closure.call().toString();
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.batch.RowBatch;
+
+import java.sql.SQLException;
+
+/**
+ * Merged result which can iterate data batch by batch.
+ */
+public interface BatchMergedResult extends MergedResult {
+    
+    /**
+     * Judge whether batch iteration is supported by underlying results.
+     *
+     * @return batch iteration is supported or not
+     */
+    boolean isBatchSupported();
+    
+    /**
+     * Iterate next batch of data.
+     *
+     * <p>The returned row batch may be reused by next invocation.</p>
+     *
+     * @param maxRowCount max count of rows in batch
+     * @return row batch, no rows in it means no more data
+     * @throws SQLException SQL exception
+     */
+    RowBatch nextBatch(int maxRowCount) throws SQLException;
+}
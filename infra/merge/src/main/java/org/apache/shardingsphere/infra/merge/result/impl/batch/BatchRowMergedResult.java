@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.batch;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.exception.kernel.data.UnsupportedDataTypeConversionException;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.batch.RowBatch;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.util.ResultSetUtils;
+import org.apache.shardingsphere.infra.merge.result.BatchMergedResult;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Calendar;
+
+/**
+ * Merged result which iterates rows of batches loaded from batch merged result.
+ *
+ * <p>Values are loaded as objects, so they are converted to required type, and date time values are shifted to time zone of calendar,
+ * as driver does when reading them from result set.</p>
+ */
+@RequiredArgsConstructor
+public final class BatchRowMergedResult implements MergedResult {
+    
+    private final BatchMergedResult batchMergedResult;
+    
+    private final int batchSize;
+    
+    private RowBatch currentBatch = RowBatch.EMPTY;
+    
+    private int currentRowIndex = -1;
+    
+    private boolean wasNull;
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (++currentRowIndex < currentBatch.getRowCount()) {
+            return true;
+        }
+        currentBatch = batchMergedResult.nextBatch(batchSize);
+        currentRowIndex = 0;
+        return currentBatch.getRowCount() > 0;
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        Object result = currentBatch.getValue(currentRowIndex, columnIndex);
+        wasNull = null == result;
+        return ResultSetUtils.convertValue(result, type);
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) throws SQLException {
+        ShardingSpherePreconditions.checkState(Date.class == type || Time.class == type || Timestamp.class == type,
+                () -> new UnsupportedDataTypeConversionException(type, calendar).toSQLException());
+        Object value = currentBatch.getValue(currentRowIndex, columnIndex);
+        wasNull = null == value;
+        if (wasNull) {
+            return null;
+        }
+        LocalDateTime localDateTime = ((Timestamp) ResultSetUtils.convertValue(value, Timestamp.class)).toLocalDateTime();
+        Calendar zonedCalendar = (Calendar) calendar.clone();
+        zonedCalendar.clear();
+        if (Date.class == type) {
+            zonedCalendar.set(localDateTime.getYear(), localDateTime.getMonthValue() - 1, localDateTime.getDayOfMonth());
+            return new Date(zonedCalendar.getTimeInMillis());
+        }
+        if (Time.class == type) {
+            zonedCalendar.set(1970, Calendar.JANUARY, 1, localDateTime.getHour(), localDateTime.getMinute(), localDateTime.getSecond());
+            return new Time(zonedCalendar.getTimeInMillis());
+        }
+        zonedCalendar.set(localDateTime.getYear(), localDateTime.getMonthValue() - 1, localDateTime.getDayOfMonth(), localDateTime.getHour(), localDateTime.getMinute(), localDateTime.getSecond());
+        Timestamp result = new Timestamp(zonedCalendar.getTimeInMillis());
+        result.setNanos(localDateTime.getNano());
+        return result;
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getInputStream");
+    }
+    
+    @Override
+    public Reader getCharacterStream(final int columnIndex) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getCharacterStream");
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        batchMergedResult.close();
+    }
+}
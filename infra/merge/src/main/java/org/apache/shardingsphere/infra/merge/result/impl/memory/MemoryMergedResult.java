@@ -17,9 +17,12 @@
 
 package org.apache.shardingsphere.infra.merge.result.impl.memory;
 
+import com.google.common.collect.Iterators;
+import com.google.common.collect.PeekingIterator;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.spill.MergeSpillContext;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
@@ -49,11 +52,27 @@ public abstract class MemoryMergedResult<T extends ShardingSphereRule> implement
     
     private final Iterator<MemoryQueryResultRow> memoryResultSetRows;
     
+    private final MergeSpillContext spillContext;
+    
     private MemoryQueryResultRow currentResultSetRow;
     
     private boolean wasNull;
     
     protected MemoryMergedResult(final T rule, final ShardingSphereSchema schema, final SQLStatementContext sqlStatementContext, final List<QueryResult> queryResults) throws SQLException {
+        this(rule, schema, sqlStatementContext, queryResults, new MergeSpillContext(0L, null));
+    }
+    
+    protected MemoryMergedResult(final T rule, final ShardingSphereSchema schema, final SQLStatementContext sqlStatementContext, final List<QueryResult> queryResults,
+                                 final MergeSpillContext spillContext) throws SQLException {
+        this.spillContext = spillContext;
+        if (spillContext.isEnabled()) {
+            PeekingIterator<MemoryQueryResultRow> rows = Iterators.peekingIterator(init(rule, schema, sqlStatementContext, queryResults, spillContext));
+            memoryResultSetRows = rows;
+            if (rows.hasNext()) {
+                currentResultSetRow = rows.peek();
+            }
+            return;
+        }
         List<MemoryQueryResultRow> memoryQueryResultRows = init(rule, schema, sqlStatementContext, queryResults);
         memoryResultSetRows = memoryQueryResultRows.iterator();
         if (!memoryQueryResultRows.isEmpty()) {
@@ -63,6 +82,24 @@ public abstract class MemoryMergedResult<T extends ShardingSphereRule> implement
     
     protected abstract List<MemoryQueryResultRow> init(T rule, ShardingSphereSchema schema, SQLStatementContext sqlStatementContext, List<QueryResult> queryResults) throws SQLException;
     
+    /**
+     * Initialize memory query result rows within memory budget.
+     *
+     * <p>Rows exceeding memory budget could be spilled to local disk, so they are returned by iterator instead of list.</p>
+     *
+     * @param rule rule
+     * @param schema schema
+     * @param sqlStatementContext SQL statement context
+     * @param queryResults query results
+     * @param spillContext merge spill context
+     * @return iterator of memory query result rows
+     * @throws SQLException SQL exception
+     */
+    protected Iterator<MemoryQueryResultRow> init(final T rule, final ShardingSphereSchema schema, final SQLStatementContext sqlStatementContext, final List<QueryResult> queryResults,
+                                                  final MergeSpillContext spillContext) throws SQLException {
+        return init(rule, schema, sqlStatementContext, queryResults).iterator();
+    }
+    
     @Override
     public final boolean next() {
         if (memoryResultSetRows.hasNext()) {
@@ -102,4 +139,9 @@ public abstract class MemoryMergedResult<T extends ShardingSphereRule> implement
     public final boolean wasNull() {
         return wasNull;
     }
+    
+    @Override
+    public void close() {
+        spillContext.close();
+    }
 }
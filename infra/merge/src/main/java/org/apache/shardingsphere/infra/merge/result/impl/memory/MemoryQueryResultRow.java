@@ -21,13 +21,16 @@ import com.google.common.base.Preconditions;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 
+import java.io.Serializable;
 import java.sql.SQLException;
 
 /**
  * Memory query result row.
  */
 @RequiredArgsConstructor
-public final class MemoryQueryResultRow {
+public final class MemoryQueryResultRow implements Serializable {
+    
+    private static final long serialVersionUID = 2514623478451869735L;
     
     private final Object[] data;
     
@@ -44,6 +47,15 @@ public final class MemoryQueryResultRow {
         return result;
     }
     
+    /**
+     * Get column count.
+     *
+     * @return column count
+     */
+    public int getColumnCount() {
+        return data.length;
+    }
+    
     /**
      * Get data from cell.
      *
@@ -65,4 +77,18 @@ public final class MemoryQueryResultRow {
         Preconditions.checkArgument(columnIndex > 0 && columnIndex < data.length + 1);
         data[columnIndex - 1] = value;
     }
+    
+    /**
+     * Judge whether all data of row are serializable.
+     *
+     * @return all data of row are serializable or not
+     */
+    public boolean isSerializable() {
+        for (Object each : data) {
+            if (null != each && !(each instanceof Serializable)) {
+                return false;
+            }
+        }
+        return true;
+    }
 }
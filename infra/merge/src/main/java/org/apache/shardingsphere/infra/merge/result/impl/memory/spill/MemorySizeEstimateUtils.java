@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory.spill;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Date;
+
+/**
+ * Memory size estimate utility class.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MemorySizeEstimateUtils {
+    
+    private static final long OBJECT_HEADER_BYTES = 16L;
+    
+    private static final long REFERENCE_BYTES = 8L;
+    
+    /**
+     * Estimate heap bytes of memory query result row.
+     *
+     * @param row memory query result row
+     * @return estimated heap bytes
+     */
+    public static long estimate(final MemoryQueryResultRow row) {
+        long result = OBJECT_HEADER_BYTES * 2L + REFERENCE_BYTES * row.getColumnCount();
+        for (int i = 1; i <= row.getColumnCount(); i++) {
+            result += estimate(row.getCell(i));
+        }
+        return result;
+    }
+    
+    /**
+     * Estimate heap bytes of value.
+     *
+     * @param value value
+     * @return estimated heap bytes
+     */
+    public static long estimate(final Object value) {
+        if (null == value) {
+            return 0L;
+        }
+        if (value instanceof String) {
+            return OBJECT_HEADER_BYTES * 3L + 2L * ((String) value).length();
+        }
+        if (value instanceof byte[]) {
+            return OBJECT_HEADER_BYTES + ((byte[]) value).length;
+        }
+        if (value instanceof BigDecimal || value instanceof BigInteger) {
+            return OBJECT_HEADER_BYTES * 4L;
+        }
+        if (value instanceof Number || value instanceof Boolean || value instanceof Character) {
+            return OBJECT_HEADER_BYTES;
+        }
+        if (value instanceof Date) {
+            return OBJECT_HEADER_BYTES * 2L;
+        }
+        return OBJECT_HEADER_BYTES * 4L;
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory.spill;
+
+import com.google.common.base.Strings;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.exception.kernel.data.MergedRowsSpillException;
+import org.apache.shardingsphere.infra.executor.sql.process.Process;
+import org.apache.shardingsphere.infra.executor.sql.process.ProcessRegistry;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.LinkedList;
+
+/**
+ * Merge spill context.
+ *
+ * <p>Streams opened on spill run files are registered to the context, so they are released when merged result is closed before all rows are consumed.</p>
+ */
+@RequiredArgsConstructor
+public final class MergeSpillContext implements AutoCloseable {
+    
+    @Getter
+    private final long memoryBudget;
+    
+    @Getter
+    private final String processId;
+    
+    private final Collection<Closeable> resources = new LinkedList<>();
+    
+    /**
+     * Judge whether spill is enabled.
+     *
+     * @return spill is enabled or not
+     */
+    public boolean isEnabled() {
+        return memoryBudget > 0L;
+    }
+    
+    /**
+     * Judge whether estimated bytes exceed memory budget.
+     *
+     * @param estimatedBytes estimated bytes
+     * @return exceed memory budget or not
+     */
+    public boolean isExceeded(final long estimatedBytes) {
+        return isEnabled() && estimatedBytes > memoryBudget;
+    }
+    
+    /**
+     * Record spill to process.
+     *
+     * @param bytes spilled bytes
+     */
+    public void recordSpill(final long bytes) {
+        if (Strings.isNullOrEmpty(processId)) {
+            return;
+        }
+        Process process = ProcessRegistry.getInstance().get(processId);
+        if (null != process) {
+            process.recordSpill(bytes);
+        }
+    }
+    
+    /**
+     * Register resource to be closed with context.
+     *
+     * @param resource resource
+     */
+    public synchronized void register(final Closeable resource) {
+        resources.add(resource);
+    }
+    
+    /**
+     * Close all registered resources.
+     *
+     * @throws MergedRowsSpillException merged rows spill exception
+     */
+    @Override
+    public synchronized void close() {
+        IOException ex = null;
+        for (Closeable each : resources) {
+            try {
+                each.close();
+            } catch (final IOException closeException) {
+                ex = closeException;
+            }
+        }
+        resources.clear();
+        if (null != ex) {
+            throw new MergedRowsSpillException(ex.toString());
+        }
+    }
+}
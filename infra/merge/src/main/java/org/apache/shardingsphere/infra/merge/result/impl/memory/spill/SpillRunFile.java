@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory.spill;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.exception.kernel.data.MergedRowsSpillException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Spill run file, which holds sorted rows on local disk.
+ *
+ * @param <T> type of row
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SpillRunFile<T extends Serializable> {
+    
+    private static final String FILE_PREFIX = "shardingsphere-merge-";
+    
+    private static final String FILE_SUFFIX = ".run";
+    
+    private static final int RESET_INTERVAL = 512;
+    
+    private final Path path;
+    
+    @Getter
+    private final int rowCount;
+    
+    @Getter
+    private final long size;
+    
+    private final MergeSpillContext spillContext;
+    
+    /**
+     * Write sorted rows to spill run file.
+     *
+     * @param rows sorted rows
+     * @param spillContext merge spill context
+     * @param <T> type of row
+     * @return spill run file
+     * @throws MergedRowsSpillException merged rows spill exception
+     */
+    public static <T extends Serializable> SpillRunFile<T> write(final Collection<T> rows, final MergeSpillContext spillContext) {
+        Path path = null;
+        try {
+            path = Files.createTempFile(FILE_PREFIX, FILE_SUFFIX);
+            try (ObjectOutputStream outputStream = new ObjectOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+                outputStream.writeInt(rows.size());
+                int writtenCount = 0;
+                for (T each : rows) {
+                    outputStream.writeObject(each);
+                    if (0 == ++writtenCount % RESET_INTERVAL) {
+                        outputStream.reset();
+                    }
+                }
+            }
+            long size = Files.size(path);
+            spillContext.recordSpill(size);
+            return new SpillRunFile<>(path, rows.size(), size, spillContext);
+        } catch (final NotSerializableException ex) {
+            delete(path);
+            throw new MergedRowsSpillException(String.format("value of class `%s` is not serializable", ex.getMessage()));
+        } catch (final IOException ex) {
+            delete(path);
+            throw new MergedRowsSpillException(ex.toString());
+        }
+    }
+    
+    /**
+     * Open iterator to read rows.
+     *
+     * <p>The file is unlinked as soon as it is opened, and the stream is registered to merge spill context,
+     * so both are reclaimed even if the rows are not consumed completely.</p>
+     *
+     * @return iterator of rows
+     * @throws MergedRowsSpillException merged rows spill exception
+     */
+    public Iterator<T> openIterator() {
+        try {
+            ObjectInputStream inputStream = new ObjectInputStream(new BufferedInputStream(Files.newInputStream(path)));
+            spillContext.register(inputStream);
+            delete(path);
+            return new SpillRunIterator<>(inputStream, inputStream.readInt());
+        } catch (final IOException ex) {
+            delete(path);
+            throw new MergedRowsSpillException(ex.toString());
+        }
+    }
+    
+    /**
+     * Discard spill run file without reading rows.
+     */
+    public void discard() {
+        delete(path);
+    }
+    
+    private static void delete(final Path path) {
+        if (null == path) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (final IOException ignored) {
+            path.toFile().deleteOnExit();
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class SpillRunIterator<T> implements Iterator<T> {
+        
+        private final ObjectInputStream inputStream;
+        
+        private final int rowCount;
+        
+        private int readCount;
+        
+        @Override
+        public boolean hasNext() {
+            return readCount < rowCount;
+        }
+        
+        @SuppressWarnings("unchecked")
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            try {
+                T result = (T) inputStream.readObject();
+                if (++readCount == rowCount) {
+                    inputStream.close();
+                }
+                return result;
+            } catch (final IOException | ClassNotFoundException ex) {
+                throw new MergedRowsSpillException(ex.toString());
+            }
+        }
+    }
+}
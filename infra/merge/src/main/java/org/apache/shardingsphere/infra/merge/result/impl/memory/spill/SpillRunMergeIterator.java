@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory.spill;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * Spill run merge iterator, which merges sorted spill run files into one sorted sequence.
+ *
+ * <p>Equal rows are returned in the order of spill run files, so the merge is stable.</p>
+ *
+ * @param <T> type of row
+ */
+public final class SpillRunMergeIterator<T extends Serializable> implements Iterator<T> {
+    
+    private final Comparator<? super T> comparator;
+    
+    private final PriorityQueue<SpillRunCursor<T>> cursors;
+    
+    public SpillRunMergeIterator(final Collection<SpillRunFile<T>> runFiles, final Comparator<? super T> comparator) {
+        this.comparator = comparator;
+        cursors = new PriorityQueue<>(Math.max(runFiles.size(), 1), this::compare);
+        int runIndex = 0;
+        for (SpillRunFile<T> each : runFiles) {
+            SpillRunCursor<T> cursor = new SpillRunCursor<>(runIndex++, each.openIterator());
+            if (cursor.next()) {
+                cursors.offer(cursor);
+            }
+        }
+    }
+    
+    private int compare(final SpillRunCursor<T> o1, final SpillRunCursor<T> o2) {
+        int result = comparator.compare(o1.getCurrent(), o2.getCurrent());
+        return 0 == result ? Integer.compare(o1.getRunIndex(), o2.getRunIndex()) : result;
+    }
+    
+    @Override
+    public boolean hasNext() {
+        return !cursors.isEmpty();
+    }
+    
+    @Override
+    public T next() {
+        SpillRunCursor<T> cursor = cursors.poll();
+        if (null == cursor) {
+            throw new NoSuchElementException();
+        }
+        T result = cursor.getCurrent();
+        if (cursor.next()) {
+            cursors.offer(cursor);
+        }
+        return result;
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class SpillRunCursor<T> {
+        
+        private final int runIndex;
+        
+        private final Iterator<T> rows;
+        
+        private T current;
+        
+        private boolean next() {
+            if (!rows.hasNext()) {
+                return false;
+            }
+            current = rows.next();
+            return true;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory.spill;
+
+import lombok.RequiredArgsConstructor;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * Spillable sort buffer.
+ *
+ * <p>Rows are held in memory until their estimated bytes exceed memory budget, then they are sorted and written as a spill run file.
+ * Sorted rows are read back with an external merge of all spill run files.</p>
+ *
+ * @param <T> type of row
+ */
+@RequiredArgsConstructor
+public final class SpillableSortBuffer<T extends Serializable> {
+    
+    private final Comparator<? super T> comparator;
+    
+    private final ToLongFunction<? super T> sizeEstimator;
+    
+    private final MergeSpillContext spillContext;
+    
+    private final List<T> rows = new ArrayList<>();
+    
+    private final Collection<SpillRunFile<T>> runFiles = new LinkedList<>();
+    
+    private long estimatedBytes;
+    
+    /**
+     * Add row.
+     *
+     * @param row row to be added
+     */
+    public void add(final T row) {
+        rows.add(row);
+        estimatedBytes += sizeEstimator.applyAsLong(row);
+        if (spillContext.isExceeded(estimatedBytes)) {
+            spill();
+        }
+    }
+    
+    private void spill() {
+        if (rows.isEmpty()) {
+            return;
+        }
+        rows.sort(comparator);
+        runFiles.add(SpillRunFile.write(rows, spillContext));
+        rows.clear();
+        estimatedBytes = 0L;
+    }
+    
+    /**
+     * Judge whether rows have been spilled.
+     *
+     * @return rows have been spilled or not
+     */
+    public boolean isSpilled() {
+        return !runFiles.isEmpty();
+    }
+    
+    /**
+     * Get sorted rows.
+     *
+     * @return iterator of sorted rows
+     */
+    public Iterator<T> sortedIterator() {
+        if (runFiles.isEmpty()) {
+            rows.sort(comparator);
+            return rows.iterator();
+        }
+        spill();
+        return new SpillRunMergeIterator<>(runFiles, comparator);
+    }
+}
@@ -19,7 +19,11 @@ package org.apache.shardingsphere.infra.merge.result.impl.transparent;
 
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
-import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.batch.BatchQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.batch.RowBatch;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.bytes.ColumnBytesQueryResult;
+import org.apache.shardingsphere.infra.merge.result.BatchMergedResult;
+import org.apache.shardingsphere.infra.merge.result.ColumnBytesMergedResult;
 
 import java.io.InputStream;
 import java.io.Reader;
@@ -30,7 +34,7 @@ import java.util.Calendar;
  * Transparent merged result.
  */
 @RequiredArgsConstructor
-public final class TransparentMergedResult implements MergedResult {
+public final class TransparentMergedResult implements BatchMergedResult, ColumnBytesMergedResult {
     
     private final QueryResult queryResult;
     
@@ -39,6 +43,26 @@ public final class TransparentMergedResult implements MergedResult {
         return queryResult.next();
     }
     
+    @Override
+    public boolean isBatchSupported() {
+        return queryResult instanceof BatchQueryResult;
+    }
+    
+    @Override
+    public RowBatch nextBatch(final int maxRowCount) throws SQLException {
+        return ((BatchQueryResult) queryResult).nextBatch(maxRowCount);
+    }
+    
+    @Override
+    public boolean isColumnBytesSupported() {
+        return queryResult instanceof ColumnBytesQueryResult;
+    }
+    
+    @Override
+    public byte[] getColumnBytes(final int columnIndex) throws SQLException {
+        return ((ColumnBytesQueryResult) queryResult).getColumnBytes(columnIndex);
+    }
+    
     @Override
     public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
         return queryResult.getValue(columnIndex, type);
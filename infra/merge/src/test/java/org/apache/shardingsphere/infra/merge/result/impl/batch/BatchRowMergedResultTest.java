@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.batch;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.batch.ColumnVector;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.batch.ObjectColumnVector;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.batch.RowBatch;
+import org.apache.shardingsphere.infra.merge.result.BatchMergedResult;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.Calendar;
+import java.util.TimeZone;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BatchRowMergedResultTest {
+    
+    @Test
+    void assertNext() throws SQLException {
+        BatchMergedResult batchMergedResult = mock(BatchMergedResult.class);
+        when(batchMergedResult.nextBatch(2)).thenReturn(createRowBatch("foo", "bar"), createRowBatch("baz", null), RowBatch.EMPTY);
+        BatchRowMergedResult actual = new BatchRowMergedResult(batchMergedResult, 2);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is("foo"));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is("bar"));
+        assertFalse(actual.wasNull());
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, String.class), is("baz"));
+        assertTrue(actual.next());
+        assertNull(actual.getValue(1, Object.class));
+        assertTrue(actual.wasNull());
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    void assertGetValueWithType() throws SQLException {
+        BatchMergedResult batchMergedResult = mock(BatchMergedResult.class);
+        when(batchMergedResult.nextBatch(1)).thenReturn(createRowBatch(1L), createRowBatch((Object) null), RowBatch.EMPTY);
+        BatchRowMergedResult actual = new BatchRowMergedResult(batchMergedResult, 1);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, int.class), is(1));
+        assertThat(actual.getValue(1, String.class), is("1"));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, long.class), is(0L));
+        assertTrue(actual.wasNull());
+    }
+    
+    @Test
+    void assertGetCalendarValue() throws SQLException {
+        BatchMergedResult batchMergedResult = mock(BatchMergedResult.class);
+        Timestamp timestamp = Timestamp.valueOf("2024-01-02 03:04:05.123456789");
+        when(batchMergedResult.nextBatch(1)).thenReturn(createRowBatch(timestamp), RowBatch.EMPTY);
+        BatchRowMergedResult actual = new BatchRowMergedResult(batchMergedResult, 1);
+        assertTrue(actual.next());
+        Calendar calendar = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+        long expectedMillis = timestamp.toLocalDateTime().toInstant(ZoneOffset.UTC).toEpochMilli();
+        Timestamp actualTimestamp = (Timestamp) actual.getCalendarValue(1, Timestamp.class, calendar);
+        assertThat(actualTimestamp.getTime(), is(expectedMillis));
+        assertThat(actualTimestamp.getNanos(), is(123456789));
+        assertThat(((Date) actual.getCalendarValue(1, Date.class, calendar)).getTime(), is(LocalDate.of(2024, 1, 2).atStartOfDay().toInstant(ZoneOffset.UTC).toEpochMilli()));
+        assertThat(((Time) actual.getCalendarValue(1, Time.class, calendar)).getTime(), is(LocalTime.of(3, 4, 5).toSecondOfDay() * 1000L));
+        assertThrows(SQLException.class, () -> actual.getCalendarValue(1, Object.class, calendar));
+    }
+    
+        private RowBatch createRowBatch(final Object... values) {
+        ObjectColumnVector columnVector = new ObjectColumnVector(values.length);
+        for (int i = 0; i < values.length; i++) {
+            columnVector.setValue(i, values[i]);
+        }
+        RowBatch result = new RowBatch(values.length, new ColumnVector[]{columnVector});
+        result.load(values.length);
+        return result;
+    }
+}
@@ -25,7 +25,9 @@ import java.sql.SQLException;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -72,4 +74,11 @@ class MemoryQueryResultRowTest {
     void assertSetCellWithColumnIndexOutOfRange() {
         assertThrows(IllegalArgumentException.class, () -> memoryResultSetRow.setCell(2, "new"));
     }
+    
+    @Test
+    void assertIsSerializable() {
+        assertTrue(memoryResultSetRow.isSerializable());
+        memoryResultSetRow.setCell(1, new Object());
+        assertFalse(memoryResultSetRow.isSerializable());
+    }
 }
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory.spill;
+
+import org.apache.shardingsphere.infra.executor.sql.process.Process;
+import org.apache.shardingsphere.infra.executor.sql.process.ProcessRegistry;
+import org.apache.shardingsphere.test.mock.AutoMockExtension;
+import org.apache.shardingsphere.test.mock.StaticMockSettings;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(AutoMockExtension.class)
+@StaticMockSettings(ProcessRegistry.class)
+class MergeSpillContextTest {
+    
+    @Test
+    void assertIsExceeded() {
+        MergeSpillContext spillContext = new MergeSpillContext(100L, null);
+        assertTrue(spillContext.isEnabled());
+        assertFalse(spillContext.isExceeded(100L));
+        assertTrue(spillContext.isExceeded(101L));
+    }
+    
+    @Test
+    void assertIsExceededWhenDisabled() {
+        MergeSpillContext spillContext = new MergeSpillContext(0L, null);
+        assertFalse(spillContext.isEnabled());
+        assertFalse(spillContext.isExceeded(Long.MAX_VALUE));
+    }
+    
+    @Test
+    void assertRecordSpill() {
+        Process process = mock(Process.class);
+        ProcessRegistry processRegistry = mock(ProcessRegistry.class);
+        when(ProcessRegistry.getInstance()).thenReturn(processRegistry);
+        when(processRegistry.get("foo_id")).thenReturn(process);
+        new MergeSpillContext(100L, "foo_id").recordSpill(1024L);
+        verify(process).recordSpill(1024L);
+    }
+    
+    @Test
+    void assertClose() throws IOException {
+        Closeable resource = mock(Closeable.class);
+        MergeSpillContext spillContext = new MergeSpillContext(100L, null);
+        spillContext.register(resource);
+        spillContext.close();
+        spillContext.close();
+        verify(resource).close();
+    }
+}
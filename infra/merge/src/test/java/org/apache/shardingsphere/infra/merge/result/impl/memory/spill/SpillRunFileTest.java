@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory.spill;
+
+import org.apache.shardingsphere.infra.exception.kernel.data.MergedRowsSpillException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SpillRunFileTest {
+    
+    @Test
+    void assertOpenIterator() {
+        SpillRunFile<Integer> runFile = SpillRunFile.write(Arrays.asList(1, 2), new MergeSpillContext(1L, null));
+        assertThat(runFile.getRowCount(), is(2));
+        Iterator<Integer> actual = runFile.openIterator();
+        assertThat(actual.next(), is(1));
+        assertThat(actual.next(), is(2));
+    }
+    
+    @Test
+    void assertCloseSpillContextBeforeRowsConsumed() {
+        MergeSpillContext spillContext = new MergeSpillContext(1L, null);
+        Iterator<Integer> actual = SpillRunFile.write(Arrays.asList(1, 2), spillContext).openIterator();
+        assertThat(actual.next(), is(1));
+        spillContext.close();
+        assertThrows(MergedRowsSpillException.class, actual::next);
+    }
+    
+    @Test
+    void assertDiscard() {
+        SpillRunFile<Integer> runFile = SpillRunFile.write(Arrays.asList(1, 2), new MergeSpillContext(1L, null));
+        runFile.discard();
+        assertThrows(MergedRowsSpillException.class, runFile::openIterator);
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory.spill;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SpillableSortBufferTest {
+    
+    @Test
+    void assertSortedIteratorWithoutSpill() {
+        SpillableSortBuffer<Integer> buffer = new SpillableSortBuffer<>(Comparator.naturalOrder(), each -> 16L, new MergeSpillContext(0L, null));
+        for (Integer each : Arrays.asList(3, 1, 2)) {
+            buffer.add(each);
+        }
+        assertFalse(buffer.isSpilled());
+        assertThat(toList(buffer.sortedIterator()), is(Arrays.asList(1, 2, 3)));
+    }
+    
+    @Test
+    void assertSortedIteratorWithSpill() {
+        SpillableSortBuffer<Integer> buffer = new SpillableSortBuffer<>(Comparator.naturalOrder(), each -> 16L, new MergeSpillContext(32L, null));
+        for (Integer each : Arrays.asList(5, 3, 8, 1, 9, 2, 7)) {
+            buffer.add(each);
+        }
+        assertTrue(buffer.isSpilled());
+        assertThat(toList(buffer.sortedIterator()), is(Arrays.asList(1, 2, 3, 5, 7, 8, 9)));
+    }
+    
+    private List<Integer> toList(final Iterator<Integer> iterator) {
+        List<Integer> result = new ArrayList<>();
+        iterator.forEachRemaining(result::add);
+        return result;
+    }
+}
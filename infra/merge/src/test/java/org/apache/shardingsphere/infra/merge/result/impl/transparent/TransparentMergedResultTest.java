@@ -18,6 +18,9 @@
 package org.apache.shardingsphere.infra.merge.result.impl.transparent;
 
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.batch.BatchQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.batch.RowBatch;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.bytes.ColumnBytesQueryResult;
 import org.junit.jupiter.api.Test;
 
 import java.io.InputStream;
@@ -43,6 +46,33 @@ class TransparentMergedResultTest {
         assertFalse(actual.next());
     }
     
+    @Test
+    void assertIsBatchSupported() {
+        assertFalse(new TransparentMergedResult(mock(QueryResult.class)).isBatchSupported());
+        assertTrue(new TransparentMergedResult(mock(BatchQueryResult.class)).isBatchSupported());
+    }
+    
+    @Test
+    void assertNextBatch() throws SQLException {
+        BatchQueryResult queryResult = mock(BatchQueryResult.class);
+        RowBatch rowBatch = mock(RowBatch.class);
+        when(queryResult.nextBatch(10)).thenReturn(rowBatch);
+        assertThat(new TransparentMergedResult(queryResult).nextBatch(10), is(rowBatch));
+    }
+    
+    @Test
+    void assertIsColumnBytesSupported() {
+        assertFalse(new TransparentMergedResult(mock(QueryResult.class)).isColumnBytesSupported());
+        assertTrue(new TransparentMergedResult(mock(ColumnBytesQueryResult.class)).isColumnBytesSupported());
+    }
+    
+    @Test
+    void assertGetColumnBytes() throws SQLException {
+        ColumnBytesQueryResult queryResult = mock(ColumnBytesQueryResult.class);
+        when(queryResult.getColumnBytes(1)).thenReturn(new byte[]{'1'});
+        assertThat(new TransparentMergedResult(queryResult).getColumnBytes(1), is(new byte[]{'1'}));
+    }
+    
     @Test
     void assertGetValue() throws SQLException {
         QueryResult queryResult = mock(QueryResult.class);
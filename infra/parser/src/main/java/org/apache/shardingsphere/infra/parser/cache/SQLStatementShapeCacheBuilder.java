@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+
+/**
+ * SQL statement shape cache builder.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLStatementShapeCacheBuilder {
+    
+    /**
+     * Build SQL statement shape cache.
+     *
+     * @param sqlStatementShapeCacheOption SQL statement shape cache option
+     * @return built SQL statement shape cache, which key is SQL shape and value is parse tree template
+     */
+    public static Cache<String, ParseTree> build(final CacheOption sqlStatementShapeCacheOption) {
+        return Caffeine.newBuilder().softValues().initialCapacity(sqlStatementShapeCacheOption.getInitialCapacity()).maximumSize(sqlStatementShapeCacheOption.getMaximumSize())
+                .recordStats().build();
+    }
+}
@@ -18,12 +18,15 @@
 package org.apache.shardingsphere.infra.parser.sql;
 
 import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.parser.cache.SQLStatementCacheBuilder;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
 import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
 
+import java.util.Optional;
+
 /**
  * SQL statement parser engine.
  */
@@ -31,6 +34,8 @@ public final class SQLStatementParserEngine {
     
     private final SQLStatementParserExecutor sqlStatementParserExecutor;
     
+    private final SQLStatementShapeParserExecutor sqlStatementShapeParserExecutor;
+    
     private final LoadingCache<String, SQLStatement> sqlStatementCache;
     
     @Getter
@@ -39,21 +44,45 @@ public final class SQLStatementParserEngine {
     @Getter
     private final CacheOption parseTreeCacheOption;
     
+    @Getter
+    private final CacheOption sqlStatementShapeCacheOption;
+    
     public SQLStatementParserEngine(final DatabaseType databaseType, final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption) {
+        this(databaseType, sqlStatementCacheOption, parseTreeCacheOption, null);
+    }
+    
+    public SQLStatementParserEngine(final DatabaseType databaseType, final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption,
+                                    final CacheOption sqlStatementShapeCacheOption) {
         sqlStatementParserExecutor = new SQLStatementParserExecutor(databaseType, parseTreeCacheOption);
+        sqlStatementShapeParserExecutor = null == sqlStatementShapeCacheOption ? null : new SQLStatementShapeParserExecutor(databaseType, sqlStatementShapeCacheOption);
         sqlStatementCache = SQLStatementCacheBuilder.build(databaseType, sqlStatementCacheOption, parseTreeCacheOption);
         this.sqlStatementCacheOption = sqlStatementCacheOption;
         this.parseTreeCacheOption = parseTreeCacheOption;
+        this.sqlStatementShapeCacheOption = sqlStatementShapeCacheOption;
     }
     
     /**
      * Parse to SQL statement.
      *
+     * <p>SQL without cache, such as SQL of text protocol, is parsed with SQL statement shape cache if it is configured.</p>
+     *
      * @param sql SQL to be parsed
      * @param useCache whether to use cache
      * @return SQL statement
      */
     public SQLStatement parse(final String sql, final boolean useCache) {
-        return useCache ? sqlStatementCache.get(sql) : sqlStatementParserExecutor.parse(sql);
+        if (useCache) {
+            return sqlStatementCache.get(sql);
+        }
+        return null == sqlStatementShapeParserExecutor ? sqlStatementParserExecutor.parse(sql) : sqlStatementShapeParserExecutor.parse(sql);
+    }
+    
+    /**
+     * Get statistics of SQL statement shape cache.
+     *
+     * @return statistics of SQL statement shape cache, empty if SQL statement shape cache is not configured
+     */
+    public Optional<CacheStats> getSQLStatementShapeCacheStats() {
+        return null == sqlStatementShapeParserExecutor ? Optional.empty() : Optional.of(sqlStatementShapeParserExecutor.getStats());
     }
 }
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.sql;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.parser.cache.SQLStatementShapeCacheBuilder;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.api.SQLStatementVisitorEngine;
+import org.apache.shardingsphere.sql.parser.core.ParseASTNode;
+import org.apache.shardingsphere.sql.parser.core.database.parser.SQLParserExecutor;
+import org.apache.shardingsphere.sql.parser.core.database.shape.SQLShape;
+import org.apache.shardingsphere.sql.parser.core.database.shape.SQLShapeExtractor;
+import org.apache.shardingsphere.sql.parser.core.database.shape.TemplateTokenBinder;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+
+import java.util.List;
+
+/**
+ * SQL statement shape parser executor.
+ *
+ * <p>SQL is lexed and the literals are replaced by placeholders to form the SQL shape.
+ * The parse tree of the first SQL with a shape is cached as template, other SQL with the same shape are visited on the template
+ * with their own tokens bound, so that the extracted literals are re-bound instead of re-parsing.</p>
+ */
+public final class SQLStatementShapeParserExecutor {
+    
+    private final SQLShapeExtractor sqlShapeExtractor;
+    
+    private final SQLParserExecutor sqlParserExecutor;
+    
+    private final SQLStatementVisitorEngine visitorEngine;
+    
+    private final Cache<String, ParseTree> parseTreeTemplateCache;
+    
+    public SQLStatementShapeParserExecutor(final DatabaseType databaseType, final CacheOption sqlStatementShapeCacheOption) {
+        sqlShapeExtractor = new SQLShapeExtractor(databaseType);
+        sqlParserExecutor = new SQLParserExecutor(databaseType);
+        visitorEngine = new SQLStatementVisitorEngine(databaseType);
+        parseTreeTemplateCache = SQLStatementShapeCacheBuilder.build(sqlStatementShapeCacheOption);
+    }
+    
+    /**
+     * Parse to SQL statement.
+     *
+     * @param sql SQL to be parsed
+     * @return SQL statement
+     */
+    public SQLStatement parse(final String sql) {
+        SQLShape sqlShape = sqlShapeExtractor.extract(sql);
+        ParseTree parseTreeTemplate = parseTreeTemplateCache.getIfPresent(sqlShape.getKey());
+        if (null == parseTreeTemplate) {
+            parseTreeTemplate = sqlParserExecutor.parseTemplate(sql, sqlShape).getParseTree();
+            parseTreeTemplateCache.put(sqlShape.getKey(), parseTreeTemplate);
+        }
+        List<Token> previousTokens = TemplateTokenBinder.bind(sqlShape.getTokenStream().getTokens());
+        try {
+            return visitorEngine.visit(new ParseASTNode(parseTreeTemplate, sqlShape.getTokenStream()));
+        } finally {
+            TemplateTokenBinder.restore(previousTokens);
+        }
+    }
+    
+    /**
+     * Get statistics of SQL statement shape cache.
+     *
+     * @return statistics of SQL statement shape cache
+     */
+    public CacheStats getStats() {
+        return parseTreeTemplateCache.stats();
+    }
+}
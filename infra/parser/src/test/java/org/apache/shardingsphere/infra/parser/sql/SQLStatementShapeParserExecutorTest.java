@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.sql;
+
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.expr.BinaryOperationExpression;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.SelectStatement;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class SQLStatementShapeParserExecutorTest {
+    
+    private final DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "MySQL");
+    
+    @Test
+    void assertParseWithSameShape() {
+        SQLStatementShapeParserExecutor executor = new SQLStatementShapeParserExecutor(databaseType, new CacheOption(16, 16L));
+        assertLiteral(executor.parse("SELECT * FROM t_order WHERE order_id = 1"), 1, 39, 39);
+        assertLiteral(executor.parse("SELECT * FROM t_order WHERE order_id = 12345"), 12345, 39, 43);
+        assertLiteral(executor.parse("SELECT * FROM t_order WHERE order_id = 7"), 7, 39, 39);
+        assertThat(executor.getStats().missCount(), is(1L));
+        assertThat(executor.getStats().hitCount(), is(2L));
+    }
+    
+    @Test
+    void assertParseWithDifferentShape() {
+        SQLStatementShapeParserExecutor executor = new SQLStatementShapeParserExecutor(databaseType, new CacheOption(16, 16L));
+        assertLiteral(executor.parse("SELECT * FROM t_order WHERE order_id = 1"), 1, 39, 39);
+        assertLiteral(executor.parse("SELECT * FROM t_order WHERE user_id = 1"), 1, 38, 38);
+        assertLiteral(executor.parse("SELECT * FROM t_order WHERE order_id = 'foo'"), "foo", 39, 43);
+        assertThat(executor.getStats().missCount(), is(3L));
+        assertThat(executor.getStats().hitCount(), is(0L));
+    }
+    
+    private void assertLiteral(final Object sqlStatement, final Object expectedLiteral, final int expectedStartIndex, final int expectedStopIndex) {
+        BinaryOperationExpression where = (BinaryOperationExpression) ((SelectStatement) sqlStatement).getWhere().orElseThrow(IllegalStateException::new).getExpr();
+        LiteralExpressionSegment literal = (LiteralExpressionSegment) where.getRight();
+        assertThat(literal.getLiterals(), is(expectedLiteral));
+        assertThat(literal.getStartIndex(), is(expectedStartIndex));
+        assertThat(literal.getStopIndex(), is(expectedStopIndex));
+    }
+}
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.infra.rewrite.context;
 
 import lombok.AccessLevel;
 import lombok.Getter;
+import org.apache.shardingsphere.infra.binder.context.segment.insert.keygen.GeneratedKeyContext;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.InsertStatementContext;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
@@ -89,6 +90,19 @@ public final class SQLRewriteContext {
         this.sqlTokenGenerators.addAll(sqlTokenGenerators);
     }
     
+    /**
+     * Judge whether rewritten SQL and parameters are independent of parameter values.
+     *
+     * @return rewritten SQL and parameters are independent of parameter values or not
+     */
+    public boolean isParameterIndependent() {
+        return !parameterBuilder.isRewritten() && !sqlTokenGenerators.containsParametersAware() && !isGeneratedKeyInsert();
+    }
+    
+    private boolean isGeneratedKeyInsert() {
+        return sqlStatementContext instanceof InsertStatementContext && ((InsertStatementContext) sqlStatementContext).getGeneratedKeyContext().filter(GeneratedKeyContext::isGenerated).isPresent();
+    }
+    
     /**
      * Generate SQL tokens.
      */
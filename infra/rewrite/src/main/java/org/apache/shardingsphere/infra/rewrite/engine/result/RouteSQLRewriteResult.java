@@ -31,4 +31,6 @@ import java.util.Map;
 public final class RouteSQLRewriteResult implements SQLRewriteResult {
     
     private final Map<RouteUnit, SQLRewriteUnit> sqlRewriteUnits;
+    
+    private final boolean parameterIndependent;
 }
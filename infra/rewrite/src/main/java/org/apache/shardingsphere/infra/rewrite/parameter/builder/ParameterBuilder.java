@@ -30,4 +30,11 @@ public interface ParameterBuilder {
      * @return parameters
      */
     List<Object> getParameters();
+    
+    /**
+     * Judge whether parameters are rewritten.
+     *
+     * @return parameters are rewritten or not
+     */
+    boolean isRewritten();
 }
@@ -68,6 +68,19 @@ public final class GroupedParameterBuilder implements ParameterBuilder {
         return parameterBuilders.get(count).getParameters();
     }
     
+    @Override
+    public boolean isRewritten() {
+        if (null != derivedColumnName || genericParameterBuilder.isRewritten()) {
+            return true;
+        }
+        for (StandardParameterBuilder each : parameterBuilders) {
+            if (each.isRewritten()) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
     /**
      * Get derived column name.
      *
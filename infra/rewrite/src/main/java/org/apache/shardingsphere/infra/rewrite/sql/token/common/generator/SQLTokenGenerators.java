@@ -49,6 +49,20 @@ public final class SQLTokenGenerators {
         generators.addAll(sqlTokenGenerators);
     }
     
+    /**
+     * Judge whether contains parameters aware SQL token generator.
+     *
+     * @return contains parameters aware SQL token generator or not
+     */
+    public boolean containsParametersAware() {
+        for (SQLTokenGenerator each : generators) {
+            if (each instanceof ParametersAware) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
     /**
      * Generate SQL tokens.
      *
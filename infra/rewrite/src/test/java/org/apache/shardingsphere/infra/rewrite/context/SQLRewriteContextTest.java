@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.rewrite.context;
 
+import org.apache.shardingsphere.infra.binder.context.segment.insert.keygen.GeneratedKeyContext;
 import org.apache.shardingsphere.infra.binder.context.statement.CommonSQLStatementContext;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.InsertStatementContext;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
@@ -38,11 +39,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -132,4 +136,30 @@ class SQLRewriteContextTest {
         assertFalse(sqlRewriteContext.getSqlTokens().isEmpty());
         assertThat(sqlRewriteContext.getSqlTokens().get(0), instanceOf(SQLToken.class));
     }
+    
+    @Test
+    void assertIsParameterIndependent() {
+        QueryContext queryContext = mock(QueryContext.class, RETURNS_DEEP_STUBS);
+        when(queryContext.getSqlStatementContext()).thenReturn(sqlStatementContext);
+        when(queryContext.getSql()).thenReturn("UPDATE tbl SET col = ? WHERE id = ?");
+        when(queryContext.getParameters()).thenReturn(Arrays.asList(1, 2));
+        when(queryContext.getHintValueContext()).thenReturn(hintValueContext);
+        SQLRewriteContext sqlRewriteContext = new SQLRewriteContext(database, queryContext);
+        assertTrue(sqlRewriteContext.isParameterIndependent());
+        ((StandardParameterBuilder) sqlRewriteContext.getParameterBuilder()).addReplacedParameters(0, 3);
+        assertFalse(sqlRewriteContext.isParameterIndependent());
+    }
+    
+    @Test
+    void assertIsParameterIndependentWithGeneratedKey() {
+        InsertStatementContext statementContext = mock(InsertStatementContext.class, RETURNS_DEEP_STUBS);
+        when(statementContext.getInsertSelectContext()).thenReturn(null);
+        when(statementContext.getGeneratedKeyContext()).thenReturn(Optional.of(new GeneratedKeyContext("id", true)));
+        QueryContext queryContext = mock(QueryContext.class, RETURNS_DEEP_STUBS);
+        when(queryContext.getSqlStatementContext()).thenReturn(statementContext);
+        when(queryContext.getSql()).thenReturn("INSERT INTO tbl (col) VALUES ('foo')");
+        when(queryContext.getParameters()).thenReturn(Collections.emptyList());
+        when(queryContext.getHintValueContext()).thenReturn(hintValueContext);
+        assertFalse(new SQLRewriteContext(database, queryContext).isParameterIndependent());
+    }
 }
@@ -20,12 +20,15 @@ package org.apache.shardingsphere.infra.rewrite.parameter.builder.impl;
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class GroupedParameterBuilderTest {
     
@@ -60,6 +63,21 @@ class GroupedParameterBuilderTest {
         assertThat(actual.getDerivedColumnName(), is(Optional.of(derivedColumnName)));
     }
     
+    @Test
+    void assertIsRewritten() {
+        GroupedParameterBuilder actual = new GroupedParameterBuilder(createGroupedParameters(), createGenericParameters());
+        assertFalse(actual.isRewritten());
+        actual.getParameterBuilders().get(1).addAddedParameters(2, Collections.singleton(9));
+        assertTrue(actual.isRewritten());
+    }
+    
+    @Test
+    void assertIsRewrittenWithDerivedColumnName() {
+        GroupedParameterBuilder actual = new GroupedParameterBuilder(createGroupedParameters(), createGenericParameters());
+        actual.setDerivedColumnName("derivedColumnName");
+        assertTrue(actual.isRewritten());
+    }
+    
     private List<Object> createGenericParameters() {
         return new LinkedList<>(Arrays.asList(7, 8));
     }
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.infra.rewrite.sql.token.common.generator;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.rewrite.sql.token.common.generator.aware.ParametersAware;
 import org.apache.shardingsphere.infra.rewrite.sql.token.common.pojo.SQLToken;
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.junit.jupiter.api.Test;
@@ -30,10 +31,13 @@ import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 
 class SQLTokenGeneratorsTest {
     
@@ -67,4 +71,13 @@ class SQLTokenGeneratorsTest {
         assertThat(actualSQLTokens.size(), is(2));
         assertThat(actualSQLTokens, is(expectedTokens));
     }
+    
+    @Test
+    void assertContainsParametersAware() {
+        SQLTokenGenerators generators = new SQLTokenGenerators();
+        generators.addAll(Collections.singleton(mock(OptionalSQLTokenGenerator.class)));
+        assertFalse(generators.containsParametersAware());
+        generators.addAll(Collections.singleton(mock(OptionalSQLTokenGenerator.class, withSettings().extraInterfaces(ParametersAware.class))));
+        assertTrue(generators.containsParametersAware());
+    }
 }
@@ -50,6 +50,8 @@ public final class ConnectionContext implements AutoCloseable {
     @Setter(AccessLevel.NONE)
     private String currentDatabaseName;
     
+    private String processId;
+    
     public ConnectionContext(final UsedDataSourceProvider usedDataSourceProvider) {
         this(usedDataSourceProvider, null);
     }
@@ -21,10 +21,14 @@ import lombok.Getter;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.context.type.TableAvailable;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
+import org.apache.shardingsphere.infra.executor.sql.context.CoalescedInsertValues;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.InsertValuesCoalescer;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
@@ -32,6 +36,7 @@ import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.J
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutorCallback;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.rule.attribute.datanode.DataNodeRuleAttribute;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
 
 import java.sql.SQLException;
@@ -41,7 +46,6 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 
@@ -61,6 +65,8 @@ public final class BatchPreparedStatementExecutor {
     
     private int batchCount;
     
+    private boolean coalesced;
+    
     public BatchPreparedStatementExecutor(final ShardingSphereDatabase database, final JDBCExecutor jdbcExecutor, final String processId) {
         this.database = database;
         this.jdbcExecutor = jdbcExecutor;
@@ -123,6 +129,56 @@ public final class BatchPreparedStatementExecutor {
         batchExecutionUnits.addAll(newExecutionUnits);
     }
     
+    /**
+     * Coalesce single-row insert values of batch execution units into multi-row insert values.
+     *
+     * @param sqlParserRule SQL parser rule
+     */
+    public void coalesceInsertValues(final SQLParserRule sqlParserRule) {
+        Collection<BatchExecutionUnit> coalescedBatchExecutionUnits = new LinkedList<>();
+        for (BatchExecutionUnit each : batchExecutionUnits) {
+            coalescedBatchExecutionUnits.addAll(coalesceInsertValues(each, sqlParserRule));
+        }
+        batchExecutionUnits.clear();
+        batchExecutionUnits.addAll(coalescedBatchExecutionUnits);
+    }
+    
+    private Collection<BatchExecutionUnit> coalesceInsertValues(final BatchExecutionUnit batchExecutionUnit, final SQLParserRule sqlParserRule) {
+        List<List<Object>> parameterSets = batchExecutionUnit.getParameterSets();
+        List<Integer> jdbcAddBatchTimes = new ArrayList<>(batchExecutionUnit.getJdbcAndActualAddBatchCallTimesMap().keySet());
+        Optional<InsertValuesCoalescer> coalescer = parameterSets.size() < 2 || parameterSets.size() != jdbcAddBatchTimes.size()
+                ? Optional.empty()
+                : createInsertValuesCoalescer(batchExecutionUnit.getExecutionUnit(), parameterSets.get(0).size(), sqlParserRule);
+        if (!coalescer.isPresent()) {
+            return Collections.singleton(batchExecutionUnit);
+        }
+        coalesced = true;
+        Collection<BatchExecutionUnit> result = new LinkedList<>();
+        int rowIndex = 0;
+        for (CoalescedInsertValues each : coalescer.get().coalesce(parameterSets)) {
+            List<Object> params = new ArrayList<>(each.getParameterSets().size() * each.getParameterSets().get(0).size());
+            each.getParameterSets().forEach(params::addAll);
+            SQLUnit sqlUnit = new SQLUnit(each.getSql(), params, batchExecutionUnit.getExecutionUnit().getSqlUnit().getTableRouteMappers());
+            BatchExecutionUnit coalescedBatchExecutionUnit = new BatchExecutionUnit(new ExecutionUnit(batchExecutionUnit.getExecutionUnit().getDataSourceName(), sqlUnit), each.getRowCount());
+            for (int i = 0; i < each.getParameterSets().size(); i++) {
+                coalescedBatchExecutionUnit.mapAddBatchCount(jdbcAddBatchTimes.subList(rowIndex, rowIndex + each.getRowCount()));
+                rowIndex += each.getRowCount();
+            }
+            result.add(coalescedBatchExecutionUnit);
+        }
+        return result;
+    }
+    
+    private Optional<InsertValuesCoalescer> createInsertValuesCoalescer(final ExecutionUnit executionUnit, final int parameterCount, final SQLParserRule sqlParserRule) {
+        DatabaseType storageType = database.getResourceMetaData().getStorageUnits().get(executionUnit.getDataSourceName()).getStorageType();
+        int maxParameterCount = new DatabaseTypeRegistry(storageType).getDialectDatabaseMetaData().getMaxParameterCount();
+        if (maxParameterCount < parameterCount * 2) {
+            return Optional.empty();
+        }
+        String sql = executionUnit.getSqlUnit().getSql();
+        return InsertValuesCoalescer.newInstance(sql, sqlParserRule.getSQLParserEngine(storageType).parse(sql, true), parameterCount, maxParameterCount);
+    }
+    
     /**
      * Execute batch.
      *
@@ -149,7 +205,10 @@ public final class BatchPreparedStatementExecutor {
         if (results.isEmpty()) {
             return new int[0];
         }
-        return isNeedAccumulate(sqlStatementContext) ? accumulate(results) : results.get(0);
+        if (isNeedAccumulate(sqlStatementContext)) {
+            return accumulate(results);
+        }
+        return coalesced ? accumulateFirstDataSource(results) : results.get(0);
     }
     
     private boolean isNeedAccumulate(final SQLStatementContext sqlStatementContext) {
@@ -177,19 +236,45 @@ public final class BatchPreparedStatementExecutor {
     }
     
     private void accumulate(final int[] executeResult, final int[] addBatchCounts, final JDBCExecutionUnit executionUnit) {
-        for (Entry<Integer, Integer> entry : getJDBCAndActualAddBatchCallTimesMap(executionUnit).entrySet()) {
-            int value = null == executeResult || 0 == executeResult.length ? 0 : executeResult[entry.getValue()];
-            addBatchCounts[entry.getKey()] += value;
+        Optional<BatchExecutionUnit> batchExecutionUnit = findBatchExecutionUnit(executionUnit);
+        if (!batchExecutionUnit.isPresent()) {
+            return;
+        }
+        for (Entry<Integer, Integer> entry : batchExecutionUnit.get().getJdbcAndActualAddBatchCallTimesMap().entrySet()) {
+            int value = null == executeResult || 0 == executeResult.length ? 0 : batchExecutionUnit.get().getRowUpdateCount(executeResult[entry.getValue()]);
+            addBatchCounts[entry.getKey()] = accumulateUpdateCount(addBatchCounts[entry.getKey()], value);
         }
     }
     
-    private Map<Integer, Integer> getJDBCAndActualAddBatchCallTimesMap(final JDBCExecutionUnit executionUnit) {
+    private int[] accumulateFirstDataSource(final List<int[]> executeResults) {
+        int[] result = new int[batchCount];
+        String firstDataSourceName = executionGroupContext.getInputGroups().iterator().next().getInputs().iterator().next().getExecutionUnit().getDataSourceName();
+        int count = 0;
+        for (ExecutionGroup<JDBCExecutionUnit> each : executionGroupContext.getInputGroups()) {
+            for (JDBCExecutionUnit eachUnit : each.getInputs()) {
+                if (firstDataSourceName.equals(eachUnit.getExecutionUnit().getDataSourceName())) {
+                    accumulate(executeResults.get(count), result, eachUnit);
+                }
+                count++;
+            }
+        }
+        return result;
+    }
+    
+    private int accumulateUpdateCount(final int accumulatedUpdateCount, final int updateCount) {
+        if (updateCount < 0) {
+            return 0 == accumulatedUpdateCount ? updateCount : accumulatedUpdateCount;
+        }
+        return accumulatedUpdateCount < 0 ? updateCount : accumulatedUpdateCount + updateCount;
+    }
+    
+    private Optional<BatchExecutionUnit> findBatchExecutionUnit(final JDBCExecutionUnit executionUnit) {
         for (BatchExecutionUnit each : batchExecutionUnits) {
             if (isSameDataSourceAndSQL(each, executionUnit)) {
-                return each.getJdbcAndActualAddBatchCallTimesMap();
+                return Optional.of(each);
             }
         }
-        return Collections.emptyMap();
+        return Optional.empty();
     }
     
     private boolean isSameDataSourceAndSQL(final BatchExecutionUnit batchExecutionUnit, final JDBCExecutionUnit jdbcExecutionUnit) {
@@ -239,12 +324,7 @@ public final class BatchPreparedStatementExecutor {
     }
     
     private List<List<Object>> getParameterSets(final JDBCExecutionUnit executionUnit) {
-        for (BatchExecutionUnit each : batchExecutionUnits) {
-            if (isSameDataSourceAndSQL(each, executionUnit)) {
-                return each.getParameterSets();
-            }
-        }
-        throw new IllegalStateException("Can not get value from parameter sets.");
+        return findBatchExecutionUnit(executionUnit).orElseThrow(() -> new IllegalStateException("Can not get value from parameter sets.")).getParameterSets();
     }
     
     /**
@@ -253,6 +333,7 @@ public final class BatchPreparedStatementExecutor {
     public void clear() {
         executionGroupContext.getInputGroups().clear();
         batchCount = 0;
+        coalesced = false;
         batchExecutionUnits.clear();
     }
 }
@@ -24,6 +24,7 @@ import org.apache.shardingsphere.driver.jdbc.core.connection.ShardingSphereConne
 import org.apache.shardingsphere.driver.jdbc.core.statement.StatementManager;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.connection.kernel.BatchRouteTemplate;
 import org.apache.shardingsphere.infra.connection.kernel.KernelProcessor;
 import org.apache.shardingsphere.infra.executor.audit.SQLAuditEngine;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
@@ -38,6 +39,7 @@ import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -61,6 +63,10 @@ public final class DriverExecuteBatchExecutor {
     
     private final DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine;
     
+    private final KernelProcessor kernelProcessor = new KernelProcessor();
+    
+    private final BatchRouteTemplate routeTemplate = new BatchRouteTemplate();
+    
     private ExecutionContext executionContext;
     
     public DriverExecuteBatchExecutor(final ShardingSphereConnection connection, final ShardingSphereMetaData metaData, final StatementOption statementOption, final StatementManager statementManager,
@@ -93,7 +99,7 @@ public final class DriverExecuteBatchExecutor {
     private ExecutionContext createExecutionContext(final QueryContext queryContext, final ShardingSphereDatabase database) {
         RuleMetaData globalRuleMetaData = metaData.getGlobalRuleMetaData();
         SQLAuditEngine.audit(queryContext, globalRuleMetaData, database);
-        return new KernelProcessor().generateExecutionContext(queryContext, globalRuleMetaData, metaData.getProps());
+        return kernelProcessor.generateExecutionContext(queryContext, globalRuleMetaData, metaData.getProps(), routeTemplate);
     }
     
     /**
@@ -125,6 +131,9 @@ public final class DriverExecuteBatchExecutor {
                                  final SQLStatementContext sqlStatementContext, final Collection<Comparable<?>> generatedValues, final StatementOption statementOption,
                                  final ExecutionContext executionContext, final StatementAddCallback addCallback, final PreparedStatementParametersReplayCallback replayCallback,
                                  final GeneratedKeyCallback generatedKeyCallback) throws SQLException {
+        if (metaData.getProps().<Boolean>getValue(ConfigurationPropertyKey.BATCH_INSERT_COALESCE_ENABLED)) {
+            batchExecutor.coalesceInsertValues(metaData.getGlobalRuleMetaData().getSingleRule(SQLParserRule.class));
+        }
         initBatchPreparedStatementExecutor(database, batchExecutor, executionContext, replayCallback);
         int[] result = batchExecutor.executeBatch(sqlStatementContext);
         if (statementOption.isReturnGeneratedKeys() && generatedValues.isEmpty()) {
@@ -160,5 +169,6 @@ public final class DriverExecuteBatchExecutor {
      */
     public void clear() {
         batchPreparedStatementExecutor.clear();
+        routeTemplate.clear();
     }
 }
@@ -21,6 +21,8 @@ import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 import org.junit.jupiter.api.Test;
 
+import java.sql.Statement;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -47,6 +49,25 @@ class BatchExecutionUnitTest {
         assertThat(actual.get(0).get(0), is(1));
     }
     
+    @Test
+    void assertGetParameterSetsWithCoalescedAddBatchCount() {
+        BatchExecutionUnit batchExecutionUnit = new BatchExecutionUnit(new ExecutionUnit(DATA_SOURCE_NAME, new SQLUnit(SQL, Arrays.asList(1, 2, 3, 4))), 2);
+        batchExecutionUnit.mapAddBatchCount(Arrays.asList(0, 1));
+        batchExecutionUnit.mapAddBatchCount(Arrays.asList(3, 4));
+        assertThat(batchExecutionUnit.getParameterSets(), is(Arrays.asList(Arrays.asList(1, 2), Arrays.asList(3, 4))));
+        assertThat(batchExecutionUnit.getJdbcAndActualAddBatchCallTimesMap().get(1), is(0));
+        assertThat(batchExecutionUnit.getJdbcAndActualAddBatchCallTimesMap().get(3), is(1));
+    }
+    
+    @Test
+    void assertGetRowUpdateCount() {
+        assertThat(new BatchExecutionUnit(new ExecutionUnit(DATA_SOURCE_NAME, new SQLUnit(SQL, Collections.emptyList()))).getRowUpdateCount(3), is(3));
+        BatchExecutionUnit coalescedBatchExecutionUnit = new BatchExecutionUnit(new ExecutionUnit(DATA_SOURCE_NAME, new SQLUnit(SQL, Collections.emptyList())), 3);
+        assertThat(coalescedBatchExecutionUnit.getRowUpdateCount(3), is(1));
+        assertThat(coalescedBatchExecutionUnit.getRowUpdateCount(2), is(Statement.SUCCESS_NO_INFO));
+        assertThat(coalescedBatchExecutionUnit.getRowUpdateCount(Statement.EXECUTE_FAILED), is(Statement.EXECUTE_FAILED));
+    }
+    
     @Test
     void assertEquals() {
         BatchExecutionUnit actual = new BatchExecutionUnit(new ExecutionUnit(DATA_SOURCE_NAME, new SQLUnit(SQL, Collections.singletonList(1))));
@@ -59,7 +80,7 @@ class BatchExecutionUnitTest {
         ExecutionUnit executionUnit = new ExecutionUnit(DATA_SOURCE_NAME, new SQLUnit(SQL, Collections.singletonList(1)));
         BatchExecutionUnit actual = new BatchExecutionUnit(executionUnit);
         assertThat(actual.toString(), is(String.format("BatchExecutionUnit(executionUnit=ExecutionUnit"
-                + "(dataSourceName=%s, sqlUnit=SQLUnit(sql=%s, parameters=[%d], tableRouteMappers=[])), "
+                + "(dataSourceName=%s, sqlUnit=SQLUnit(sql=%s, parameters=[%d], tableRouteMappers=[])), coalescedRowCount=1, "
                 + "jdbcAndActualAddBatchCallTimesMap={}, actualCallAddBatchTimes=0)", DATA_SOURCE_NAME, SQL, 1, "null")));
     }
 }
@@ -21,6 +21,7 @@ import lombok.SneakyThrows;
 import org.apache.shardingsphere.infra.binder.context.segment.table.TablesContext;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.context.type.TableAvailable;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
@@ -36,6 +37,9 @@ import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
 import org.apache.shardingsphere.infra.rule.attribute.RuleAttributes;
 import org.apache.shardingsphere.infra.rule.attribute.datanode.DataNodeRuleAttribute;
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.parser.rule.builder.DefaultSQLParserRuleConfigurationBuilder;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -49,6 +53,8 @@ import org.mockito.quality.Strictness;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -72,8 +78,12 @@ class BatchPreparedStatementExecutorTest {
     
     private static final String SQL = "DELETE FROM table_x WHERE id=?";
     
+    private static final String INSERT_SQL = "INSERT INTO t_order_0 (order_id, status) VALUES (?, ?)";
+    
     private final ExecutorEngine executorEngine = ExecutorEngine.createExecutorEngineWithSize(Runtime.getRuntime().availableProcessors() * 2 - 1);
     
+    private ShardingSphereDatabase database;
+    
     private BatchPreparedStatementExecutor executor;
     
     @Mock(extraInterfaces = TableAvailable.class)
@@ -83,7 +93,8 @@ class BatchPreparedStatementExecutorTest {
     void setUp() {
         SQLExecutorExceptionHandler.setExceptionThrown(true);
         String processId = new UUID(ThreadLocalRandom.current().nextLong(), ThreadLocalRandom.current().nextLong()).toString().replace("-", "");
-        executor = new BatchPreparedStatementExecutor(mockDatabase(), new JDBCExecutor(executorEngine, mock(ConnectionContext.class, RETURNS_DEEP_STUBS)), processId);
+        database = mockDatabase();
+        executor = new BatchPreparedStatementExecutor(database, new JDBCExecutor(executorEngine, mock(ConnectionContext.class, RETURNS_DEEP_STUBS)), processId);
         when(((TableAvailable) sqlStatementContext).getTablesContext()).thenReturn(mock(TablesContext.class));
     }
     
@@ -137,6 +148,16 @@ class BatchPreparedStatementExecutorTest {
         verify(preparedStatement2).executeBatch();
     }
     
+    @Test
+    void assertExecuteBatchForMultiplePreparedStatementsWithSuccessNoInfo() throws SQLException {
+        PreparedStatement preparedStatement1 = getPreparedStatement();
+        PreparedStatement preparedStatement2 = getPreparedStatement();
+        when(preparedStatement1.executeBatch()).thenReturn(new int[]{Statement.SUCCESS_NO_INFO, 10});
+        when(preparedStatement2.executeBatch()).thenReturn(new int[]{Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO});
+        setExecutionGroups(Arrays.asList(preparedStatement1, preparedStatement2));
+        assertThat(executor.executeBatch(sqlStatementContext), is(new int[]{Statement.SUCCESS_NO_INFO, 10}));
+    }
+    
     @Test
     void assertExecuteBatchForSinglePreparedStatementFailure() throws SQLException {
         PreparedStatement preparedStatement = getPreparedStatement();
@@ -157,6 +178,53 @@ class BatchPreparedStatementExecutorTest {
         assertThrows(SQLException.class, () -> executor.executeBatch(sqlStatementContext));
     }
     
+    @Test
+    void assertCoalesceInsertValues() throws SQLException {
+        when(database.getResourceMetaData().getStorageUnits().get("ds_0").getStorageType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "MySQL"));
+        executor.addBatchForExecutionUnits(Collections.singleton(new ExecutionUnit("ds_0", new SQLUnit(INSERT_SQL, new ArrayList<>(Arrays.asList(1, "foo"))))));
+        executor.addBatchForExecutionUnits(Collections.singleton(new ExecutionUnit("ds_0", new SQLUnit(INSERT_SQL, new ArrayList<>(Arrays.asList(2, "bar"))))));
+        executor.addBatchForExecutionUnits(Collections.singleton(new ExecutionUnit("ds_0", new SQLUnit(INSERT_SQL, new ArrayList<>(Arrays.asList(3, "baz"))))));
+        executor.coalesceInsertValues(new SQLParserRule(new DefaultSQLParserRuleConfigurationBuilder().build()));
+        assertThat(executor.getBatchExecutionUnits().size(), is(1));
+        BatchExecutionUnit actual = executor.getBatchExecutionUnits().iterator().next();
+        String expectedSQL = "INSERT INTO t_order_0 (order_id, status) VALUES (?, ?), (?, ?), (?, ?)";
+        assertThat(actual.getExecutionUnit().getSqlUnit().getSql(), is(expectedSQL));
+        assertThat(actual.getParameterSets(), is(Collections.singletonList(Arrays.asList(1, "foo", 2, "bar", 3, "baz"))));
+        PreparedStatement preparedStatement = getPreparedStatement();
+        when(preparedStatement.executeBatch()).thenReturn(new int[]{3});
+        Collection<JDBCExecutionUnit> executionUnits = Collections.singleton(
+                new JDBCExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit(expectedSQL, Collections.emptyList())), ConnectionMode.MEMORY_STRICTLY, preparedStatement));
+        executor.init(new ExecutionGroupContext<>(Collections.singleton(new ExecutionGroup<>(new ArrayList<>(executionUnits))), new ExecutionGroupReportContext("foo_id", "foo_db")));
+        assertThat(executor.executeBatch(sqlStatementContext), is(new int[]{1, 1, 1}));
+    }
+    
+    @Test
+    void assertExecuteBatchWithMultipleCoalescedChunks() throws SQLException {
+        String chunkSQL = "INSERT INTO t_order_0 (order_id, status) VALUES (?, ?), (?, ?)";
+        BatchExecutionUnit chunkBatchExecutionUnit = new BatchExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit(chunkSQL, Arrays.asList(1, "a", 2, "b", 3, "c", 4, "d"))), 2);
+        chunkBatchExecutionUnit.mapAddBatchCount(Arrays.asList(0, 1));
+        chunkBatchExecutionUnit.mapAddBatchCount(Arrays.asList(2, 3));
+        BatchExecutionUnit remainderBatchExecutionUnit = new BatchExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit(INSERT_SQL, Arrays.asList(5, "e"))), 1);
+        remainderBatchExecutionUnit.mapAddBatchCount(Collections.singleton(4));
+        PreparedStatement chunkPreparedStatement = getPreparedStatement();
+        when(chunkPreparedStatement.executeBatch()).thenReturn(new int[]{2, Statement.SUCCESS_NO_INFO});
+        PreparedStatement remainderPreparedStatement = getPreparedStatement();
+        when(remainderPreparedStatement.executeBatch()).thenReturn(new int[]{1});
+        List<JDBCExecutionUnit> executionUnits = Arrays.asList(
+                new JDBCExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit(chunkSQL, Collections.emptyList())), ConnectionMode.MEMORY_STRICTLY, chunkPreparedStatement),
+                new JDBCExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit(INSERT_SQL, Collections.emptyList())), ConnectionMode.MEMORY_STRICTLY, remainderPreparedStatement));
+        setFields(Collections.singleton(new ExecutionGroup<>(executionUnits)), new LinkedList<>(Arrays.asList(chunkBatchExecutionUnit, remainderBatchExecutionUnit)), 5);
+        setCoalesced();
+        assertThat(executor.executeBatch(mock(SQLStatementContext.class)), is(new int[]{1, 1, Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO, 1}));
+    }
+    
+    @Test
+    void assertNotCoalesceInsertValuesWithSingleRow() {
+        executor.addBatchForExecutionUnits(Collections.singleton(new ExecutionUnit("ds_0", new SQLUnit(INSERT_SQL, new ArrayList<>(Arrays.asList(1, "foo"))))));
+        executor.coalesceInsertValues(new SQLParserRule(new DefaultSQLParserRuleConfigurationBuilder().build()));
+        assertThat(executor.getBatchExecutionUnits().iterator().next().getExecutionUnit().getSqlUnit().getSql(), is(INSERT_SQL));
+    }
+    
     private PreparedStatement getPreparedStatement() throws SQLException {
         PreparedStatement result = mock(PreparedStatement.class, RETURNS_DEEP_STUBS);
         when(result.getConnection().getMetaData().getURL()).thenReturn("jdbc:h2:mem:primary_ds;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MYSQL");
@@ -175,15 +243,20 @@ class BatchPreparedStatementExecutorTest {
             batchExecutionUnits.add(batchExecutionUnit);
             executionUnits.add(new JDBCExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit(SQL, Collections.singletonList(1))), ConnectionMode.MEMORY_STRICTLY, each));
         }
-        setFields(executionGroups, batchExecutionUnits);
+        setFields(executionGroups, batchExecutionUnits, 2);
     }
     
     @SneakyThrows(ReflectiveOperationException.class)
-    private void setFields(final Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups, final Collection<BatchExecutionUnit> batchExecutionUnits) {
+    private void setFields(final Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups, final Collection<BatchExecutionUnit> batchExecutionUnits, final int batchCount) {
         String processId = new UUID(ThreadLocalRandom.current().nextLong(), ThreadLocalRandom.current().nextLong()).toString().replace("-", "");
         Plugins.getMemberAccessor().set(BatchPreparedStatementExecutor.class.getDeclaredField("executionGroupContext"), executor,
                 new ExecutionGroupContext<>(executionGroups, new ExecutionGroupReportContext(processId, "logic_db")));
         Plugins.getMemberAccessor().set(BatchPreparedStatementExecutor.class.getDeclaredField("batchExecutionUnits"), executor, batchExecutionUnits);
-        Plugins.getMemberAccessor().set(BatchPreparedStatementExecutor.class.getDeclaredField("batchCount"), executor, 2);
+        Plugins.getMemberAccessor().set(BatchPreparedStatementExecutor.class.getDeclaredField("batchCount"), executor, batchCount);
+    }
+    
+    @SneakyThrows(ReflectiveOperationException.class)
+    private void setCoalesced() {
+        Plugins.getMemberAccessor().set(BatchPreparedStatementExecutor.class.getDeclaredField("coalesced"), executor, true);
     }
 }
@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.channel.ringbuffer;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannelAckCallback;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Ring buffer pipeline channel.
+ *
+ * <p>Slots are preallocated and published by ordered writes of sequences, so the fetch thread never takes a lock.
+ * Push threads are serialized, there is only one producer of the ring buffer at any moment.
+ * Waiting threads spin at first, then yield, and park at last until the other side moves its sequence or park timeout, spinning and yielding are skipped on single processor.</p>
+ */
+public final class RingBufferPipelineChannel implements PipelineChannel {
+    
+    private static final int SPIN_TRIES = Runtime.getRuntime().availableProcessors() > 1 ? 100 : 0;
+    
+    private static final int YIELD_TRIES = Runtime.getRuntime().availableProcessors() > 1 ? 100 : 0;
+    
+    private static final long PARK_NANOS = 100000L;
+    
+    private final Object[] slots;
+    
+    private final int mask;
+    
+    private final AtomicLong producerSequence = new AtomicLong();
+    
+    private final AtomicLong consumerSequence = new AtomicLong();
+    
+    private final AtomicReference<Thread> parkedProducer = new AtomicReference<>();
+    
+    private final AtomicReference<Thread> parkedConsumer = new AtomicReference<>();
+    
+    private final Object pushLock = new Object();
+    
+    private final PipelineChannelAckCallback ackCallback;
+    
+    private long cachedConsumerSequence;
+    
+    public RingBufferPipelineChannel(final int bufferSize, final PipelineChannelAckCallback ackCallback) {
+        int capacity = Integer.highestOneBit(Math.max(1, bufferSize) - 1) << 1;
+        slots = new Object[Math.max(1, capacity)];
+        mask = slots.length - 1;
+        this.ackCallback = ackCallback;
+    }
+    
+    @Override
+    public void push(final List<Record> records) {
+        synchronized (pushLock) {
+            long sequence = producerSequence.get();
+            long wrapSequence = sequence - slots.length;
+            int waitTimes = 0;
+            while (cachedConsumerSequence <= wrapSequence) {
+                cachedConsumerSequence = consumerSequence.get();
+                if (cachedConsumerSequence <= wrapSequence) {
+                    waitFor(waitTimes++, parkedProducer, consumerSequence, wrapSequence);
+                }
+            }
+            slots[(int) (sequence & mask)] = records;
+            producerSequence.set(sequence + 1L);
+        }
+        unpark(parkedConsumer);
+    }
+    
+    @Override
+    public List<Record> fetch(final int batchSize, final long timeoutMillis) {
+        List<Record> result = new ArrayList<>(batchSize);
+        long startMillis = System.currentTimeMillis();
+        int waitTimes = 0;
+        do {
+            long sequence = consumerSequence.get();
+            if (drainTo(result, batchSize)) {
+                waitTimes = 0;
+            } else if (System.currentTimeMillis() - startMillis < timeoutMillis) {
+                waitFor(waitTimes++, parkedConsumer, producerSequence, sequence);
+            }
+        } while (result.size() < batchSize && System.currentTimeMillis() - startMillis < timeoutMillis);
+        return result;
+    }
+    
+    private boolean drainTo(final List<Record> result, final int batchSize) {
+        long sequence = consumerSequence.get();
+        long availableSequence = producerSequence.get();
+        if (sequence == availableSequence) {
+            return false;
+        }
+        while (sequence < availableSequence && result.size() < batchSize) {
+            result.addAll(takeSlot(sequence++));
+        }
+        consumerSequence.set(sequence);
+        unpark(parkedProducer);
+        return true;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private List<Record> takeSlot(final long sequence) {
+        int index = (int) (sequence & mask);
+        List<Record> result = (List<Record>) slots[index];
+        slots[index] = null;
+        return result;
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    private void waitFor(final int waitTimes, final AtomicReference<Thread> parkedThread, final AtomicLong awaitedSequence, final long unchangedSequence) {
+        if (waitTimes < SPIN_TRIES) {
+            return;
+        }
+        if (waitTimes < SPIN_TRIES + YIELD_TRIES) {
+            Thread.yield();
+            return;
+        }
+        parkedThread.set(Thread.currentThread());
+        if (awaitedSequence.get() == unchangedSequence) {
+            LockSupport.parkNanos(this, PARK_NANOS);
+        }
+        parkedThread.lazySet(null);
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+    }
+    
+    private void unpark(final AtomicReference<Thread> parkedThread) {
+        Thread thread = parkedThread.get();
+        if (null != thread) {
+            LockSupport.unpark(thread);
+        }
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Override
+    public List<Record> peek() {
+        long sequence = consumerSequence.get();
+        return sequence == producerSequence.get() ? Collections.emptyList() : (List<Record>) slots[(int) (sequence & mask)];
+    }
+    
+    @Override
+    public List<Record> poll() {
+        long sequence = consumerSequence.get();
+        if (sequence == producerSequence.get()) {
+            return Collections.emptyList();
+        }
+        List<Record> result = takeSlot(sequence);
+        consumerSequence.set(sequence + 1L);
+        unpark(parkedProducer);
+        return result;
+    }
+    
+    @Override
+    public void ack(final List<Record> records) {
+        ackCallback.onAck(records);
+    }
+}
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.data.pipeline.core.consistencycheck;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.range.QueryRange;
 import org.apache.shardingsphere.data.pipeline.core.job.progress.listener.PipelineJobProgressListener;
 import org.apache.shardingsphere.data.pipeline.core.job.progress.listener.PipelineJobUpdateProgress;
 import org.apache.shardingsphere.data.pipeline.core.job.progress.persist.PipelineJobProgressPersistService;
@@ -58,6 +59,8 @@ public final class ConsistencyCheckJobItemProgressContext implements PipelineJob
     
     private final Map<String, Object> targetTableCheckPositions = new ConcurrentHashMap<>();
     
+    private final Map<String, Collection<QueryRange>> mismatchedTableRanges = new ConcurrentHashMap<>();
+    
     private final String sourceDatabaseType;
     
     @Override
@@ -17,8 +17,11 @@
 
 package org.apache.shardingsphere.data.pipeline.core.consistencycheck.table;
 
+import com.google.common.base.Strings;
 import org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.calculator.CRC32SingleTableInventoryCalculator;
 import org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.calculator.SingleTableInventoryCalculator;
+import org.apache.shardingsphere.data.pipeline.core.exception.param.PipelineInvalidParameterException;
+import org.apache.shardingsphere.data.pipeline.core.util.PipelineJdbcUtils;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.infra.spi.annotation.SPIDescription;
@@ -26,6 +29,7 @@ import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 
 import java.util.Collection;
 import java.util.LinkedList;
+import java.util.Properties;
 
 /**
  * CRC32 match table data consistency checker.
@@ -33,8 +37,48 @@ import java.util.LinkedList;
 @SPIDescription("Match CRC32 of records.")
 public final class CRC32MatchTableDataConsistencyChecker implements TableDataConsistencyChecker {
     
+    private static final String CHUNK_SIZE_KEY = "chunk-size";
+    
+    private static final String MAX_CONCURRENCY_KEY = "max-concurrency";
+    
+    private static final int DEFAULT_CHUNK_SIZE = 100000;
+    
+    private static final int DEFAULT_MAX_CONCURRENCY = 4;
+    
+    private static final int RECORDS_COMPARE_SIZE = 1000;
+    
+    private int chunkSize = DEFAULT_CHUNK_SIZE;
+    
+    private int maxConcurrency = DEFAULT_MAX_CONCURRENCY;
+    
+    @Override
+    public void init(final Properties props) {
+        chunkSize = getPositiveIntegerProperty(props, CHUNK_SIZE_KEY, DEFAULT_CHUNK_SIZE);
+        maxConcurrency = getPositiveIntegerProperty(props, MAX_CONCURRENCY_KEY, DEFAULT_MAX_CONCURRENCY);
+    }
+    
+    private int getPositiveIntegerProperty(final Properties props, final String key, final int defaultValue) {
+        String valueText = props.getProperty(key);
+        if (Strings.isNullOrEmpty(valueText)) {
+            return defaultValue;
+        }
+        int result;
+        try {
+            result = Integer.parseInt(valueText);
+        } catch (final NumberFormatException ignore) {
+            throw new PipelineInvalidParameterException(String.format("'%s' is not a valid number: `%s`", key, valueText));
+        }
+        if (result <= 0) {
+            throw new PipelineInvalidParameterException(String.format("Invalid '%s': %d", key, result));
+        }
+        return result;
+    }
+    
     @Override
     public TableInventoryChecker buildTableInventoryChecker(final TableInventoryCheckParameter param) {
+        if (!param.getUniqueKeys().isEmpty() && PipelineJdbcUtils.isIntegerColumn(param.getUniqueKeys().get(0).getDataType())) {
+            return new CRC32RangeMatchTableInventoryChecker(param, chunkSize, maxConcurrency, RECORDS_COMPARE_SIZE);
+        }
         return new CRC32MatchTableInventoryChecker(param);
     }
     
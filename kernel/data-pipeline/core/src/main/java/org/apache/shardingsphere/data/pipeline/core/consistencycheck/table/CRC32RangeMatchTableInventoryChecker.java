@@ -0,0 +1,311 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.consistencycheck.table;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.SingleTableInventoryCalculatedResult;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.TableDataConsistencyCheckResult;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.calculator.CRC32SingleTableInventoryCalculator;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.calculator.RecordSingleTableInventoryCalculator;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.calculator.SingleTableInventoryCalculateParameter;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.calculator.SingleTableInventoryCalculator;
+import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
+import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSource;
+import org.apache.shardingsphere.data.pipeline.core.exception.PipelineJobCancelingException;
+import org.apache.shardingsphere.data.pipeline.core.exception.data.PipelineTableDataConsistencyCheckLoadingFailedException;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.QueryType;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.range.QueryRange;
+import org.apache.shardingsphere.data.pipeline.core.job.progress.listener.PipelineJobUpdateProgress;
+import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.sql.PipelinePrepareSQLBuilder;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.exception.core.external.sql.type.kernel.category.PipelineSQLException;
+import org.apache.shardingsphere.infra.exception.core.external.sql.type.wrapper.SQLWrapperException;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.metadata.database.schema.QualifiedTable;
+import org.apache.shardingsphere.infra.util.close.QuietlyCloser;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * CRC32 range match table inventory checker.
+ *
+ * <p>Table is split into ranges by integer first unique key, each range holds at most chunk size records of source table,
+ * so sparse keys do not produce empty ranges. CRC32 of ranges are calculated in parallel.
+ * Mismatched ranges are bisected until they are small enough to be compared record by record.
+ * Mismatched ranges are persisted with check positions, so a resumed check still reports the ranges already found.</p>
+ */
+@RequiredArgsConstructor
+@Slf4j
+public final class CRC32RangeMatchTableInventoryChecker implements TableInventoryChecker {
+    
+    private final TableInventoryCheckParameter param;
+    
+    private final int chunkSize;
+    
+    private final int maxConcurrency;
+    
+    private final int recordsCompareSize;
+    
+    private final AtomicBoolean canceling = new AtomicBoolean(false);
+    
+    private final Collection<SingleTableInventoryCalculator> runningCalculators = ConcurrentHashMap.newKeySet();
+    
+    @Override
+    public TableDataConsistencyCheckResult checkSingleTableInventoryData() {
+        Optional<KeyRange> uncheckedKeyRange = getUncheckedKeyRange();
+        if (!uncheckedKeyRange.isPresent()) {
+            return new TableDataConsistencyCheckResult(!hasCheckedMismatchedRanges());
+        }
+        QualifiedTable sourceTable = param.getSourceTable();
+        String strideSQL = new PipelinePrepareSQLBuilder(param.getSourceDataSource().getDatabaseType())
+                .buildStrideUniqueKeyValueSQL(sourceTable.getSchemaName(), sourceTable.getTableName(), param.getUniqueKeys().get(0).getName());
+        ExecutorService executor = Executors.newFixedThreadPool(maxConcurrency, ExecutorThreadFactoryBuilder.build(param.getJobId() + "-crc32-range-check-%d"));
+        try (
+                Connection connection = param.getSourceDataSource().getConnection();
+                PreparedStatement strideStatement = connection.prepareStatement(strideSQL)) {
+            return new TableDataConsistencyCheckResult(checkKeyRanges(uncheckedKeyRange.get(), strideStatement, executor) && !hasCheckedMismatchedRanges());
+        } catch (final SQLException ex) {
+            throw new PipelineTableDataConsistencyCheckLoadingFailedException(sourceTable, ex);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    private boolean hasCheckedMismatchedRanges() {
+        Collection<QueryRange> mismatchedRanges = param.getProgressContext().getMismatchedTableRanges().get(param.getSourceTable().getTableName());
+        return null != mismatchedRanges && !mismatchedRanges.isEmpty();
+    }
+    
+    private Optional<KeyRange> getUncheckedKeyRange() {
+        String uniqueKey = param.getUniqueKeys().get(0).getName();
+        Optional<KeyRange> sourceKeyRange = getKeyRange(param.getSourceDataSource(), param.getSourceTable(), uniqueKey);
+        Optional<KeyRange> targetKeyRange = getKeyRange(param.getTargetDataSource(), param.getTargetTable(), uniqueKey);
+        if (!sourceKeyRange.isPresent() && !targetKeyRange.isPresent()) {
+            return Optional.empty();
+        }
+        long lower = Math.min(sourceKeyRange.map(KeyRange::getLower).orElse(Long.MAX_VALUE), targetKeyRange.map(KeyRange::getLower).orElse(Long.MAX_VALUE));
+        long upper = Math.max(sourceKeyRange.map(KeyRange::getUpper).orElse(Long.MIN_VALUE), targetKeyRange.map(KeyRange::getUpper).orElse(Long.MIN_VALUE));
+        Object checkedPosition = param.getProgressContext().getSourceTableCheckPositions().get(param.getSourceTable().getTableName());
+        if (checkedPosition instanceof Number) {
+            long checkedUpper = ((Number) checkedPosition).longValue();
+            if (checkedUpper >= upper) {
+                return Optional.empty();
+            }
+            lower = Math.max(lower, checkedUpper + 1L);
+        }
+        return Optional.of(new KeyRange(lower, upper));
+    }
+    
+    private Optional<KeyRange> getKeyRange(final PipelineDataSource dataSource, final QualifiedTable table, final String uniqueKey) {
+        String sql = new PipelinePrepareSQLBuilder(dataSource.getDatabaseType()).buildUniqueKeyMinMaxValuesSQL(table.getSchemaName(), table.getTableName(), uniqueKey);
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            long lower = resultSet.getLong(1);
+            return resultSet.wasNull() ? Optional.empty() : Optional.of(new KeyRange(lower, resultSet.getLong(2)));
+        } catch (final SQLException ex) {
+            throw new PipelineTableDataConsistencyCheckLoadingFailedException(table, ex);
+        }
+    }
+    
+    private boolean checkKeyRanges(final KeyRange uncheckedKeyRange, final PreparedStatement strideStatement, final ExecutorService executor) throws SQLException {
+        Queue<Future<KeyRangeCheckResult>> futures = new LinkedList<>();
+        boolean matched = true;
+        long nextLower = uncheckedKeyRange.getLower();
+        boolean hasNext = true;
+        while (hasNext || !futures.isEmpty()) {
+            while (hasNext && futures.size() < maxConcurrency * 2) {
+                KeyRange keyRange = createKeyRange(strideStatement, nextLower, uncheckedKeyRange.getUpper());
+                hasNext = keyRange.getUpper() < uncheckedKeyRange.getUpper();
+                nextLower = keyRange.getUpper() + 1L;
+                futures.add(executor.submit(() -> checkKeyRange(keyRange)));
+            }
+            matched &= onKeyRangeChecked(waitFuture(futures.poll()));
+        }
+        return matched;
+    }
+    
+    private KeyRange createKeyRange(final PreparedStatement strideStatement, final long lower, final long maxUpper) throws SQLException {
+        strideStatement.setLong(1, Long.MIN_VALUE == lower ? lower : lower - 1L);
+        strideStatement.setLong(2, chunkSize - 1L);
+        try (ResultSet resultSet = strideStatement.executeQuery()) {
+            if (resultSet.next()) {
+                long upper = resultSet.getLong(1);
+                return new KeyRange(lower, Math.min(upper, maxUpper));
+            }
+        }
+        return new KeyRange(lower, maxUpper);
+    }
+    
+    private boolean onKeyRangeChecked(final KeyRangeCheckResult checkResult) {
+        if (!checkResult.getMismatchedRanges().isEmpty()) {
+            log.info("content matched false, jobId={}, sourceTable={}, targetTable={}, mismatchedRanges={}",
+                    param.getJobId(), param.getSourceTable(), param.getTargetTable(), checkResult.getMismatchedRanges());
+            param.getProgressContext().getMismatchedTableRanges().computeIfAbsent(param.getSourceTable().getTableName(), key -> new ConcurrentLinkedQueue<>())
+                    .addAll(checkResult.getMismatchedRanges());
+        }
+        param.getProgressContext().getSourceTableCheckPositions().put(param.getSourceTable().getTableName(), checkResult.getKeyRange().getUpper());
+        param.getProgressContext().getTargetTableCheckPositions().put(param.getTargetTable().getTableName(), checkResult.getKeyRange().getUpper());
+        param.getProgressContext().onProgressUpdated(new PipelineJobUpdateProgress(checkResult.getRecordsCount()));
+        return checkResult.getMismatchedRanges().isEmpty();
+    }
+    
+    private KeyRangeCheckResult checkKeyRange(final KeyRange keyRange) {
+        if (null != param.getReadRateLimitAlgorithm()) {
+            param.getReadRateLimitAlgorithm().intercept(PipelineSQLOperationType.SELECT, 1);
+        }
+        SingleTableInventoryCalculatedResult sourceCalculatedResult = calculateCRC32(param.getSourceDataSource(), param.getSourceTable(), keyRange);
+        SingleTableInventoryCalculatedResult targetCalculatedResult = calculateCRC32(param.getTargetDataSource(), param.getTargetTable(), keyRange);
+        return new KeyRangeCheckResult(keyRange, sourceCalculatedResult.getRecordsCount(), getMismatchedRanges(keyRange, sourceCalculatedResult, targetCalculatedResult));
+    }
+    
+    private Collection<QueryRange> getMismatchedRanges(final KeyRange keyRange,
+                                                       final SingleTableInventoryCalculatedResult sourceCalculatedResult, final SingleTableInventoryCalculatedResult targetCalculatedResult) {
+        if (sourceCalculatedResult.equals(targetCalculatedResult)) {
+            return Collections.emptyList();
+        }
+        if (Math.max(sourceCalculatedResult.getRecordsCount(), targetCalculatedResult.getRecordsCount()) <= recordsCompareSize || keyRange.getLower() == keyRange.getUpper()) {
+            return isRecordsMatched(keyRange) ? Collections.emptyList() : Collections.singleton(keyRange.toQueryRange());
+        }
+        long middle = (keyRange.getLower() & keyRange.getUpper()) + ((keyRange.getLower() ^ keyRange.getUpper()) >> 1);
+        Collection<QueryRange> result = new LinkedList<>();
+        for (KeyRange each : Arrays.asList(new KeyRange(keyRange.getLower(), middle), new KeyRange(middle + 1L, keyRange.getUpper()))) {
+            SingleTableInventoryCalculatedResult sourceBisectedResult = calculateCRC32(param.getSourceDataSource(), param.getSourceTable(), each);
+            SingleTableInventoryCalculatedResult targetBisectedResult = calculateCRC32(param.getTargetDataSource(), param.getTargetTable(), each);
+            result.addAll(getMismatchedRanges(each, sourceBisectedResult, targetBisectedResult));
+        }
+        return result;
+    }
+    
+    private SingleTableInventoryCalculatedResult calculateCRC32(final PipelineDataSource dataSource, final QualifiedTable table, final KeyRange keyRange) {
+        SingleTableInventoryCalculator calculator = new CRC32SingleTableInventoryCalculator();
+        SingleTableInventoryCalculateParameter calculateParam = createCalculateParameter(dataSource, table, keyRange);
+        startCalculation(calculator);
+        try {
+            return calculator.calculate(calculateParam).iterator().next();
+        } finally {
+            runningCalculators.remove(calculator);
+        }
+    }
+    
+    private boolean isRecordsMatched(final KeyRange keyRange) {
+        SingleTableInventoryCalculator sourceCalculator = new RecordSingleTableInventoryCalculator(recordsCompareSize);
+        SingleTableInventoryCalculator targetCalculator = new RecordSingleTableInventoryCalculator(recordsCompareSize);
+        SingleTableInventoryCalculateParameter sourceParam = createCalculateParameter(param.getSourceDataSource(), param.getSourceTable(), keyRange);
+        SingleTableInventoryCalculateParameter targetParam = createCalculateParameter(param.getTargetDataSource(), param.getTargetTable(), keyRange);
+        startCalculation(sourceCalculator);
+        startCalculation(targetCalculator);
+        try {
+            Iterator<SingleTableInventoryCalculatedResult> sourceCalculatedResults = sourceCalculator.calculate(sourceParam).iterator();
+            Iterator<SingleTableInventoryCalculatedResult> targetCalculatedResults = targetCalculator.calculate(targetParam).iterator();
+            while (sourceCalculatedResults.hasNext() && targetCalculatedResults.hasNext()) {
+                if (!sourceCalculatedResults.next().equals(targetCalculatedResults.next())) {
+                    return false;
+                }
+            }
+            return !sourceCalculatedResults.hasNext() && !targetCalculatedResults.hasNext();
+        } finally {
+            runningCalculators.remove(sourceCalculator);
+            runningCalculators.remove(targetCalculator);
+            QuietlyCloser.close(sourceParam.getCalculationContext());
+            QuietlyCloser.close(targetParam.getCalculationContext());
+        }
+    }
+    
+    private SingleTableInventoryCalculateParameter createCalculateParameter(final PipelineDataSource dataSource, final QualifiedTable table, final KeyRange keyRange) {
+        SingleTableInventoryCalculateParameter result = new SingleTableInventoryCalculateParameter(dataSource, table, param.getColumnNames(), param.getUniqueKeys(), QueryType.RANGE_QUERY);
+        result.setQueryRange(keyRange.toQueryRange());
+        return result;
+    }
+    
+    private void startCalculation(final SingleTableInventoryCalculator calculator) {
+        ShardingSpherePreconditions.checkState(!canceling.get(), () -> new PipelineJobCancelingException("CRC32 range check canceled, qualified table: %s", param.getSourceTable()));
+        runningCalculators.add(calculator);
+    }
+    
+    private <T> T waitFuture(final Future<T> future) {
+        try {
+            return future.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLWrapperException(new SQLException(ex));
+        } catch (final ExecutionException ex) {
+            if (ex.getCause() instanceof PipelineSQLException) {
+                throw (PipelineSQLException) ex.getCause();
+            }
+            throw new SQLWrapperException(new SQLException(ex));
+        }
+    }
+    
+    @Override
+    public void cancel() {
+        canceling.set(true);
+        runningCalculators.forEach(SingleTableInventoryCalculator::cancel);
+    }
+    
+    @Override
+    public boolean isCanceling() {
+        return canceling.get();
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class KeyRange {
+        
+        private final long lower;
+        
+        private final long upper;
+        
+        QueryRange toQueryRange() {
+            return new QueryRange(lower, true, upper);
+        }
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class KeyRangeCheckResult {
+        
+        private final KeyRange keyRange;
+        
+        private final int recordsCount;
+        
+        private final Collection<QueryRange> mismatchedRanges;
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.importer.sink.type;
+
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPI;
+import org.apache.shardingsphere.infra.spi.annotation.SingletonSPI;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+
+/**
+ * Dialect pipeline bulk inserter.
+ *
+ * <p>Bulk insert does not handle conflict of unique key, it is used by inventory data records on first time write only.</p>
+ */
+@SingletonSPI
+public interface DialectPipelineBulkInserter extends DatabaseTypedSPI {
+    
+    /**
+     * Judge whether bulk insert is supported by connection.
+     *
+     * @param connection connection
+     * @return supported or not
+     * @throws SQLException SQL exception
+     */
+    boolean isSupported(Connection connection) throws SQLException;
+    
+    /**
+     * Bulk insert data records.
+     *
+     * @param connection connection
+     * @param schemaName schema name
+     * @param dataRecords data records of the same table
+     * @throws SQLException SQL exception
+     */
+    void bulkInsert(Connection connection, String schemaName, Collection<DataRecord> dataRecords) throws SQLException;
+}
@@ -24,6 +24,8 @@ import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourc
 import org.apache.shardingsphere.data.pipeline.core.exception.job.PipelineImporterJobWriteException;
 import org.apache.shardingsphere.data.pipeline.core.importer.ImporterConfiguration;
 import org.apache.shardingsphere.data.pipeline.core.importer.sink.PipelineSink;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.pk.PrimaryKeyIngestPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.placeholder.IngestPlaceholderPosition;
 import org.apache.shardingsphere.data.pipeline.core.ingest.record.Column;
 import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
@@ -34,13 +36,16 @@ import org.apache.shardingsphere.data.pipeline.core.job.progress.listener.Pipeli
 import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.sql.PipelineImportSQLBuilder;
 import org.apache.shardingsphere.data.pipeline.core.util.PipelineJdbcUtils;
 import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
+import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
 import org.apache.shardingsphere.infra.util.json.JsonUtils;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -54,12 +59,18 @@ import java.util.stream.Collectors;
 @Slf4j
 public final class PipelineDataSourceSink implements PipelineSink {
     
+    private static final long MULTI_ROW_INSERT_MAX_BYTES = 1024L * 1024L;
+    
+    private static final int MULTI_ROW_INSERT_MAX_PARAMETERS = Short.MAX_VALUE;
+    
     private final ImporterConfiguration importerConfig;
     
     private final DataSource dataSource;
     
     private final PipelineImportSQLBuilder importSQLBuilder;
     
+    private final DialectPipelineBulkInserter bulkInserter;
+    
     private final DataRecordGroupEngine groupEngine;
     
     private final AtomicReference<PreparedStatement> runningStatement;
@@ -68,6 +79,7 @@ public final class PipelineDataSourceSink implements PipelineSink {
         this.importerConfig = importerConfig;
         dataSource = dataSourceManager.getDataSource(importerConfig.getDataSourceConfig());
         importSQLBuilder = new PipelineImportSQLBuilder(importerConfig.getDataSourceConfig().getDatabaseType());
+        bulkInserter = DatabaseTypedSPILoader.findService(DialectPipelineBulkInserter.class, importerConfig.getDataSourceConfig().getDatabaseType()).orElse(null);
         groupEngine = new DataRecordGroupEngine();
         runningStatement = new AtomicReference<>();
     }
@@ -127,10 +139,20 @@ public final class PipelineDataSourceSink implements PipelineSink {
     
     private void executeBatchInsert(final Collection<DataRecord> dataRecords, final boolean firstTimeRun) throws SQLException {
         DataRecord dataRecord = dataRecords.iterator().next();
-        String sql = importSQLBuilder.buildInsertSQL(importerConfig.findSchemaName(dataRecord.getTableName()).orElse(null), dataRecord);
-        try (
-                Connection connection = dataSource.getConnection();
-                PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+        String schemaName = importerConfig.findSchemaName(dataRecord.getTableName()).orElse(null);
+        try (Connection connection = dataSource.getConnection()) {
+            if (firstTimeRun && null != bulkInserter && isInventoryDataRecord(dataRecord) && bulkInserter.isSupported(connection)) {
+                bulkInserter.bulkInsert(connection, schemaName, dataRecords);
+            } else if (firstTimeRun && dataRecords.size() > 1 && importSQLBuilder.isSupportMultiRowInsert()) {
+                executeMultiRowInsert(connection, schemaName, new ArrayList<>(dataRecords));
+            } else {
+                executeBatchInsert(connection, importSQLBuilder.buildInsertSQL(schemaName, dataRecord), dataRecords, firstTimeRun);
+            }
+        }
+    }
+    
+    private void executeBatchInsert(final Connection connection, final String sql, final Collection<DataRecord> dataRecords, final boolean firstTimeRun) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
             runningStatement.set(preparedStatement);
             if (firstTimeRun) {
                 executeBatchInsertFirstTime(connection, preparedStatement, dataRecords);
@@ -142,6 +164,48 @@ public final class PipelineDataSourceSink implements PipelineSink {
         }
     }
     
+    private boolean isInventoryDataRecord(final DataRecord dataRecord) {
+        return dataRecord.getPosition() instanceof PrimaryKeyIngestPosition || dataRecord.getPosition() instanceof IngestPlaceholderPosition;
+    }
+    
+    private void executeMultiRowInsert(final Connection connection, final String schemaName, final List<DataRecord> dataRecords) throws SQLException {
+        connection.setAutoCommit(false);
+        int fromIndex = 0;
+        while (fromIndex < dataRecords.size()) {
+            int rowCount = getMultiRowInsertRowCount(dataRecords, fromIndex);
+            try (PreparedStatement preparedStatement = connection.prepareStatement(importSQLBuilder.buildMultiRowInsertSQL(schemaName, dataRecords.get(fromIndex), rowCount))) {
+                runningStatement.set(preparedStatement);
+                preparedStatement.setQueryTimeout(30);
+                int parameterIndex = 1;
+                for (DataRecord each : dataRecords.subList(fromIndex, fromIndex + rowCount)) {
+                    for (int i = 0; i < each.getColumnCount(); i++) {
+                        preparedStatement.setObject(parameterIndex++, each.getColumn(i).getValue());
+                    }
+                }
+                preparedStatement.executeUpdate();
+            } finally {
+                runningStatement.set(null);
+            }
+            fromIndex += rowCount;
+        }
+        connection.commit();
+    }
+    
+    private int getMultiRowInsertRowCount(final List<DataRecord> dataRecords, final int fromIndex) {
+        int maxRowCount = Math.min(dataRecords.size() - fromIndex, Math.max(1, MULTI_ROW_INSERT_MAX_PARAMETERS / Math.max(1, dataRecords.get(fromIndex).getColumnCount())));
+        int result = 1;
+        long bytes = dataRecords.get(fromIndex).estimateBytes();
+        while (result < maxRowCount) {
+            bytes += dataRecords.get(fromIndex + result).estimateBytes();
+            if (bytes > MULTI_ROW_INSERT_MAX_BYTES) {
+                break;
+            }
+            result++;
+        }
+        // Row count is power of 2 to limit count of different SQLs
+        return Integer.highestOneBit(result);
+    }
+    
     private void executeBatchInsertFirstTime(final Connection connection, final PreparedStatement preparedStatement, final Collection<DataRecord> dataRecords) throws SQLException {
         boolean transactionEnabled = dataRecords.size() > 1;
         if (transactionEnabled) {
@@ -174,13 +238,13 @@ public final class PipelineDataSourceSink implements PipelineSink {
             boolean transactionEnabled = dataRecords.size() > 1 && firstTimeRun;
             if (transactionEnabled) {
                 connection.setAutoCommit(false);
+                executeBatchUpdate(connection, dataRecords);
+                connection.commit();
+                return;
             }
             for (DataRecord each : dataRecords) {
                 executeUpdate(connection, each);
             }
-            if (transactionEnabled) {
-                connection.commit();
-            }
         }
     }
     
@@ -191,18 +255,7 @@ public final class PipelineDataSourceSink implements PipelineSink {
         String sql = importSQLBuilder.buildUpdateSQL(importerConfig.findSchemaName(dataRecord.getTableName()).orElse(null), dataRecord, conditionColumns);
         try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
             runningStatement.set(preparedStatement);
-            for (int i = 0; i < setColumns.size(); i++) {
-                preparedStatement.setObject(i + 1, setColumns.get(i).getValue());
-            }
-            for (int i = 0; i < conditionColumns.size(); i++) {
-                Column keyColumn = conditionColumns.get(i);
-                // TODO There to be compatible with PostgreSQL before value is null except primary key and unsupported updating sharding value now.
-                if (shardingColumns.contains(keyColumn.getName()) && null == keyColumn.getOldValue()) {
-                    preparedStatement.setObject(setColumns.size() + i + 1, keyColumn.getValue());
-                    continue;
-                }
-                preparedStatement.setObject(setColumns.size() + i + 1, keyColumn.getOldValue());
-            }
+            setUpdateParameters(preparedStatement, setColumns, conditionColumns, shardingColumns);
             // TODO if table without unique key the conditionColumns before values is null, so update will fail at PostgreSQL
             int updateCount = preparedStatement.executeUpdate();
             if (1 != updateCount) {
@@ -218,6 +271,66 @@ public final class PipelineDataSourceSink implements PipelineSink {
         }
     }
     
+    private void executeBatchUpdate(final Connection connection, final Collection<DataRecord> dataRecords) throws SQLException {
+        String batchSQL = null;
+        List<DataRecord> batchDataRecords = new LinkedList<>();
+        for (DataRecord each : dataRecords) {
+            String sql = buildUpdateSQL(each);
+            if (!batchDataRecords.isEmpty() && !sql.equals(batchSQL)) {
+                executeBatchUpdate(connection, batchSQL, batchDataRecords);
+                batchDataRecords.clear();
+            }
+            batchSQL = sql;
+            batchDataRecords.add(each);
+        }
+        executeBatchUpdate(connection, batchSQL, batchDataRecords);
+    }
+    
+    private void executeBatchUpdate(final Connection connection, final String sql, final List<DataRecord> dataRecords) throws SQLException {
+        if (1 == dataRecords.size()) {
+            executeUpdate(connection, dataRecords.get(0));
+            return;
+        }
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            runningStatement.set(preparedStatement);
+            for (DataRecord each : dataRecords) {
+                Set<String> shardingColumns = importerConfig.getShardingColumns(each.getTableName());
+                setUpdateParameters(preparedStatement, each.getColumns().stream().filter(Column::isUpdated).collect(Collectors.toList()),
+                        RecordUtils.extractConditionColumns(each, shardingColumns), shardingColumns);
+                preparedStatement.addBatch();
+            }
+            int[] updateCounts = preparedStatement.executeBatch();
+            for (int i = 0; i < updateCounts.length; i++) {
+                if (updateCounts[i] >= 0 && 1 != updateCounts[i]) {
+                    log.warn("Batch update failed, update count: {}, sql: {}, data record: {}", updateCounts[i], sql, dataRecords.get(i));
+                }
+            }
+        } finally {
+            runningStatement.set(null);
+        }
+    }
+    
+    private String buildUpdateSQL(final DataRecord dataRecord) {
+        return importSQLBuilder.buildUpdateSQL(importerConfig.findSchemaName(dataRecord.getTableName()).orElse(null), dataRecord,
+                RecordUtils.extractConditionColumns(dataRecord, importerConfig.getShardingColumns(dataRecord.getTableName())));
+    }
+    
+    private void setUpdateParameters(final PreparedStatement preparedStatement, final List<Column> setColumns, final List<Column> conditionColumns,
+                                     final Set<String> shardingColumns) throws SQLException {
+        for (int i = 0; i < setColumns.size(); i++) {
+            preparedStatement.setObject(i + 1, setColumns.get(i).getValue());
+        }
+        for (int i = 0; i < conditionColumns.size(); i++) {
+            Column keyColumn = conditionColumns.get(i);
+            // TODO There to be compatible with PostgreSQL before value is null except primary key and unsupported updating sharding value now.
+            if (shardingColumns.contains(keyColumn.getName()) && null == keyColumn.getOldValue()) {
+                preparedStatement.setObject(setColumns.size() + i + 1, keyColumn.getValue());
+                continue;
+            }
+            preparedStatement.setObject(setColumns.size() + i + 1, keyColumn.getOldValue());
+        }
+    }
+    
     private void executeBatchDelete(final Collection<DataRecord> dataRecords) throws SQLException {
         try (Connection connection = dataSource.getConnection()) {
             boolean transactionEnabled = dataRecords.size() > 1;
@@ -18,9 +18,18 @@
 package org.apache.shardingsphere.data.pipeline.core.ingest.dumper.incremental;
 
 import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.Dumper;
+import org.apache.shardingsphere.data.pipeline.core.task.progress.IncrementalTaskDelay;
 
 /**
  * Incremental dumper.
  */
 public interface IncrementalDumper extends Dumper {
+    
+    /**
+     * Update decode metrics of incremental task delay.
+     *
+     * @param delay incremental task delay
+     */
+    default void updateDecodeMetrics(final IncrementalTaskDelay delay) {
+    }
 }
@@ -113,6 +113,8 @@ public final class InventoryDumper extends AbstractPipelineLifecycleRunnable imp
         try (Connection connection = dataSource.getConnection()) {
             if (StringUtils.isNotBlank(dumperContext.getQuerySQL()) || !dumperContext.hasUniqueKey() || isPrimaryKeyWithoutRange(position)) {
                 dumpWithStreamingQuery(connection, tableMetaData);
+            } else if (dumperContext.getUniqueKeyColumns().size() > 1) {
+                dumpRangeWithStreamingQuery(connection, tableMetaData);
             } else {
                 dumpByPage(connection, tableMetaData);
             }
@@ -271,6 +273,31 @@ public final class InventoryDumper extends AbstractPipelineLifecycleRunnable imp
         }
     }
     
+    @SuppressWarnings("MagicConstant")
+    private void dumpRangeWithStreamingQuery(final Connection connection, final PipelineTableMetaData tableMetaData) throws SQLException {
+        log.info("Start to dump inventory data range with streaming query, dataSource={}, actualTable={}", dumperContext.getCommonContext().getDataSourceName(), dumperContext.getActualTableName());
+        if (null != dumperContext.getTransactionIsolation()) {
+            connection.setTransactionIsolation(dumperContext.getTransactionIsolation());
+        }
+        int batchSize = dumperContext.getBatchSize();
+        DatabaseType databaseType = dumperContext.getCommonContext().getDataSourceConfig().getDatabaseType();
+        PrimaryKeyIngestPosition<?> position = (PrimaryKeyIngestPosition<?>) dumperContext.getCommonContext().getPosition();
+        ShardingSpherePreconditions.checkNotNull(position.getBeginValue(), () -> new PipelineInternalException("Primary key position is invalid."));
+        try (PreparedStatement statement = JDBCStreamQueryBuilder.build(databaseType, connection, buildRangeSQLWithStreamingQuery(null != position.getEndValue()), batchSize)) {
+            runningStatement.set(statement);
+            statement.setObject(1, position.getBeginValue());
+            if (null != position.getEndValue()) {
+                statement.setObject(2, position.getEndValue());
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                consumeResultSetToChannel(tableMetaData, resultSet, batchSize);
+            } finally {
+                runningStatement.set(null);
+            }
+        }
+        log.info("End to dump inventory data range with streaming query, dataSource={}, actualTable={}", dumperContext.getCommonContext().getDataSourceName(), dumperContext.getActualTableName());
+    }
+    
     private void fetchAllQuery(final Connection connection, final PipelineTableMetaData tableMetaData, final DatabaseType databaseType,
                                final int batchSize) throws SQLException {
         log.info("Start to fetch all inventory data with streaming query, dataSource={}, actualTable={}", dumperContext.getCommonContext().getDataSourceName(), dumperContext.getActualTableName());
@@ -329,6 +356,12 @@ public final class InventoryDumper extends AbstractPipelineLifecycleRunnable imp
                 dumperContext.getActualTableName());
     }
     
+    private String buildRangeSQLWithStreamingQuery(final boolean limited) {
+        String schemaName = dumperContext.getCommonContext().getTableAndSchemaNameMapper().getSchemaName(dumperContext.getLogicTableName());
+        String firstUniqueKey = dumperContext.getUniqueKeyColumns().get(0).getName();
+        return sqlBuilder.buildRangeSQL(new BuildDivisibleSQLParameter(schemaName, dumperContext.getActualTableName(), dumperContext.getQueryColumnNames(), firstUniqueKey, true, limited));
+    }
+    
     private String buildFetchAllSQLWithStreamingQuery() {
         String schemaName = dumperContext.getCommonContext().getTableAndSchemaNameMapper().getSchemaName(dumperContext.getLogicTableName());
         List<String> columnNames = dumperContext.getQueryColumnNames();
@@ -19,12 +19,14 @@ package org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.que
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.ToString;
 
 /**
  * Query range.
  */
 @RequiredArgsConstructor
 @Getter
+@ToString
 public final class QueryRange {
     
     private final Object lower;
@@ -18,10 +18,12 @@
 package org.apache.shardingsphere.data.pipeline.core.ingest.position;
 
 import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPI;
+import org.apache.shardingsphere.infra.metadata.database.schema.QualifiedTable;
 import org.apache.shardingsphere.infra.spi.annotation.SingletonSPI;
 
 import javax.sql.DataSource;
 import java.sql.SQLException;
+import java.util.Collection;
 
 /**
  * Dialect incremental position manager.
@@ -47,6 +49,19 @@ public interface DialectIncrementalPositionManager extends DatabaseTypedSPI {
      */
     IngestPosition init(DataSource dataSource, String slotNameSuffix) throws SQLException;
     
+    /**
+     * Init position by data source for the tables to be captured.
+     *
+     * @param dataSource data source
+     * @param slotNameSuffix slot name suffix
+     * @param tables actual tables to be captured
+     * @return position
+     * @throws SQLException SQL exception
+     */
+    default IngestPosition init(final DataSource dataSource, final String slotNameSuffix, final Collection<QualifiedTable> tables) throws SQLException {
+        return init(dataSource, slotNameSuffix);
+    }
+    
     /**
      * Clean up by data source if necessary.
      *
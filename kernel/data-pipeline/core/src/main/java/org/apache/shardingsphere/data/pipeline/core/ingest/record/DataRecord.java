@@ -99,6 +99,26 @@ public final class DataRecord extends Record {
         return columns.get(index);
     }
     
+    /**
+     * Estimate bytes of column values.
+     *
+     * @return estimated bytes
+     */
+    public long estimateBytes() {
+        long result = 0L;
+        for (Column each : columns) {
+            Object value = each.getValue();
+            if (value instanceof String) {
+                result += ((String) value).length();
+            } else if (value instanceof byte[]) {
+                result += ((byte[]) value).length * 2L;
+            } else {
+                result += 16L;
+            }
+        }
+        return result;
+    }
+    
     /**
      * Get key.
      *
@@ -21,9 +21,11 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
-import org.apache.shardingsphere.data.pipeline.core.job.JobStatus;
 import org.apache.shardingsphere.data.pipeline.core.consistencycheck.ConsistencyCheckJobItemProgressContext;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.range.QueryRange;
+import org.apache.shardingsphere.data.pipeline.core.job.JobStatus;
 
+import java.util.Collection;
 import java.util.Map;
 
 /**
@@ -51,6 +53,8 @@ public final class ConsistencyCheckJobItemProgress implements PipelineJobItemPro
     
     private final Map<String, Object> targetTableCheckPositions;
     
+    private final Map<String, Collection<QueryRange>> mismatchedTableRanges;
+    
     private final String sourceDatabaseType;
     
     @Setter
@@ -65,6 +69,7 @@ public final class ConsistencyCheckJobItemProgress implements PipelineJobItemPro
         checkEndTimeMillis = context.getCheckEndTimeMillis();
         sourceTableCheckPositions = context.getSourceTableCheckPositions();
         targetTableCheckPositions = context.getTargetTableCheckPositions();
+        mismatchedTableRanges = context.getMismatchedTableRanges();
         sourceDatabaseType = context.getSourceDatabaseType();
     }
 }
@@ -21,6 +21,7 @@ import lombok.Getter;
 import lombok.Setter;
 
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -48,5 +49,7 @@ public final class YamlConsistencyCheckJobItemProgress implements YamlPipelineJo
     
     private Map<String, Object> targetTableCheckPositions = new LinkedHashMap<>();
     
+    private Map<String, List<String>> mismatchedTableRanges = new LinkedHashMap<>();
+    
     private String sourceDatabaseType;
 }
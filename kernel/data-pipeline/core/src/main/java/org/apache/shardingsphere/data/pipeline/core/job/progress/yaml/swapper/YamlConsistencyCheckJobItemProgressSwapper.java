@@ -17,10 +17,19 @@
 
 package org.apache.shardingsphere.data.pipeline.core.job.progress.yaml.swapper;
 
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.range.QueryRange;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.pk.PrimaryKeyIngestPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.pk.PrimaryKeyIngestPositionFactory;
 import org.apache.shardingsphere.data.pipeline.core.job.JobStatus;
 import org.apache.shardingsphere.data.pipeline.core.job.progress.ConsistencyCheckJobItemProgress;
 import org.apache.shardingsphere.data.pipeline.core.job.progress.yaml.config.YamlConsistencyCheckJobItemProgress;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
 /**
  * YAML data check job item progress swapper.
  */
@@ -38,6 +47,7 @@ public final class YamlConsistencyCheckJobItemProgressSwapper implements YamlPip
         result.setCheckEndTimeMillis(data.getCheckEndTimeMillis());
         result.setSourceTableCheckPositions(data.getSourceTableCheckPositions());
         result.setTargetTableCheckPositions(data.getTargetTableCheckPositions());
+        result.setMismatchedTableRanges(swapToYamlMismatchedTableRanges(data.getMismatchedTableRanges()));
         result.setSourceDatabaseType(data.getSourceDatabaseType());
         return result;
     }
@@ -46,11 +56,34 @@ public final class YamlConsistencyCheckJobItemProgressSwapper implements YamlPip
     public ConsistencyCheckJobItemProgress swapToObject(final YamlConsistencyCheckJobItemProgress yamlConfig) {
         ConsistencyCheckJobItemProgress result = new ConsistencyCheckJobItemProgress(yamlConfig.getTableNames(), yamlConfig.getIgnoredTableNames(), yamlConfig.getCheckedRecordsCount(),
                 yamlConfig.getRecordsCount(), yamlConfig.getCheckBeginTimeMillis(), yamlConfig.getCheckEndTimeMillis(),
-                yamlConfig.getSourceTableCheckPositions(), yamlConfig.getTargetTableCheckPositions(), yamlConfig.getSourceDatabaseType());
+                yamlConfig.getSourceTableCheckPositions(), yamlConfig.getTargetTableCheckPositions(), swapToMismatchedTableRanges(yamlConfig.getMismatchedTableRanges()),
+                yamlConfig.getSourceDatabaseType());
         result.setStatus(JobStatus.valueOf(yamlConfig.getStatus()));
         return result;
     }
     
+    private Map<String, List<String>> swapToYamlMismatchedTableRanges(final Map<String, Collection<QueryRange>> mismatchedTableRanges) {
+        Map<String, List<String>> result = new LinkedHashMap<>();
+        if (null != mismatchedTableRanges) {
+            mismatchedTableRanges.forEach((key, value) -> result.put(key, value.stream().map(each -> PrimaryKeyIngestPositionFactory.newInstance(each.getLower(), each.getUpper()).toString())
+                    .collect(Collectors.toList())));
+        }
+        return result;
+    }
+    
+    private Map<String, Collection<QueryRange>> swapToMismatchedTableRanges(final Map<String, List<String>> yamlMismatchedTableRanges) {
+        Map<String, Collection<QueryRange>> result = new LinkedHashMap<>();
+        if (null != yamlMismatchedTableRanges) {
+            yamlMismatchedTableRanges.forEach((key, value) -> result.put(key, value.stream().map(this::swapToQueryRange).collect(Collectors.toList())));
+        }
+        return result;
+    }
+    
+    private QueryRange swapToQueryRange(final String yamlQueryRange) {
+        PrimaryKeyIngestPosition<?> position = (PrimaryKeyIngestPosition<?>) PrimaryKeyIngestPositionFactory.newInstance(yamlQueryRange);
+        return new QueryRange(position.getBeginValue(), true, position.getEndValue());
+    }
+    
     @Override
     public Class<YamlConsistencyCheckJobItemProgress> getYamlProgressClass() {
         return YamlConsistencyCheckJobItemProgress.class;
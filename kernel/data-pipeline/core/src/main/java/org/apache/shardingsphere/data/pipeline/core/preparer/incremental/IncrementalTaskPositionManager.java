@@ -23,6 +23,7 @@ import org.apache.shardingsphere.data.pipeline.api.type.ShardingSpherePipelineDa
 import org.apache.shardingsphere.data.pipeline.api.type.StandardPipelineDataSourceConfiguration;
 import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourceManager;
 import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSource;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.DumperCommonContext;
 import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.incremental.IncrementalDumperContext;
 import org.apache.shardingsphere.data.pipeline.core.ingest.position.IngestPosition;
 import org.apache.shardingsphere.data.pipeline.core.job.progress.JobItemIncrementalTasksProgress;
@@ -31,9 +32,14 @@ import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.datasource.pool.creator.DataSourcePoolCreator;
 import org.apache.shardingsphere.infra.datasource.pool.props.domain.DataSourcePoolProperties;
+import org.apache.shardingsphere.infra.metadata.database.schema.QualifiedTable;
+import org.apache.shardingsphere.infra.metadata.identifier.ShardingSphereIdentifier;
 import org.apache.shardingsphere.infra.yaml.config.swapper.resource.YamlDataSourceConfigurationSwapper;
 
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.Map.Entry;
 import java.util.Optional;
 
 /**
@@ -68,7 +74,16 @@ public final class IncrementalTaskPositionManager {
                 return position.get();
             }
         }
-        return dialectPositionManager.init(dataSourceManager.getDataSource(dumperContext.getCommonContext().getDataSourceConfig()), dumperContext.getJobId());
+        DumperCommonContext commonContext = dumperContext.getCommonContext();
+        return dialectPositionManager.init(dataSourceManager.getDataSource(commonContext.getDataSourceConfig()), dumperContext.getJobId(), getActualTables(commonContext));
+    }
+    
+    private Collection<QualifiedTable> getActualTables(final DumperCommonContext commonContext) {
+        Collection<QualifiedTable> result = new LinkedList<>();
+        for (Entry<ShardingSphereIdentifier, ShardingSphereIdentifier> entry : commonContext.getTableNameMapper().getTableNameMap().entrySet()) {
+            result.add(new QualifiedTable(commonContext.getTableAndSchemaNameMapper().getSchemaName(entry.getValue()), entry.getKey().getValue()));
+        }
+        return result;
     }
     
     /**
@@ -0,0 +1,184 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.preparer.inventory.calculator;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSource;
+import org.apache.shardingsphere.data.pipeline.core.exception.job.SplitPipelineJobByUniqueKeyException;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.InventoryDumperContext;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.IngestPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.pk.PrimaryKeyIngestPositionFactory;
+import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.sql.PipelinePrepareSQLBuilder;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Inventory sampled position calculator.
+ * 
+ * <p>
+ * Split unique key which could not be divided arithmetically, such as string unique key and multiple columns unique key, by boundary values of the first unique key column.
+ * Boundary values are sampled with dialect sampling SQL, or picked by skipping stride rows in unique key order if dialect sampling is not supported.
+ * Every split range is closed with the real previous unique key value of the next boundary, so that ranges are never overlapped.
+ * </p>
+ */
+@RequiredArgsConstructor
+@Slf4j
+public final class InventorySampledPositionCalculator {
+    
+    private static final int SAMPLE_SIZE_PER_SPLIT = 100;
+    
+    private final PipelineDataSource dataSource;
+    
+    private final InventoryDumperContext dumperContext;
+    
+    /**
+     * Get positions by sampled boundary values of the first unique key column.
+     *
+     * @param tableRecordsCount table records count
+     * @param shardingSize sharding size
+     * @return positions, empty if table could not be split
+     * @throws SplitPipelineJobByUniqueKeyException if there's exception from database
+     */
+    public Collection<IngestPosition> getPositions(final long tableRecordsCount, final long shardingSize) {
+        long splitCount = tableRecordsCount / shardingSize + (tableRecordsCount % shardingSize > 0 ? 1 : 0);
+        if (splitCount <= 1) {
+            return Collections.emptyList();
+        }
+        String schemaName = dumperContext.getCommonContext().getTableAndSchemaNameMapper().getSchemaName(dumperContext.getLogicTableName());
+        String tableName = dumperContext.getActualTableName();
+        String uniqueKey = dumperContext.getUniqueKeyColumns().get(0).getName();
+        PipelinePrepareSQLBuilder sqlBuilder = new PipelinePrepareSQLBuilder(dataSource.getDatabaseType());
+        long startTimeMillis = System.currentTimeMillis();
+        try (Connection connection = dataSource.getConnection()) {
+            Object minimumValue = getMinimumValue(connection, sqlBuilder.buildUniqueKeyMinMaxValuesSQL(schemaName, tableName, uniqueKey));
+            if (!isPositionValue(minimumValue)) {
+                return Collections.emptyList();
+            }
+            Optional<String> sampleSQL = sqlBuilder.buildSampleUniqueKeyValuesSQL(schemaName, tableName, uniqueKey, getSamplePercent(tableRecordsCount, splitCount));
+            List<Object> boundaryValues = sampleSQL.isPresent()
+                    ? getBoundaryValuesBySample(connection, sampleSQL.get(), minimumValue, splitCount)
+                    : getBoundaryValuesByStride(connection, sqlBuilder.buildStrideUniqueKeyValueSQL(schemaName, tableName, uniqueKey), minimumValue, splitCount, tableRecordsCount / splitCount);
+            Collection<IngestPosition> result = createPositions(connection, sqlBuilder.buildPreviousUniqueKeyValueSQL(schemaName, tableName, uniqueKey), minimumValue, boundaryValues);
+            log.info("Split {} by sampled unique key {} to {} positions, cost {} ms", tableName, uniqueKey, result.size(), System.currentTimeMillis() - startTimeMillis);
+            return result;
+        } catch (final SQLException ex) {
+            throw new SplitPipelineJobByUniqueKeyException(tableName, uniqueKey, ex);
+        }
+    }
+    
+    private Object getMinimumValue(final Connection connection, final String sql) throws SQLException {
+        try (
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(sql)) {
+            return resultSet.next() ? resultSet.getObject(1) : null;
+        }
+    }
+    
+    private BigDecimal getSamplePercent(final long tableRecordsCount, final long splitCount) {
+        BigDecimal result = BigDecimal.valueOf(splitCount * SAMPLE_SIZE_PER_SPLIT * 100D / tableRecordsCount).setScale(6, RoundingMode.UP);
+        return result.compareTo(BigDecimal.valueOf(100L)) > 0 ? BigDecimal.valueOf(100L) : result;
+    }
+    
+    private List<Object> getBoundaryValuesBySample(final Connection connection, final String sql, final Object minimumValue, final long splitCount) throws SQLException {
+        List<Object> sampledValues = new ArrayList<>();
+        try (
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(sql)) {
+            while (resultSet.next()) {
+                Object value = resultSet.getObject(1);
+                if (null != value && !Objects.equals(value, minimumValue) && (sampledValues.isEmpty() || !Objects.equals(value, sampledValues.get(sampledValues.size() - 1)))) {
+                    sampledValues.add(value);
+                }
+            }
+        }
+        LinkedList<Object> result = new LinkedList<>();
+        for (long i = 1L; i < splitCount; i++) {
+            Object value = sampledValues.isEmpty() ? null : sampledValues.get((int) (i * sampledValues.size() / splitCount));
+            if (isPositionValue(value) && (result.isEmpty() || !Objects.equals(value, result.getLast()))) {
+                result.add(value);
+            }
+        }
+        return result;
+    }
+    
+    private List<Object> getBoundaryValuesByStride(final Connection connection, final String sql, final Object minimumValue, final long splitCount, final long stride) throws SQLException {
+        List<Object> result = new LinkedList<>();
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            Object previousValue = minimumValue;
+            for (long i = 1L; i < splitCount; i++) {
+                preparedStatement.setObject(1, previousValue);
+                preparedStatement.setLong(2, stride - 1L);
+                try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                    if (!resultSet.next()) {
+                        break;
+                    }
+                    previousValue = resultSet.getObject(1);
+                }
+                if (isPositionValue(previousValue)) {
+                    result.add(previousValue);
+                }
+            }
+        }
+        return result;
+    }
+    
+    private Collection<IngestPosition> createPositions(final Connection connection, final String sql, final Object minimumValue, final List<Object> boundaryValues) throws SQLException {
+        if (boundaryValues.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Collection<IngestPosition> result = new LinkedList<>();
+        Object beginValue = minimumValue;
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            for (Object each : boundaryValues) {
+                preparedStatement.setObject(1, each);
+                Object endValue;
+                try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                    endValue = resultSet.next() ? resultSet.getObject(1) : null;
+                }
+                if (!isPositionValue(endValue)) {
+                    return Collections.emptyList();
+                }
+                result.add(PrimaryKeyIngestPositionFactory.newInstance(beginValue, endValue));
+                beginValue = each;
+            }
+        }
+        result.add(PrimaryKeyIngestPositionFactory.newInstance(beginValue, null));
+        return result;
+    }
+    
+    private boolean isPositionValue(final Object value) {
+        if (value instanceof Number) {
+            return true;
+        }
+        return value instanceof CharSequence && 0 != ((CharSequence) value).length() && -1 == value.toString().indexOf(',');
+    }
+}
@@ -33,6 +33,7 @@ import org.apache.shardingsphere.data.pipeline.core.metadata.loader.PipelineTabl
 import org.apache.shardingsphere.data.pipeline.core.metadata.model.PipelineColumnMetaData;
 import org.apache.shardingsphere.data.pipeline.core.preparer.inventory.calculator.InventoryPositionCalculator;
 import org.apache.shardingsphere.data.pipeline.core.preparer.inventory.calculator.InventoryRecordsCountCalculator;
+import org.apache.shardingsphere.data.pipeline.core.preparer.inventory.calculator.InventorySampledPositionCalculator;
 import org.apache.shardingsphere.data.pipeline.core.ratelimit.JobRateLimitAlgorithm;
 import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.sql.PipelinePrepareSQLBuilder;
 import org.apache.shardingsphere.data.pipeline.core.util.PipelineJdbcUtils;
@@ -118,18 +119,21 @@ public final class InventoryDumperContextSplitter {
             return Collections.singleton(new UnsupportedKeyIngestPosition());
         }
         List<PipelineColumnMetaData> uniqueKeyColumns = dumperContext.getUniqueKeyColumns();
-        if (1 == uniqueKeyColumns.size()) {
-            int firstColumnDataType = uniqueKeyColumns.get(0).getDataType();
-            if (PipelineJdbcUtils.isIntegerColumn(firstColumnDataType)) {
-                Range<Long> uniqueKeyValuesRange = getUniqueKeyValuesRange(jobItemContext, dumperContext);
-                int shardingSize = jobItemContext.getJobProcessContext().getProcessConfiguration().getRead().getShardingSize();
-                return InventoryPositionCalculator.getPositionByIntegerUniqueKeyRange(tableRecordsCount, uniqueKeyValuesRange, shardingSize);
-            }
-            if (PipelineJdbcUtils.isStringColumn(firstColumnDataType)) {
-                return Collections.singleton(new StringPrimaryKeyIngestPosition(null, null));
+        int firstColumnDataType = uniqueKeyColumns.get(0).getDataType();
+        int shardingSize = jobItemContext.getJobProcessContext().getProcessConfiguration().getRead().getShardingSize();
+        if (1 == uniqueKeyColumns.size() && PipelineJdbcUtils.isIntegerColumn(firstColumnDataType)) {
+            Range<Long> uniqueKeyValuesRange = getUniqueKeyValuesRange(jobItemContext, dumperContext);
+            return InventoryPositionCalculator.getPositionByIntegerUniqueKeyRange(tableRecordsCount, uniqueKeyValuesRange, shardingSize);
+        }
+        if (PipelineJdbcUtils.isIntegerColumn(firstColumnDataType) || PipelineJdbcUtils.isStringColumn(firstColumnDataType)) {
+            Collection<IngestPosition> result = new InventorySampledPositionCalculator(sourceDataSource, dumperContext).getPositions(tableRecordsCount, shardingSize);
+            if (!result.isEmpty()) {
+                return result;
             }
         }
-        return Collections.singleton(new UnsupportedKeyIngestPosition());
+        return 1 == uniqueKeyColumns.size() && PipelineJdbcUtils.isStringColumn(firstColumnDataType)
+                ? Collections.singleton(new StringPrimaryKeyIngestPosition(null, null))
+                : Collections.singleton(new UnsupportedKeyIngestPosition());
     }
     
     private Range<Long> getUniqueKeyValuesRange(final TransmissionJobItemContext jobItemContext, final InventoryDumperContext dumperContext) {
@@ -22,6 +22,7 @@ import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPI;
 import org.apache.shardingsphere.infra.spi.annotation.SingletonSPI;
 
 import javax.sql.DataSource;
+import java.math.BigDecimal;
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Optional;
@@ -52,6 +53,15 @@ public interface DialectPipelineSQLBuilder extends DatabaseTypedSPI {
         return Optional.empty();
     }
     
+    /**
+     * Whether to support multiple rows in one insert SQL.
+     *
+     * @return support multiple rows in one insert SQL or not
+     */
+    default boolean isSupportMultiRowInsert() {
+        return false;
+    }
+    
     /**
      * Build check empty table SQL.
      *
@@ -71,6 +81,18 @@ public interface DialectPipelineSQLBuilder extends DatabaseTypedSPI {
         return Optional.empty();
     }
     
+    /**
+     * Build sample unique key values SQL.
+     *
+     * @param qualifiedTableName qualified table name
+     * @param uniqueKey unique key
+     * @param samplePercent sample percent
+     * @return built SQL, sampled unique key values are in ascending order
+     */
+    default Optional<String> buildSampleUniqueKeyValuesSQL(final String qualifiedTableName, final String uniqueKey, final BigDecimal samplePercent) {
+        return Optional.empty();
+    }
+    
     /**
      * Build CRC32 SQL.
      *
@@ -82,6 +104,20 @@ public interface DialectPipelineSQLBuilder extends DatabaseTypedSPI {
         return Optional.empty();
     }
     
+    /**
+     * Build range CRC32 SQL.
+     *
+     * <p>Both lower bound and upper bound of unique key are inclusive parameters.</p>
+     *
+     * @param qualifiedTableName qualified table name
+     * @param columnName column name
+     * @param uniqueKey unique key
+     * @return built SQL
+     */
+    default Optional<String> buildRangeCRC32SQL(final String qualifiedTableName, final String columnName, final String uniqueKey) {
+        return Optional.empty();
+    }
+    
     /**
      * Build create table SQLs.
      *
@@ -109,4 +145,14 @@ public interface DialectPipelineSQLBuilder extends DatabaseTypedSPI {
      * @return wrapped SQL
      */
     String wrapWithPageQuery(String sql);
+    
+    /**
+     * Wrap with query which skips rows and returns the next one row.
+     *
+     * @param sql SQL
+     * @return wrapped SQL, the last parameter is count of rows to skip
+     */
+    default String wrapWithSkipQuery(final String sql) {
+        return sql + " LIMIT 1 OFFSET ?";
+    }
 }
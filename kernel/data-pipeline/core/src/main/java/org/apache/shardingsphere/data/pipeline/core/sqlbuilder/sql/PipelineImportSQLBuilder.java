@@ -27,6 +27,7 @@ import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -38,6 +39,8 @@ public final class PipelineImportSQLBuilder {
     
     private static final String INSERT_SQL_CACHE_KEY_PREFIX = "INSERT_";
     
+    private static final String MULTI_ROW_INSERT_SQL_CACHE_KEY_PREFIX = "MULTI_ROW_INSERT_";
+    
     private static final String UPDATE_SQL_CACHE_KEY_PREFIX = "UPDATE_";
     
     private static final String DELETE_SQL_CACHE_KEY_PREFIX = "DELETE_";
@@ -64,20 +67,46 @@ public final class PipelineImportSQLBuilder {
     public String buildInsertSQL(final String schemaName, final DataRecord dataRecord) {
         String sqlCacheKey = INSERT_SQL_CACHE_KEY_PREFIX + dataRecord.getTableName();
         if (null == sqlCache.getIfPresent(sqlCacheKey)) {
-            sqlCache.put(sqlCacheKey, buildInsertSQL0(schemaName, dataRecord));
+            sqlCache.put(sqlCacheKey, buildInsertSQL0(schemaName, dataRecord, 1));
         }
         return sqlCache.getIfPresent(sqlCacheKey);
     }
     
-    private String buildInsertSQL0(final String schemaName, final DataRecord dataRecord) {
-        String insertMainClause = buildInsertMainClause(schemaName, dataRecord);
+    private String buildInsertSQL0(final String schemaName, final DataRecord dataRecord, final int rowCount) {
+        String insertMainClause = buildInsertMainClause(schemaName, dataRecord, rowCount);
         return dialectSQLBuilder.buildInsertOnDuplicateClause(dataRecord).map(optional -> insertMainClause + " " + optional).orElse(insertMainClause);
     }
     
-    private String buildInsertMainClause(final String schemaName, final DataRecord dataRecord) {
+    private String buildInsertMainClause(final String schemaName, final DataRecord dataRecord, final int rowCount) {
         String columnsLiteral = dataRecord.getColumns().stream().map(each -> sqlSegmentBuilder.getEscapedIdentifier(each.getName())).collect(Collectors.joining(","));
-        String valuesLiteral = dataRecord.getColumns().stream().map(each -> "?").collect(Collectors.joining(","));
-        return String.format("INSERT INTO %s(%s) VALUES(%s)", sqlSegmentBuilder.getQualifiedTableName(schemaName, dataRecord.getTableName()), columnsLiteral, valuesLiteral);
+        String rowLiteral = dataRecord.getColumns().stream().map(each -> "?").collect(Collectors.joining(",", "(", ")"));
+        String valuesLiteral = String.join(",", Collections.nCopies(rowCount, rowLiteral));
+        return String.format("INSERT INTO %s(%s) VALUES%s", sqlSegmentBuilder.getQualifiedTableName(schemaName, dataRecord.getTableName()), columnsLiteral, valuesLiteral);
+    }
+    
+    /**
+     * Whether to support multiple rows in one insert SQL.
+     *
+     * @return support multiple rows in one insert SQL or not
+     */
+    public boolean isSupportMultiRowInsert() {
+        return dialectSQLBuilder.isSupportMultiRowInsert();
+    }
+    
+    /**
+     * Build multiple rows insert SQL.
+     *
+     * @param schemaName schema name
+     * @param dataRecord data record
+     * @param rowCount row count
+     * @return multiple rows insert SQL
+     */
+    public String buildMultiRowInsertSQL(final String schemaName, final DataRecord dataRecord, final int rowCount) {
+        String sqlCacheKey = MULTI_ROW_INSERT_SQL_CACHE_KEY_PREFIX + rowCount + "_" + dataRecord.getTableName();
+        if (null == sqlCache.getIfPresent(sqlCacheKey)) {
+            sqlCache.put(sqlCacheKey, buildInsertSQL0(schemaName, dataRecord, rowCount));
+        }
+        return sqlCache.getIfPresent(sqlCacheKey);
     }
     
     /**
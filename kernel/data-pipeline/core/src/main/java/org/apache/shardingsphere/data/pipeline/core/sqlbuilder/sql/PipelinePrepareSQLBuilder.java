@@ -22,6 +22,7 @@ import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.segment.PipelineS
 import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 
+import java.math.BigDecimal;
 import java.util.Optional;
 
 /**
@@ -95,6 +96,46 @@ public final class PipelinePrepareSQLBuilder {
         return String.format("SELECT MIN(%s), MAX(%s) FROM %s", escapedUniqueKey, escapedUniqueKey, sqlSegmentBuilder.getQualifiedTableName(schemaName, tableName));
     }
     
+    /**
+     * Build sample unique key values SQL.
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param uniqueKey unique key
+     * @param samplePercent sample percent
+     * @return sample unique key values SQL
+     */
+    public Optional<String> buildSampleUniqueKeyValuesSQL(final String schemaName, final String tableName, final String uniqueKey, final BigDecimal samplePercent) {
+        return dialectSQLBuilder.buildSampleUniqueKeyValuesSQL(sqlSegmentBuilder.getQualifiedTableName(schemaName, tableName), sqlSegmentBuilder.getEscapedIdentifier(uniqueKey), samplePercent);
+    }
+    
+    /**
+     * Build stride unique key value SQL, which skips rows after the unique key value and returns the next unique key value.
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param uniqueKey unique key
+     * @return stride unique key value SQL
+     */
+    public String buildStrideUniqueKeyValueSQL(final String schemaName, final String tableName, final String uniqueKey) {
+        String escapedUniqueKey = sqlSegmentBuilder.getEscapedIdentifier(uniqueKey);
+        return dialectSQLBuilder.wrapWithSkipQuery(String.format("SELECT %s FROM %s WHERE %s>? ORDER BY %s ASC",
+                escapedUniqueKey, sqlSegmentBuilder.getQualifiedTableName(schemaName, tableName), escapedUniqueKey, escapedUniqueKey));
+    }
+    
+    /**
+     * Build previous unique key value SQL, which returns the maximum unique key value less than the parameter.
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param uniqueKey unique key
+     * @return previous unique key value SQL
+     */
+    public String buildPreviousUniqueKeyValueSQL(final String schemaName, final String tableName, final String uniqueKey) {
+        String escapedUniqueKey = sqlSegmentBuilder.getEscapedIdentifier(uniqueKey);
+        return String.format("SELECT MAX(%s) FROM %s WHERE %s<?", escapedUniqueKey, sqlSegmentBuilder.getQualifiedTableName(schemaName, tableName), escapedUniqueKey);
+    }
+    
     /**
      * Build check empty table SQL.
      *
@@ -24,6 +24,7 @@ import org.apache.shardingsphere.data.pipeline.core.execute.PipelineExecuteEngin
 import org.apache.shardingsphere.data.pipeline.core.execute.PipelineLifecycleRunnable;
 import org.apache.shardingsphere.data.pipeline.core.importer.Importer;
 import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.Dumper;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.incremental.IncrementalDumper;
 import org.apache.shardingsphere.data.pipeline.core.task.progress.IncrementalTaskProgress;
 
 import java.util.Collection;
@@ -46,7 +47,6 @@ public final class IncrementalTask implements PipelineTask {
     
     private final Collection<Importer> importers;
     
-    @Getter
     private final IncrementalTaskProgress taskProgress;
     
     @Override
@@ -60,6 +60,14 @@ public final class IncrementalTask implements PipelineTask {
         return result;
     }
     
+    @Override
+    public IncrementalTaskProgress getTaskProgress() {
+        if (dumper instanceof IncrementalDumper) {
+            ((IncrementalDumper) dumper).updateDecodeMetrics(taskProgress.getIncrementalTaskDelay());
+        }
+        return taskProgress;
+    }
+    
     @Override
     public void stop() {
         dumper.stop();
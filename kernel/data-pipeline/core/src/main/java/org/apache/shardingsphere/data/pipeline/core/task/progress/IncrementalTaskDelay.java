@@ -30,4 +30,8 @@ public final class IncrementalTaskDelay {
     private long lastEventTimestamps;
     
     private long latestActiveTimeMillis;
+    
+    private long decodeLagMillis;
+    
+    private int pendingDecodeEventCount;
 }
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.consistencycheck.table;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.data.pipeline.core.exception.param.PipelineInvalidParameterException;
+import org.apache.shardingsphere.data.pipeline.core.metadata.model.PipelineColumnMetaData;
+import org.junit.jupiter.api.Test;
+import org.mockito.internal.configuration.plugins.Plugins;
+
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CRC32MatchTableDataConsistencyCheckerTest {
+    
+    @SneakyThrows(ReflectiveOperationException.class)
+    @Test
+    void assertInitSuccess() {
+        CRC32MatchTableDataConsistencyChecker checker = new CRC32MatchTableDataConsistencyChecker();
+        checker.init(buildAlgorithmProperties("1000", "8"));
+        assertThat(Plugins.getMemberAccessor().get(CRC32MatchTableDataConsistencyChecker.class.getDeclaredField("chunkSize"), checker), is(1000));
+        assertThat(Plugins.getMemberAccessor().get(CRC32MatchTableDataConsistencyChecker.class.getDeclaredField("maxConcurrency"), checker), is(8));
+    }
+    
+    @Test
+    void assertInitFailure() {
+        for (String each : Arrays.asList("xyz", "0", "-1")) {
+            assertThrows(PipelineInvalidParameterException.class, () -> new CRC32MatchTableDataConsistencyChecker().init(buildAlgorithmProperties(each, "1")));
+            assertThrows(PipelineInvalidParameterException.class, () -> new CRC32MatchTableDataConsistencyChecker().init(buildAlgorithmProperties("1", each)));
+        }
+    }
+    
+    private Properties buildAlgorithmProperties(final String chunkSize, final String maxConcurrency) {
+        Properties result = new Properties();
+        result.put("chunk-size", chunkSize);
+        result.put("max-concurrency", maxConcurrency);
+        return result;
+    }
+    
+    @Test
+    void assertBuildTableInventoryCheckerWithIntegerUniqueKey() {
+        TableInventoryCheckParameter param = mock(TableInventoryCheckParameter.class);
+        when(param.getUniqueKeys()).thenReturn(Collections.singletonList(new PipelineColumnMetaData(1, "order_id", Types.BIGINT, "bigint", false, true, true)));
+        assertThat(new CRC32MatchTableDataConsistencyChecker().buildTableInventoryChecker(param), instanceOf(CRC32RangeMatchTableInventoryChecker.class));
+    }
+    
+    @Test
+    void assertBuildTableInventoryCheckerWithStringUniqueKey() {
+        TableInventoryCheckParameter param = mock(TableInventoryCheckParameter.class);
+        when(param.getUniqueKeys()).thenReturn(Collections.singletonList(new PipelineColumnMetaData(1, "order_id", Types.VARCHAR, "varchar", false, true, true)));
+        assertThat(new CRC32MatchTableDataConsistencyChecker().buildTableInventoryChecker(param), not(instanceOf(CRC32RangeMatchTableInventoryChecker.class)));
+    }
+}
@@ -24,10 +24,14 @@ import org.apache.shardingsphere.data.pipeline.api.type.StandardPipelineDataSour
 import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSource;
 import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourceManager;
 import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.incremental.IncrementalDumperContext;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.mapper.ActualAndLogicTableNameMapper;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.mapper.TableAndSchemaNameMapper;
 import org.apache.shardingsphere.data.pipeline.core.ingest.position.DialectIncrementalPositionManager;
 import org.apache.shardingsphere.data.pipeline.core.ingest.position.IngestPosition;
 import org.apache.shardingsphere.data.pipeline.core.job.progress.JobItemIncrementalTasksProgress;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.database.schema.QualifiedTable;
+import org.apache.shardingsphere.infra.metadata.identifier.ShardingSphereIdentifier;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.infra.yaml.config.pojo.YamlRootConfiguration;
 import org.apache.shardingsphere.test.fixture.jdbc.MockedDataSource;
@@ -39,6 +43,7 @@ import org.mockito.internal.configuration.plugins.Plugins;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.sql.SQLException;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -88,7 +93,8 @@ class IncrementalTaskPositionManagerTest {
         PipelineDataSource dataSource = mock(PipelineDataSource.class);
         when(dataSourceManager.getDataSource(dumperContext.getCommonContext().getDataSourceConfig())).thenReturn(dataSource);
         IngestPosition position = mock(IngestPosition.class);
-        when(dialectPositionManager.init(dataSource, dumperContext.getJobId())).thenReturn(position);
+        String jobId = dumperContext.getJobId();
+        when(dialectPositionManager.init(eq(dataSource), eq(jobId), any())).thenReturn(position);
         assertThat(incrementalTaskPositionManager.getPosition(initialProgress, dumperContext, dataSourceManager), is(position));
     }
     
@@ -99,7 +105,22 @@ class IncrementalTaskPositionManagerTest {
         PipelineDataSource dataSource = mock(PipelineDataSource.class);
         when(dataSourceManager.getDataSource(dumperContext.getCommonContext().getDataSourceConfig())).thenReturn(dataSource);
         IngestPosition position = mock(IngestPosition.class);
-        when(dialectPositionManager.init(dataSource, dumperContext.getJobId())).thenReturn(position);
+        String jobId = dumperContext.getJobId();
+        when(dialectPositionManager.init(eq(dataSource), eq(jobId), any())).thenReturn(position);
+        assertThat(incrementalTaskPositionManager.getPosition(null, dumperContext, dataSourceManager), is(position));
+    }
+    
+    @Test
+    void assertGetPositionWithActualTables() throws SQLException {
+        IncrementalDumperContext dumperContext = mockIncrementalDumperContext();
+        when(dumperContext.getCommonContext().getTableNameMapper()).thenReturn(
+                new ActualAndLogicTableNameMapper(Collections.singletonMap(new ShardingSphereIdentifier("t_order_0"), new ShardingSphereIdentifier("t_order"))));
+        when(dumperContext.getCommonContext().getTableAndSchemaNameMapper()).thenReturn(new TableAndSchemaNameMapper(Collections.singletonMap("t_order", "foo_schema")));
+        PipelineDataSourceManager dataSourceManager = mock(PipelineDataSourceManager.class);
+        PipelineDataSource dataSource = mock(PipelineDataSource.class);
+        when(dataSourceManager.getDataSource(dumperContext.getCommonContext().getDataSourceConfig())).thenReturn(dataSource);
+        IngestPosition position = mock(IngestPosition.class);
+        when(dialectPositionManager.init(dataSource, dumperContext.getJobId(), Collections.singletonList(new QualifiedTable("foo_schema", "t_order_0")))).thenReturn(position);
         assertThat(incrementalTaskPositionManager.getPosition(null, dumperContext, dataSourceManager), is(position));
     }
     
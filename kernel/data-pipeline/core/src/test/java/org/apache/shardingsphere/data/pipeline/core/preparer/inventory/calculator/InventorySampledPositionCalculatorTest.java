@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.preparer.inventory.calculator;
+
+import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSource;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.InventoryDumperContext;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.IngestPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.pk.type.StringPrimaryKeyIngestPosition;
+import org.apache.shardingsphere.data.pipeline.core.metadata.model.PipelineColumnMetaData;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class InventorySampledPositionCalculatorTest {
+    
+    private final PipelineDataSource dataSource = mock(PipelineDataSource.class);
+    
+    private final InventoryDumperContext dumperContext = mock(InventoryDumperContext.class, RETURNS_DEEP_STUBS);
+    
+    @BeforeEach
+    void setUp() {
+        when(dataSource.getDatabaseType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "FIXTURE"));
+        when(dumperContext.getActualTableName()).thenReturn("foo_tbl");
+        when(dumperContext.getUniqueKeyColumns()).thenReturn(Collections.singletonList(new PipelineColumnMetaData(1, "foo_key", Types.VARCHAR, "varchar", false, true, true)));
+    }
+    
+    @Test
+    void assertGetPositionsWithoutSplit() throws SQLException {
+        assertTrue(new InventorySampledPositionCalculator(dataSource, dumperContext).getPositions(10L, 10L).isEmpty());
+        verify(dataSource, never()).getConnection();
+    }
+    
+    @Test
+    void assertGetPositionsBySample() throws SQLException {
+        Connection connection = mock(Connection.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        Statement statement = mock(Statement.class);
+        when(connection.createStatement()).thenReturn(statement);
+        ResultSet minimumValueResultSet = mockResultSet("a");
+        when(statement.executeQuery("SELECT MIN(foo_key), MAX(foo_key) FROM foo_tbl")).thenReturn(minimumValueResultSet);
+        ResultSet sampleResultSet = mockResultSet("a", "b", "c", "c", "d", "e", "f");
+        when(statement.executeQuery("SELECT foo_key FROM foo_tbl TABLESAMPLE (100) ORDER BY foo_key ASC")).thenReturn(sampleResultSet);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("SELECT MAX(foo_key) FROM foo_tbl WHERE foo_key<?")).thenReturn(preparedStatement);
+        ResultSet firstPreviousValueResultSet = mockResultSet("b");
+        ResultSet secondPreviousValueResultSet = mockResultSet("d");
+        when(preparedStatement.executeQuery()).thenReturn(firstPreviousValueResultSet, secondPreviousValueResultSet);
+        List<IngestPosition> actual = new ArrayList<>(new InventorySampledPositionCalculator(dataSource, dumperContext).getPositions(30L, 10L));
+        assertThat(actual.size(), is(3));
+        assertPosition((StringPrimaryKeyIngestPosition) actual.get(0), "a", "b");
+        assertPosition((StringPrimaryKeyIngestPosition) actual.get(1), "c", "d");
+        assertThat(((StringPrimaryKeyIngestPosition) actual.get(2)).getBeginValue(), is("e"));
+        assertNull(((StringPrimaryKeyIngestPosition) actual.get(2)).getEndValue());
+    }
+    
+    @Test
+    void assertGetPositionsWithInvalidMinimumValue() throws SQLException {
+        Connection connection = mock(Connection.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        Statement statement = mock(Statement.class);
+        when(connection.createStatement()).thenReturn(statement);
+        ResultSet minimumValueResultSet = mockResultSet("a,b");
+        when(statement.executeQuery("SELECT MIN(foo_key), MAX(foo_key) FROM foo_tbl")).thenReturn(minimumValueResultSet);
+        assertTrue(new InventorySampledPositionCalculator(dataSource, dumperContext).getPositions(30L, 10L).isEmpty());
+    }
+    
+    private ResultSet mockResultSet(final String... values) throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        Boolean[] nextResults = new Boolean[values.length];
+        for (int i = 0; i < values.length; i++) {
+            nextResults[i] = i < values.length - 1;
+        }
+        when(result.next()).thenReturn(true, nextResults);
+        Object[] otherValues = new Object[values.length - 1];
+        System.arraycopy(values, 1, otherValues, 0, values.length - 1);
+        when(result.getObject(1)).thenReturn(values[0], otherValues);
+        return result;
+    }
+    
+    private void assertPosition(final StringPrimaryKeyIngestPosition actual, final String expectedBeginValue, final String expectedEndValue) {
+        assertThat(actual.getBeginValue(), is(expectedBeginValue));
+        assertThat(actual.getEndValue(), is(expectedEndValue));
+    }
+}
@@ -76,4 +76,10 @@ class PipelineDataConsistencyCalculateSQLBuilderTest {
         Optional<String> actual = sqlBuilder.buildCRC32SQL(new QualifiedTable("foo_schema", "foo_tbl"), "foo_col");
         assertThat(actual, is(Optional.of("SELECT CRC32(foo_col) FROM foo_tbl")));
     }
+    
+    @Test
+    void assertBuildRangeCRC32SQL() {
+        Optional<String> actual = sqlBuilder.buildRangeCRC32SQL(new QualifiedTable("foo_schema", "foo_tbl"), "foo_col", "order_id");
+        assertThat(actual, is(Optional.of("SELECT CRC32(foo_col) FROM foo_tbl WHERE order_id>=? AND order_id<=?")));
+    }
 }
@@ -21,9 +21,13 @@ import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.junit.jupiter.api.Test;
 
+import java.math.BigDecimal;
+import java.util.Optional;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class PipelinePrepareSQLBuilderTest {
     
@@ -54,6 +58,23 @@ class PipelinePrepareSQLBuilderTest {
         assertThat(sqlBuilder.buildUniqueKeyMinMaxValuesSQL("foo_schema", "foo_tbl", "foo_key"), is("SELECT MIN(foo_key), MAX(foo_key) FROM foo_tbl"));
     }
     
+    @Test
+    void assertBuildSampleUniqueKeyValuesSQL() {
+        Optional<String> actual = sqlBuilder.buildSampleUniqueKeyValuesSQL("foo_schema", "foo_tbl", "foo_key", BigDecimal.ONE);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is("SELECT foo_key FROM foo_tbl TABLESAMPLE (1) ORDER BY foo_key ASC"));
+    }
+    
+    @Test
+    void assertBuildStrideUniqueKeyValueSQL() {
+        assertThat(sqlBuilder.buildStrideUniqueKeyValueSQL("foo_schema", "foo_tbl", "foo_key"), is("SELECT foo_key FROM foo_tbl WHERE foo_key>? ORDER BY foo_key ASC LIMIT 1 OFFSET ?"));
+    }
+    
+    @Test
+    void assertBuildPreviousUniqueKeyValueSQL() {
+        assertThat(sqlBuilder.buildPreviousUniqueKeyValueSQL("foo_schema", "foo_tbl", "foo_key"), is("SELECT MAX(foo_key) FROM foo_tbl WHERE foo_key<?"));
+    }
+    
     @Test
     void assertBuildCheckEmptyTableSQL() {
         assertThat(sqlBuilder.buildCheckEmptyTableSQL("foo_schema", "foo_tbl"), is("SELECT * FROM foo_tbl LIMIT 1"));
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.rows;
+
+import lombok.Getter;
+import org.apache.shardingsphere.data.pipeline.core.exception.PipelineInternalException;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.MySQLBaseBinlogEvent;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * MySQL pending rows binlog event, which rows are being decoded by decode worker.
+ */
+public final class MySQLPendingRowsBinlogEvent extends MySQLBaseBinlogEvent {
+    
+    private final Future<MySQLBaseRowsBinlogEvent> decodeFuture;
+    
+    @Getter
+    private final long receivedNanoTime;
+    
+    public MySQLPendingRowsBinlogEvent(final String fileName, final long position, final long timestamp, final Future<MySQLBaseRowsBinlogEvent> decodeFuture) {
+        super(fileName, position, timestamp);
+        this.decodeFuture = decodeFuture;
+        receivedNanoTime = System.nanoTime();
+    }
+    
+    /**
+     * Wait until rows are decoded.
+     *
+     * @param timeoutMillis timeout milliseconds
+     * @return decoded rows binlog event
+     * @throws InterruptedException interrupted exception
+     * @throws PipelineInternalException if decode failed or timeout
+     */
+    public MySQLBaseRowsBinlogEvent awaitDecoded(final long timeoutMillis) throws InterruptedException {
+        try {
+            return decodeFuture.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (final ExecutionException ex) {
+            throw new PipelineInternalException(ex.getCause());
+        } catch (final TimeoutException ex) {
+            decodeFuture.cancel(true);
+            throw new PipelineInternalException(String.format("Decode rows event of binlog `%s` at position %d timeout after %d ms", getFileName(), getPosition(), timeoutMillis));
+        }
+    }
+}
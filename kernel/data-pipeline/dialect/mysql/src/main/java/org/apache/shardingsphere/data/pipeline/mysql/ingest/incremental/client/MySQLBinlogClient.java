@@ -30,12 +30,14 @@ import io.netty.channel.socket.SocketChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.util.concurrent.DefaultPromise;
 import io.netty.util.concurrent.Promise;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.data.pipeline.core.exception.PipelineInternalException;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.MySQLBaseBinlogEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.PlaceholderBinlogEvent;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.rows.MySQLPendingRowsBinlogEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.client.netty.MySQLBinlogEventPacketDecoder;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.client.netty.MySQLCommandPacketDecoder;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.client.netty.MySQLNegotiateHandler;
@@ -51,15 +53,19 @@ import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLErrPacket
 import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLOKPacket;
 import org.apache.shardingsphere.db.protocol.netty.ChannelAttrInitializer;
 import org.apache.shardingsphere.infra.exception.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 import org.apache.shardingsphere.infra.util.json.JsonUtils;
 
 import java.net.InetSocketAddress;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -67,11 +73,19 @@ import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * MySQL binlog client.
+ *
+ * <p>Rows events are decoded by a bounded worker pool when more than one processor is available, and are resequenced in binlog order on {@link #poll()}.</p>
  */
 @RequiredArgsConstructor
 @Slf4j
 public final class MySQLBinlogClient {
     
+    private static final int DECODE_WORKER_COUNT = Math.min(Runtime.getRuntime().availableProcessors() / 2, 4);
+    
+    private static final int DECODE_QUEUE_SIZE = 1024;
+    
+    private static final long DECODE_TIMEOUT_MILLIS = 60000L;
+    
     private final ConnectInfo connectInfo;
     
     private final boolean decodeWithTX;
@@ -88,6 +102,11 @@ public final class MySQLBinlogClient {
     
     private volatile boolean running = true;
     
+    private ThreadPoolExecutor decodeExecutor;
+    
+    @Getter
+    private volatile long decodeLagMillis;
+    
     /**
      * Connect to MySQL.
      */
@@ -218,12 +237,20 @@ public final class MySQLBinlogClient {
         channel.pipeline().remove(MySQLCommandPacketDecoder.class);
         channel.pipeline().remove(MySQLCommandResponseHandler.class);
         String tableKey = String.join(":", connectInfo.getHost(), String.valueOf(connectInfo.getPort()));
-        channel.pipeline().addLast(new MySQLBinlogEventPacketDecoder(checksumLength, GlobalTableMapEventMapping.getTableMapEventMap(tableKey), decodeWithTX));
+        channel.pipeline().addLast(new MySQLBinlogEventPacketDecoder(checksumLength, GlobalTableMapEventMapping.getTableMapEventMap(tableKey), decodeWithTX, getDecodeExecutor()));
         channel.pipeline().addLast(new MySQLBinlogEventHandler(new PlaceholderBinlogEvent(binlogFileName, binlogPosition, 0L)));
         resetSequenceID();
         channel.writeAndFlush(new MySQLComBinlogDumpCommandPacket((int) binlogPosition, connectInfo.getServerId(), binlogFileName));
     }
     
+    private ThreadPoolExecutor getDecodeExecutor() {
+        if (null == decodeExecutor && DECODE_WORKER_COUNT > 0) {
+            decodeExecutor = new ThreadPoolExecutor(DECODE_WORKER_COUNT, DECODE_WORKER_COUNT, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(DECODE_QUEUE_SIZE),
+                    ExecutorThreadFactoryBuilder.build("pipeline-binlog-decode-%d"), new CallerRunsPolicy());
+        }
+        return decodeExecutor;
+    }
+    
     private void resetSequenceID() {
         channel.attr(MySQLConstants.SEQUENCE_ID_ATTRIBUTE_KEY).get().set(0);
     }
@@ -239,13 +266,38 @@ public final class MySQLBinlogClient {
         }
         try {
             List<MySQLBaseBinlogEvent> result = blockingEventQueue.poll(100L, TimeUnit.MILLISECONDS);
-            return null == result ? Collections.emptyList() : result;
+            return null == result ? Collections.emptyList() : awaitDecoded(result);
         } catch (final InterruptedException ignored) {
             Thread.currentThread().interrupt();
             return Collections.emptyList();
         }
     }
     
+    private List<MySQLBaseBinlogEvent> awaitDecoded(final List<MySQLBaseBinlogEvent> events) throws InterruptedException {
+        if (null == decodeExecutor) {
+            return events;
+        }
+        List<MySQLBaseBinlogEvent> result = new ArrayList<>(events.size());
+        for (MySQLBaseBinlogEvent each : events) {
+            if (each instanceof MySQLPendingRowsBinlogEvent) {
+                result.add(((MySQLPendingRowsBinlogEvent) each).awaitDecoded(DECODE_TIMEOUT_MILLIS));
+                decodeLagMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - ((MySQLPendingRowsBinlogEvent) each).getReceivedNanoTime());
+            } else {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Get count of rows events which are waiting for or under decoding.
+     *
+     * @return pending decode event count
+     */
+    public int getPendingDecodeEventCount() {
+        return null == decodeExecutor ? 0 : decodeExecutor.getQueue().size() + decodeExecutor.getActiveCount();
+    }
+    
     @SuppressWarnings("unchecked")
     private <T> Optional<T> waitExpectedResponse(final Class<T> type) {
         try {
@@ -282,6 +334,9 @@ public final class MySQLBinlogClient {
         if (null != eventLoopGroup) {
             eventLoopGroup.shutdownGracefully();
         }
+        if (null != decodeExecutor) {
+            decodeExecutor.shutdown();
+        }
         return Optional.of(future);
     }
     
@@ -27,7 +27,9 @@ import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.M
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.MySQLBaseBinlogEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.PlaceholderBinlogEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.query.MySQLQueryBinlogEvent;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.rows.MySQLBaseRowsBinlogEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.rows.MySQLDeleteRowsBinlogEvent;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.rows.MySQLPendingRowsBinlogEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.rows.MySQLUpdateRowsBinlogEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.rows.MySQLWriteRowsBinlogEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.transaction.MySQLXidBinlogEvent;
@@ -44,9 +46,13 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 /**
  * MySQL binlog event packet decoder.
+ *
+ * <p>If decode executor is present, rows of ROWS_EVENT are decoded by the executor from a retained slice of the event, and the event is emitted as pending in binlog order.</p>
  */
 @Slf4j
 public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
@@ -57,10 +63,17 @@ public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
     
     private final boolean decodeWithTX;
     
+    private final ExecutorService decodeExecutor;
+    
     private List<MySQLBaseBinlogEvent> records = new LinkedList<>();
     
     public MySQLBinlogEventPacketDecoder(final int checksumLength, final Map<Long, MySQLBinlogTableMapEventPacket> tableMap, final boolean decodeWithTX) {
+        this(checksumLength, tableMap, decodeWithTX, null);
+    }
+    
+    public MySQLBinlogEventPacketDecoder(final int checksumLength, final Map<Long, MySQLBinlogTableMapEventPacket> tableMap, final boolean decodeWithTX, final ExecutorService decodeExecutor) {
         this.decodeWithTX = decodeWithTX;
+        this.decodeExecutor = decodeExecutor;
         binlogContext = new MySQLBinlogContext(checksumLength, tableMap);
     }
     
@@ -158,13 +171,11 @@ public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
                 return Optional.empty();
             case WRITE_ROWS_EVENT_V1:
             case WRITE_ROWS_EVENT_V2:
-                return Optional.of(decodeWriteRowsEventV2(binlogEventHeader, payload));
             case UPDATE_ROWS_EVENT_V1:
             case UPDATE_ROWS_EVENT_V2:
-                return Optional.of(decodeUpdateRowsEventV2(binlogEventHeader, payload));
             case DELETE_ROWS_EVENT_V1:
             case DELETE_ROWS_EVENT_V2:
-                return Optional.of(decodeDeleteRowsEventV2(binlogEventHeader, payload));
+                return Optional.of(decodeRowsEvent(binlogEventHeader, payload));
             case QUERY_EVENT:
                 return Optional.of(decodeQueryEvent(binlogEventHeader, payload));
             case XID_EVENT:
@@ -195,28 +206,47 @@ public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
         binlogContext.putTableMapEvent(new MySQLBinlogTableMapEventPacket(binlogEventHeader, payload));
     }
     
-    private MySQLWriteRowsBinlogEvent decodeWriteRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
+    private MySQLBaseBinlogEvent decodeRowsEvent(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
+        ByteBuf in = payload.getByteBuf();
+        int eventStartIndex = in.readerIndex() - 1 - MySQLBinlogEventHeader.MYSQL_BINLOG_EVENT_HEADER_LENGTH;
         MySQLBinlogRowsEventPacket packet = new MySQLBinlogRowsEventPacket(binlogEventHeader, payload);
         MySQLBinlogTableMapEventPacket tableMapEventPacket = binlogContext.getTableMapEvent(packet.getTableId());
-        packet.readRows(tableMapEventPacket, payload);
-        return new MySQLWriteRowsBinlogEvent(binlogContext.getFileName(),
-                binlogEventHeader.getLogPos(), binlogEventHeader.getTimestamp(), tableMapEventPacket.getSchemaName(), tableMapEventPacket.getTableName(), packet.getRows());
-    }
-    
-    private MySQLUpdateRowsBinlogEvent decodeUpdateRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
-        MySQLBinlogRowsEventPacket packet = new MySQLBinlogRowsEventPacket(binlogEventHeader, payload);
-        MySQLBinlogTableMapEventPacket tableMapEventPacket = binlogContext.getTableMapEvent(packet.getTableId());
-        packet.readRows(tableMapEventPacket, payload);
-        return new MySQLUpdateRowsBinlogEvent(binlogContext.getFileName(),
-                binlogEventHeader.getLogPos(), binlogEventHeader.getTimestamp(), tableMapEventPacket.getSchemaName(), tableMapEventPacket.getTableName(), packet.getRows(), packet.getRows2());
+        String fileName = binlogContext.getFileName();
+        if (null == decodeExecutor) {
+            return readRowsEvent(fileName, packet, tableMapEventPacket, payload);
+        }
+        int eventLength = binlogEventHeader.getEventSize() + 1 - binlogEventHeader.getChecksumLength();
+        ByteBuf rows = in.retainedSlice(eventStartIndex, eventLength);
+        rows.readerIndex(in.readerIndex() - eventStartIndex);
+        in.readerIndex(eventStartIndex + eventLength);
+        MySQLPacketPayload rowsPayload = new MySQLPacketPayload(rows, payload.getCharset());
+        Future<MySQLBaseRowsBinlogEvent> decodeFuture = decodeExecutor.submit(() -> {
+            try {
+                return readRowsEvent(fileName, packet, tableMapEventPacket, rowsPayload);
+            } finally {
+                rows.release();
+            }
+        });
+        return new MySQLPendingRowsBinlogEvent(fileName, binlogEventHeader.getLogPos(), binlogEventHeader.getTimestamp(), decodeFuture);
     }
     
-    private MySQLDeleteRowsBinlogEvent decodeDeleteRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
-        MySQLBinlogRowsEventPacket packet = new MySQLBinlogRowsEventPacket(binlogEventHeader, payload);
-        MySQLBinlogTableMapEventPacket tableMapEventPacket = binlogContext.getTableMapEvent(packet.getTableId());
+    private MySQLBaseRowsBinlogEvent readRowsEvent(final String fileName, final MySQLBinlogRowsEventPacket packet, final MySQLBinlogTableMapEventPacket tableMapEventPacket,
+                                                   final MySQLPacketPayload payload) {
         packet.readRows(tableMapEventPacket, payload);
-        return new MySQLDeleteRowsBinlogEvent(binlogContext.getFileName(),
-                binlogEventHeader.getLogPos(), binlogEventHeader.getTimestamp(), tableMapEventPacket.getSchemaName(), tableMapEventPacket.getTableName(), packet.getRows());
+        MySQLBinlogEventHeader binlogEventHeader = packet.getBinlogEventHeader();
+        switch (MySQLBinlogEventType.valueOf(binlogEventHeader.getEventType()).orElse(MySQLBinlogEventType.UNKNOWN_EVENT)) {
+            case UPDATE_ROWS_EVENT_V1:
+            case UPDATE_ROWS_EVENT_V2:
+                return new MySQLUpdateRowsBinlogEvent(fileName, binlogEventHeader.getLogPos(), binlogEventHeader.getTimestamp(),
+                        tableMapEventPacket.getSchemaName(), tableMapEventPacket.getTableName(), packet.getRows(), packet.getRows2());
+            case DELETE_ROWS_EVENT_V1:
+            case DELETE_ROWS_EVENT_V2:
+                return new MySQLDeleteRowsBinlogEvent(fileName, binlogEventHeader.getLogPos(), binlogEventHeader.getTimestamp(),
+                        tableMapEventPacket.getSchemaName(), tableMapEventPacket.getTableName(), packet.getRows());
+            default:
+                return new MySQLWriteRowsBinlogEvent(fileName, binlogEventHeader.getLogPos(), binlogEventHeader.getTimestamp(),
+                        tableMapEventPacket.getSchemaName(), tableMapEventPacket.getTableName(), packet.getRows());
+        }
     }
     
     private PlaceholderBinlogEvent decodePlaceholderEvent(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
@@ -32,6 +32,7 @@ import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
 import org.apache.shardingsphere.data.pipeline.core.metadata.loader.PipelineTableMetaDataLoader;
 import org.apache.shardingsphere.data.pipeline.core.metadata.model.PipelineColumnMetaData;
 import org.apache.shardingsphere.data.pipeline.core.metadata.model.PipelineTableMetaData;
+import org.apache.shardingsphere.data.pipeline.core.task.progress.IncrementalTaskDelay;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.data.MySQLBinlogDataHandler;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.MySQLBaseBinlogEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.rows.MySQLBaseRowsBinlogEvent;
@@ -198,6 +199,12 @@ public final class MySQLIncrementalDumper extends AbstractPipelineLifecycleRunna
         return result;
     }
     
+    @Override
+    public void updateDecodeMetrics(final IncrementalTaskDelay delay) {
+        delay.setDecodeLagMillis(client.getDecodeLagMillis());
+        delay.setPendingDecodeEventCount(client.getPendingDecodeEventCount());
+    }
+    
     @Override
     protected void doStop() {
         if (null != client) {
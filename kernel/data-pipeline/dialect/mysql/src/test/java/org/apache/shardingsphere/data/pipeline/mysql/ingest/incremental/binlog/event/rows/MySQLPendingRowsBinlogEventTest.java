@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.rows;
+
+import org.apache.shardingsphere.data.pipeline.core.exception.PipelineInternalException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MySQLPendingRowsBinlogEventTest {
+    
+    @Test
+    void assertAwaitDecoded() throws InterruptedException {
+        MySQLWriteRowsBinlogEvent rowsEvent = new MySQLWriteRowsBinlogEvent("binlog.000001", 8L, 0L, "foo_db", "foo_tbl", Collections.emptyList());
+        assertThat(new MySQLPendingRowsBinlogEvent("binlog.000001", 8L, 0L, CompletableFuture.completedFuture(rowsEvent)).awaitDecoded(10L), is(rowsEvent));
+    }
+    
+    @Test
+    void assertAwaitDecodedFailed() {
+        CompletableFuture<MySQLBaseRowsBinlogEvent> decodeFuture = new CompletableFuture<>();
+        decodeFuture.completeExceptionally(new IllegalStateException("foo"));
+        assertThrows(PipelineInternalException.class, () -> new MySQLPendingRowsBinlogEvent("binlog.000001", 8L, 0L, decodeFuture).awaitDecoded(10L));
+    }
+    
+    @Test
+    void assertAwaitDecodedTimeout() {
+        CompletableFuture<MySQLBaseRowsBinlogEvent> decodeFuture = new CompletableFuture<>();
+        assertThrows(PipelineInternalException.class, () -> new MySQLPendingRowsBinlogEvent("binlog.000001", 8L, 0L, decodeFuture).awaitDecoded(10L));
+        assertThat(decodeFuture.isCancelled(), is(true));
+    }
+}
@@ -23,6 +23,10 @@ import io.netty.channel.ChannelPipeline;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.util.Attribute;
 import io.netty.util.concurrent.Promise;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.MySQLBaseBinlogEvent;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.rows.MySQLPendingRowsBinlogEvent;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.rows.MySQLWriteRowsBinlogEvent;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.transaction.MySQLXidBinlogEvent;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConstants;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.binlog.MySQLComBinlogDumpCommandPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.binlog.MySQLComRegisterSlaveCommandPacket;
@@ -39,7 +43,12 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
 import java.net.InetSocketAddress;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -147,6 +156,17 @@ class MySQLBinlogClientTest {
         }
     }
     
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertPollWithPendingRowsEvent() throws ReflectiveOperationException {
+        MySQLWriteRowsBinlogEvent rowsEvent = new MySQLWriteRowsBinlogEvent("binlog.000001", 8L, 0L, "foo_db", "foo_tbl", Collections.emptyList());
+        MySQLPendingRowsBinlogEvent pendingEvent = new MySQLPendingRowsBinlogEvent("binlog.000001", 8L, 0L, CompletableFuture.completedFuture(rowsEvent));
+        MySQLXidBinlogEvent xidEvent = new MySQLXidBinlogEvent("binlog.000001", 9L, 0L, 1L);
+        Plugins.getMemberAccessor().set(MySQLBinlogClient.class.getDeclaredField("decodeExecutor"), client, mock(ThreadPoolExecutor.class));
+        ((ArrayBlockingQueue<List<MySQLBaseBinlogEvent>>) Plugins.getMemberAccessor().get(MySQLBinlogClient.class.getDeclaredField("blockingEventQueue"), client)).add(Arrays.asList(pendingEvent, xidEvent));
+        assertThat(client.poll(), is(Arrays.asList(rowsEvent, xidEvent)));
+    }
+    
     @Test
     void assertPollOnNotRunning() throws ReflectiveOperationException {
         Plugins.getMemberAccessor().set(MySQLBinlogClient.class.getDeclaredField("channel"), client, channel);
@@ -26,6 +26,7 @@ import io.netty.util.internal.StringUtil;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.MySQLBinlogContext;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.rows.MySQLDeleteRowsBinlogEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.query.MySQLQueryBinlogEvent;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.rows.MySQLPendingRowsBinlogEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.rows.MySQLUpdateRowsBinlogEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.rows.MySQLWriteRowsBinlogEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.transaction.MySQLXidBinlogEvent;
@@ -47,6 +48,8 @@ import java.nio.charset.StandardCharsets;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
@@ -154,6 +157,34 @@ class MySQLBinlogEventPacketDecoderTest {
         assertThat(actual.getAfterRows().get(0), is(new Serializable[]{1L, 1, new MySQLBinaryString("SUCCESS".getBytes()), null}));
     }
     
+    @Test
+    void assertDecodeWriteRowEventWithDecodeExecutor() throws InterruptedException {
+        ExecutorService decodeExecutor = Executors.newSingleThreadExecutor();
+        try {
+            MySQLBinlogEventPacketDecoder decoder = new MySQLBinlogEventPacketDecoder(4, binlogContext.getTableMap(), true, decodeExecutor);
+            ByteBuf byteBuf = ByteBufAllocator.DEFAULT.buffer();
+            byteBuf.writeBytes(StringUtil.decodeHexDump("007a36a9621e0100000038000000bb7c000000007b00000000000100020004ff08010000000000000001000000075355434345535365eff9ff"));
+            byteBuf.writeBytes(StringUtil.decodeHexDump("006acb656410010000001f000000fa29000000001643000000000000b13f8340"));
+            binlogContext.getTableMap().put(123L, tableMapEventPacket);
+            when(tableMapEventPacket.getColumnDefs()).thenReturn(columnDefs);
+            List<Object> decodedEvents = new LinkedList<>();
+            decoder.decode(channelHandlerContext, byteBuf, decodedEvents);
+            assertThat(decodedEvents.size(), is(1));
+            LinkedList<?> actualEventList = (LinkedList<?>) decodedEvents.get(0);
+            assertThat(actualEventList.get(0), instanceOf(MySQLPendingRowsBinlogEvent.class));
+            assertThat(actualEventList.get(1), instanceOf(MySQLXidBinlogEvent.class));
+            MySQLPendingRowsBinlogEvent pendingEvent = (MySQLPendingRowsBinlogEvent) actualEventList.get(0);
+            assertThat(pendingEvent.getPosition(), is(31931L));
+            MySQLWriteRowsBinlogEvent actual = (MySQLWriteRowsBinlogEvent) pendingEvent.awaitDecoded(5000L);
+            assertThat(actual.getPosition(), is(31931L));
+            assertThat(actual.getAfterRows().get(0), is(new Serializable[]{1L, 1, new MySQLBinaryString("SUCCESS".getBytes()), null}));
+            assertFalse(byteBuf.isReadable());
+            assertThat(byteBuf.refCnt(), is(1));
+        } finally {
+            decodeExecutor.shutdown();
+        }
+    }
+    
     @Test
     void assertDecodeUpdateRowEvent() {
         ByteBuf byteBuf = ByteBufAllocator.DEFAULT.buffer();
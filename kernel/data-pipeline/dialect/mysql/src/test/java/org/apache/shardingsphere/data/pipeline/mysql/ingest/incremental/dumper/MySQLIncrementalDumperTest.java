@@ -31,12 +31,14 @@ import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
 import org.apache.shardingsphere.data.pipeline.core.metadata.loader.PipelineTableMetaDataLoader;
 import org.apache.shardingsphere.data.pipeline.core.metadata.model.PipelineColumnMetaData;
 import org.apache.shardingsphere.data.pipeline.core.metadata.model.PipelineTableMetaData;
+import org.apache.shardingsphere.data.pipeline.core.task.progress.IncrementalTaskDelay;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.MySQLBaseBinlogEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.PlaceholderBinlogEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.rows.MySQLDeleteRowsBinlogEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.rows.MySQLUpdateRowsBinlogEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.rows.MySQLWriteRowsBinlogEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.position.MySQLBinlogPosition;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.client.MySQLBinlogClient;
 import org.apache.shardingsphere.infra.metadata.identifier.ShardingSphereIdentifier;
 import org.apache.shardingsphere.test.fixture.jdbc.MockedDriver;
 import org.junit.jupiter.api.BeforeAll;
@@ -189,4 +191,16 @@ class MySQLIncrementalDumperTest {
         assertThat(actual.size(), is(1));
         assertThat(actual.get(0), instanceOf(DataRecord.class));
     }
+    
+    @Test
+    void assertUpdateDecodeMetrics() throws ReflectiveOperationException {
+        MySQLBinlogClient client = mock(MySQLBinlogClient.class);
+        when(client.getDecodeLagMillis()).thenReturn(20L);
+        when(client.getPendingDecodeEventCount()).thenReturn(3);
+        Plugins.getMemberAccessor().set(MySQLIncrementalDumper.class.getDeclaredField("client"), incrementalDumper, client);
+        IncrementalTaskDelay delay = new IncrementalTaskDelay();
+        incrementalDumper.updateDecodeMetrics(delay);
+        assertThat(delay.getDecodeLagMillis(), is(20L));
+        assertThat(delay.getPendingDecodeEventCount(), is(3));
+    }
 }
@@ -29,6 +29,7 @@ import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.test.fixture.jdbc.MockedDataSource;
 import org.junit.jupiter.api.Test;
 
+import java.math.BigDecimal;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -81,6 +82,13 @@ class OpenGaussPipelineSQLBuilderTest {
         assertThat(actual.get(), is("SELECT reltuples::integer FROM pg_class WHERE oid='foo_tbl'::regclass::oid;"));
     }
     
+    @Test
+    void assertBuildSampleUniqueKeyValuesSQL() {
+        Optional<String> actual = sqlBuilder.buildSampleUniqueKeyValuesSQL("foo_tbl", "foo_key", new BigDecimal("0.000100"));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is("SELECT foo_key FROM foo_tbl TABLESAMPLE SYSTEM (0.000100) ORDER BY foo_key ASC"));
+    }
+    
     @Test
     void assertBuildCreateTableSQLs() throws SQLException {
         Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
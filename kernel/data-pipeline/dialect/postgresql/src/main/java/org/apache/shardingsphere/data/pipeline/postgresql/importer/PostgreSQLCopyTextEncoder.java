@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.postgresql.importer;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.segment.PipelineSQLSegmentBuilder;
+
+import java.util.stream.Collectors;
+
+/**
+ * PostgreSQL copy text format encoder.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PostgreSQLCopyTextEncoder {
+    
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    
+    /**
+     * Build copy from STDIN SQL.
+     *
+     * @param sqlSegmentBuilder SQL segment builder
+     * @param schemaName schema name
+     * @param dataRecord data record
+     * @return copy from STDIN SQL
+     */
+    public static String buildCopySQL(final PipelineSQLSegmentBuilder sqlSegmentBuilder, final String schemaName, final DataRecord dataRecord) {
+        String columnsLiteral = dataRecord.getColumns().stream().map(each -> sqlSegmentBuilder.getEscapedIdentifier(each.getName())).collect(Collectors.joining(","));
+        return String.format("COPY %s(%s) FROM STDIN", sqlSegmentBuilder.getQualifiedTableName(schemaName, dataRecord.getTableName()), columnsLiteral);
+    }
+    
+    /**
+     * Encode data record to one line of copy text format.
+     *
+     * @param dataRecord data record
+     * @param output output
+     */
+    public static void encode(final DataRecord dataRecord, final StringBuilder output) {
+        for (int i = 0; i < dataRecord.getColumnCount(); i++) {
+            if (i > 0) {
+                output.append('\t');
+            }
+            encodeValue(dataRecord.getColumn(i).getValue(), output);
+        }
+        output.append('\n');
+    }
+    
+    private static void encodeValue(final Object value, final StringBuilder output) {
+        if (null == value) {
+            output.append("\\N");
+        } else if (value instanceof byte[]) {
+            output.append("\\\\x");
+            for (byte each : (byte[]) value) {
+                output.append(HEX_DIGITS[(each >> 4) & 0x0F]).append(HEX_DIGITS[each & 0x0F]);
+            }
+        } else if (value instanceof Boolean) {
+            output.append((boolean) value ? 't' : 'f');
+        } else {
+            escape(value.toString(), output);
+        }
+    }
+    
+    private static void escape(final String value, final StringBuilder output) {
+        for (int i = 0; i < value.length(); i++) {
+            char each = value.charAt(i);
+            switch (each) {
+                case '\\':
+                    output.append("\\\\");
+                    break;
+                case '\n':
+                    output.append("\\n");
+                    break;
+                case '\r':
+                    output.append("\\r");
+                    break;
+                case '\t':
+                    output.append("\\t");
+                    break;
+                default:
+                    output.append(each);
+            }
+        }
+    }
+}
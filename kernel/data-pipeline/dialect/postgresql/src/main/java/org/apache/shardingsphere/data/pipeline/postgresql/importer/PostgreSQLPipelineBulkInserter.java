@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.postgresql.importer;
+
+import org.apache.shardingsphere.data.pipeline.core.importer.sink.type.DialectPipelineBulkInserter;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.segment.PipelineSQLSegmentBuilder;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+import org.postgresql.core.BaseConnection;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+
+/**
+ * PostgreSQL pipeline bulk inserter.
+ */
+public final class PostgreSQLPipelineBulkInserter implements DialectPipelineBulkInserter {
+    
+    @Override
+    public boolean isSupported(final Connection connection) throws SQLException {
+        return connection.isWrapperFor(BaseConnection.class);
+    }
+    
+    @Override
+    public void bulkInsert(final Connection connection, final String schemaName, final Collection<DataRecord> dataRecords) throws SQLException {
+        String sql = PostgreSQLCopyTextEncoder.buildCopySQL(new PipelineSQLSegmentBuilder(getType()), schemaName, dataRecords.iterator().next());
+        CopyIn copyIn = new CopyManager(connection.unwrap(BaseConnection.class)).copyIn(sql);
+        try {
+            StringBuilder line = new StringBuilder();
+            for (DataRecord each : dataRecords) {
+                line.setLength(0);
+                PostgreSQLCopyTextEncoder.encode(each, line);
+                byte[] bytes = line.toString().getBytes(StandardCharsets.UTF_8);
+                copyIn.writeToCopy(bytes, 0, bytes.length);
+            }
+            copyIn.endCopy();
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "PostgreSQL";
+    }
+}
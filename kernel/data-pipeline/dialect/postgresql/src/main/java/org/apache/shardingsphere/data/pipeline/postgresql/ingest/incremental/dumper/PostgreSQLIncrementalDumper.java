@@ -33,6 +33,7 @@ import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.WALEventConverter;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.WALPosition;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.decode.DecodingPlugin;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.decode.PgOutputDecodingPlugin;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.decode.PostgreSQLLogSequenceNumber;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.decode.PostgreSQLTimestampUtils;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.decode.TestDecodingPlugin;
@@ -46,6 +47,8 @@ import org.postgresql.replication.PGReplicationStream;
 
 import java.nio.ByteBuffer;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -106,27 +109,43 @@ public final class PostgreSQLIncrementalDumper extends AbstractPipelineLifecycle
         }
     }
     
-    @SneakyThrows(InterruptedException.class)
     private void dump() throws SQLException {
-        try (
-                Connection connection = logicalReplication.createConnection((StandardPipelineDataSourceConfiguration) dumperContext.getCommonContext().getDataSourceConfig());
-                PGReplicationStream stream = logicalReplication.createReplicationStream(
-                        connection, PostgreSQLSlotNameGenerator.getUniqueSlotName(connection, dumperContext.getJobId()), walPosition.get().getLogSequenceNumber())) {
-            PostgreSQLTimestampUtils utils = new PostgreSQLTimestampUtils(connection.unwrap(PgConnection.class).getTimestampUtils());
-            DecodingPlugin decodingPlugin = new TestDecodingPlugin(utils);
-            while (isRunning()) {
-                ByteBuffer message = stream.readPending();
-                if (null == message) {
-                    Thread.sleep(10L);
-                    continue;
-                }
-                AbstractWALEvent event = decodingPlugin.decode(message, new PostgreSQLLogSequenceNumber(stream.getLastReceiveLSN()));
-                if (decodeWithTX) {
-                    processEventWithTX(event);
-                } else {
-                    processEventIgnoreTX(event);
-                }
-                walPosition.set(new WALPosition(event.getLogSequenceNumber()));
+        try (Connection connection = logicalReplication.createConnection((StandardPipelineDataSourceConfiguration) dumperContext.getCommonContext().getDataSourceConfig())) {
+            String slotName = PostgreSQLSlotNameGenerator.getUniqueSlotName(connection, dumperContext.getJobId());
+            String decodePlugin = loadDecodePlugin(connection, slotName);
+            try (PGReplicationStream stream = logicalReplication.createReplicationStream(connection, slotName, decodePlugin, walPosition.get().getLogSequenceNumber())) {
+                PostgreSQLTimestampUtils utils = new PostgreSQLTimestampUtils(connection.unwrap(PgConnection.class).getTimestampUtils());
+                dump(stream, PgOutputDecodingPlugin.PLUGIN_NAME.equals(decodePlugin) ? new PgOutputDecodingPlugin(utils) : new TestDecodingPlugin(utils));
+            }
+        }
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    private void dump(final PGReplicationStream stream, final DecodingPlugin decodingPlugin) throws SQLException {
+        while (isRunning()) {
+            ByteBuffer message = stream.readPending();
+            if (null == message) {
+                Thread.sleep(10L);
+                continue;
+            }
+            AbstractWALEvent event = decodingPlugin.decode(message, new PostgreSQLLogSequenceNumber(stream.getLastReceiveLSN()));
+            if (decodeWithTX) {
+                processEventWithTX(event);
+            } else {
+                processEventIgnoreTX(event);
+            }
+            walPosition.set(new WALPosition(event.getLogSequenceNumber()));
+        }
+    }
+    
+    private String loadDecodePlugin(final Connection connection, final String slotName) throws SQLException {
+        if (connection.getMetaData().getDatabaseMajorVersion() < 10) {
+            return TestDecodingPlugin.PLUGIN_NAME;
+        }
+        try (PreparedStatement preparedStatement = connection.prepareStatement("SELECT plugin FROM pg_replication_slots WHERE slot_name=?")) {
+            preparedStatement.setString(1, slotName);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                return resultSet.next() ? resultSet.getString(1) : PgOutputDecodingPlugin.PLUGIN_NAME;
             }
         }
     }
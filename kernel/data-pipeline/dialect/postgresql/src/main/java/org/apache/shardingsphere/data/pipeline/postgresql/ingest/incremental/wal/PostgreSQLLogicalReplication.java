@@ -19,10 +19,12 @@ package org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wa
 
 import org.apache.shardingsphere.data.pipeline.api.type.StandardPipelineDataSourceConfiguration;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.decode.BaseLogSequenceNumber;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.decode.PgOutputDecodingPlugin;
 import org.postgresql.PGConnection;
 import org.postgresql.PGProperty;
 import org.postgresql.replication.LogSequenceNumber;
 import org.postgresql.replication.PGReplicationStream;
+import org.postgresql.replication.fluent.logical.ChainedLogicalStreamBuilder;
 
 import java.sql.Connection;
 import java.sql.DriverManager;
@@ -56,18 +58,20 @@ public final class PostgreSQLLogicalReplication {
      *
      * @param connection connection
      * @param slotName slot name
+     * @param decodePlugin decode plugin of slot
      * @param startPosition start position
      * @return replication stream
      * @throws SQLException SQL exception
      */
-    public PGReplicationStream createReplicationStream(final Connection connection, final String slotName, final BaseLogSequenceNumber startPosition) throws SQLException {
-        return connection.unwrap(PGConnection.class).getReplicationAPI()
+    public PGReplicationStream createReplicationStream(final Connection connection, final String slotName, final String decodePlugin, final BaseLogSequenceNumber startPosition) throws SQLException {
+        ChainedLogicalStreamBuilder streamBuilder = connection.unwrap(PGConnection.class).getReplicationAPI()
                 .replicationStream()
                 .logical()
                 .withStartPosition((LogSequenceNumber) startPosition.get())
-                .withSlotName(slotName)
-                .withSlotOption("include-xids", true)
-                .withSlotOption("skip-empty-xacts", true)
-                .start();
+                .withSlotName(slotName);
+        if (PgOutputDecodingPlugin.PLUGIN_NAME.equals(decodePlugin)) {
+            return streamBuilder.withSlotOption("proto_version", "1").withSlotOption("publication_names", slotName).start();
+        }
+        return streamBuilder.withSlotOption("include-xids", true).withSlotOption("skip-empty-xacts", true).start();
     }
 }
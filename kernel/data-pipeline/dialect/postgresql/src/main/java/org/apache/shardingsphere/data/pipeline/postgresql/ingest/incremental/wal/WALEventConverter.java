@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal;
 
 import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
+import org.apache.shardingsphere.data.pipeline.core.exception.IngestException;
 import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.incremental.IncrementalDumperContext;
 import org.apache.shardingsphere.data.pipeline.core.ingest.record.Column;
 import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
@@ -35,6 +36,7 @@ import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal
 import org.apache.shardingsphere.infra.exception.generic.UnsupportedSQLOperationException;
 import org.apache.shardingsphere.infra.metadata.identifier.ShardingSphereIdentifier;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -109,15 +111,37 @@ public final class WALEventConverter {
     
     private DataRecord handleDeleteRowEvent(final DeleteRowEvent event, final PipelineTableMetaData tableMetaData) {
         // TODO completion columns
-        DataRecord result = createDataRecord(PipelineSQLOperationType.DELETE, event, event.getPrimaryKeys().size());
         // TODO Unique key may be a column within unique index
         List<String> primaryKeyColumns = tableMetaData.getPrimaryKeyColumns();
-        for (int i = 0; i < event.getPrimaryKeys().size(); i++) {
-            result.addColumn(new NormalColumn(primaryKeyColumns.get(i), event.getPrimaryKeys().get(i), null, true, true));
+        List<Object> primaryKeys = null == event.getKeyColumnNames() ? event.getPrimaryKeys() : getPrimaryKeysByColumnName(event, primaryKeyColumns);
+        DataRecord result = createDataRecord(PipelineSQLOperationType.DELETE, event, primaryKeys.size());
+        for (int i = 0; i < primaryKeys.size(); i++) {
+            result.addColumn(new NormalColumn(primaryKeyColumns.get(i), primaryKeys.get(i), null, true, true));
         }
         return result;
     }
     
+    private List<Object> getPrimaryKeysByColumnName(final DeleteRowEvent event, final List<String> primaryKeyColumns) {
+        List<Object> result = new ArrayList<>(primaryKeyColumns.size());
+        for (String each : primaryKeyColumns) {
+            int index = indexOfKeyColumn(event.getKeyColumnNames(), each);
+            if (-1 == index) {
+                throw new IngestException(String.format("Primary key column `%s` of table `%s` is absent from delete event, REPLICA IDENTITY DEFAULT or FULL required", each, event.getTableName()));
+            }
+            result.add(event.getPrimaryKeys().get(index));
+        }
+        return result;
+    }
+    
+    private int indexOfKeyColumn(final List<String> keyColumnNames, final String columnName) {
+        for (int i = 0; i < keyColumnNames.size(); i++) {
+            if (keyColumnNames.get(i).equalsIgnoreCase(columnName)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
     private DataRecord createDataRecord(final PipelineSQLOperationType type, final AbstractRowEvent rowsEvent, final int columnCount) {
         String tableName = dumperContext.getCommonContext().getTableNameMapper().getLogicTableName(rowsEvent.getTableName()).toString();
         DataRecord result = new DataRecord(type, rowsEvent.getSchemaName(), tableName, new WALPosition(rowsEvent.getLogSequenceNumber()), columnCount);
@@ -0,0 +1,272 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.decode;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.data.pipeline.core.exception.IngestException;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.event.AbstractRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.event.AbstractWALEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.event.BeginTXEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.event.CommitTXEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.event.DeleteRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.event.PlaceholderEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.event.UpdateRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.event.WriteRowEvent;
+import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
+import org.postgresql.core.Oid;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decoding plugin of pgoutput.
+ *
+ * <p>Relation messages are cached by relation OID, column values of tuple data are decoded by the column type OID of relation.
+ * Unchanged TOAST values of update are taken from old tuple only when it holds the full row, which needs REPLICA IDENTITY FULL.
+ * Old key values of delete are emitted with their column names, since REPLICA IDENTITY FULL flags every column as key.</p>
+ */
+@HighFrequencyInvocation
+@RequiredArgsConstructor
+public final class PgOutputDecodingPlugin implements DecodingPlugin {
+    
+    /**
+     * Plugin name.
+     */
+    public static final String PLUGIN_NAME = "pgoutput";
+    
+    private static final int KEY_COLUMN_FLAG = 1;
+    
+    private static final char OLD_TUPLE_KIND = 'O';
+    
+    private final BaseTimestampUtils timestampUtils;
+    
+    private final Map<Integer, PgOutputRelation> relations = new HashMap<>();
+    
+    private long xid;
+    
+    @Override
+    public AbstractWALEvent decode(final ByteBuffer data, final BaseLogSequenceNumber logSequenceNumber) {
+        AbstractWALEvent result;
+        char type = (char) data.get();
+        switch (type) {
+            case 'B':
+                result = readBeginEvent(data);
+                break;
+            case 'C':
+                result = new CommitTXEvent(xid, null);
+                break;
+            case 'R':
+                readRelation(data);
+                result = new PlaceholderEvent();
+                break;
+            case 'I':
+                result = readWriteRowEvent(data);
+                break;
+            case 'U':
+                result = readUpdateRowEvent(data);
+                break;
+            case 'D':
+                result = readDeleteRowEvent(data);
+                break;
+            default:
+                result = new PlaceholderEvent();
+        }
+        result.setLogSequenceNumber(logSequenceNumber);
+        return result;
+    }
+    
+    private BeginTXEvent readBeginEvent(final ByteBuffer data) {
+        data.getLong();
+        data.getLong();
+        xid = data.getInt() & 0xFFFFFFFFL;
+        return new BeginTXEvent(xid, null);
+    }
+    
+    private void readRelation(final ByteBuffer data) {
+        int relationId = data.getInt();
+        String schemaName = readCString(data);
+        String tableName = readCString(data);
+        data.get();
+        int columnCount = data.getShort();
+        String[] columnNames = new String[columnCount];
+        int[] columnTypes = new int[columnCount];
+        boolean[] keyColumns = new boolean[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            keyColumns[i] = KEY_COLUMN_FLAG == (data.get() & KEY_COLUMN_FLAG);
+            columnNames[i] = readCString(data);
+            columnTypes[i] = data.getInt();
+            data.getInt();
+        }
+        relations.put(relationId, new PgOutputRelation(schemaName, tableName, columnNames, columnTypes, keyColumns));
+    }
+    
+    private AbstractRowEvent readWriteRowEvent(final ByteBuffer data) {
+        PgOutputRelation relation = getRelation(data.getInt());
+        data.get();
+        WriteRowEvent result = new WriteRowEvent();
+        result.setAfterRow(readTupleData(data, relation, null));
+        return setTableName(result, relation);
+    }
+    
+    private AbstractRowEvent readUpdateRowEvent(final ByteBuffer data) {
+        PgOutputRelation relation = getRelation(data.getInt());
+        List<Object> beforeRow = null;
+        char oldTupleKind = (char) data.get();
+        if ('N' != oldTupleKind) {
+            List<Object> oldTuple = readTupleData(data, relation, null);
+            beforeRow = OLD_TUPLE_KIND == oldTupleKind ? oldTuple : null;
+            data.get();
+        }
+        UpdateRowEvent result = new UpdateRowEvent();
+        result.setAfterRow(readTupleData(data, relation, beforeRow));
+        return setTableName(result, relation);
+    }
+    
+    private AbstractRowEvent readDeleteRowEvent(final ByteBuffer data) {
+        PgOutputRelation relation = getRelation(data.getInt());
+        data.get();
+        List<Object> beforeRow = readTupleData(data, relation, null);
+        List<String> keyColumnNames = new ArrayList<>(beforeRow.size());
+        List<Object> primaryKeys = new ArrayList<>(beforeRow.size());
+        for (int i = 0; i < beforeRow.size(); i++) {
+            if (relation.getKeyColumns()[i]) {
+                keyColumnNames.add(relation.getColumnNames()[i]);
+                primaryKeys.add(beforeRow.get(i));
+            }
+        }
+        DeleteRowEvent result = new DeleteRowEvent();
+        result.setKeyColumnNames(keyColumnNames);
+        result.setPrimaryKeys(primaryKeys);
+        return setTableName(result, relation);
+    }
+    
+    private PgOutputRelation getRelation(final int relationId) {
+        PgOutputRelation result = relations.get(relationId);
+        if (null == result) {
+            throw new IngestException("Unknown relation id: " + relationId);
+        }
+        return result;
+    }
+    
+    private AbstractRowEvent setTableName(final AbstractRowEvent rowEvent, final PgOutputRelation relation) {
+        rowEvent.setSchemaName(relation.getSchemaName());
+        rowEvent.setTableName(relation.getTableName());
+        return rowEvent;
+    }
+    
+    private List<Object> readTupleData(final ByteBuffer data, final PgOutputRelation relation, final List<Object> beforeRow) {
+        int columnCount = data.getShort();
+        List<Object> result = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            char kind = (char) data.get();
+            switch (kind) {
+                case 'n':
+                    result.add(null);
+                    break;
+                case 'u':
+                    if (null == beforeRow) {
+                        throw new IngestException(String.format("Unchanged TOAST value of table `%s` is unknown, REPLICA IDENTITY FULL required", relation.getTableName()));
+                    }
+                    result.add(beforeRow.get(i));
+                    break;
+                case 't':
+                    result.add(readColumnData(data, data.getInt(), relation.getColumnTypes()[i]));
+                    break;
+                default:
+                    throw new IngestException("Unknown tuple data kind: " + kind);
+            }
+        }
+        return result;
+    }
+    
+    private Object readColumnData(final ByteBuffer data, final int length, final int columnType) {
+        switch (columnType) {
+            case Oid.BYTEA:
+                return readBytea(data, length);
+            case Oid.BOOL:
+                return "t".equals(readString(data, length));
+            case Oid.INT2:
+                return Short.parseShort(readString(data, length));
+            case Oid.INT4:
+                return Integer.parseInt(readString(data, length));
+            case Oid.INT8:
+                return Long.parseLong(readString(data, length));
+            case Oid.FLOAT4:
+                return Float.parseFloat(readString(data, length));
+            case Oid.FLOAT8:
+                return Double.parseDouble(readString(data, length));
+            case Oid.NUMERIC:
+                return new BigDecimal(readString(data, length));
+            case Oid.DATE:
+                return Date.valueOf(readString(data, length));
+            case Oid.TIME:
+                try {
+                    return timestampUtils.toTime(null, readString(data, length));
+                } catch (final SQLException ex) {
+                    throw new DecodingException(ex);
+                }
+            case Oid.TIMESTAMP:
+                try {
+                    return timestampUtils.toTimestamp(null, readString(data, length));
+                } catch (final SQLException ex) {
+                    throw new DecodingException(ex);
+                }
+            default:
+                return readString(data, length);
+        }
+    }
+    
+    private byte[] readBytea(final ByteBuffer data, final int length) {
+        data.position(data.position() + 2);
+        byte[] result = new byte[(length - 2) >>> 1];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = (byte) ((Character.digit(data.get(), 16) << 4) + Character.digit(data.get(), 16));
+        }
+        return result;
+    }
+    
+    private String readString(final ByteBuffer data, final int length) {
+        String result;
+        if (data.hasArray()) {
+            result = new String(data.array(), data.arrayOffset() + data.position(), length, StandardCharsets.UTF_8);
+            data.position(data.position() + length);
+        } else {
+            byte[] bytes = new byte[length];
+            data.get(bytes);
+            result = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return result;
+    }
+    
+    private String readCString(final ByteBuffer data) {
+        int length = 0;
+        while (0 != data.get(data.position() + length)) {
+            length++;
+        }
+        String result = readString(data, length);
+        data.get();
+        return result;
+    }
+}
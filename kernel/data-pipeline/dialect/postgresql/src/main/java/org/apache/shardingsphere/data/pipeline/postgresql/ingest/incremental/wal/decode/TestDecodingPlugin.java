@@ -46,6 +46,11 @@ import java.util.List;
 @RequiredArgsConstructor
 public final class TestDecodingPlugin implements DecodingPlugin {
     
+    /**
+     * Plugin name.
+     */
+    public static final String PLUGIN_NAME = "test_decoding";
+    
     private final BaseTimestampUtils timestampUtils;
     
     @Override
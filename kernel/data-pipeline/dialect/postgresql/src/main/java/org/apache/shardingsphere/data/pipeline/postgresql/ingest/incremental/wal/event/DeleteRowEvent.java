@@ -31,5 +31,7 @@ import java.util.List;
 @ToString(callSuper = true)
 public final class DeleteRowEvent extends AbstractRowEvent {
     
+    private List<String> keyColumnNames;
+    
     private List<Object> primaryKeys;
 }
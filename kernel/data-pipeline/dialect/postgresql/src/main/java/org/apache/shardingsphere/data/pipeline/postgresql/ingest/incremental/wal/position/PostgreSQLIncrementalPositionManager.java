@@ -17,11 +17,15 @@
 
 package org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.position;
 
+import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.data.pipeline.core.exception.PipelineInternalException;
 import org.apache.shardingsphere.data.pipeline.core.ingest.position.DialectIncrementalPositionManager;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.position.slot.PostgreSQLSlotManager;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.WALPosition;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.decode.PgOutputDecodingPlugin;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.decode.PostgreSQLLogSequenceNumber;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.decode.TestDecodingPlugin;
+import org.apache.shardingsphere.infra.metadata.database.schema.QualifiedTable;
 import org.postgresql.replication.LogSequenceNumber;
 
 import javax.sql.DataSource;
@@ -30,13 +34,20 @@ import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
 
 /**
  * Incremental position manager for PostgreSQL.
+ *
+ * <p>Decoding plugin pgoutput is used when publication of captured tables is available, otherwise test_decoding is used.</p>
  */
+@Slf4j
 public final class PostgreSQLIncrementalPositionManager implements DialectIncrementalPositionManager {
     
-    private final PostgreSQLSlotManager slotManager = new PostgreSQLSlotManager("test_decoding");
+    private final PostgreSQLSlotManager slotManager = new PostgreSQLSlotManager(PgOutputDecodingPlugin.PLUGIN_NAME);
+    
+    private final PostgreSQLSlotManager legacySlotManager = new PostgreSQLSlotManager(TestDecodingPlugin.PLUGIN_NAME);
     
     @Override
     public WALPosition init(final String data) {
@@ -45,12 +56,32 @@ public final class PostgreSQLIncrementalPositionManager implements DialectIncrem
     
     @Override
     public WALPosition init(final DataSource dataSource, final String slotNameSuffix) throws SQLException {
+        return init(dataSource, slotNameSuffix, Collections.emptyList());
+    }
+    
+    @Override
+    public WALPosition init(final DataSource dataSource, final String slotNameSuffix, final Collection<QualifiedTable> tables) throws SQLException {
         try (Connection connection = dataSource.getConnection()) {
-            slotManager.create(connection, slotNameSuffix);
+            getSlotManager(connection, slotNameSuffix, tables).create(connection, slotNameSuffix);
             return getWALPosition(connection, getLogSequenceNumberSQL(connection.getMetaData()));
         }
     }
     
+    private PostgreSQLSlotManager getSlotManager(final Connection connection, final String slotNameSuffix, final Collection<QualifiedTable> tables) throws SQLException {
+        if (!isPgOutputSupported(connection.getMetaData())) {
+            return legacySlotManager;
+        }
+        if (slotManager.createPublicationIfAbsent(connection, slotNameSuffix, tables)) {
+            return slotManager;
+        }
+        log.warn("Publication of tables {} is unavailable, fall back to decoding plugin `{}`.", tables, TestDecodingPlugin.PLUGIN_NAME);
+        return legacySlotManager;
+    }
+    
+    private boolean isPgOutputSupported(final DatabaseMetaData metaData) throws SQLException {
+        return 10 <= metaData.getDatabaseMajorVersion();
+    }
+    
     private WALPosition getWALPosition(final Connection connection, final String logSequenceNumberSQL) throws SQLException {
         try (
                 PreparedStatement preparedStatement = connection.prepareStatement(logSequenceNumberSQL);
@@ -73,7 +104,10 @@ public final class PostgreSQLIncrementalPositionManager implements DialectIncrem
     @Override
     public void destroy(final DataSource dataSource, final String slotNameSuffix) throws SQLException {
         try (Connection connection = dataSource.getConnection()) {
-            slotManager.dropIfExisted(connection, slotNameSuffix);
+            if (isPgOutputSupported(connection.getMetaData())) {
+                slotManager.dropIfExisted(connection, slotNameSuffix);
+            }
+            legacySlotManager.dropIfExisted(connection, slotNameSuffix);
         }
     }
     
@@ -18,21 +18,35 @@
 package org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.position.slot;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.segment.PipelineSQLSegmentBuilder;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.decode.PgOutputDecodingPlugin;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.database.schema.QualifiedTable;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * PostgreSQL slot manager.
+ *
+ * <p>Slot of pgoutput plugin consumes the publication with the same name, which is created for the captured tables before slot and dropped together with slot.</p>
  */
 @RequiredArgsConstructor
+@Slf4j
 public final class PostgreSQLSlotManager {
     
     private static final String DUPLICATE_OBJECT_ERROR_CODE = "42710";
     
+    private static final String INSUFFICIENT_PRIVILEGE_ERROR_CODE = "42501";
+    
     private final String decodePlugin;
     
     /**
@@ -78,6 +92,69 @@ public final class PostgreSQLSlotManager {
         }
     }
     
+    /**
+     * Create publication of pgoutput plugin for tables if absent.
+     *
+     * @param connection connection
+     * @param slotNameSuffix slot name suffix
+     * @param tables actual tables to be published
+     * @return whether publication is available, false if tables could not be published or privilege is insufficient
+     * @throws SQLException SQL exception
+     */
+    public boolean createPublicationIfAbsent(final Connection connection, final String slotNameSuffix, final Collection<QualifiedTable> tables) throws SQLException {
+        String publicationName = PostgreSQLSlotNameGenerator.getUniqueSlotName(connection, slotNameSuffix);
+        if (isPublicationExisted(connection, publicationName)) {
+            return true;
+        }
+        if (tables.isEmpty()) {
+            return false;
+        }
+        PipelineSQLSegmentBuilder sqlSegmentBuilder = new PipelineSQLSegmentBuilder(TypedSPILoader.getService(DatabaseType.class, "PostgreSQL"));
+        for (QualifiedTable each : tables) {
+            if (!isReplicaIdentityAvailable(connection, sqlSegmentBuilder.getQualifiedTableName(each))) {
+                log.warn("Table `{}` has no available replica identity, publication `{}` is not created.", each, publicationName);
+                return false;
+            }
+        }
+        String tableNames = tables.stream().map(sqlSegmentBuilder::getQualifiedTableName).collect(Collectors.joining(", "));
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(String.format("CREATE PUBLICATION %s FOR TABLE %s", publicationName, tableNames));
+            return true;
+        } catch (final SQLException ex) {
+            if (DUPLICATE_OBJECT_ERROR_CODE.equals(ex.getSQLState())) {
+                return true;
+            }
+            if (INSUFFICIENT_PRIVILEGE_ERROR_CODE.equals(ex.getSQLState())) {
+                log.warn("Insufficient privilege to create publication `{}`: {}", publicationName, ex.getMessage());
+                return false;
+            }
+            throw ex;
+        }
+    }
+    
+    private boolean isPublicationExisted(final Connection connection, final String publicationName) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement("SELECT 1 FROM pg_publication WHERE pubname=?")) {
+            preparedStatement.setString(1, publicationName);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                return resultSet.next();
+            }
+        }
+    }
+    
+    private boolean isReplicaIdentityAvailable(final Connection connection, final String qualifiedTableName) throws SQLException {
+        String sql = "SELECT c.relreplident, EXISTS (SELECT 1 FROM pg_index i WHERE i.indrelid=c.oid AND i.indisprimary) FROM pg_class c WHERE c.oid=to_regclass(?)";
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            preparedStatement.setString(1, qualifiedTableName);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                if (!resultSet.next()) {
+                    return false;
+                }
+                String replicaIdentity = resultSet.getString(1);
+                return "f".equals(replicaIdentity) || "i".equals(replicaIdentity) || "d".equals(replicaIdentity) && resultSet.getBoolean(2);
+            }
+        }
+    }
+    
     /**
      * Drop slot if existed.
      *
@@ -87,10 +164,14 @@ public final class PostgreSQLSlotManager {
      */
     public void dropIfExisted(final Connection connection, final String slotNameSuffix) throws SQLException {
         String slotName = PostgreSQLSlotNameGenerator.getUniqueSlotName(connection, slotNameSuffix);
-        if (!load(connection, slotName).isPresent()) {
-            return;
+        if (load(connection, slotName).isPresent()) {
+            doDrop(connection, slotName);
+        }
+        if (PgOutputDecodingPlugin.PLUGIN_NAME.equals(decodePlugin)) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(String.format("DROP PUBLICATION IF EXISTS %s", slotName));
+            }
         }
-        doDrop(connection, slotName);
     }
     
     private void doDrop(final Connection connection, final String slotName) throws SQLException {
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.postgresql.importer;
+
+import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.placeholder.IngestPlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.NormalColumn;
+import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.segment.PipelineSQLSegmentBuilder;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class PostgreSQLCopyTextEncoderTest {
+    
+    @Test
+    void assertBuildCopySQL() {
+        PipelineSQLSegmentBuilder sqlSegmentBuilder = new PipelineSQLSegmentBuilder(TypedSPILoader.getService(DatabaseType.class, "PostgreSQL"));
+        assertThat(PostgreSQLCopyTextEncoder.buildCopySQL(sqlSegmentBuilder, "foo_schema", createDataRecord("foo")), is("COPY foo_schema.foo_tbl(order_id,status,flag,content) FROM STDIN"));
+    }
+    
+    @Test
+    void assertEncode() {
+        StringBuilder actual = new StringBuilder();
+        PostgreSQLCopyTextEncoder.encode(createDataRecord("a\\b\tc\nd\re"), actual);
+        assertThat(actual.toString(), is("1\ta\\\\b\\tc\\nd\\re\tt\t\\\\x01ff\n"));
+    }
+    
+    @Test
+    void assertEncodeNullValue() {
+        StringBuilder actual = new StringBuilder();
+        PostgreSQLCopyTextEncoder.encode(createDataRecord(null), actual);
+        assertThat(actual.toString(), is("1\t\\N\tt\t\\\\x01ff\n"));
+    }
+    
+    private DataRecord createDataRecord(final String status) {
+        DataRecord result = new DataRecord(PipelineSQLOperationType.INSERT, "foo_tbl", new IngestPlaceholderPosition(), 4);
+        result.addColumn(new NormalColumn("order_id", 1, true, true));
+        result.addColumn(new NormalColumn("status", status, true, false));
+        result.addColumn(new NormalColumn("flag", true, true, false));
+        result.addColumn(new NormalColumn("content", new byte[]{1, (byte) 0xFF}, true, false));
+        return result;
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.postgresql.importer;
+
+import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
+import org.apache.shardingsphere.data.pipeline.core.importer.sink.type.DialectPipelineBulkInserter;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.placeholder.IngestPlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.NormalColumn;
+import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.junit.jupiter.api.Test;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.core.BaseConnection;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PostgreSQLPipelineBulkInserterTest {
+    
+    private final DialectPipelineBulkInserter bulkInserter = DatabaseTypedSPILoader.getService(DialectPipelineBulkInserter.class, TypedSPILoader.getService(DatabaseType.class, "PostgreSQL"));
+    
+    @Test
+    void assertIsSupported() throws SQLException {
+        Connection connection = mock(Connection.class);
+        assertFalse(bulkInserter.isSupported(connection));
+        when(connection.isWrapperFor(BaseConnection.class)).thenReturn(true);
+        assertTrue(bulkInserter.isSupported(connection));
+    }
+    
+    @Test
+    void assertBulkInsert() throws SQLException {
+        CopyIn copyIn = mock(CopyIn.class);
+        Connection connection = mockConnection(copyIn);
+        bulkInserter.bulkInsert(connection, null, Arrays.asList(createDataRecord(1, "foo"), createDataRecord(2, "bar")));
+        verify(copyIn).writeToCopy("1\tfoo\n".getBytes(StandardCharsets.UTF_8), 0, 6);
+        verify(copyIn).writeToCopy("2\tbar\n".getBytes(StandardCharsets.UTF_8), 0, 6);
+        verify(copyIn).endCopy();
+        verify(copyIn, never()).cancelCopy();
+    }
+    
+    @Test
+    void assertBulkInsertFailed() throws SQLException {
+        CopyIn copyIn = mock(CopyIn.class);
+        Connection connection = mockConnection(copyIn);
+        doThrow(SQLException.class).when(copyIn).writeToCopy(any(), anyInt(), anyInt());
+        when(copyIn.isActive()).thenReturn(true);
+        assertThrows(SQLException.class, () -> bulkInserter.bulkInsert(connection, null, Arrays.asList(createDataRecord(1, "foo"), createDataRecord(2, "bar"))));
+        verify(copyIn).cancelCopy();
+    }
+    
+    private Connection mockConnection(final CopyIn copyIn) throws SQLException {
+        BaseConnection baseConnection = mock(BaseConnection.class, RETURNS_DEEP_STUBS);
+        when(baseConnection.getQueryExecutor().startCopy(eq("COPY foo_tbl(order_id,status) FROM STDIN"), anyBoolean())).thenReturn(copyIn);
+        Connection result = mock(Connection.class);
+        when(result.unwrap(BaseConnection.class)).thenReturn(baseConnection);
+        return result;
+    }
+    
+    private DataRecord createDataRecord(final int orderId, final String status) {
+        DataRecord result = new DataRecord(PipelineSQLOperationType.INSERT, "foo_tbl", new IngestPlaceholderPosition(), 2);
+        result.addColumn(new NormalColumn("order_id", orderId, true, true));
+        result.addColumn(new NormalColumn("status", status, true, false));
+        return result;
+    }
+}
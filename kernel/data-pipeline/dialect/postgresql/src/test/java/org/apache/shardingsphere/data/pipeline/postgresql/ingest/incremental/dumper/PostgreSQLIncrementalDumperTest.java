@@ -49,6 +49,7 @@ import org.postgresql.replication.PGReplicationStream;
 
 import java.nio.ByteBuffer;
 import java.sql.Connection;
+import java.sql.DatabaseMetaData;
 import java.sql.DriverManager;
 import java.sql.SQLException;
 import java.sql.Statement;
@@ -76,6 +77,9 @@ class PostgreSQLIncrementalDumperTest {
     @Mock
     private PGReplicationStream pgReplicationStream;
     
+    @Mock
+    private DatabaseMetaData databaseMetaData;
+    
     private WALPosition position;
     
     private IncrementalDumperContext dumperContext;
@@ -136,8 +140,10 @@ class PostgreSQLIncrementalDumperTest {
             Plugins.getMemberAccessor().set(PostgreSQLIncrementalDumper.class.getDeclaredField("logicalReplication"), walDumper, logicalReplication);
             when(logicalReplication.createConnection(dataSourceConfig)).thenReturn(pgConnection);
             when(pgConnection.unwrap(PgConnection.class)).thenReturn(pgConnection);
+            when(pgConnection.getMetaData()).thenReturn(databaseMetaData);
+            when(databaseMetaData.getDatabaseMajorVersion()).thenReturn(9);
             when(PostgreSQLSlotNameGenerator.getUniqueSlotName(eq(pgConnection), anyString())).thenReturn("0101123456");
-            when(logicalReplication.createReplicationStream(pgConnection, "0101123456", position.getLogSequenceNumber())).thenReturn(pgReplicationStream);
+            when(logicalReplication.createReplicationStream(pgConnection, "0101123456", "test_decoding", position.getLogSequenceNumber())).thenReturn(pgReplicationStream);
             ByteBuffer data = ByteBuffer.wrap("table public.t_order_0: DELETE: order_id[integer]:1".getBytes());
             when(pgReplicationStream.readPending()).thenReturn(null).thenReturn(data).thenThrow(new IngestException(""));
             when(pgReplicationStream.getLastReceiveLSN()).thenReturn(LogSequenceNumber.valueOf(101L));
@@ -87,13 +87,28 @@ class PostgreSQLLogicalReplicationTest {
         when(chainedLogicalStreamBuilder.withSlotName("")).thenReturn(chainedLogicalStreamBuilder);
         when(chainedLogicalStreamBuilder.withSlotOption(anyString(), eq(true))).thenReturn(chainedLogicalStreamBuilder, chainedLogicalStreamBuilder);
         BaseLogSequenceNumber basePosition = new PostgreSQLLogSequenceNumber(startPosition);
-        logicalReplication.createReplicationStream(connection, "", basePosition);
+        logicalReplication.createReplicationStream(connection, "", "test_decoding", basePosition);
+        verify(chainedLogicalStreamBuilder).start();
+    }
+    
+    @Test
+    void assertCreatePgOutputReplicationStreamSuccess() throws SQLException {
+        LogSequenceNumber startPosition = LogSequenceNumber.valueOf(100L);
+        when(connection.unwrap(PGConnection.class)).thenReturn(connection);
+        when(connection.getReplicationAPI()).thenReturn(pgReplicationConnection);
+        when(pgReplicationConnection.replicationStream()).thenReturn(chainedStreamBuilder);
+        when(chainedStreamBuilder.logical()).thenReturn(chainedLogicalStreamBuilder);
+        when(chainedLogicalStreamBuilder.withStartPosition(startPosition)).thenReturn(chainedLogicalStreamBuilder);
+        when(chainedLogicalStreamBuilder.withSlotName("foo_slot")).thenReturn(chainedLogicalStreamBuilder);
+        when(chainedLogicalStreamBuilder.withSlotOption("proto_version", "1")).thenReturn(chainedLogicalStreamBuilder);
+        when(chainedLogicalStreamBuilder.withSlotOption("publication_names", "foo_slot")).thenReturn(chainedLogicalStreamBuilder);
+        logicalReplication.createReplicationStream(connection, "foo_slot", "pgoutput", new PostgreSQLLogSequenceNumber(startPosition));
         verify(chainedLogicalStreamBuilder).start();
     }
     
     @Test
     void assertCreateReplicationStreamFailure() throws SQLException {
         when(connection.unwrap(PGConnection.class)).thenThrow(new SQLException(""));
-        assertThrows(SQLException.class, () -> logicalReplication.createReplicationStream(connection, "", new PostgreSQLLogSequenceNumber(LogSequenceNumber.valueOf(100L))));
+        assertThrows(SQLException.class, () -> logicalReplication.createReplicationStream(connection, "", "test_decoding", new PostgreSQLLogSequenceNumber(LogSequenceNumber.valueOf(100L))));
     }
 }
@@ -21,6 +21,7 @@ import org.apache.shardingsphere.data.pipeline.api.type.StandardPipelineDataSour
 import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
 import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSource;
 import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourceManager;
+import org.apache.shardingsphere.data.pipeline.core.exception.IngestException;
 import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.DumperCommonContext;
 import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.incremental.IncrementalDumperContext;
 import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.mapper.ActualAndLogicTableNameMapper;
@@ -186,6 +187,30 @@ class WALEventConverterTest {
         assertThat(((DataRecord) record).getType(), is(PipelineSQLOperationType.DELETE));
     }
     
+    @Test
+    void assertConvertDeleteRowEventWithReplicaIdentityFull() {
+        DeleteRowEvent event = new DeleteRowEvent();
+        event.setSchemaName("");
+        event.setTableName("t_order");
+        event.setKeyColumnNames(Arrays.asList("user_id", "status", "order_id"));
+        event.setPrimaryKeys(Arrays.asList(1, "OK", 101));
+        DataRecord actual = (DataRecord) walEventConverter.convert(event);
+        assertThat(actual.getType(), is(PipelineSQLOperationType.DELETE));
+        assertThat(actual.getColumnCount(), is(1));
+        assertThat(actual.getColumn(0).getName(), is("order_id"));
+        assertThat(actual.getColumn(0).getOldValue(), is(101));
+    }
+    
+    @Test
+    void assertConvertDeleteRowEventWithoutPrimaryKeyColumn() {
+        DeleteRowEvent event = new DeleteRowEvent();
+        event.setSchemaName("");
+        event.setTableName("t_order");
+        event.setKeyColumnNames(Collections.singletonList("user_id"));
+        event.setPrimaryKeys(Collections.singletonList(1));
+        assertThrows(IngestException.class, () -> walEventConverter.convert(event));
+    }
+    
     @Test
     void assertConvertPlaceholderEvent() {
         Record record = walEventConverter.convert(new PlaceholderEvent());
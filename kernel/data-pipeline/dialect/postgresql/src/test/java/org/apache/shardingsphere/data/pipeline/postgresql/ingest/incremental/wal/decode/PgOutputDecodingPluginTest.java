@@ -0,0 +1,236 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.decode;
+
+import org.apache.shardingsphere.data.pipeline.core.exception.IngestException;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.event.BeginTXEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.event.CommitTXEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.event.DeleteRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.event.PlaceholderEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.event.UpdateRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.event.WriteRowEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.postgresql.core.Oid;
+import org.postgresql.replication.LogSequenceNumber;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PgOutputDecodingPluginTest {
+    
+    private static final int RELATION_ID = 16385;
+    
+    private final PostgreSQLLogSequenceNumber logSequenceNumber = new PostgreSQLLogSequenceNumber(LogSequenceNumber.valueOf("0/14EFDB8"));
+    
+    private final PgOutputDecodingPlugin decodingPlugin = new PgOutputDecodingPlugin(null);
+    
+    @BeforeEach
+    void setUp() {
+        ByteBuffer data = ByteBuffer.allocate(256);
+        data.put((byte) 'R').putInt(RELATION_ID);
+        putCString(data, "public");
+        putCString(data, "t_order");
+        data.put((byte) 'd').putShort((short) 5);
+        putColumn(data, true, "order_id", Oid.INT8);
+        putColumn(data, false, "status", Oid.VARCHAR);
+        putColumn(data, false, "amount", Oid.NUMERIC);
+        putColumn(data, false, "paid", Oid.BOOL);
+        putColumn(data, false, "content", Oid.BYTEA);
+        data.flip();
+        assertThat(decodingPlugin.decode(data, logSequenceNumber), instanceOf(PlaceholderEvent.class));
+    }
+    
+    @Test
+    void assertDecodeBeginTXEvent() {
+        ByteBuffer data = ByteBuffer.allocate(21);
+        data.put((byte) 'B').putLong(1L).putLong(2L).putInt(-1);
+        data.flip();
+        BeginTXEvent actual = (BeginTXEvent) decodingPlugin.decode(data, logSequenceNumber);
+        assertThat(actual.getLogSequenceNumber(), is(logSequenceNumber));
+        assertThat(actual.getXid(), is(0xFFFFFFFFL));
+    }
+    
+    @Test
+    void assertDecodeCommitTXEvent() {
+        ByteBuffer data = ByteBuffer.allocate(21);
+        data.put((byte) 'B').putLong(1L).putLong(2L).putInt(616281);
+        data.flip();
+        decodingPlugin.decode(data, logSequenceNumber);
+        CommitTXEvent actual = (CommitTXEvent) decodingPlugin.decode(ByteBuffer.wrap(new byte[]{'C', 0}), logSequenceNumber);
+        assertThat(actual.getLogSequenceNumber(), is(logSequenceNumber));
+        assertThat(actual.getXid(), is(616281L));
+    }
+    
+    @Test
+    void assertDecodeWriteRowEvent() {
+        ByteBuffer data = ByteBuffer.allocate(128);
+        data.put((byte) 'I').putInt(RELATION_ID).put((byte) 'N');
+        putTuple(data, "1", "中文😊", "12.50", "t", "\\x0aff");
+        data.flip();
+        WriteRowEvent actual = (WriteRowEvent) decodingPlugin.decode(data, logSequenceNumber);
+        assertThat(actual.getLogSequenceNumber(), is(logSequenceNumber));
+        assertThat(actual.getSchemaName(), is("public"));
+        assertThat(actual.getTableName(), is("t_order"));
+        assertThat(actual.getAfterRow().subList(0, 4), is(Arrays.asList(1L, "中文😊", new BigDecimal("12.50"), true)));
+        assertThat(actual.getAfterRow().get(4), is(new byte[]{0x0a, (byte) 0xff}));
+    }
+    
+    @Test
+    void assertDecodeWriteRowEventWithNullValue() {
+        ByteBuffer data = ByteBuffer.allocate(128);
+        data.put((byte) 'I').putInt(RELATION_ID).put((byte) 'N');
+        putTuple(data, "2", null, null, "f", null);
+        data.flip();
+        WriteRowEvent actual = (WriteRowEvent) decodingPlugin.decode(data, logSequenceNumber);
+        assertThat(actual.getAfterRow().get(0), is(2L));
+        assertNull(actual.getAfterRow().get(1));
+        assertNull(actual.getAfterRow().get(2));
+        assertThat(actual.getAfterRow().get(3), is(false));
+        assertNull(actual.getAfterRow().get(4));
+    }
+    
+    @Test
+    void assertDecodeUpdateRowEventWithUnchangedToastedValue() {
+        ByteBuffer data = ByteBuffer.allocate(128);
+        data.put((byte) 'U').putInt(RELATION_ID).put((byte) 'O');
+        putTuple(data, "1", "old", "1", "f", "\\x01");
+        data.put((byte) 'N').putShort((short) 5);
+        putText(data, "1");
+        putText(data, "new");
+        putText(data, "2");
+        putText(data, "t");
+        data.put((byte) 'u');
+        data.flip();
+        UpdateRowEvent actual = (UpdateRowEvent) decodingPlugin.decode(data, logSequenceNumber);
+        assertThat(actual.getTableName(), is("t_order"));
+        assertThat(actual.getAfterRow().subList(0, 4), is(Arrays.asList(1L, "new", new BigDecimal("2"), true)));
+        assertThat(actual.getAfterRow().get(4), is(new byte[]{0x01}));
+    }
+    
+    @Test
+    void assertDecodeUpdateRowEventWithUnknownToastedValue() {
+        ByteBuffer data = ByteBuffer.allocate(128);
+        data.put((byte) 'U').putInt(RELATION_ID).put((byte) 'N').putShort((short) 5);
+        putText(data, "1");
+        putText(data, "new");
+        putText(data, "2");
+        putText(data, "t");
+        data.put((byte) 'u');
+        data.flip();
+        assertThrows(IngestException.class, () -> decodingPlugin.decode(data, logSequenceNumber));
+    }
+    
+    @Test
+    void assertDecodeUpdateRowEventWithKeyTupleAndUnchangedToastedValue() {
+        ByteBuffer data = ByteBuffer.allocate(128);
+        data.put((byte) 'U').putInt(RELATION_ID).put((byte) 'K');
+        putTuple(data, "0", null, null, null, null);
+        data.put((byte) 'N').putShort((short) 5);
+        putText(data, "1");
+        putText(data, "new");
+        putText(data, "2");
+        putText(data, "t");
+        data.put((byte) 'u');
+        data.flip();
+        IngestException actual = assertThrows(IngestException.class, () -> decodingPlugin.decode(data, logSequenceNumber));
+        assertThat(actual.getMessage(), containsString("REPLICA IDENTITY FULL required"));
+    }
+    
+    @Test
+    void assertDecodeDeleteRowEvent() {
+        ByteBuffer data = ByteBuffer.allocate(128);
+        data.put((byte) 'D').putInt(RELATION_ID).put((byte) 'K');
+        putTuple(data, "3", null, null, null, null);
+        data.flip();
+        DeleteRowEvent actual = (DeleteRowEvent) decodingPlugin.decode(data, logSequenceNumber);
+        assertThat(actual.getTableName(), is("t_order"));
+        assertThat(actual.getKeyColumnNames(), is(Collections.singletonList("order_id")));
+        assertThat(actual.getPrimaryKeys(), is(Collections.singletonList(3L)));
+    }
+    
+    @Test
+    void assertDecodeDeleteRowEventWithReplicaIdentityFull() {
+        ByteBuffer relation = ByteBuffer.allocate(128);
+        relation.put((byte) 'R').putInt(RELATION_ID);
+        putCString(relation, "public");
+        putCString(relation, "t_order");
+        relation.put((byte) 'f').putShort((short) 3);
+        putColumn(relation, true, "status", Oid.VARCHAR);
+        putColumn(relation, true, "order_id", Oid.INT8);
+        putColumn(relation, true, "paid", Oid.BOOL);
+        relation.flip();
+        decodingPlugin.decode(relation, logSequenceNumber);
+        ByteBuffer data = ByteBuffer.allocate(128);
+        data.put((byte) 'D').putInt(RELATION_ID).put((byte) 'O');
+        putTuple(data, "ok", "3", "t");
+        data.flip();
+        DeleteRowEvent actual = (DeleteRowEvent) decodingPlugin.decode(data, logSequenceNumber);
+        assertThat(actual.getKeyColumnNames(), is(Arrays.asList("status", "order_id", "paid")));
+        assertThat(actual.getPrimaryKeys(), is(Arrays.asList("ok", 3L, true)));
+    }
+    
+    @Test
+    void assertDecodeRowEventWithUnknownRelation() {
+        ByteBuffer data = ByteBuffer.allocate(16);
+        data.put((byte) 'D').putInt(RELATION_ID + 1).put((byte) 'K').putShort((short) 0);
+        data.flip();
+        assertThrows(IngestException.class, () -> decodingPlugin.decode(data, logSequenceNumber));
+    }
+    
+    @Test
+    void assertDecodeUnknownMessage() {
+        assertThat(decodingPlugin.decode(ByteBuffer.wrap(new byte[]{'O', 0}), logSequenceNumber), instanceOf(PlaceholderEvent.class));
+    }
+    
+    private void putCString(final ByteBuffer data, final String value) {
+        data.put(value.getBytes(StandardCharsets.UTF_8)).put((byte) 0);
+    }
+    
+    private void putColumn(final ByteBuffer data, final boolean keyColumn, final String columnName, final int columnType) {
+        data.put((byte) (keyColumn ? 1 : 0));
+        putCString(data, columnName);
+        data.putInt(columnType).putInt(-1);
+    }
+    
+    private void putTuple(final ByteBuffer data, final String... values) {
+        data.putShort((short) values.length);
+        for (String each : values) {
+            if (null == each) {
+                data.put((byte) 'n');
+            } else {
+                putText(data, each);
+            }
+        }
+    }
+    
+    private void putText(final ByteBuffer data, final String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        data.put((byte) 't').putInt(bytes.length).put(bytes);
+    }
+}
@@ -23,6 +23,7 @@ import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.position.slot.PostgreSQLSlotManager;
 import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.database.schema.QualifiedTable;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.test.fixture.jdbc.MockedDataSource;
 import org.junit.jupiter.api.BeforeEach;
@@ -40,11 +41,14 @@ import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -70,11 +74,15 @@ class PostgreSQLIncrementalPositionManagerTest {
     @Mock
     private PostgreSQLSlotManager slotManager;
     
+    @Mock
+    private PostgreSQLSlotManager legacySlotManager;
+    
     @BeforeEach
     void setUp() throws SQLException, ReflectiveOperationException {
         dataSource = new MockedDataSource(connection);
         when(connection.getMetaData()).thenReturn(databaseMetaData);
         Plugins.getMemberAccessor().set(PostgreSQLIncrementalPositionManager.class.getDeclaredField("slotManager"), incrementalPositionManager, slotManager);
+        Plugins.getMemberAccessor().set(PostgreSQLIncrementalPositionManager.class.getDeclaredField("legacySlotManager"), incrementalPositionManager, legacySlotManager);
     }
     
     @Test
@@ -91,7 +99,8 @@ class PostgreSQLIncrementalPositionManagerTest {
         when(connection.prepareStatement("SELECT PG_CURRENT_XLOG_LOCATION()")).thenReturn(preparedStatement);
         WALPosition actual = (WALPosition) incrementalPositionManager.init(dataSource, "");
         assertThat(actual.getLogSequenceNumber().get(), is(LogSequenceNumber.valueOf(POSTGRESQL_96_LSN)));
-        verify(slotManager).create(connection, "");
+        verify(legacySlotManager).create(connection, "");
+        verify(slotManager, never()).create(connection, "");
     }
     
     @Test
@@ -99,9 +108,24 @@ class PostgreSQLIncrementalPositionManagerTest {
         when(databaseMetaData.getDatabaseMajorVersion()).thenReturn(10);
         PreparedStatement preparedStatement = mockPreparedStatement(POSTGRESQL_10_LSN);
         when(connection.prepareStatement("SELECT PG_CURRENT_WAL_LSN()")).thenReturn(preparedStatement);
-        WALPosition actual = (WALPosition) incrementalPositionManager.init(dataSource, "");
+        Collection<QualifiedTable> tables = Collections.singletonList(new QualifiedTable("public", "t_order"));
+        when(slotManager.createPublicationIfAbsent(connection, "", tables)).thenReturn(true);
+        WALPosition actual = (WALPosition) incrementalPositionManager.init(dataSource, "", tables);
         assertThat(actual.getLogSequenceNumber().get(), is(LogSequenceNumber.valueOf(POSTGRESQL_10_LSN)));
         verify(slotManager).create(connection, "");
+        verify(legacySlotManager, never()).create(connection, "");
+    }
+    
+    @Test
+    void assertInitWithPostgreSQL10AndPublicationUnavailable() throws SQLException {
+        when(databaseMetaData.getDatabaseMajorVersion()).thenReturn(10);
+        PreparedStatement preparedStatement = mockPreparedStatement(POSTGRESQL_10_LSN);
+        when(connection.prepareStatement("SELECT PG_CURRENT_WAL_LSN()")).thenReturn(preparedStatement);
+        Collection<QualifiedTable> tables = Collections.singletonList(new QualifiedTable("public", "t_order"));
+        WALPosition actual = (WALPosition) incrementalPositionManager.init(dataSource, "", tables);
+        assertThat(actual.getLogSequenceNumber().get(), is(LogSequenceNumber.valueOf(POSTGRESQL_10_LSN)));
+        verify(legacySlotManager).create(connection, "");
+        verify(slotManager, never()).create(connection, "");
     }
     
     @Test
@@ -120,8 +144,18 @@ class PostgreSQLIncrementalPositionManagerTest {
     }
     
     @Test
-    void assertDestroy() throws SQLException {
+    void assertDestroyWithPostgreSQL96() throws SQLException {
+        when(databaseMetaData.getDatabaseMajorVersion()).thenReturn(9);
+        incrementalPositionManager.destroy(dataSource, "");
+        verify(slotManager, never()).dropIfExisted(connection, "");
+        verify(legacySlotManager).dropIfExisted(connection, "");
+    }
+    
+    @Test
+    void assertDestroyWithPostgreSQL10() throws SQLException {
+        when(databaseMetaData.getDatabaseMajorVersion()).thenReturn(10);
         incrementalPositionManager.destroy(dataSource, "");
         verify(slotManager).dropIfExisted(connection, "");
+        verify(legacySlotManager).dropIfExisted(connection, "");
     }
 }
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.position.slot;
+
+import org.apache.shardingsphere.infra.metadata.database.schema.QualifiedTable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.endsWith;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PostgreSQLSlotManagerTest {
+    
+    private final PostgreSQLSlotManager slotManager = new PostgreSQLSlotManager("pgoutput");
+    
+    private final Collection<QualifiedTable> tables = Arrays.asList(new QualifiedTable("public", "t_order"), new QualifiedTable("public", "t_order_item"));
+    
+    @Mock
+    private Connection connection;
+    
+    @Mock
+    private Statement statement;
+    
+    private boolean publicationExisted;
+    
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(connection.getCatalog()).thenReturn("foo_db");
+        PreparedStatement preparedStatement = mock(PreparedStatement.class, RETURNS_DEEP_STUBS);
+        when(connection.prepareStatement("SELECT 1 FROM pg_publication WHERE pubname=?")).thenReturn(preparedStatement);
+        when(preparedStatement.executeQuery().next()).thenAnswer(invocation -> publicationExisted);
+    }
+    
+    @Test
+    void assertCreatePublicationIfAbsentWithExistedPublication() throws SQLException {
+        publicationExisted = true;
+        assertThat(slotManager.createPublicationIfAbsent(connection, "foo_job", tables), is(true));
+        verify(connection, never()).createStatement();
+    }
+    
+    @Test
+    void assertCreatePublicationIfAbsentWithoutTables() throws SQLException {
+        assertThat(slotManager.createPublicationIfAbsent(connection, "foo_job", Collections.emptyList()), is(false));
+        verify(connection, never()).createStatement();
+    }
+    
+    @Test
+    void assertCreatePublicationIfAbsentForTables() throws SQLException {
+        mockReplicaIdentity("d", true);
+        when(connection.createStatement()).thenReturn(statement);
+        assertThat(slotManager.createPublicationIfAbsent(connection, "foo_job", tables), is(true));
+        verify(statement).execute(startsWith("CREATE PUBLICATION pipeline_"));
+        verify(statement).execute(endsWith(" FOR TABLE public.t_order, public.t_order_item"));
+    }
+    
+    @Test
+    void assertCreatePublicationIfAbsentWithoutReplicaIdentity() throws SQLException {
+        mockReplicaIdentity("d", false);
+        assertThat(slotManager.createPublicationIfAbsent(connection, "foo_job", tables), is(false));
+        verify(connection, never()).createStatement();
+    }
+    
+    @Test
+    void assertCreatePublicationIfAbsentWithInsufficientPrivilege() throws SQLException {
+        mockReplicaIdentity("f", false);
+        when(connection.createStatement()).thenReturn(statement);
+        doThrow(new SQLException("must be owner of table t_order", "42501")).when(statement).execute(anyString());
+        assertThat(slotManager.createPublicationIfAbsent(connection, "foo_job", tables), is(false));
+    }
+    
+    private void mockReplicaIdentity(final String replicaIdentity, final boolean hasPrimaryKey) throws SQLException {
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(connection.prepareStatement(startsWith("SELECT c.relreplident"))).thenReturn(preparedStatement);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getString(1)).thenReturn(replicaIdentity);
+        if ("d".equals(replicaIdentity)) {
+            when(resultSet.getBoolean(2)).thenReturn(hasPrimaryKey);
+        }
+    }
+}
@@ -29,6 +29,7 @@ import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.junit.jupiter.api.Test;
 import org.postgresql.replication.LogSequenceNumber;
 
+import java.math.BigDecimal;
 import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -81,6 +82,13 @@ class PostgreSQLPipelineSQLBuilderTest {
         assertThat(actual.get(), is("SELECT reltuples::integer FROM pg_class WHERE oid='foo_tbl'::regclass::oid;"));
     }
     
+    @Test
+    void assertBuildSampleUniqueKeyValuesSQL() {
+        Optional<String> actual = sqlBuilder.buildSampleUniqueKeyValuesSQL("foo_tbl", "foo_key", new BigDecimal("0.000100"));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is("SELECT foo_key FROM foo_tbl TABLESAMPLE SYSTEM (0.000100) ORDER BY foo_key ASC"));
+    }
+    
     @Test
     void assertBuildCRC32SQL() {
         Optional<String> actual = sqlBuilder.buildCRC32SQL("foo_tbl", "foo_col");
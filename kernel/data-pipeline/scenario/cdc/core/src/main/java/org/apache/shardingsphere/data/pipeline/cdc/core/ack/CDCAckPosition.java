@@ -50,4 +50,13 @@ public final class CDCAckPosition {
     public int getDataRecordCount() {
         return dataRecordCount.get();
     }
+    
+    /**
+     * Add data record count.
+     *
+     * @param count data record count to be added
+     */
+    public void addDataRecordCount(final int count) {
+        dataRecordCount.addAndGet(count);
+    }
 }
@@ -41,19 +41,28 @@ import org.apache.shardingsphere.data.pipeline.core.ratelimit.JobRateLimitAlgori
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.PriorityQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
  * CDC importer.
+ *
+ * <p>With sorting, small transactions are coalesced in CSN order into one sink write and ack id, until record count reaches batch size,
+ * estimated bytes reach {@value #COALESCE_MAX_BYTES} or {@code timeoutMillis} elapses.</p>
  */
 @RequiredArgsConstructor
 @Slf4j
 public final class CDCImporter extends AbstractPipelineLifecycleRunnable implements Importer {
     
+    private static final long COALESCE_MAX_BYTES = 1024L * 1024L;
+    
+    private static final long MAX_WAIT_STEP_MILLIS = 10L;
+    
     @Getter
     private final String importerId = RandomStringUtils.randomAlphanumeric(8);
     
@@ -98,10 +107,10 @@ public final class CDCImporter extends AbstractPipelineLifecycleRunnable impleme
         }
         List<CSNRecords> csnRecordsList = getCsnRecordsList();
         if (csnRecordsList.isEmpty()) {
-            TimeUnit.MILLISECONDS.sleep(timeoutMillis);
+            waitForRecords();
             return;
         }
-        // TODO Combine small transactions into a large transaction, to improve transformation performance.
+        coalesceCSNRecords(csnRecordsList);
         String ackId = CDCAckId.build(importerId).marshal();
         if (1 == csnRecordsList.size()) {
             processCSNRecords(csnRecordsList.get(0), ackId);
@@ -110,6 +119,55 @@ public final class CDCImporter extends AbstractPipelineLifecycleRunnable impleme
         }
     }
     
+    private void waitForRecords() throws InterruptedException {
+        long waitMillis = 1L;
+        long deadlineMillis = System.currentTimeMillis() + timeoutMillis;
+        while (isRunning() && !hasPendingRecords() && System.currentTimeMillis() < deadlineMillis) {
+            TimeUnit.MILLISECONDS.sleep(waitMillis);
+            waitMillis = Math.min(waitMillis << 1, MAX_WAIT_STEP_MILLIS);
+        }
+    }
+    
+    private boolean hasPendingRecords() {
+        for (CDCChannelProgressPair each : channelProgressPairs) {
+            if (!each.getChannel().peek().isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private void coalesceCSNRecords(final List<CSNRecords> csnRecordsList) {
+        int recordCount = 0;
+        long bytes = 0L;
+        for (CSNRecords each : csnRecordsList) {
+            recordCount += each.getRecords().size();
+            bytes += estimateBytes(each.getRecords());
+        }
+        long deadlineMillis = System.currentTimeMillis() + timeoutMillis;
+        while (recordCount < batchSize && bytes < COALESCE_MAX_BYTES && System.currentTimeMillis() < deadlineMillis) {
+            List<CSNRecords> nextCSNRecordsList = getCsnRecordsList();
+            if (nextCSNRecordsList.isEmpty()) {
+                return;
+            }
+            for (CSNRecords each : nextCSNRecordsList) {
+                recordCount += each.getRecords().size();
+                bytes += estimateBytes(each.getRecords());
+            }
+            csnRecordsList.addAll(nextCSNRecordsList);
+        }
+    }
+    
+    private long estimateBytes(final List<Record> records) {
+        long result = 0L;
+        for (Record each : records) {
+            if (each instanceof DataRecord) {
+                result += ((DataRecord) each).estimateBytes();
+            }
+        }
+        return result;
+    }
+    
     private List<CSNRecords> getCsnRecordsList() {
         List<CSNRecords> result = new LinkedList<>();
         CSNRecords firstRecords = null;
@@ -132,7 +190,6 @@ public final class CDCImporter extends AbstractPipelineLifecycleRunnable impleme
     }
     
     // TODO openGauss CSN should be incremented for every transaction. Currently, CSN might be duplicated in transactions.
-    // TODO Use channels watermark depth to improve performance.
     private void prepareTransactionRecords() {
         if (csnRecordsQueue.isEmpty()) {
             prepareWhenQueueIsEmpty();
@@ -196,12 +253,23 @@ public final class CDCImporter extends AbstractPipelineLifecycleRunnable impleme
     }
     
     private void processCSNRecordsList(final List<CSNRecords> csnRecordsList, final String ackId) {
-        List<Pair<CDCChannelProgressPair, CDCAckPosition>> ackValue = csnRecordsList.stream().map(each -> Pair.of(each.getChannelProgressPair(),
-                new CDCAckPosition(each.getRecords().get(each.getRecords().size() - 1), getDataRecordsCount(each.getRecords())))).collect(Collectors.toList());
+        Map<CDCChannelProgressPair, CDCAckPosition> ackPositions = new LinkedHashMap<>();
+        for (CSNRecords each : csnRecordsList) {
+            Record lastRecord = each.getRecords().get(each.getRecords().size() - 1);
+            int dataRecordCount = getDataRecordsCount(each.getRecords());
+            CDCAckPosition ackPosition = ackPositions.get(each.getChannelProgressPair());
+            if (null == ackPosition) {
+                ackPositions.put(each.getChannelProgressPair(), new CDCAckPosition(lastRecord, dataRecordCount));
+            } else {
+                ackPosition.setLastRecord(lastRecord);
+                ackPosition.addDataRecordCount(dataRecordCount);
+            }
+        }
+        List<Pair<CDCChannelProgressPair, CDCAckPosition>> ackValue = ackPositions.entrySet().stream().map(each -> Pair.of(each.getKey(), each.getValue())).collect(Collectors.toList());
         ackCache.put(ackId, ackValue);
         Collection<Record> records = new ArrayList<>(ackValue.stream().mapToInt(each -> each.getRight().getDataRecordCount()).sum());
         csnRecordsList.forEach(each -> records.addAll(filterDataRecords(each.getRecords())));
-        sink.write(ackId, filterDataRecords(records));
+        sink.write(ackId, records);
     }
     
     private List<Record> filterDataRecords(final Collection<Record> records) {
@@ -152,8 +152,11 @@ public final class CDCJobPreparer {
                 dumperContext, dumperContext.getCommonContext().getPosition(), channel, jobItemContext.getSourceMetaDataLoader(), jobItemContext.getDataSourceManager());
         Dumper dumper = IncrementalDumperCreator.create(param);
         boolean needSorting = jobItemContext.getJobConfig().isDecodeWithTX();
+        ImporterConfiguration importerConfig = taskConfig.getImporterConfig();
+        // Only the sorting path coalesces up to batch size; the unsorted fetch would block up to its timeout waiting for a full batch.
+        int batchSize = needSorting ? importerConfig.getBatchSize() : 1;
         Importer importer = importerUsed.get() ? null
-                : new CDCImporter(channelProgressPairs, 1, 100L, jobItemContext.getSink(), needSorting, taskConfig.getImporterConfig().getRateLimitAlgorithm());
+                : new CDCImporter(channelProgressPairs, batchSize, 100L, jobItemContext.getSink(), needSorting, importerConfig.getRateLimitAlgorithm());
         PipelineTask incrementalTask = new CDCIncrementalTask(
                 dumperContext.getCommonContext().getDataSourceName(), jobItemContext.getJobProcessContext().getIncrementalExecuteEngine(), dumper, importer, taskProgress);
         jobItemContext.getIncrementalTasks().add(incrementalTask);
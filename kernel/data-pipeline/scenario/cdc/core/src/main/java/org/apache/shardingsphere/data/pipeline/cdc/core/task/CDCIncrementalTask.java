@@ -23,6 +23,7 @@ import lombok.ToString;
 import org.apache.shardingsphere.data.pipeline.core.execute.PipelineExecuteEngine;
 import org.apache.shardingsphere.data.pipeline.core.importer.Importer;
 import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.Dumper;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.incremental.IncrementalDumper;
 import org.apache.shardingsphere.data.pipeline.core.task.PipelineTask;
 import org.apache.shardingsphere.data.pipeline.core.task.TaskExecuteCallback;
 import org.apache.shardingsphere.data.pipeline.core.task.progress.IncrementalTaskProgress;
@@ -49,7 +50,6 @@ public final class CDCIncrementalTask implements PipelineTask {
     @Nullable
     private final Importer importer;
     
-    @Getter
     private final IncrementalTaskProgress taskProgress;
     
     @Override
@@ -63,6 +63,14 @@ public final class CDCIncrementalTask implements PipelineTask {
         return result;
     }
     
+    @Override
+    public IncrementalTaskProgress getTaskProgress() {
+        if (dumper instanceof IncrementalDumper) {
+            ((IncrementalDumper) dumper).updateDecodeMetrics(taskProgress.getIncrementalTaskDelay());
+        }
+        return taskProgress;
+    }
+    
     @Override
     public void stop() {
         dumper.stop();
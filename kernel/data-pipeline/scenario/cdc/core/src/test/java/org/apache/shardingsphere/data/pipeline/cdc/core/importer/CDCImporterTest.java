@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.cdc.core.importer;
+
+import org.apache.shardingsphere.data.pipeline.core.channel.memory.MemoryPipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
+import org.apache.shardingsphere.data.pipeline.core.importer.sink.PipelineSink;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.placeholder.IngestPlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.job.progress.listener.PipelineJobProgressListener;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+class CDCImporterTest {
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertCoalesceTransactionsInCSNOrder() {
+        List<Record> firstAckedRecords = new ArrayList<>();
+        List<Record> secondAckedRecords = new ArrayList<>();
+        MemoryPipelineChannel firstChannel = new MemoryPipelineChannel(100, firstAckedRecords::addAll);
+        MemoryPipelineChannel secondChannel = new MemoryPipelineChannel(100, secondAckedRecords::addAll);
+        firstChannel.push(Collections.singletonList(createDataRecord(1L)));
+        secondChannel.push(Collections.singletonList(createDataRecord(2L)));
+        DataRecord firstChannelLastRecord = createDataRecord(3L);
+        firstChannel.push(Collections.singletonList(firstChannelLastRecord));
+        DataRecord secondChannelLastRecord = createDataRecord(4L);
+        secondChannel.push(Collections.singletonList(secondChannelLastRecord));
+        PipelineSink sink = mock(PipelineSink.class);
+        List<CDCChannelProgressPair> channelProgressPairs = new ArrayList<>(Arrays.asList(
+                new CDCChannelProgressPair(firstChannel, mock(PipelineJobProgressListener.class)), new CDCChannelProgressPair(secondChannel, mock(PipelineJobProgressListener.class))));
+        CDCImporter importer = new CDCImporter(channelProgressPairs, 100, 1000L, sink, true, null);
+        CompletableFuture.runAsync(importer::start);
+        ArgumentCaptor<String> ackIdCaptor = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Collection<Record>> recordsCaptor = ArgumentCaptor.forClass(Collection.class);
+        verify(sink, timeout(5000L)).write(ackIdCaptor.capture(), recordsCaptor.capture());
+        importer.stop();
+        assertThat(recordsCaptor.getValue().stream().map(each -> ((DataRecord) each).getCsn()).collect(Collectors.toList()), is(Arrays.asList(1L, 2L, 3L, 4L)));
+        importer.ack(ackIdCaptor.getValue());
+        assertThat(firstAckedRecords, is(Collections.singletonList(firstChannelLastRecord)));
+        assertThat(secondAckedRecords, is(Collections.singletonList(secondChannelLastRecord)));
+    }
+    
+    @Test
+    void assertWriteWithoutSortingNotWaitForFullBatch() {
+        MemoryPipelineChannel channel = new MemoryPipelineChannel(100, records -> {
+        });
+        channel.push(Collections.singletonList(createDataRecord(1L)));
+        PipelineSink sink = mock(PipelineSink.class);
+        List<CDCChannelProgressPair> channelProgressPairs = new ArrayList<>(Collections.singletonList(new CDCChannelProgressPair(channel, mock(PipelineJobProgressListener.class))));
+        CDCImporter importer = new CDCImporter(channelProgressPairs, 1, 60000L, sink, false, null);
+        CompletableFuture.runAsync(importer::start);
+        verify(sink, timeout(5000L)).write(any(), any());
+        importer.stop();
+    }
+    
+    private DataRecord createDataRecord(final long csn) {
+        DataRecord result = new DataRecord(PipelineSQLOperationType.INSERT, "t_order", new IngestPlaceholderPosition(), 0);
+        result.setCsn(csn);
+        return result;
+    }
+}
@@ -27,6 +27,7 @@ import org.apache.shardingsphere.data.pipeline.core.consistencycheck.Consistency
 import org.apache.shardingsphere.data.pipeline.scenario.consistencycheck.config.ConsistencyCheckJobConfiguration;
 
 import java.util.Optional;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 /**
  * Consistency check job item context.
@@ -61,6 +62,8 @@ public final class ConsistencyCheckJobItemContext implements PipelineJobItemCont
             progressContext.getCheckedRecordsCount().set(Optional.ofNullable(jobItemProgress.getCheckedRecordsCount()).orElse(0L));
             Optional.ofNullable(jobItemProgress.getSourceTableCheckPositions()).ifPresent(progressContext.getSourceTableCheckPositions()::putAll);
             Optional.ofNullable(jobItemProgress.getTargetTableCheckPositions()).ifPresent(progressContext.getTargetTableCheckPositions()::putAll);
+            Optional.ofNullable(jobItemProgress.getMismatchedTableRanges())
+                    .ifPresent(optional -> optional.forEach((key, value) -> progressContext.getMismatchedTableRanges().put(key, new ConcurrentLinkedQueue<>(value))));
         }
         processContext = new ConsistencyCheckProcessContext(jobId);
     }
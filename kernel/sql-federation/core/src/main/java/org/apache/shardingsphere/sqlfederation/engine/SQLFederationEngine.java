@@ -18,21 +18,20 @@
 package org.apache.shardingsphere.sqlfederation.engine;
 
 import lombok.Getter;
-import org.apache.calcite.adapter.enumerable.EnumerableInterpretable;
-import org.apache.calcite.adapter.enumerable.EnumerableRel;
 import org.apache.calcite.adapter.java.JavaTypeFactory;
 import org.apache.calcite.config.CalciteConnectionConfig;
 import org.apache.calcite.config.CalciteConnectionConfigImpl;
 import org.apache.calcite.jdbc.JavaTypeFactoryImpl;
 import org.apache.calcite.linq4j.Enumerator;
+import org.apache.calcite.plan.RelOptUtil;
 import org.apache.calcite.prepare.CalciteCatalogReader;
-import org.apache.calcite.runtime.Bindable;
 import org.apache.calcite.schema.Schema;
 import org.apache.calcite.schema.Table;
 import org.apache.calcite.sql.validate.SqlValidator;
 import org.apache.calcite.sql2rel.SqlToRelConverter;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.exception.dialect.exception.syntax.table.NoSuchTableException;
@@ -42,6 +41,7 @@ import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.J
 import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DriverExecutionPrepareEngine;
 import org.apache.shardingsphere.infra.executor.sql.process.ProcessEngine;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.spill.MergeSpillContext;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
@@ -56,16 +56,20 @@ import org.apache.shardingsphere.sqlfederation.executor.context.SQLFederationBin
 import org.apache.shardingsphere.sqlfederation.executor.context.SQLFederationContext;
 import org.apache.shardingsphere.sqlfederation.executor.context.SQLFederationExecutorContext;
 import org.apache.shardingsphere.sqlfederation.executor.enumerable.EnumerableScanExecutor;
+import org.apache.shardingsphere.sqlfederation.executor.enumerable.ParallelScanEnumerable;
 import org.apache.shardingsphere.sqlfederation.optimizer.SQLFederationCompilerEngine;
 import org.apache.shardingsphere.sqlfederation.optimizer.SQLFederationExecutionPlan;
 import org.apache.shardingsphere.sqlfederation.optimizer.context.OptimizerContext;
 import org.apache.shardingsphere.sqlfederation.optimizer.context.planner.OptimizerMetaData;
+import org.apache.shardingsphere.sqlfederation.optimizer.converter.SQLNodeConverterEngine;
+import org.apache.shardingsphere.sqlfederation.optimizer.converter.parameterized.ParameterizedSQLNode;
 import org.apache.shardingsphere.sqlfederation.optimizer.exception.SQLFederationSchemaNotFoundException;
 import org.apache.shardingsphere.sqlfederation.optimizer.exception.SQLFederationUnsupportedSQLException;
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.SQLFederationTable;
 import org.apache.shardingsphere.sqlfederation.optimizer.planner.cache.ExecutionPlanCacheKey;
 import org.apache.shardingsphere.sqlfederation.optimizer.planner.util.SQLFederationPlannerUtils;
 import org.apache.shardingsphere.sqlfederation.optimizer.statement.SQLStatementCompiler;
+import org.apache.shardingsphere.sqlfederation.optimizer.statistic.SQLFederationStatisticBuilder;
 import org.apache.shardingsphere.sqlfederation.resultset.SQLFederationResultSet;
 import org.apache.shardingsphere.sqlfederation.rule.SQLFederationRule;
 import org.apache.shardingsphere.sqlfederation.spi.SQLFederationDecider;
@@ -80,6 +84,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 
 /**
  * SQL federation engine.
@@ -87,8 +92,6 @@ import java.util.Map.Entry;
 @Getter
 public final class SQLFederationEngine implements AutoCloseable {
     
-    private static final int DEFAULT_METADATA_VERSION = 0;
-    
     private static final JavaTypeFactory DEFAULT_DATA_TYPE_FACTORY = new JavaTypeFactoryImpl();
     
     private final ProcessEngine processEngine = new ProcessEngine();
@@ -108,6 +111,8 @@ public final class SQLFederationEngine implements AutoCloseable {
     
     private final SQLFederationRule sqlFederationRule;
     
+    private SQLFederationExecutorContext executorContext;
+    
     private ResultSet resultSet;
     
     public SQLFederationEngine(final String currentDatabaseName, final String currentSchemaName, final ShardingSphereMetaData metaData, final ShardingSphereStatistics statistics,
@@ -205,8 +210,7 @@ public final class SQLFederationEngine implements AutoCloseable {
                     sqlFederationRule.getOptimizerContext().getSqlParserRule(), sqlFederationRule.getOptimizerContext().getParserContext(databaseName).getDatabaseType(), true);
             Schema sqlFederationSchema = catalogReader.getRootSchema().plus().getSubSchema(schemaName);
             ShardingSpherePreconditions.checkNotNull(sqlFederationSchema, () -> new SQLFederationSchemaNotFoundException(federationContext.getQueryContext().getSql()));
-            SQLFederationExecutionPlan executionPlan = compileQuery(prepareEngine, callback, federationContext, databaseName, schemaName, sqlFederationSchema, converter);
-            resultSet = executePlan(federationContext, executionPlan, validator, converter, sqlFederationSchema);
+            resultSet = compileAndExecuteQuery(prepareEngine, callback, federationContext, databaseName, schemaName, sqlFederationSchema, validator, converter);
             return resultSet;
             // CHECKSTYLE:OFF
         } catch (final Exception ex) {
@@ -215,25 +219,42 @@ public final class SQLFederationEngine implements AutoCloseable {
         }
     }
     
-    private SQLFederationExecutionPlan compileQuery(final DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine, final JDBCExecutorCallback<? extends ExecuteResult> callback,
-                                                    final SQLFederationContext federationContext, final String databaseName, final String schemaName, final Schema sqlFederationSchema,
-                                                    final SqlToRelConverter converter) {
+    private ResultSet compileAndExecuteQuery(final DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine,
+                                             final JDBCExecutorCallback<? extends ExecuteResult> callback, final SQLFederationContext federationContext, final String databaseName,
+                                             final String schemaName, final Schema sqlFederationSchema, final SqlValidator validator, final SqlToRelConverter converter) {
         SQLStatementContext sqlStatementContext = federationContext.getQueryContext().getSqlStatementContext();
         ShardingSpherePreconditions.checkState(sqlStatementContext instanceof SelectStatementContext, () -> new IllegalArgumentException("SQL statement context must be select statement context."));
+        executorContext = new SQLFederationExecutorContext(databaseName, schemaName, metaData.getProps(),
+                new MergeSpillContext(metaData.getProps().<Long>getValue(ConfigurationPropertyKey.MERGE_MEMORY_BUDGET), federationContext.getProcessId()));
         registerTableScanExecutor(sqlFederationSchema, prepareEngine, callback, federationContext, sqlFederationRule.getOptimizerContext(), databaseName, schemaName);
+        List<Object> params = federationContext.getQueryContext().getParameters();
+        ParameterizedSQLNode parameterizedSQLNode = SQLNodeConverterEngine.convertParameterized(sqlStatementContext.getSqlStatement(), params.size());
         SQLStatementCompiler sqlStatementCompiler = new SQLStatementCompiler(converter);
         SQLFederationCompilerEngine compilerEngine = new SQLFederationCompilerEngine(databaseName, schemaName, sqlFederationRule.getConfiguration().getExecutionPlanCache());
-        // TODO open useCache flag when ShardingSphereTable contains version
-        return compilerEngine.compile(buildCacheKey(federationContext, (SelectStatementContext) sqlStatementContext, sqlStatementCompiler, databaseName, schemaName), false);
+        SQLFederationExecutionPlan executionPlan =
+                compilerEngine.compile(buildCacheKey(federationContext, (SelectStatementContext) sqlStatementContext, parameterizedSQLNode, sqlStatementCompiler, databaseName, schemaName), true);
+        Optional<List<Object>> parameters = parameterizedSQLNode.getParameters(params, executionPlan.getParameterTypes());
+        if (!parameters.isPresent()) {
+            ParameterizedSQLNode literalSQLNode = new ParameterizedSQLNode(
+                    SQLNodeConverterEngine.convert(sqlStatementContext.getSqlStatement()), Collections.emptyList(), params.size(), Collections.emptyList(), Collections.emptyList());
+            executionPlan =
+                    compilerEngine.compile(buildCacheKey(federationContext, (SelectStatementContext) sqlStatementContext, literalSQLNode, sqlStatementCompiler, databaseName, schemaName), false);
+            parameters = Optional.of(params);
+        }
+        executorContext.setParallelScanEnabled(isParallelScanEnabled(federationContext, executionPlan));
+        return executePlan(federationContext, executionPlan, parameters.get(), validator, converter, sqlFederationSchema);
+    }
+    
+    private boolean isParallelScanEnabled(final SQLFederationContext federationContext, final SQLFederationExecutionPlan executionPlan) {
+        return !federationContext.isPreview() && !federationContext.getQueryContext().getConnectionContext().getTransactionContext().isInTransaction()
+                && RelOptUtil.countJoins(executionPlan.getPhysicalPlan()) > 0;
     }
     
-    @SuppressWarnings("unchecked")
-    private ResultSet executePlan(final SQLFederationContext federationContext, final SQLFederationExecutionPlan executionPlan, final SqlValidator validator, final SqlToRelConverter converter,
-                                  final Schema sqlFederationSchema) {
+    private ResultSet executePlan(final SQLFederationContext federationContext, final SQLFederationExecutionPlan executionPlan, final List<Object> params, final SqlValidator validator,
+                                  final SqlToRelConverter converter, final Schema sqlFederationSchema) {
         try {
-            Bindable<Object> executablePlan = EnumerableInterpretable.toBindable(Collections.emptyMap(), null, (EnumerableRel) executionPlan.getPhysicalPlan(), EnumerableRel.Prefer.ARRAY);
-            Map<String, Object> params = createParameters(federationContext.getQueryContext().getParameters());
-            Enumerator<Object> enumerator = executablePlan.bind(new SQLFederationBindContext(validator, converter, params)).enumerator();
+            SQLFederationBindContext bindContext = new SQLFederationBindContext(validator, converter, createParameters(params), executorContext.getSpillContext());
+            Enumerator<Object> enumerator = executionPlan.getBindable().bind(bindContext).enumerator();
             return new SQLFederationResultSet(enumerator, sqlFederationSchema, (SelectStatementContext) federationContext.getQueryContext().getSqlStatementContext(),
                     executionPlan.getResultColumnType());
         } finally {
@@ -241,17 +262,15 @@ public final class SQLFederationEngine implements AutoCloseable {
         }
     }
     
-    private ExecutionPlanCacheKey buildCacheKey(final SQLFederationContext federationContext, final SelectStatementContext selectStatementContext,
+    private ExecutionPlanCacheKey buildCacheKey(final SQLFederationContext federationContext, final SelectStatementContext selectStatementContext, final ParameterizedSQLNode parameterizedSQLNode,
                                                 final SQLStatementCompiler sqlStatementCompiler, final String databaseName, final String schemaName) {
         ShardingSphereSchema schema = federationContext.getMetaData().getDatabase(databaseName).getSchema(schemaName);
-        ExecutionPlanCacheKey result =
-                new ExecutionPlanCacheKey(federationContext.getQueryContext().getSql(), selectStatementContext.getSqlStatement(), selectStatementContext.getDatabaseType().getType(),
-                        sqlStatementCompiler);
+        ExecutionPlanCacheKey result = new ExecutionPlanCacheKey(parameterizedSQLNode.getParameterizedSQL(), parameterizedSQLNode.getParameterIndexes(), parameterizedSQLNode.getLiteralTypes(),
+                getStatisticsVersion(), parameterizedSQLNode.getSqlNode(), selectStatementContext.getDatabaseType().getType(), sqlStatementCompiler);
         for (String each : selectStatementContext.getTablesContext().getTableNames()) {
             ShardingSphereTable table = schema.getTable(each);
             ShardingSpherePreconditions.checkNotNull(table, () -> new NoSuchTableException(each));
-            // TODO replace DEFAULT_METADATA_VERSION with actual version in ShardingSphereTable
-            result.getTableMetaDataVersions().put(table.getName(), DEFAULT_METADATA_VERSION);
+            result.getTableMetaData().put(table.getName(), table);
         }
         return result;
     }
@@ -262,18 +281,24 @@ public final class SQLFederationEngine implements AutoCloseable {
         if (null == sqlFederationSchema) {
             return;
         }
-        SQLFederationExecutorContext executorContext = new SQLFederationExecutorContext(databaseName, schemaName, metaData.getProps());
         EnumerableScanExecutor scanExecutor =
                 new EnumerableScanExecutor(prepareEngine, jdbcExecutor, callback, optimizerContext, executorContext, federationContext, metaData.getGlobalRuleMetaData(), statistics);
+        SQLFederationStatisticBuilder statisticBuilder = new SQLFederationStatisticBuilder(databaseName, statistics);
+        long statisticsVersion = getStatisticsVersion();
         // TODO register only the required tables
         for (ShardingSphereTable each : metaData.getDatabase(databaseName).getSchema(schemaName).getAllTables()) {
             Table table = sqlFederationSchema.getTable(each.getName());
             if (table instanceof SQLFederationTable) {
                 ((SQLFederationTable) table).setScanExecutor(scanExecutor);
+                ((SQLFederationTable) table).refreshStatistic(statisticsVersion, statisticBuilder);
             }
         }
     }
     
+    private long getStatisticsVersion() {
+        return null == statistics ? 0L : statistics.getVersion();
+    }
+    
     private Map<String, Object> createParameters(final List<Object> params) {
         Map<String, Object> result = new HashMap<>(params.size(), 1F);
         int index = 0;
@@ -288,5 +313,9 @@ public final class SQLFederationEngine implements AutoCloseable {
         if (null != resultSet) {
             resultSet.close();
         }
+        if (null != executorContext) {
+            executorContext.getParallelScans().forEach(ParallelScanEnumerable::close);
+            executorContext.getSpillContext().close();
+        }
     }
 }
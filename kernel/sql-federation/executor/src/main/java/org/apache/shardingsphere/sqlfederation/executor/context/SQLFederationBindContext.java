@@ -25,6 +25,8 @@ import org.apache.calcite.linq4j.QueryProvider;
 import org.apache.calcite.schema.SchemaPlus;
 import org.apache.calcite.sql.validate.SqlValidator;
 import org.apache.calcite.sql2rel.SqlToRelConverter;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.spill.MergeSpillContext;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.physical.join.SpillableHashJoinEnumerable;
 
 import java.util.Map;
 
@@ -41,6 +43,8 @@ public final class SQLFederationBindContext implements DataContext {
     @Getter
     private final Map<String, Object> parameters;
     
+    private final MergeSpillContext spillContext;
+    
     @Override
     public SchemaPlus getRootSchema() {
         return validator.getCatalogReader().getRootSchema().plus();
@@ -58,6 +62,6 @@ public final class SQLFederationBindContext implements DataContext {
     
     @Override
     public Object get(final String name) {
-        return parameters.get(name);
+        return SpillableHashJoinEnumerable.SPILL_CONTEXT_VARIABLE.equals(name) ? spillContext : parameters.get(name);
     }
 }
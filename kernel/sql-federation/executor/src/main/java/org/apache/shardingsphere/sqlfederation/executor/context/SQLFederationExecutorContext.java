@@ -19,9 +19,14 @@ package org.apache.shardingsphere.sqlfederation.executor.context;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.spill.MergeSpillContext;
+import org.apache.shardingsphere.sqlfederation.executor.enumerable.ParallelScanEnumerable;
 
+import java.util.Collection;
 import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.Map;
 
 /**
@@ -37,5 +42,12 @@ public final class SQLFederationExecutorContext {
     
     private final ConfigurationProperties props;
     
+    private final MergeSpillContext spillContext;
+    
     private final Map<String, Integer> connectionOffsets = new LinkedHashMap<>();
+    
+    private final Collection<ParallelScanEnumerable> parallelScans = new LinkedList<>();
+    
+    @Setter
+    private boolean parallelScanEnabled;
 }
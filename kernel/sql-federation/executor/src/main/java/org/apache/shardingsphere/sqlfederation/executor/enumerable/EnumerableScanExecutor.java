@@ -24,6 +24,7 @@ import org.apache.calcite.linq4j.Enumerable;
 import org.apache.calcite.linq4j.Enumerator;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.engine.SQLBindEngine;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.connection.kernel.KernelProcessor;
 import org.apache.shardingsphere.infra.database.core.metadata.database.system.SystemDatabase;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
@@ -33,6 +34,7 @@ import org.apache.shardingsphere.infra.exception.kernel.connection.SQLExecutionI
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceManager;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
@@ -84,6 +86,8 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public final class EnumerableScanExecutor implements ScanExecutor {
     
+    private static final ExecutorServiceManager PARALLEL_SCAN_EXECUTOR_SERVICE_MANAGER = new ExecutorServiceManager(Runtime.getRuntime().availableProcessors() * 2, "SQLFederation-Parallel-Scan-%d");
+    
     private final DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine;
     
     private final JDBCExecutor jdbcExecutor;
@@ -119,29 +123,51 @@ public final class EnumerableScanExecutor implements ScanExecutor {
         return createJDBCEnumerable(queryContext, federationContext.getMetaData().getDatabase(databaseName), executionContext);
     }
     
-    private AbstractEnumerable<Object> createJDBCEnumerable(final QueryContext queryContext, final ShardingSphereDatabase database, final ExecutionContext context) {
+    @SneakyThrows(SQLException.class)
+    private Enumerable<Object> createJDBCEnumerable(final QueryContext queryContext, final ShardingSphereDatabase database, final ExecutionContext context) {
+        if (isParallelScanAvailable()) {
+            ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = prepare(database, context);
+            ParallelScanEnumerable result = new ParallelScanEnumerable(PARALLEL_SCAN_EXECUTOR_SERVICE_MANAGER.getExecutorService(),
+                    () -> executeScan(queryContext, database, executionGroupContext), () -> executeScan(queryContext, database, prepare(database, context)));
+            executorContext.getParallelScans().add(result);
+            return result;
+        }
         return new AbstractEnumerable<Object>() {
             
             @SneakyThrows
             @Override
             public Enumerator<Object> enumerator() {
-                computeConnectionOffsets(context);
-                // TODO pass grantee from proxy and jdbc adapter
-                ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = prepareEngine.prepare(
-                        database.getName(), context.getRouteContext(), executorContext.getConnectionOffsets(),
-                        context.getExecutionUnits(), new ExecutionGroupReportContext(federationContext.getProcessId(), database.getName()));
-                setParameters(executionGroupContext.getInputGroups());
-                ShardingSpherePreconditions.checkState(!ProcessRegistry.getInstance().get(federationContext.getProcessId()).isInterrupted(), SQLExecutionInterruptedException::new);
-                processEngine.executeSQL(executionGroupContext, federationContext.getQueryContext());
-                List<QueryResult> queryResults = jdbcExecutor.execute(executionGroupContext, callback).stream().map(QueryResult.class::cast).collect(Collectors.toList());
-                MergeEngine mergeEngine = new MergeEngine(federationContext.getMetaData(), database, executorContext.getProps(), federationContext.getQueryContext().getConnectionContext());
-                MergedResult mergedResult = mergeEngine.merge(queryResults, queryContext.getSqlStatementContext());
-                Collection<Statement> statements = getStatements(executionGroupContext.getInputGroups());
-                return new JDBCRowEnumerator(mergedResult, queryResults.get(0).getMetaData(), statements);
+                return executeScan(queryContext, database, prepare(database, context));
             }
         };
     }
     
+    private boolean isParallelScanAvailable() {
+        return executorContext.isParallelScanEnabled()
+                && executorContext.getParallelScans().size() < executorContext.getProps().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY);
+    }
+    
+    private ExecutionGroupContext<JDBCExecutionUnit> prepare(final ShardingSphereDatabase database, final ExecutionContext context) throws SQLException {
+        computeConnectionOffsets(context);
+        // TODO pass grantee from proxy and jdbc adapter
+        ExecutionGroupContext<JDBCExecutionUnit> result = prepareEngine.prepare(
+                database.getName(), context.getRouteContext(), executorContext.getConnectionOffsets(),
+                context.getExecutionUnits(), new ExecutionGroupReportContext(federationContext.getProcessId(), database.getName()));
+        setParameters(result.getInputGroups());
+        return result;
+    }
+    
+    private Enumerator<Object> executeScan(final QueryContext queryContext, final ShardingSphereDatabase database,
+                                           final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext) throws SQLException {
+        ShardingSpherePreconditions.checkState(!ProcessRegistry.getInstance().get(federationContext.getProcessId()).isInterrupted(), SQLExecutionInterruptedException::new);
+        processEngine.executeSQL(executionGroupContext, federationContext.getQueryContext());
+        List<QueryResult> queryResults = jdbcExecutor.execute(executionGroupContext, callback).stream().map(QueryResult.class::cast).collect(Collectors.toList());
+        MergeEngine mergeEngine = new MergeEngine(federationContext.getMetaData(), database, executorContext.getProps(), federationContext.getQueryContext().getConnectionContext());
+        MergedResult mergedResult = mergeEngine.merge(queryResults, queryContext.getSqlStatementContext());
+        Collection<Statement> statements = getStatements(executionGroupContext.getInputGroups());
+        return new JDBCRowEnumerator(mergedResult, queryResults.get(0).getMetaData(), statements);
+    }
+    
     private void computeConnectionOffsets(final ExecutionContext context) {
         for (ExecutionUnit each : context.getExecutionUnits()) {
             if (executorContext.getConnectionOffsets().containsKey(each.getDataSourceName())) {
@@ -204,19 +230,19 @@ public final class EnumerableScanExecutor implements ScanExecutor {
         String sql = sqlString.getSql().replace(System.lineSeparator(), " ");
         SQLStatement sqlStatement = new SQLStatementParserEngine(databaseType,
                 optimizerContext.getSqlParserRule().getSqlStatementCache(), optimizerContext.getSqlParserRule().getParseTreeCache()).parse(sql, useCache);
-        List<Object> params = getParameters(sqlString.getParamIndexes());
+        List<Object> params = getParameters(sqlString);
         HintValueContext hintValueContext = new HintValueContext();
         SQLStatementContext sqlStatementContext = new SQLBindEngine(metaData, executorContext.getCurrentDatabaseName(), hintValueContext).bind(sqlStatement, params);
         return new QueryContext(sqlStatementContext, sql, params, hintValueContext, federationContext.getQueryContext().getConnectionContext(), metaData, useCache);
     }
     
-    private List<Object> getParameters(final int[] paramIndexes) {
-        if (null == paramIndexes) {
+    private List<Object> getParameters(final ScanExecutorContext scanContext) {
+        if (null == scanContext.getParamIndexes()) {
             return Collections.emptyList();
         }
-        List<Object> result = new ArrayList<>(paramIndexes.length);
-        for (int each : paramIndexes) {
-            result.add(federationContext.getQueryContext().getParameters().get(each));
+        List<Object> result = new ArrayList<>(scanContext.getParamIndexes().length);
+        for (int each : scanContext.getParamIndexes()) {
+            result.add(scanContext.getRoot().get("?" + each));
         }
         return result;
     }
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.executor.enumerable;
+
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.calcite.linq4j.AbstractEnumerable;
+import org.apache.calcite.linq4j.Enumerator;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Parallel scan enumerable.
+ *
+ * <p>The scan is started before the enumerable is consumed, so all shard scans of one execution plan run concurrently. The first enumerator takes the started scan, later enumerators scan again.</p>
+ */
+@Slf4j
+public final class ParallelScanEnumerable extends AbstractEnumerable<Object> implements AutoCloseable {
+    
+    private final Object lock = new Object();
+    
+    private final Callable<Enumerator<Object>> scanTask;
+    
+    private final AtomicReference<Future<Enumerator<Object>>> startedScan;
+    
+    private Enumerator<Object> startedEnumerator;
+    
+    private boolean closed;
+    
+    public ParallelScanEnumerable(final ExecutorService executorService, final Callable<Enumerator<Object>> startedScanTask, final Callable<Enumerator<Object>> scanTask) {
+        this.scanTask = scanTask;
+        startedScan = new AtomicReference<>(executorService.submit(() -> startScan(startedScanTask)));
+    }
+    
+    private Enumerator<Object> startScan(final Callable<Enumerator<Object>> startedScanTask) throws Exception {
+        Enumerator<Object> result = startedScanTask.call();
+        synchronized (lock) {
+            if (!closed) {
+                startedEnumerator = result;
+                return result;
+            }
+        }
+        result.close();
+        return result;
+    }
+    
+    @SneakyThrows(Exception.class)
+    @Override
+    public Enumerator<Object> enumerator() {
+        Future<Enumerator<Object>> future = startedScan.getAndSet(null);
+        return null == future ? scanTask.call() : getEnumerator(future);
+    }
+    
+    private Enumerator<Object> getEnumerator(final Future<Enumerator<Object>> future) throws Exception {
+        try {
+            return future.get();
+        } catch (final ExecutionException ex) {
+            throw ex.getCause() instanceof Exception ? (Exception) ex.getCause() : ex;
+        }
+    }
+    
+    /**
+     * Close the started scan if it is not consumed.
+     *
+     * <p>A scan which has not started yet is cancelled, a running scan closes its enumerator when it finishes.</p>
+     */
+    @Override
+    public void close() {
+        Future<Enumerator<Object>> future = startedScan.getAndSet(null);
+        if (null == future) {
+            return;
+        }
+        Enumerator<Object> enumerator;
+        synchronized (lock) {
+            closed = true;
+            enumerator = startedEnumerator;
+        }
+        if (null != enumerator) {
+            enumerator.close();
+            return;
+        }
+        if (!future.cancel(false)) {
+            logScanFailure(future);
+        }
+    }
+    
+    private void logScanFailure(final Future<Enumerator<Object>> future) {
+        try {
+            future.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (final ExecutionException ex) {
+            log.warn("Unconsumed parallel scan failed.", ex.getCause());
+        }
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.executor.enumerable;
+
+import org.apache.calcite.linq4j.Enumerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ParallelScanEnumerableTest {
+    
+    private ExecutorService executorService;
+    
+    @BeforeEach
+    void setUp() {
+        executorService = Executors.newSingleThreadExecutor();
+    }
+    
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertEnumeratorTakesStartedScanFirst() throws Exception {
+        Enumerator<Object> startedEnumerator = mock(Enumerator.class);
+        Enumerator<Object> rescanEnumerator = mock(Enumerator.class);
+        Callable<Enumerator<Object>> scanTask = mock(Callable.class);
+        when(scanTask.call()).thenReturn(rescanEnumerator);
+        ParallelScanEnumerable enumerable = new ParallelScanEnumerable(executorService, () -> startedEnumerator, scanTask);
+        assertThat(enumerable.enumerator(), is(startedEnumerator));
+        assertThat(enumerable.enumerator(), is(rescanEnumerator));
+        enumerable.close();
+        verify(startedEnumerator, never()).close();
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertEnumeratorWithFailedScan() {
+        ParallelScanEnumerable enumerable = new ParallelScanEnumerable(executorService, () -> {
+            throw new SQLException("scan failed");
+        }, mock(Callable.class));
+        assertThrows(SQLException.class, enumerable::enumerator);
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertCloseWithoutConsumedScan() throws InterruptedException {
+        Enumerator<Object> startedEnumerator = mock(Enumerator.class);
+        CountDownLatch scanned = new CountDownLatch(1);
+        ParallelScanEnumerable enumerable = new ParallelScanEnumerable(executorService, () -> {
+            scanned.countDown();
+            return startedEnumerator;
+        }, mock(Callable.class));
+        assertTrue(scanned.await(5L, TimeUnit.SECONDS));
+        enumerable.close();
+        verify(startedEnumerator, timeout(5000L)).close();
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertCloseWithRunningScan() throws InterruptedException {
+        Enumerator<Object> startedEnumerator = mock(Enumerator.class);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch closed = new CountDownLatch(1);
+        ParallelScanEnumerable enumerable = new ParallelScanEnumerable(executorService, () -> {
+            started.countDown();
+            closed.await();
+            return startedEnumerator;
+        }, mock(Callable.class));
+        assertTrue(started.await(5L, TimeUnit.SECONDS));
+        enumerable.close();
+        closed.countDown();
+        verify(startedEnumerator, timeout(5000L)).close();
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertCloseWithQueuedScan() throws Exception {
+        CountDownLatch blocked = new CountDownLatch(1);
+        executorService.submit(() -> {
+            blocked.await();
+            return null;
+        });
+        Callable<Enumerator<Object>> startedScanTask = mock(Callable.class);
+        new ParallelScanEnumerable(executorService, startedScanTask, mock(Callable.class)).close();
+        blocked.countDown();
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(5L, TimeUnit.SECONDS));
+        verify(startedScanTask, never()).call();
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertCloseWithFailedScan() throws InterruptedException {
+        CountDownLatch failed = new CountDownLatch(1);
+        ParallelScanEnumerable enumerable = new ParallelScanEnumerable(executorService, () -> {
+            failed.countDown();
+            throw new SQLException("scan failed");
+        }, mock(Callable.class));
+        assertTrue(failed.await(5L, TimeUnit.SECONDS));
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(5L, TimeUnit.SECONDS));
+        assertDoesNotThrow(enumerable::close);
+    }
+}
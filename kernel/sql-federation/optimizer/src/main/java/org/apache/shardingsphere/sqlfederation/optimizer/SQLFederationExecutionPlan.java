@@ -17,10 +17,18 @@
 
 package org.apache.shardingsphere.sqlfederation.optimizer;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.apache.calcite.adapter.enumerable.EnumerableInterpretable;
+import org.apache.calcite.adapter.enumerable.EnumerableRel;
 import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.runtime.Bindable;
+import org.apache.calcite.sql.type.SqlTypeName;
+
+import java.util.Collections;
+import java.util.Map;
 
 /**
  * SQL federation execution plan.
@@ -32,4 +40,24 @@ public final class SQLFederationExecutionPlan {
     private final RelNode physicalPlan;
     
     private final RelDataType resultColumnType;
+    
+    private final Map<Integer, SqlTypeName> parameterTypes;
+    
+    @Getter(AccessLevel.NONE)
+    private volatile Bindable<Object> bindable;
+    
+    /**
+     * Get bindable of physical plan.
+     *
+     * <p>The generated code is kept with the plan, so cached plans are not compiled by Janino again.</p>
+     *
+     * @return bindable
+     */
+    @SuppressWarnings("unchecked")
+    public Bindable<Object> getBindable() {
+        if (null == bindable) {
+            bindable = EnumerableInterpretable.toBindable(Collections.emptyMap(), null, (EnumerableRel) physicalPlan, EnumerableRel.Prefer.ARRAY);
+        }
+        return bindable;
+    }
 }
@@ -29,6 +29,8 @@ import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.InsertS
 import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.MergeStatement;
 import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.SelectStatement;
 import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.UpdateStatement;
+import org.apache.shardingsphere.sqlfederation.optimizer.converter.parameterized.LiteralParameterizedVisitor;
+import org.apache.shardingsphere.sqlfederation.optimizer.converter.parameterized.ParameterizedSQLNode;
 import org.apache.shardingsphere.sqlfederation.optimizer.converter.statement.delete.DeleteStatementConverter;
 import org.apache.shardingsphere.sqlfederation.optimizer.converter.statement.explain.ExplainStatementConverter;
 import org.apache.shardingsphere.sqlfederation.optimizer.converter.statement.insert.InsertStatementConverter;
@@ -45,6 +47,23 @@ import java.util.Optional;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class SQLNodeConverterEngine {
     
+    /**
+     * Convert SQL statement to parameterized SQL node.
+     *
+     * <p>Literals compared with columns are lifted into dynamic parameters after the original parameters, so statements of the same shape share one SQL node.</p>
+     *
+     * @param sqlStatement SQL statement to be converted
+     * @param parameterCount count of original parameters
+     * @return parameterized SQL node
+     * @throws OptimizationSQLNodeConvertException optimization SQL node convert exception
+     */
+    public static ParameterizedSQLNode convertParameterized(final SQLStatement sqlStatement, final int parameterCount) {
+        SqlNode sqlNode = convert(sqlStatement);
+        LiteralParameterizedVisitor visitor = new LiteralParameterizedVisitor(parameterCount);
+        sqlNode.accept(visitor);
+        return new ParameterizedSQLNode(sqlNode, visitor.getParameterIndexes(), parameterCount, visitor.getLiteralValues(), visitor.getLiteralTypes());
+    }
+    
     /**
      * Convert SQL sql statement to SQL node.
      *
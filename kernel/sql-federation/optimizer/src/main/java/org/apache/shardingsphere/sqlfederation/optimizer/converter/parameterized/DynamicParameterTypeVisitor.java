@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.converter.parameterized;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.sql.SqlDynamicParam;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.apache.calcite.sql.util.SqlBasicVisitor;
+import org.apache.calcite.sql.validate.SqlValidator;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Dynamic parameter type visitor.
+ */
+@RequiredArgsConstructor
+public final class DynamicParameterTypeVisitor extends SqlBasicVisitor<Void> {
+    
+    private final SqlValidator validator;
+    
+    @Getter
+    private final Map<Integer, SqlTypeName> parameterTypes = new HashMap<>();
+    
+    @Override
+    public Void visit(final SqlDynamicParam param) {
+        RelDataType parameterType = validator.getValidatedNodeTypeIfKnown(param);
+        if (null != parameterType) {
+            parameterTypes.put(param.getIndex(), parameterType.getSqlTypeName());
+        }
+        return null;
+    }
+}
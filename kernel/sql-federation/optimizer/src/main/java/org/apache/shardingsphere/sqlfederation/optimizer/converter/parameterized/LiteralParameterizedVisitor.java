@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.converter.parameterized;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.calcite.sql.SqlBasicCall;
+import org.apache.calcite.sql.SqlCall;
+import org.apache.calcite.sql.SqlCharStringLiteral;
+import org.apache.calcite.sql.SqlDynamicParam;
+import org.apache.calcite.sql.SqlIdentifier;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.sql.SqlNode;
+import org.apache.calcite.sql.SqlNodeList;
+import org.apache.calcite.sql.SqlNumericLiteral;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.apache.calcite.sql.util.SqlBasicVisitor;
+import org.apache.calcite.sql2rel.SqlToRelConverter;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Literal parameterized visitor.
+ *
+ * <p>Exact numeric and string literals which are compared with columns are replaced by dynamic parameters, their types are derived from the columns during validation.</p>
+ */
+@RequiredArgsConstructor
+public final class LiteralParameterizedVisitor extends SqlBasicVisitor<Void> {
+    
+    private static final Collection<SqlKind> COMPARISON_KINDS = EnumSet.of(
+            SqlKind.EQUALS, SqlKind.NOT_EQUALS, SqlKind.LESS_THAN, SqlKind.GREATER_THAN, SqlKind.LESS_THAN_OR_EQUAL, SqlKind.GREATER_THAN_OR_EQUAL, SqlKind.LIKE);
+    
+    private final int parameterOffset;
+    
+    @Getter
+    private final List<Integer> parameterIndexes = new ArrayList<>();
+    
+    @Getter
+    private final List<Object> literalValues = new ArrayList<>();
+    
+    @Getter
+    private final List<SqlTypeName> literalTypes = new ArrayList<>();
+    
+    @Override
+    public Void visit(final SqlDynamicParam param) {
+        parameterIndexes.add(param.getIndex());
+        return null;
+    }
+    
+    @Override
+    public Void visit(final SqlCall call) {
+        if (call instanceof SqlBasicCall) {
+            parameterize((SqlBasicCall) call);
+        }
+        return super.visit(call);
+    }
+    
+    private void parameterize(final SqlBasicCall call) {
+        SqlKind kind = call.getKind();
+        if (COMPARISON_KINDS.contains(kind) && 2 == call.operandCount()) {
+            if (call.operand(0) instanceof SqlIdentifier) {
+                parameterizeOperand(call, 1);
+            } else if (call.operand(1) instanceof SqlIdentifier) {
+                parameterizeOperand(call, 0);
+            }
+            return;
+        }
+        if ((SqlKind.IN == kind || SqlKind.NOT_IN == kind) && call.operand(0) instanceof SqlIdentifier && call.operand(1) instanceof SqlNodeList) {
+            parameterizeInList(call.operand(1));
+            return;
+        }
+        if (SqlKind.BETWEEN == kind && 3 == call.operandCount() && call.operand(0) instanceof SqlIdentifier) {
+            parameterizeOperand(call, 1);
+            parameterizeOperand(call, 2);
+        }
+    }
+    
+    private void parameterizeOperand(final SqlBasicCall call, final int operandIndex) {
+        createDynamicParameter(call.operand(operandIndex)).ifPresent(optional -> call.setOperand(operandIndex, optional));
+    }
+    
+    private void parameterizeInList(final SqlNodeList values) {
+        if (values.size() >= SqlToRelConverter.DEFAULT_IN_SUB_QUERY_THRESHOLD) {
+            return;
+        }
+        for (int i = 0; i < values.size(); i++) {
+            Optional<SqlDynamicParam> dynamicParameter = createDynamicParameter(values.get(i));
+            if (dynamicParameter.isPresent()) {
+                values.set(i, dynamicParameter.get());
+            }
+        }
+    }
+    
+    private Optional<SqlDynamicParam> createDynamicParameter(final SqlNode sqlNode) {
+        Optional<Object> literalValue = findLiteralValue(sqlNode);
+        if (!literalValue.isPresent()) {
+            return Optional.empty();
+        }
+        SqlDynamicParam result = new SqlDynamicParam(parameterOffset + literalValues.size(), sqlNode.getParserPosition());
+        literalValues.add(literalValue.get());
+        literalTypes.add(getLiteralType(literalValue.get()));
+        return Optional.of(result);
+    }
+    
+    private SqlTypeName getLiteralType(final Object literalValue) {
+        if (literalValue instanceof Integer) {
+            return SqlTypeName.INTEGER;
+        }
+        if (literalValue instanceof Long) {
+            return SqlTypeName.BIGINT;
+        }
+        return literalValue instanceof BigDecimal ? SqlTypeName.DECIMAL : SqlTypeName.CHAR;
+    }
+    
+    private Optional<Object> findLiteralValue(final SqlNode sqlNode) {
+        if (sqlNode instanceof SqlNumericLiteral && ((SqlNumericLiteral) sqlNode).isExact()) {
+            return Optional.of(getExactNumericValue(((SqlNumericLiteral) sqlNode).getValueAs(BigDecimal.class)));
+        }
+        if (sqlNode instanceof SqlCharStringLiteral) {
+            return Optional.of(((SqlCharStringLiteral) sqlNode).getValueAs(String.class));
+        }
+        return Optional.empty();
+    }
+    
+    private Object getExactNumericValue(final BigDecimal value) {
+        if (value.scale() > 0) {
+            return value;
+        }
+        try {
+            long result = value.longValueExact();
+            return result >= Integer.MIN_VALUE && result <= Integer.MAX_VALUE ? (Object) (int) result : (Object) result;
+        } catch (final ArithmeticException ignored) {
+            return value;
+        }
+    }
+}
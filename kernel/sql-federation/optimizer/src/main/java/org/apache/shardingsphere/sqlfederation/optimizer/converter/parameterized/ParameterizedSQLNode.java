@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.converter.parameterized;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.calcite.sql.SqlNode;
+import org.apache.calcite.sql.type.SqlTypeName;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Parameterized SQL node.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class ParameterizedSQLNode {
+    
+    private final SqlNode sqlNode;
+    
+    private final List<Integer> parameterIndexes;
+    
+    private final int parameterOffset;
+    
+    private final List<Object> literalValues;
+    
+    private final List<SqlTypeName> literalTypes;
+    
+    /**
+     * Get parameterized SQL.
+     *
+     * @return parameterized SQL
+     */
+    public String getParameterizedSQL() {
+        return sqlNode.toString();
+    }
+    
+    /**
+     * Get parameters which contain the original parameters and the lifted literal values.
+     *
+     * @param params original parameters
+     * @param parameterTypes parameter types
+     * @return parameters, empty if any lifted literal value can not be represented by its inferred parameter type
+     */
+    public Optional<List<Object>> getParameters(final List<Object> params, final Map<Integer, SqlTypeName> parameterTypes) {
+        List<Object> result = new ArrayList<>(parameterOffset + literalValues.size());
+        result.addAll(params);
+        for (int i = result.size(); i < parameterOffset; i++) {
+            result.add(null);
+        }
+        int index = parameterOffset;
+        for (Object each : literalValues) {
+            Optional<Object> literalValue = convertLiteralValue(each, parameterTypes.get(index++));
+            if (!literalValue.isPresent()) {
+                return Optional.empty();
+            }
+            result.add(literalValue.get());
+        }
+        return Optional.of(result);
+    }
+    
+    private Optional<Object> convertLiteralValue(final Object value, final SqlTypeName parameterType) {
+        if (null == parameterType) {
+            return Optional.of(value);
+        }
+        if (SqlTypeName.CHAR_TYPES.contains(parameterType)) {
+            return Optional.of(value.toString());
+        }
+        try {
+            Object result = value instanceof String ? convertStringValue((String) value, parameterType) : value;
+            return isRepresentable(result, parameterType) ? Optional.of(result) : Optional.empty();
+        } catch (final IllegalArgumentException ignored) {
+            return Optional.empty();
+        }
+    }
+    
+    private Object convertStringValue(final String value, final SqlTypeName parameterType) {
+        switch (parameterType) {
+            case DATE:
+                return Date.valueOf(value);
+            case TIME:
+                return Time.valueOf(value);
+            case TIMESTAMP:
+                return Timestamp.valueOf(value);
+            default:
+                return SqlTypeName.NUMERIC_TYPES.contains(parameterType) ? new BigDecimal(value.trim()) : value;
+        }
+    }
+    
+    private boolean isRepresentable(final Object value, final SqlTypeName parameterType) {
+        if (SqlTypeName.INT_TYPES.contains(parameterType)) {
+            return value instanceof Number && isIntegralInRange(new BigDecimal(value.toString()), parameterType);
+        }
+        if (SqlTypeName.NUMERIC_TYPES.contains(parameterType)) {
+            return value instanceof Number;
+        }
+        return !SqlTypeName.DATETIME_TYPES.contains(parameterType) || value instanceof java.util.Date;
+    }
+    
+    private boolean isIntegralInRange(final BigDecimal value, final SqlTypeName parameterType) {
+        long result;
+        try {
+            result = value.longValueExact();
+        } catch (final ArithmeticException ignored) {
+            return false;
+        }
+        switch (parameterType) {
+            case TINYINT:
+                return result == (byte) result;
+            case SMALLINT:
+                return result == (short) result;
+            case INTEGER:
+                return result == (int) result;
+            default:
+                return true;
+        }
+    }
+}
@@ -17,7 +17,6 @@
 
 package org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema;
 
-import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import org.apache.calcite.DataContext;
 import org.apache.calcite.linq4j.AbstractEnumerable;
@@ -52,6 +51,7 @@ import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table.S
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table.ScanExecutorContext;
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.util.SQLFederationDataTypeUtils;
 import org.apache.shardingsphere.sqlfederation.optimizer.statistic.SQLFederationStatistic;
+import org.apache.shardingsphere.sqlfederation.optimizer.statistic.SQLFederationStatisticBuilder;
 
 import java.lang.reflect.Type;
 import java.util.Collection;
@@ -61,18 +61,43 @@ import java.util.List;
 /**
  * SQL federation table.
  */
-@RequiredArgsConstructor
 public final class SQLFederationTable extends AbstractTable implements ModifiableTable, TranslatableTable {
     
     private final ShardingSphereTable table;
     
-    private final SQLFederationStatistic statistic;
-    
     private final DatabaseType protocolType;
     
+    private volatile SQLFederationStatistic statistic;
+    
+    private volatile long statisticsVersion = -1L;
+    
     @Setter
     private ScanExecutor scanExecutor;
     
+    public SQLFederationTable(final ShardingSphereTable table, final SQLFederationStatistic statistic, final DatabaseType protocolType) {
+        this.table = table;
+        this.statistic = statistic;
+        this.protocolType = protocolType;
+    }
+    
+    /**
+     * Refresh statistic if statistics version changed.
+     *
+     * @param statisticsVersion statistics version
+     * @param statisticBuilder statistic builder
+     */
+    public void refreshStatistic(final long statisticsVersion, final SQLFederationStatisticBuilder statisticBuilder) {
+        if (this.statisticsVersion == statisticsVersion) {
+            return;
+        }
+        synchronized (this) {
+            if (this.statisticsVersion != statisticsVersion) {
+                statistic = statisticBuilder.build(table);
+                this.statisticsVersion = statisticsVersion;
+            }
+        }
+    }
+    
     @Override
     public RelDataType getRowType(final RelDataTypeFactory typeFactory) {
         return SQLFederationDataTypeUtils.createRelDataType(table, protocolType, typeFactory);
@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.operator.physical;
+
+import org.apache.calcite.adapter.enumerable.EnumerableConvention;
+import org.apache.calcite.adapter.enumerable.EnumerableHashJoin;
+import org.apache.calcite.adapter.enumerable.EnumerableRel;
+import org.apache.calcite.adapter.enumerable.EnumerableRelImplementor;
+import org.apache.calcite.adapter.enumerable.JavaRowFormat;
+import org.apache.calcite.adapter.enumerable.PhysType;
+import org.apache.calcite.adapter.enumerable.PhysTypeImpl;
+import org.apache.calcite.linq4j.tree.BlockBuilder;
+import org.apache.calcite.linq4j.tree.Expression;
+import org.apache.calcite.linq4j.tree.Expressions;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelOptUtil;
+import org.apache.calcite.plan.RelTraitSet;
+import org.apache.calcite.rel.RelCollationTraitDef;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.RelWriter;
+import org.apache.calcite.rel.core.CorrelationId;
+import org.apache.calcite.rel.core.JoinInfo;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rel.metadata.RelMdCollation;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rel.type.RelDataTypeField;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.util.Pair;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.physical.join.SpillableHashJoinEnumerable;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Enumerable spillable hash join.
+ *
+ * <p>Inner, left and right equi-joins are executed by {@link SpillableHashJoinEnumerable}, which builds hash table from the smaller input of inner join
+ * and spills partitions to local disk beyond memory budget. Other joins are executed by {@link EnumerableHashJoin}.</p>
+ */
+public final class EnumerableSpillableHashJoin extends EnumerableHashJoin {
+    
+    private final boolean buildLeft;
+    
+    private EnumerableSpillableHashJoin(final RelOptCluster cluster, final RelTraitSet traitSet, final RelNode left, final RelNode right, final RexNode condition,
+                                        final Set<CorrelationId> variablesSet, final JoinRelType joinType, final boolean buildLeft) {
+        super(cluster, traitSet, left, right, condition, variablesSet, joinType);
+        this.buildLeft = buildLeft;
+    }
+    
+    /**
+     * Create enumerable spillable hash join.
+     *
+     * @param left left input
+     * @param right right input
+     * @param condition join condition
+     * @param variablesSet variables set
+     * @param joinType join type
+     * @return created enumerable spillable hash join
+     */
+    public static EnumerableSpillableHashJoin create(final RelNode left, final RelNode right, final RexNode condition, final Set<CorrelationId> variablesSet, final JoinRelType joinType) {
+        RelOptCluster cluster = left.getCluster();
+        RelMetadataQuery metadataQuery = cluster.getMetadataQuery();
+        boolean buildLeft = isSpillable(left, right, condition, variablesSet, joinType)
+                && (JoinRelType.RIGHT == joinType || JoinRelType.INNER == joinType && metadataQuery.getRowCount(left) < metadataQuery.getRowCount(right));
+        RelTraitSet traitSet = buildLeft
+                ? cluster.traitSetOf(EnumerableConvention.INSTANCE)
+                : cluster.traitSetOf(EnumerableConvention.INSTANCE).replaceIfs(RelCollationTraitDef.INSTANCE, () -> RelMdCollation.enumerableHashJoin(metadataQuery, left, right, joinType));
+        return new EnumerableSpillableHashJoin(cluster, traitSet, left, right, condition, variablesSet, joinType, buildLeft);
+    }
+    
+    private static boolean isSpillable(final RelNode left, final RelNode right, final RexNode condition, final Set<CorrelationId> variablesSet, final JoinRelType joinType) {
+        if (!variablesSet.isEmpty() || JoinRelType.INNER != joinType && JoinRelType.LEFT != joinType && JoinRelType.RIGHT != joinType) {
+            return false;
+        }
+        for (RexNode each : RelOptUtil.conjunctions(condition)) {
+            if (!each.isA(SqlKind.EQUALS)) {
+                return false;
+            }
+        }
+        JoinInfo joinInfo = JoinInfo.of(left, right, condition);
+        if (!joinInfo.isEqui() || joinInfo.leftKeys.isEmpty()) {
+            return false;
+        }
+        List<RelDataTypeField> leftFields = left.getRowType().getFieldList();
+        List<RelDataTypeField> rightFields = right.getRowType().getFieldList();
+        for (int i = 0; i < joinInfo.leftKeys.size(); i++) {
+            if (leftFields.get(joinInfo.leftKeys.get(i)).getType().getSqlTypeName() != rightFields.get(joinInfo.rightKeys.get(i)).getType().getSqlTypeName()) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    @Override
+    public EnumerableSpillableHashJoin copy(final RelTraitSet traitSet, final RexNode condition, final RelNode left, final RelNode right, final JoinRelType joinType, final boolean semiJoinDone) {
+        return new EnumerableSpillableHashJoin(getCluster(), traitSet, left, right, condition, variablesSet, joinType, buildLeft);
+    }
+    
+    @Override
+    public Pair<RelTraitSet, List<RelTraitSet>> passThroughTraits(final RelTraitSet required) {
+        return buildLeft ? null : super.passThroughTraits(required);
+    }
+    
+    @Override
+    public Pair<RelTraitSet, List<RelTraitSet>> deriveTraits(final RelTraitSet childTraits, final int childId) {
+        return buildLeft ? null : super.deriveTraits(childTraits, childId);
+    }
+    
+    @Override
+    public RelWriter explainTerms(final RelWriter relWriter) {
+        return super.explainTerms(relWriter).itemIf("build", "left", buildLeft);
+    }
+    
+    @Override
+    public Result implement(final EnumerableRelImplementor implementor, final Prefer pref) {
+        if (!isSpillable(left, right, condition, variablesSet, joinType)) {
+            return super.implement(implementor, pref);
+        }
+        BlockBuilder builder = new BlockBuilder();
+        Result leftResult = implementor.visitChild(this, 0, (EnumerableRel) left, Prefer.ARRAY);
+        Expression leftExpression = leftResult.physType.convertTo(builder.append("left", leftResult.block), JavaRowFormat.ARRAY);
+        Result rightResult = implementor.visitChild(this, 1, (EnumerableRel) right, Prefer.ARRAY);
+        Expression rightExpression = rightResult.physType.convertTo(builder.append("right", rightResult.block), JavaRowFormat.ARRAY);
+        JoinInfo joinInfo = analyzeCondition();
+        builder.add(Expressions.return_(null, Expressions.call(SpillableHashJoinEnumerable.class, "join", implementor.getRootExpression(), leftExpression, rightExpression,
+                Expressions.constant(joinInfo.leftKeys.toIntArray()), Expressions.constant(joinInfo.rightKeys.toIntArray()),
+                Expressions.constant(left.getRowType().getFieldCount()), Expressions.constant(right.getRowType().getFieldCount()),
+                Expressions.constant(buildLeft), Expressions.constant(JoinRelType.INNER != joinType))));
+        PhysType physType = PhysTypeImpl.of(implementor.getTypeFactory(), getRowType(), JavaRowFormat.ARRAY);
+        return implementor.result(physType, builder.toBlock());
+    }
+}
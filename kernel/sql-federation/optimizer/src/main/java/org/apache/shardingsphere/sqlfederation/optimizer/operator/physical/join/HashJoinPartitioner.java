@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.operator.physical.join;
+
+import org.apache.shardingsphere.infra.merge.result.impl.memory.spill.MemorySizeEstimateUtils;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.spill.MergeSpillContext;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.spill.SpillRunFile;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Hash join partitioner.
+ *
+ * <p>Rows are buffered by hash of join key and written to spill run files of their partitions whenever buffered rows exceed memory budget.</p>
+ */
+final class HashJoinPartitioner {
+    
+    static final int PARTITION_COUNT = 16;
+    
+    private static final long ROW_HEADER_BYTES = 16L;
+    
+    private static final long REFERENCE_BYTES = 8L;
+    
+    private final int level;
+    
+    private final MergeSpillContext spillContext;
+    
+    private final List<List<Object[]>> buffers = new ArrayList<>(PARTITION_COUNT);
+    
+    private final List<List<SpillRunFile<Object[]>>> runFiles = new ArrayList<>(PARTITION_COUNT);
+    
+    private long bufferedBytes;
+    
+    HashJoinPartitioner(final int level, final MergeSpillContext spillContext) {
+        this.level = level;
+        this.spillContext = spillContext;
+        for (int i = 0; i < PARTITION_COUNT; i++) {
+            buffers.add(new ArrayList<>());
+            runFiles.add(new ArrayList<>());
+        }
+    }
+    
+    /**
+     * Add rows of hash table.
+     *
+     * @param hashTable hash table
+     */
+    void addAll(final Map<Object, List<Object[]>> hashTable) {
+        for (Map.Entry<Object, List<Object[]>> entry : hashTable.entrySet()) {
+            for (Object[] each : entry.getValue()) {
+                add(entry.getKey(), each);
+            }
+        }
+    }
+    
+    /**
+     * Add row.
+     *
+     * @param key join key
+     * @param row row
+     */
+    void add(final Object key, final Object[] row) {
+        buffers.get(getPartition(key, level)).add(row);
+        bufferedBytes += estimate(row);
+        if (spillContext.isExceeded(bufferedBytes)) {
+            flush();
+        }
+    }
+    
+    /**
+     * Flush buffered rows and get spill run files of each partition.
+     *
+     * @return spill run files of each partition
+     */
+    List<List<SpillRunFile<Object[]>>> finish() {
+        flush();
+        return runFiles;
+    }
+    
+    private void flush() {
+        for (int i = 0; i < PARTITION_COUNT; i++) {
+            List<Object[]> buffer = buffers.get(i);
+            if (!buffer.isEmpty()) {
+                runFiles.get(i).add(SpillRunFile.write(buffer, spillContext));
+                buffer.clear();
+            }
+        }
+        bufferedBytes = 0L;
+    }
+    
+    /**
+     * Get partition of join key.
+     *
+     * <p>Each level mixes hash code with another seed, so rows of one partition spread over all partitions of next level.</p>
+     *
+     * @param key join key
+     * @param level partition level
+     * @return partition index
+     */
+    static int getPartition(final Object key, final int level) {
+        int result = Objects.hashCode(key) ^ level * 0x9E3779B9;
+        result ^= result >>> 16;
+        result *= 0x85EBCA6B;
+        result ^= result >>> 13;
+        result *= 0xC2B2AE35;
+        result ^= result >>> 16;
+        return Math.floorMod(result, PARTITION_COUNT);
+    }
+    
+    /**
+     * Estimate heap bytes of row.
+     *
+     * @param row row
+     * @return estimated heap bytes
+     */
+    static long estimate(final Object[] row) {
+        long result = ROW_HEADER_BYTES + REFERENCE_BYTES * row.length;
+        for (Object each : row) {
+            result += MemorySizeEstimateUtils.estimate(each);
+        }
+        return result;
+    }
+    
+    /**
+     * Discard spill run files.
+     *
+     * @param runFiles spill run files
+     */
+    static void discard(final Collection<SpillRunFile<Object[]>> runFiles) {
+        runFiles.forEach(SpillRunFile::discard);
+    }
+}
@@ -0,0 +1,337 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.operator.physical.join;
+
+import com.google.common.collect.Iterators;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.apache.calcite.DataContext;
+import org.apache.calcite.linq4j.AbstractEnumerable;
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.calcite.linq4j.Linq4j;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.spill.MergeSpillContext;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.spill.SpillRunFile;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Spillable hash join enumerable.
+ *
+ * <p>Rows of build input are hashed by join keys in memory and probed by rows of probe input.
+ * When estimated bytes of build rows exceed memory budget of spill context, both inputs are partitioned by hash of join keys into spill run files,
+ * and partitions are joined one by one. A partition still exceeding memory budget is partitioned again, up to {@link #MAX_PARTITION_LEVEL} levels.</p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SpillableHashJoinEnumerable extends AbstractEnumerable<Object[]> {
+    
+    /**
+     * Data context variable name of merge spill context.
+     */
+    public static final String SPILL_CONTEXT_VARIABLE = "sqlFederationSpillContext";
+    
+    private static final int MAX_PARTITION_LEVEL = 3;
+    
+    private static final long HASH_ENTRY_BYTES = 48L;
+    
+    private final Enumerable<Object[]> buildInput;
+    
+    private final Enumerable<Object[]> probeInput;
+    
+    private final int[] buildKeys;
+    
+    private final int[] probeKeys;
+    
+    private final boolean buildLeft;
+    
+    private final boolean outer;
+    
+    private final int leftFieldCount;
+    
+    private final int rightFieldCount;
+    
+    private final MergeSpillContext spillContext;
+    
+    /**
+     * Join inputs by equal keys.
+     *
+     * @param root data context
+     * @param left left input
+     * @param right right input
+     * @param leftKeys join key indexes of left input
+     * @param rightKeys join key indexes of right input
+     * @param leftFieldCount field count of left input
+     * @param rightFieldCount field count of right input
+     * @param buildLeft whether to build hash table from left input
+     * @param outer whether to keep unmatched rows of probe input
+     * @return joined rows
+     */
+    public static Enumerable<Object[]> join(final DataContext root, final Enumerable<Object[]> left, final Enumerable<Object[]> right, final int[] leftKeys, final int[] rightKeys,
+                                            final int leftFieldCount, final int rightFieldCount, final boolean buildLeft, final boolean outer) {
+        Object spillContext = root.get(SPILL_CONTEXT_VARIABLE);
+        MergeSpillContext actualSpillContext = spillContext instanceof MergeSpillContext ? (MergeSpillContext) spillContext : new MergeSpillContext(0L, null);
+        return buildLeft
+                ? new SpillableHashJoinEnumerable(left, right, leftKeys, rightKeys, true, outer, leftFieldCount, rightFieldCount, actualSpillContext)
+                : new SpillableHashJoinEnumerable(right, left, rightKeys, leftKeys, false, outer, leftFieldCount, rightFieldCount, actualSpillContext);
+    }
+    
+    @Override
+    public Enumerator<Object[]> enumerator() {
+        return new HashJoinEnumerator();
+    }
+    
+    private static Object getKey(final Object[] row, final int[] keys) {
+        if (1 == keys.length) {
+            return normalize(row[keys[0]]);
+        }
+        List<Object> result = new ArrayList<>(keys.length);
+        for (int each : keys) {
+            Object value = normalize(row[each]);
+            if (null == value) {
+                return null;
+            }
+            result.add(value);
+        }
+        return result;
+    }
+    
+    private static Object normalize(final Object value) {
+        return value instanceof BigDecimal ? ((BigDecimal) value).stripTrailingZeros() : value;
+    }
+    
+    private final class HashJoinEnumerator implements Enumerator<Object[]> {
+        
+        private final LinkedList<HashJoinPartition> pendingPartitions = new LinkedList<>();
+        
+        private final List<Enumerator<Object[]>> inputs = new LinkedList<>();
+        
+        private Iterator<Object[]> output;
+        
+        private Object[] current;
+        
+        @Override
+        public Object[] current() {
+            return current;
+        }
+        
+        @Override
+        public boolean moveNext() {
+            if (null == output) {
+                output = build();
+            }
+            while (!output.hasNext()) {
+                if (pendingPartitions.isEmpty()) {
+                    return false;
+                }
+                output = join(pendingPartitions.removeFirst());
+            }
+            current = output.next();
+            return true;
+        }
+        
+        private Iterator<Object[]> build() {
+            Map<Object, List<Object[]>> hashTable = new HashMap<>();
+            long hashTableBytes = 0L;
+            HashJoinPartitioner buildPartitioner = null;
+            Enumerator<Object[]> buildRows = open(buildInput);
+            while (buildRows.moveNext()) {
+                Object[] row = buildRows.current();
+                Object key = getKey(row, buildKeys);
+                if (null == key) {
+                    continue;
+                }
+                if (null != buildPartitioner) {
+                    buildPartitioner.add(key, row);
+                    continue;
+                }
+                hashTable.computeIfAbsent(key, unused -> new LinkedList<>()).add(row);
+                hashTableBytes += HashJoinPartitioner.estimate(row) + HASH_ENTRY_BYTES;
+                if (spillContext.isExceeded(hashTableBytes)) {
+                    buildPartitioner = new HashJoinPartitioner(0, spillContext);
+                    buildPartitioner.addAll(hashTable);
+                    hashTable = null;
+                }
+            }
+            closeInput(buildRows);
+            Enumerator<Object[]> probeRows = open(probeInput);
+            if (null == buildPartitioner) {
+                return new ProbeIterator(hashTable, Linq4j.enumeratorIterator(probeRows));
+            }
+            List<List<SpillRunFile<Object[]>>> buildRunFiles = buildPartitioner.finish();
+            List<List<SpillRunFile<Object[]>>> probeRunFiles = partition(0, Linq4j.enumeratorIterator(probeRows));
+            closeInput(probeRows);
+            addPartitions(0, buildRunFiles, probeRunFiles);
+            return Collections.emptyIterator();
+        }
+        
+        private Iterator<Object[]> join(final HashJoinPartition partition) {
+            Map<Object, List<Object[]>> hashTable = new HashMap<>();
+            long hashTableBytes = 0L;
+            Iterator<Object[]> buildRows = openAll(partition.getBuildRunFiles());
+            while (buildRows.hasNext()) {
+                Object[] row = buildRows.next();
+                Object key = getKey(row, buildKeys);
+                hashTable.computeIfAbsent(key, unused -> new LinkedList<>()).add(row);
+                hashTableBytes += HashJoinPartitioner.estimate(row) + HASH_ENTRY_BYTES;
+                if (spillContext.isExceeded(hashTableBytes) && partition.getLevel() < MAX_PARTITION_LEVEL) {
+                    return repartition(partition, hashTable, buildRows);
+                }
+            }
+            return new ProbeIterator(hashTable, openAll(partition.getProbeRunFiles()));
+        }
+        
+        private Iterator<Object[]> repartition(final HashJoinPartition partition, final Map<Object, List<Object[]>> hashTable, final Iterator<Object[]> buildRows) {
+            int level = partition.getLevel() + 1;
+            HashJoinPartitioner buildPartitioner = new HashJoinPartitioner(level, spillContext);
+            buildPartitioner.addAll(hashTable);
+            hashTable.clear();
+            while (buildRows.hasNext()) {
+                Object[] row = buildRows.next();
+                buildPartitioner.add(getKey(row, buildKeys), row);
+            }
+            addPartitions(level, buildPartitioner.finish(), partition(level, openAll(partition.getProbeRunFiles())));
+            return Collections.emptyIterator();
+        }
+        
+        private List<List<SpillRunFile<Object[]>>> partition(final int level, final Iterator<Object[]> probeRows) {
+            HashJoinPartitioner result = new HashJoinPartitioner(level, spillContext);
+            while (probeRows.hasNext()) {
+                Object[] row = probeRows.next();
+                Object key = getKey(row, probeKeys);
+                if (null != key || outer) {
+                    result.add(key, row);
+                }
+            }
+            return result.finish();
+        }
+        
+        private void addPartitions(final int level, final List<List<SpillRunFile<Object[]>>> buildRunFiles, final List<List<SpillRunFile<Object[]>>> probeRunFiles) {
+            for (int i = HashJoinPartitioner.PARTITION_COUNT - 1; i >= 0; i--) {
+                if (probeRunFiles.get(i).isEmpty() || buildRunFiles.get(i).isEmpty() && !outer) {
+                    HashJoinPartitioner.discard(buildRunFiles.get(i));
+                    HashJoinPartitioner.discard(probeRunFiles.get(i));
+                } else {
+                    pendingPartitions.addFirst(new HashJoinPartition(level, buildRunFiles.get(i), probeRunFiles.get(i)));
+                }
+            }
+        }
+        
+        private Enumerator<Object[]> open(final Enumerable<Object[]> input) {
+            Enumerator<Object[]> result = input.enumerator();
+            inputs.add(result);
+            return result;
+        }
+        
+        private Iterator<Object[]> openAll(final List<SpillRunFile<Object[]>> runFiles) {
+            List<Iterator<Object[]>> result = new ArrayList<>(runFiles.size());
+            for (SpillRunFile<Object[]> each : runFiles) {
+                result.add(each.openIterator());
+            }
+            runFiles.clear();
+            return Iterators.concat(result.iterator());
+        }
+        
+        private void closeInput(final Enumerator<Object[]> input) {
+            inputs.remove(input);
+            input.close();
+        }
+        
+        @Override
+        public void reset() {
+            throw new UnsupportedOperationException();
+        }
+        
+        @Override
+        public void close() {
+            for (HashJoinPartition each : pendingPartitions) {
+                HashJoinPartitioner.discard(each.getBuildRunFiles());
+                HashJoinPartitioner.discard(each.getProbeRunFiles());
+            }
+            pendingPartitions.clear();
+            inputs.forEach(Enumerator::close);
+            inputs.clear();
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private final class ProbeIterator implements Iterator<Object[]> {
+        
+        private final Map<Object, List<Object[]>> hashTable;
+        
+        private final Iterator<Object[]> probeRows;
+        
+        private Object[] probeRow;
+        
+        private Iterator<Object[]> matchedRows = Collections.emptyIterator();
+        
+        private Object[] next;
+        
+        @Override
+        public boolean hasNext() {
+            while (null == next) {
+                if (matchedRows.hasNext()) {
+                    next = createJoinedRow(probeRow, matchedRows.next());
+                    break;
+                }
+                if (!probeRows.hasNext()) {
+                    return false;
+                }
+                probeRow = probeRows.next();
+                Object key = getKey(probeRow, probeKeys);
+                List<Object[]> buildRows = null == key ? null : hashTable.get(key);
+                if (null != buildRows) {
+                    matchedRows = buildRows.iterator();
+                } else if (outer) {
+                    next = createJoinedRow(probeRow, null);
+                }
+            }
+            return true;
+        }
+        
+        @Override
+        public Object[] next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Object[] result = next;
+            next = null;
+            return result;
+        }
+        
+        private Object[] createJoinedRow(final Object[] probeRow, final Object[] buildRow) {
+            Object[] result = new Object[leftFieldCount + rightFieldCount];
+            Object[] leftRow = buildLeft ? buildRow : probeRow;
+            Object[] rightRow = buildLeft ? probeRow : buildRow;
+            if (null != leftRow) {
+                System.arraycopy(leftRow, 0, result, 0, leftFieldCount);
+            }
+            if (null != rightRow) {
+                System.arraycopy(rightRow, 0, result, leftFieldCount, rightFieldCount);
+            }
+            return result;
+        }
+    }
+}
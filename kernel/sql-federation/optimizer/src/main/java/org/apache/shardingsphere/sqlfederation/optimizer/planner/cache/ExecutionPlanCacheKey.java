@@ -20,28 +20,39 @@ package org.apache.shardingsphere.sqlfederation.optimizer.planner.cache;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
-import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+import org.apache.calcite.sql.SqlNode;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.sqlfederation.optimizer.statement.SQLStatementCompiler;
 
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
  * Execution plan cache key.
+ *
+ * <p>Table meta data is compared by identity, because a changed table is always reloaded as a new instance.
+ * Lifted literal types and statistics version are compared too, so plans are not shared across literal types or outdated statistics.</p>
  */
 @RequiredArgsConstructor
 @Getter
-@EqualsAndHashCode(of = {"sql", "tableMetaDataVersions"})
+@EqualsAndHashCode(of = {"parameterizedSQL", "parameterIndexes", "literalTypes", "statisticsVersion", "tableMetaData"})
 public final class ExecutionPlanCacheKey {
     
-    // TODO replace sql with parameterized sql
-    private final String sql;
+    private final String parameterizedSQL;
+    
+    private final List<Integer> parameterIndexes;
+    
+    private final List<SqlTypeName> literalTypes;
+    
+    private final long statisticsVersion;
     
-    private final SQLStatement sqlStatement;
+    private final SqlNode sqlNode;
     
     private final String databaseType;
     
     private final SQLStatementCompiler sqlStatementCompiler;
     
-    private final Map<String, Integer> tableMetaDataVersions = new LinkedHashMap<>();
+    private final Map<String, ShardingSphereTable> tableMetaData = new LinkedHashMap<>();
 }
@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.converter;
+
+import org.apache.calcite.adapter.enumerable.EnumerableMergeJoin;
+import org.apache.calcite.plan.RelOptRuleCall;
+import org.apache.calcite.plan.RelOptUtil;
+import org.apache.calcite.plan.RelRule;
+import org.apache.calcite.rel.RelCollation;
+import org.apache.calcite.rel.RelCollations;
+import org.apache.calcite.rel.RelFieldCollation;
+import org.apache.calcite.rel.RelFieldCollation.Direction;
+import org.apache.calcite.rel.RelFieldCollation.NullDirection;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.JoinInfo;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rel.logical.LogicalFilter;
+import org.apache.calcite.rel.logical.LogicalJoin;
+import org.apache.calcite.rel.logical.LogicalSort;
+import org.apache.calcite.rel.metadata.RelColumnOrigin;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexUtil;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.apache.calcite.util.ImmutableIntList;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.SQLFederationTable;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.logical.LogicalScan;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.physical.EnumerableScan;
+import org.apache.shardingsphere.sqlfederation.optimizer.statistic.SQLFederationStatistic;
+import org.immutables.value.Value;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Enumerable sorted scan merge join rule.
+ *
+ * <p>Inner equi-join of two scans is converted to merge join when join keys of both scans are leading columns of primary key or an index.
+ * Each scan pushes down ORDER BY join keys, which storage units serve by index order, and shard results are merged in order.</p>
+ */
+@Value.Enclosing
+public final class EnumerableSortedScanMergeJoinRule extends RelRule<EnumerableSortedScanMergeJoinRule.Config> {
+    
+    private static final Collection<SqlTypeName> ORDERED_KEY_TYPES = EnumSet.of(SqlTypeName.TINYINT, SqlTypeName.SMALLINT, SqlTypeName.INTEGER, SqlTypeName.BIGINT, SqlTypeName.DECIMAL);
+    
+    private EnumerableSortedScanMergeJoinRule(final Config config) {
+        super(config);
+    }
+    
+    @Override
+    public boolean matches(final RelOptRuleCall call) {
+        LogicalJoin join = call.rel(0);
+        if (JoinRelType.INNER != join.getJoinType() || !join.getVariablesSet().isEmpty()) {
+            return false;
+        }
+        for (RexNode each : RelOptUtil.conjunctions(join.getCondition())) {
+            if (!each.isA(SqlKind.EQUALS)) {
+                return false;
+            }
+        }
+        JoinInfo joinInfo = join.analyzeCondition();
+        if (!joinInfo.isEqui() || joinInfo.leftKeys.isEmpty()) {
+            return false;
+        }
+        LogicalScan leftScan = call.rel(1);
+        LogicalScan rightScan = call.rel(2);
+        for (int i = 0; i < joinInfo.leftKeys.size(); i++) {
+            SqlTypeName leftKeyType = leftScan.getRowType().getFieldList().get(joinInfo.leftKeys.get(i)).getType().getSqlTypeName();
+            SqlTypeName rightKeyType = rightScan.getRowType().getFieldList().get(joinInfo.rightKeys.get(i)).getType().getSqlTypeName();
+            if (leftKeyType != rightKeyType || !ORDERED_KEY_TYPES.contains(leftKeyType)) {
+                return false;
+            }
+        }
+        return isIndexPrefix(leftScan, joinInfo.leftKeys) && isIndexPrefix(rightScan, joinInfo.rightKeys);
+    }
+    
+    private boolean isIndexPrefix(final LogicalScan scan, final List<Integer> keys) {
+        SQLFederationTable table = scan.getTable().unwrap(SQLFederationTable.class);
+        if (null == table || !(table.getStatistic() instanceof SQLFederationStatistic)) {
+            return false;
+        }
+        List<Integer> columns = new ArrayList<>(keys.size());
+        for (int each : keys) {
+            RelColumnOrigin columnOrigin = scan.getCluster().getMetadataQuery().getColumnOrigin(scan.peek(), each);
+            if (null == columnOrigin || columnOrigin.isDerived()) {
+                return false;
+            }
+            columns.add(columnOrigin.getOriginColumnOrdinal());
+        }
+        return ((SQLFederationStatistic) table.getStatistic()).isIndexPrefix(columns);
+    }
+    
+    @Override
+    public void onMatch(final RelOptRuleCall call) {
+        LogicalJoin join = call.rel(0);
+        JoinInfo joinInfo = join.analyzeCondition();
+        RelNode left = createSortedScan(call.rel(1), joinInfo.leftKeys);
+        RelNode right = createSortedScan(call.rel(2), joinInfo.rightKeys);
+        call.transformTo(EnumerableMergeJoin.create(left, right, join.getCondition(), joinInfo.leftKeys, joinInfo.rightKeys, JoinRelType.INNER));
+    }
+    
+    private EnumerableScan createSortedScan(final LogicalScan scan, final ImmutableIntList keys) {
+        RelNode input = scan.peek();
+        RexBuilder rexBuilder = scan.getCluster().getRexBuilder();
+        Collection<RexNode> notNullConditions = new LinkedList<>();
+        List<RelFieldCollation> fieldCollations = new ArrayList<>(keys.size());
+        for (int each : keys) {
+            RelDataType keyType = input.getRowType().getFieldList().get(each).getType();
+            if (keyType.isNullable()) {
+                notNullConditions.add(rexBuilder.makeCall(SqlStdOperatorTable.IS_NOT_NULL, rexBuilder.makeInputRef(input, each)));
+            }
+            fieldCollations.add(new RelFieldCollation(each, Direction.ASCENDING, NullDirection.UNSPECIFIED));
+        }
+        if (!notNullConditions.isEmpty()) {
+            input = LogicalFilter.create(input, RexUtil.composeConjunction(rexBuilder, notNullConditions));
+        }
+        RelCollation collation = RelCollations.of(fieldCollations);
+        return new EnumerableScan(scan.getCluster(), scan.getTraitSet().replace(collation), scan.getTable(), LogicalSort.create(input, collation, null, null), scan.getDatabaseType());
+    }
+    
+    @Value.Immutable
+    public interface Config extends RelRule.Config {
+        
+        Config DEFAULT = ImmutableEnumerableSortedScanMergeJoinRule.Config.builder().description(EnumerableSortedScanMergeJoinRule.class.getSimpleName())
+                .operandSupplier(b0 -> b0.operand(LogicalJoin.class).inputs(b1 -> b1.operand(LogicalScan.class).noInputs(), b2 -> b2.operand(LogicalScan.class).noInputs())).build();
+        
+        @Override
+        default EnumerableSortedScanMergeJoinRule toRule() {
+            return new EnumerableSortedScanMergeJoinRule(this);
+        }
+    }
+}
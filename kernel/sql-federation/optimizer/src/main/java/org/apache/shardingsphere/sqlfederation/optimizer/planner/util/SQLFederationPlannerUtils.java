@@ -56,6 +56,8 @@ import org.apache.shardingsphere.sqlfederation.optimizer.function.SQLFederationF
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.view.ShardingSphereViewExpander;
 import org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.converter.EnumerableModifyConverterRule;
 import org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.converter.EnumerableScanConverterRule;
+import org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.converter.EnumerableSortedScanMergeJoinRule;
+import org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.converter.EnumerableSpillableHashJoinConverterRule;
 import org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.transformation.PushFilterIntoScanRule;
 import org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.transformation.PushProjectIntoScanRule;
 
@@ -113,7 +115,8 @@ public final class SQLFederationPlannerUtils {
     private static void setUpRules(final RelOptPlanner planner) {
         planner.addRelTraitDef(ConventionTraitDef.INSTANCE);
         planner.addRelTraitDef(RelCollationTraitDef.INSTANCE);
-        planner.addRule(EnumerableRules.ENUMERABLE_JOIN_RULE);
+        planner.addRule(EnumerableSpillableHashJoinConverterRule.DEFAULT_CONFIG.toRule());
+        planner.addRule(EnumerableSortedScanMergeJoinRule.Config.DEFAULT.toRule());
         planner.addRule(EnumerableRules.ENUMERABLE_MERGE_JOIN_RULE);
         planner.addRule(EnumerableRules.ENUMERABLE_CORRELATE_RULE);
         planner.addRule(EnumerableRules.ENUMERABLE_PROJECT_RULE);
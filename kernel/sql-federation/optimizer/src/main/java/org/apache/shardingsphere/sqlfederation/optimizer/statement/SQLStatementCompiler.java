@@ -29,6 +29,7 @@ import org.apache.calcite.sql2rel.SqlToRelConverter;
 import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
 import org.apache.shardingsphere.sqlfederation.optimizer.SQLFederationExecutionPlan;
 import org.apache.shardingsphere.sqlfederation.optimizer.converter.SQLNodeConverterEngine;
+import org.apache.shardingsphere.sqlfederation.optimizer.converter.parameterized.DynamicParameterTypeVisitor;
 import org.apache.shardingsphere.sqlfederation.optimizer.operator.util.LogicalScanRelShuttle;
 import org.apache.shardingsphere.sqlfederation.optimizer.planner.util.SQLFederationPlannerUtils;
 
@@ -50,15 +51,27 @@ public final class SQLStatementCompiler {
      * @return sql federation execution plan
      */
     public SQLFederationExecutionPlan compile(final SQLStatement sqlStatement, final String databaseType) {
+        return compile(SQLNodeConverterEngine.convert(sqlStatement), databaseType);
+    }
+    
+    /**
+     * Compile SQL node to execution plan.
+     *
+     * @param sqlNode SQL node
+     * @param databaseType database type
+     * @return sql federation execution plan
+     */
+    public SQLFederationExecutionPlan compile(final SqlNode sqlNode, final String databaseType) {
         RelMetadataQueryBase.THREAD_PROVIDERS.set(JaninoRelMetadataProvider.DEFAULT);
-        SqlNode sqlNode = SQLNodeConverterEngine.convert(sqlStatement);
         RelNode logicalPlan = converter.convertQuery(sqlNode, true, true).rel;
         RelDataType resultColumnType = Objects.requireNonNull(converter.validator).getValidatedNodeType(sqlNode);
+        DynamicParameterTypeVisitor parameterTypeVisitor = new DynamicParameterTypeVisitor(converter.validator);
+        sqlNode.accept(parameterTypeVisitor);
         RelNode replacePlan = LogicalScanRelShuttle.replace(logicalPlan, databaseType);
         RelNode rewritePlan = rewrite(replacePlan, SQLFederationPlannerUtils.createHepPlanner());
         RelNode physicalPlan = optimize(rewritePlan, converter);
         RelMetadataQueryBase.THREAD_PROVIDERS.remove();
-        return new SQLFederationExecutionPlan(physicalPlan, resultColumnType);
+        return new SQLFederationExecutionPlan(physicalPlan, resultColumnType, parameterTypeVisitor.getParameterTypes());
     }
     
     private RelNode rewrite(final RelNode logicalPlan, final RelOptPlanner hepPlanner) {
@@ -21,6 +21,7 @@ import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
 
+import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -48,4 +49,13 @@ public final class SQLStatementCompilerEngineFactory {
         }
         return result;
     }
+    
+    /**
+     * Get all SQL statement compiler engines.
+     *
+     * @return SQL statement compiler engines, key is database name and schema name joined by dot
+     */
+    public static Map<String, SQLStatementCompilerEngine> getSQLStatementCompilerEngines() {
+        return Collections.unmodifiableMap(COMPILER_ENGINES);
+    }
 }
@@ -17,20 +17,70 @@
 
 package org.apache.shardingsphere.sqlfederation.optimizer.statistic;
 
+import lombok.RequiredArgsConstructor;
 import org.apache.calcite.rel.RelCollation;
 import org.apache.calcite.rel.RelDistribution;
 import org.apache.calcite.rel.RelDistributionTraitDef;
 import org.apache.calcite.rel.RelReferentialConstraint;
 import org.apache.calcite.schema.Statistic;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.calcite.util.ImmutableIntList;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
  * SQL federation statistic.
  */
+@RequiredArgsConstructor
 public final class SQLFederationStatistic implements Statistic {
     
+    private final Double rowCount;
+    
+    private final List<ImmutableBitSet> keys;
+    
+    private final List<ImmutableIntList> indexColumns;
+    
+    public SQLFederationStatistic() {
+        this(null, Collections.emptyList(), Collections.emptyList());
+    }
+    
+    @Override
+    public Double getRowCount() {
+        return rowCount;
+    }
+    
+    @Override
+    public boolean isKey(final ImmutableBitSet columns) {
+        for (ImmutableBitSet each : keys) {
+            if (columns.contains(each)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    @Override
+    public List<ImmutableBitSet> getKeys() {
+        return keys;
+    }
+    
+    /**
+     * Judge whether columns are leading columns of primary key or an index, so that storage units can return rows ordered by them without sorting.
+     *
+     * @param columns column ordinals
+     * @return columns are leading columns of primary key or an index or not
+     */
+    public boolean isIndexPrefix(final List<Integer> columns) {
+        for (ImmutableIntList each : indexColumns) {
+            if (!columns.isEmpty() && columns.size() <= each.size() && each.subList(0, columns.size()).equals(columns)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
     @Override
     public List<RelReferentialConstraint> getReferentialConstraints() {
         return new ArrayList<>();
@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.statistic;
+
+import com.cedarsoftware.util.CaseInsensitiveMap;
+import lombok.RequiredArgsConstructor;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.calcite.util.ImmutableIntList;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereIndex;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereRowData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereSchemaData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereStatistics;
+
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * SQL federation statistic builder.
+ *
+ * <p>Row count of logic table is the sum of row counts of its data nodes in sharding table statistics.
+ * Keys only come from declared primary key and unique index meta data, collected distinct counts are estimates and never imply uniqueness.
+ * Index columns come from declared primary key and index meta data, and tell which columns storage units can return in order.
+ * Statistics are loaded lazily on first build.</p>
+ */
+@RequiredArgsConstructor
+public final class SQLFederationStatisticBuilder {
+    
+    private static final String SHARDINGSPHERE = "shardingsphere";
+    
+    private static final String SHARDING_TABLE_STATISTICS = "sharding_table_statistics";
+    
+    private final String databaseName;
+    
+    private final ShardingSphereStatistics statistics;
+    
+    private Map<String, Double> rowCounts;
+    
+    /**
+     * Build SQL federation statistic.
+     *
+     * @param table ShardingSphere table
+     * @return SQL federation statistic
+     */
+    public SQLFederationStatistic build(final ShardingSphereTable table) {
+        Map<String, Integer> columnIndexes = createColumnIndexes(table);
+        return new SQLFederationStatistic(getRowCounts().get(table.getName()), createKeys(table, columnIndexes), createIndexColumns(table, columnIndexes));
+    }
+    
+    private Map<String, Double> getRowCounts() {
+        if (null == rowCounts) {
+            rowCounts = new CaseInsensitiveMap<>();
+            findSchemaData().ifPresent(this::loadTableStatistics);
+        }
+        return rowCounts;
+    }
+    
+    private Optional<ShardingSphereSchemaData> findSchemaData() {
+        if (null == statistics || !statistics.containsDatabase(databaseName) || !statistics.getDatabase(databaseName).containsSchema(SHARDINGSPHERE)) {
+            return Optional.empty();
+        }
+        return Optional.of(statistics.getDatabase(databaseName).getSchema(SHARDINGSPHERE));
+    }
+    
+    private void loadTableStatistics(final ShardingSphereSchemaData schemaData) {
+        if (!schemaData.containsTable(SHARDING_TABLE_STATISTICS)) {
+            return;
+        }
+        for (ShardingSphereRowData each : schemaData.getTable(SHARDING_TABLE_STATISTICS).getRows()) {
+            List<Object> row = each.getRows();
+            if (databaseName.equalsIgnoreCase(String.valueOf(row.get(1))) && row.get(5) instanceof Number) {
+                String logicTableName = String.valueOf(row.get(2));
+                rowCounts.merge(logicTableName, ((Number) row.get(5)).doubleValue(), Double::sum);
+            }
+        }
+    }
+    
+    private Map<String, Integer> createColumnIndexes(final ShardingSphereTable table) {
+        Map<String, Integer> result = new CaseInsensitiveMap<>(table.getAllColumns().size(), 1F);
+        int index = 0;
+        for (ShardingSphereColumn each : table.getAllColumns()) {
+            result.put(each.getName(), index++);
+        }
+        return result;
+    }
+    
+    private List<ImmutableBitSet> createKeys(final ShardingSphereTable table, final Map<String, Integer> columnIndexes) {
+        List<ImmutableBitSet> result = new LinkedList<>();
+        createKey(table.getPrimaryKeyColumns(), columnIndexes).ifPresent(result::add);
+        for (ShardingSphereIndex each : table.getAllIndexes()) {
+            if (each.isUnique()) {
+                createKey(each.getColumns(), columnIndexes).ifPresent(result::add);
+            }
+        }
+        return result;
+    }
+    
+    private List<ImmutableIntList> createIndexColumns(final ShardingSphereTable table, final Map<String, Integer> columnIndexes) {
+        List<ImmutableIntList> result = new LinkedList<>();
+        createIndexColumns(table.getPrimaryKeyColumns(), columnIndexes).ifPresent(result::add);
+        for (ShardingSphereIndex each : table.getAllIndexes()) {
+            createIndexColumns(each.getColumns(), columnIndexes).ifPresent(result::add);
+        }
+        return result;
+    }
+    
+    private Optional<ImmutableIntList> createIndexColumns(final Collection<String> columnNames, final Map<String, Integer> columnIndexes) {
+        List<Integer> result = new LinkedList<>();
+        for (String each : columnNames) {
+            if (!columnIndexes.containsKey(each)) {
+                break;
+            }
+            result.add(columnIndexes.get(each));
+        }
+        return result.isEmpty() ? Optional.empty() : Optional.of(ImmutableIntList.copyOf(result));
+    }
+    
+    private Optional<ImmutableBitSet> createKey(final Collection<String> columnNames, final Map<String, Integer> columnIndexes) {
+        if (columnNames.isEmpty()) {
+            return Optional.empty();
+        }
+        ImmutableBitSet.Builder result = ImmutableBitSet.builder();
+        for (String each : columnNames) {
+            if (!columnIndexes.containsKey(each)) {
+                return Optional.empty();
+            }
+            result.set(columnIndexes.get(each));
+        }
+        return Optional.of(result.build());
+    }
+}
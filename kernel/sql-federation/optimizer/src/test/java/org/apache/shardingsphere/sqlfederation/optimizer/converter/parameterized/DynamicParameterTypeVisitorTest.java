@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.converter.parameterized;
+
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.sql.SqlDynamicParam;
+import org.apache.calcite.sql.parser.SqlParserPos;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.apache.calcite.sql.validate.SqlValidator;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DynamicParameterTypeVisitorTest {
+    
+    @Test
+    void assertVisit() {
+        SqlValidator validator = mock(SqlValidator.class);
+        SqlDynamicParam knownParam = new SqlDynamicParam(0, SqlParserPos.ZERO);
+        RelDataType relDataType = mock(RelDataType.class);
+        when(relDataType.getSqlTypeName()).thenReturn(SqlTypeName.BIGINT);
+        when(validator.getValidatedNodeTypeIfKnown(knownParam)).thenReturn(relDataType);
+        DynamicParameterTypeVisitor visitor = new DynamicParameterTypeVisitor(validator);
+        knownParam.accept(visitor);
+        new SqlDynamicParam(1, SqlParserPos.ZERO).accept(visitor);
+        assertThat(visitor.getParameterTypes(), is(Collections.singletonMap(0, SqlTypeName.BIGINT)));
+    }
+}
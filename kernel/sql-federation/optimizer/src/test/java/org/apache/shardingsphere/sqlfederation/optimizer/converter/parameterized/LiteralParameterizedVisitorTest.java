@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.converter.parameterized;
+
+import org.apache.calcite.sql.SqlNode;
+import org.apache.calcite.sql.parser.SqlParseException;
+import org.apache.calcite.sql.parser.SqlParser;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+
+class LiteralParameterizedVisitorTest {
+    
+    @Test
+    void assertVisitWithComparisonLiterals() throws SqlParseException {
+        SqlNode sqlNode = SqlParser.create("SELECT * FROM t_order WHERE order_id = 1 AND 10000000000 < user_id AND status LIKE 'init%' AND 1 = 1").parseQuery();
+        LiteralParameterizedVisitor visitor = new LiteralParameterizedVisitor(0);
+        sqlNode.accept(visitor);
+        assertThat(visitor.getLiteralValues(), is(Arrays.asList(1, 10000000000L, "init%")));
+        assertThat(visitor.getLiteralTypes(), is(Arrays.asList(SqlTypeName.INTEGER, SqlTypeName.BIGINT, SqlTypeName.CHAR)));
+        assertThat(visitor.getParameterIndexes(), is(Arrays.asList(0, 1, 2)));
+        assertThat(sqlNode.toString(), containsString("1 = 1"));
+    }
+    
+    @Test
+    void assertVisitWithInAndBetweenLiterals() throws SqlParseException {
+        SqlNode sqlNode = SqlParser.create("SELECT * FROM t_order WHERE user_id = ? AND status IN ('init', 'done') AND amount BETWEEN 1.5 AND 10").parseQuery();
+        LiteralParameterizedVisitor visitor = new LiteralParameterizedVisitor(1);
+        sqlNode.accept(visitor);
+        assertThat(visitor.getLiteralValues(), is(Arrays.asList("init", "done", new BigDecimal("1.5"), 10)));
+        assertThat(visitor.getLiteralTypes(), is(Arrays.asList(SqlTypeName.CHAR, SqlTypeName.CHAR, SqlTypeName.DECIMAL, SqlTypeName.INTEGER)));
+        assertThat(visitor.getParameterIndexes(), is(Arrays.asList(0, 1, 2, 3, 4)));
+    }
+    
+    @Test
+    void assertVisitWithoutColumnComparison() throws SqlParseException {
+        SqlNode sqlNode = SqlParser.create("SELECT order_id + 1 FROM t_order WHERE amount > 1.5E2 ORDER BY order_id").parseQuery();
+        LiteralParameterizedVisitor visitor = new LiteralParameterizedVisitor(0);
+        sqlNode.accept(visitor);
+        assertThat(visitor.getLiteralValues(), is(Collections.emptyList()));
+        assertThat(visitor.getParameterIndexes(), is(Collections.emptyList()));
+    }
+}
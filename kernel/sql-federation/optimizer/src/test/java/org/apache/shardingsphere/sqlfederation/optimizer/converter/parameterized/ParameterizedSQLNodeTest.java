@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.converter.parameterized;
+
+import org.apache.calcite.sql.SqlNode;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.mock;
+
+class ParameterizedSQLNodeTest {
+    
+    @Test
+    void assertGetParameters() {
+        ParameterizedSQLNode parameterizedSQLNode = new ParameterizedSQLNode(mock(SqlNode.class), Arrays.asList(0, 1, 2, 3, 4, 5), 1,
+                Arrays.asList("2024-01-01", "2024-01-01 10:00:00", "10", 20, new BigDecimal("2.0")),
+                Arrays.asList(SqlTypeName.CHAR, SqlTypeName.CHAR, SqlTypeName.CHAR, SqlTypeName.INTEGER, SqlTypeName.DECIMAL));
+        Map<Integer, SqlTypeName> parameterTypes = new HashMap<>(5, 1F);
+        parameterTypes.put(1, SqlTypeName.DATE);
+        parameterTypes.put(2, SqlTypeName.TIMESTAMP);
+        parameterTypes.put(3, SqlTypeName.INTEGER);
+        parameterTypes.put(4, SqlTypeName.VARCHAR);
+        parameterTypes.put(5, SqlTypeName.SMALLINT);
+        assertThat(parameterizedSQLNode.getParameters(Collections.singletonList(1L), parameterTypes),
+                is(Optional.of(Arrays.asList(1L, Date.valueOf("2024-01-01"), Timestamp.valueOf("2024-01-01 10:00:00"), new BigDecimal("10"), "20", new BigDecimal("2.0")))));
+    }
+    
+    @Test
+    void assertGetParametersWithoutParameterTypes() {
+        ParameterizedSQLNode parameterizedSQLNode = new ParameterizedSQLNode(mock(SqlNode.class), Collections.singletonList(0), 0,
+                Collections.singletonList(1), Collections.singletonList(SqlTypeName.INTEGER));
+        assertThat(parameterizedSQLNode.getParameters(Collections.emptyList(), Collections.emptyMap()), is(Optional.of(Collections.singletonList(1))));
+    }
+    
+    @Test
+    void assertGetParametersWithFractionalLiteralForIntegerType() {
+        ParameterizedSQLNode parameterizedSQLNode = new ParameterizedSQLNode(mock(SqlNode.class), Collections.singletonList(0), 0,
+                Collections.singletonList(new BigDecimal("1.5")), Collections.singletonList(SqlTypeName.DECIMAL));
+        assertFalse(parameterizedSQLNode.getParameters(Collections.emptyList(), Collections.singletonMap(0, SqlTypeName.INTEGER)).isPresent());
+    }
+    
+    @Test
+    void assertGetParametersWithOutOfRangeLiteralForIntegerType() {
+        ParameterizedSQLNode parameterizedSQLNode = new ParameterizedSQLNode(mock(SqlNode.class), Collections.singletonList(0), 0,
+                Collections.singletonList(10000000000L), Collections.singletonList(SqlTypeName.BIGINT));
+        assertFalse(parameterizedSQLNode.getParameters(Collections.emptyList(), Collections.singletonMap(0, SqlTypeName.INTEGER)).isPresent());
+    }
+    
+    @Test
+    void assertGetParametersWithNonNumericLiteralForNumericType() {
+        ParameterizedSQLNode parameterizedSQLNode = new ParameterizedSQLNode(mock(SqlNode.class), Collections.singletonList(0), 0,
+                Collections.singletonList("abc"), Collections.singletonList(SqlTypeName.CHAR));
+        assertFalse(parameterizedSQLNode.getParameters(Collections.emptyList(), Collections.singletonMap(0, SqlTypeName.DECIMAL)).isPresent());
+    }
+    
+    @Test
+    void assertGetParametersWithInvalidDateLiteral() {
+        ParameterizedSQLNode parameterizedSQLNode = new ParameterizedSQLNode(mock(SqlNode.class), Collections.singletonList(0), 0,
+                Collections.singletonList("foo"), Collections.singletonList(SqlTypeName.CHAR));
+        assertFalse(parameterizedSQLNode.getParameters(Collections.emptyList(), Collections.singletonMap(0, SqlTypeName.DATE)).isPresent());
+    }
+}
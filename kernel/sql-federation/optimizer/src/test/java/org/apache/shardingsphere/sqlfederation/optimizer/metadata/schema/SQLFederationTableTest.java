@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema;
+
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sqlfederation.optimizer.statistic.SQLFederationStatistic;
+import org.apache.shardingsphere.sqlfederation.optimizer.statistic.SQLFederationStatisticBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SQLFederationTableTest {
+    
+    @Test
+    void assertRefreshStatistic() {
+        ShardingSphereTable table = new ShardingSphereTable("t_order", Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+        SQLFederationTable federationTable = new SQLFederationTable(table, new SQLFederationStatistic(), TypedSPILoader.getService(DatabaseType.class, "H2"));
+        SQLFederationStatisticBuilder statisticBuilder = mock(SQLFederationStatisticBuilder.class);
+        SQLFederationStatistic statistic = new SQLFederationStatistic(10D, Collections.emptyList(), Collections.emptyList());
+        when(statisticBuilder.build(table)).thenReturn(statistic);
+        federationTable.refreshStatistic(1L, statisticBuilder);
+        federationTable.refreshStatistic(1L, statisticBuilder);
+        assertThat(federationTable.getStatistic(), is(statistic));
+        verify(statisticBuilder).build(table);
+        federationTable.refreshStatistic(2L, statisticBuilder);
+        verify(statisticBuilder, times(2)).build(table);
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.operator.physical;
+
+import org.apache.calcite.DataContext;
+import org.apache.calcite.config.CalciteConnectionConfig;
+import org.apache.calcite.config.CalciteConnectionConfigImpl;
+import org.apache.calcite.jdbc.JavaTypeFactoryImpl;
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.calcite.linq4j.Linq4j;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.prepare.CalciteCatalogReader;
+import org.apache.calcite.rel.type.RelDataTypeFactory;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.sql.validate.SqlValidator;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.spill.MergeSpillContext;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.parser.rule.builder.DefaultSQLParserRuleConfigurationBuilder;
+import org.apache.shardingsphere.sqlfederation.optimizer.SQLFederationExecutionPlan;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.SQLFederationSchema;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.SQLFederationTable;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table.ScanExecutor;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.physical.join.SpillableHashJoinEnumerable;
+import org.apache.shardingsphere.sqlfederation.optimizer.planner.util.SQLFederationPlannerUtils;
+import org.apache.shardingsphere.sqlfederation.optimizer.statement.SQLStatementCompiler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EnumerableSpillableHashJoinTest {
+    
+    private static final String SCHEMA_NAME = "foo_db";
+    
+    private final SQLParserRule sqlParserRule = new SQLParserRule(new DefaultSQLParserRuleConfigurationBuilder().build());
+    
+    private CalciteCatalogReader catalogReader;
+    
+    private SQLStatementCompiler sqlStatementCompiler;
+    
+    @BeforeEach
+    void setUp() {
+        ShardingSphereTable orderTable = new ShardingSphereTable("t_order", Arrays.asList(
+                new ShardingSphereColumn("order_id", Types.BIGINT, true, false, false, true, false, false),
+                new ShardingSphereColumn("user_id", Types.INTEGER, false, false, false, true, false, true)), Collections.emptyList(), Collections.emptyList());
+        ShardingSphereTable userTable = new ShardingSphereTable("t_user", Arrays.asList(
+                new ShardingSphereColumn("user_id", Types.INTEGER, true, false, false, true, false, false),
+                new ShardingSphereColumn("user_name", Types.VARCHAR, false, false, false, true, false, true)), Collections.emptyList(), Collections.emptyList());
+        DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "H2");
+        SQLFederationSchema schema = new SQLFederationSchema(SCHEMA_NAME, new ShardingSphereSchema(SCHEMA_NAME, Arrays.asList(orderTable, userTable), Collections.emptyList()),
+                databaseType, new JavaTypeFactoryImpl());
+        ((SQLFederationTable) schema.getTable("t_order")).setScanExecutor(createScanExecutor(Arrays.asList(new Object[]{1L, 10}, new Object[]{2L, 20}, new Object[]{3L, 10}, new Object[]{4L, null})));
+        ((SQLFederationTable) schema.getTable("t_user")).setScanExecutor(createScanExecutor(Arrays.asList(new Object[]{10, "foo"}, new Object[]{30, "bar"})));
+        CalciteConnectionConfig connectionConfig = new CalciteConnectionConfigImpl(new Properties());
+        RelDataTypeFactory relDataTypeFactory = new JavaTypeFactoryImpl();
+        catalogReader = SQLFederationPlannerUtils.createCatalogReader(SCHEMA_NAME, schema, relDataTypeFactory, connectionConfig, databaseType);
+        SqlValidator validator = SQLFederationPlannerUtils.createSqlValidator(catalogReader, relDataTypeFactory, databaseType, connectionConfig);
+        RelOptCluster cluster = RelOptCluster.create(SQLFederationPlannerUtils.createVolcanoPlanner(), new RexBuilder(relDataTypeFactory));
+        sqlStatementCompiler = new SQLStatementCompiler(SQLFederationPlannerUtils.createSqlToRelConverter(catalogReader, validator, cluster, mock(SQLParserRule.class), databaseType, false));
+    }
+    
+    private ScanExecutor createScanExecutor(final List<Object[]> rows) {
+        ScanExecutor result = mock(ScanExecutor.class);
+        when(result.execute(any(), any())).thenAnswer(invocation -> Linq4j.asEnumerable(new ArrayList<Object>(rows)));
+        return result;
+    }
+    
+    @Test
+    void assertExecuteInnerJoin() {
+        SQLFederationExecutionPlan executionPlan = compile("SELECT * FROM t_order o INNER JOIN t_user u ON o.user_id = u.user_id");
+        assertThat(executionPlan.getPhysicalPlan().explain(), containsString("EnumerableSpillableHashJoin"));
+        List<String> expected = Arrays.asList("[1, 10, 10, foo]", "[3, 10, 10, foo]");
+        assertThat(execute(executionPlan, 0L), is(expected));
+        assertThat(execute(executionPlan, 1L), is(expected));
+    }
+    
+    @Test
+    void assertExecuteLeftJoin() {
+        SQLFederationExecutionPlan executionPlan = compile("SELECT * FROM t_order o LEFT JOIN t_user u ON o.user_id = u.user_id");
+        List<String> expected = Arrays.asList("[1, 10, 10, foo]", "[2, 20, null, null]", "[3, 10, 10, foo]", "[4, null, null, null]");
+        assertThat(execute(executionPlan, 0L), is(expected));
+        assertThat(execute(executionPlan, 1L), is(expected));
+    }
+    
+    private SQLFederationExecutionPlan compile(final String sql) {
+        return sqlStatementCompiler.compile(sqlParserRule.getSQLParserEngine(TypedSPILoader.getService(DatabaseType.class, "MySQL")).parse(sql, false), "MySQL");
+    }
+    
+    private List<String> execute(final SQLFederationExecutionPlan executionPlan, final long memoryBudget) {
+        MergeSpillContext spillContext = new MergeSpillContext(memoryBudget, null);
+        DataContext dataContext = mock(DataContext.class);
+        when(dataContext.getRootSchema()).thenReturn(catalogReader.getRootSchema().plus());
+        when(dataContext.get(SpillableHashJoinEnumerable.SPILL_CONTEXT_VARIABLE)).thenReturn(spillContext);
+        List<String> result = new ArrayList<>();
+        try (Enumerator<Object> enumerator = executionPlan.getBindable().bind(dataContext).enumerator()) {
+            while (enumerator.moveNext()) {
+                result.add(Arrays.toString((Object[]) enumerator.current()));
+            }
+        }
+        spillContext.close();
+        result.sort(String::compareTo);
+        return result;
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.operator.physical.join;
+
+import org.apache.calcite.DataContext;
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.calcite.linq4j.Linq4j;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.spill.MergeSpillContext;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SpillableHashJoinEnumerableTest {
+    
+    @Test
+    void assertInnerJoinWithoutSpill() {
+        List<String> expected = Arrays.asList("[1, a, 1, x]", "[1, a, 1, y]", "[2, b, 2, z]");
+        assertThat(join(createLeftRows(), createRightRows(), false, false, 0L), is(expected));
+        assertThat(join(createLeftRows(), createRightRows(), true, false, 0L), is(expected));
+    }
+    
+    @Test
+    void assertLeftJoinWithoutSpill() {
+        assertThat(join(createLeftRows(), createRightRows(), false, true, 0L), is(Arrays.asList("[1, a, 1, x]", "[1, a, 1, y]", "[2, b, 2, z]", "[3, c, null, null]", "[null, d, null, null]")));
+    }
+    
+    @Test
+    void assertRightJoinWithoutSpill() {
+        assertThat(join(createLeftRows(), createRightRows(), true, true, 0L), is(Arrays.asList("[1, a, 1, x]", "[1, a, 1, y]", "[2, b, 2, z]", "[null, null, 4, w]", "[null, null, null, v]")));
+    }
+    
+    @Test
+    void assertInnerJoinWithSpill() {
+        List<Object[]> leftRows = new ArrayList<>(1000);
+        List<Object[]> rightRows = new ArrayList<>(2000);
+        for (int i = 0; i < 1000; i++) {
+            leftRows.add(new Object[]{i, "left_" + i});
+            rightRows.add(new Object[]{i, "right_" + i});
+            rightRows.add(new Object[]{i + 500, "right_" + (i + 500)});
+        }
+        List<String> expected = join(leftRows, rightRows, true, false, 0L);
+        assertThat(expected.size(), is(1500));
+        assertThat(join(leftRows, rightRows, true, false, 1024L), is(expected));
+        assertThat(join(leftRows, rightRows, false, false, 1024L), is(expected));
+    }
+    
+    @Test
+    void assertLeftJoinWithSpill() {
+        assertThat(join(createLeftRows(), createRightRows(), false, true, 1L), is(join(createLeftRows(), createRightRows(), false, true, 0L)));
+    }
+    
+    @Test
+    void assertJoinWithDecimalKeysOfDifferentScales() {
+        List<Object[]> leftRows = Collections.singletonList(new Object[]{new BigDecimal("1.0"), "a"});
+        List<Object[]> rightRows = Collections.singletonList(new Object[]{new BigDecimal("1.00"), "x"});
+        assertThat(join(leftRows, rightRows, false, false, 0L), is(Collections.singletonList("[1.0, a, 1.00, x]")));
+    }
+    
+    @Test
+    void assertCloseBeforeConsumed() {
+        MergeSpillContext spillContext = new MergeSpillContext(1L, null);
+        Enumerator<Object[]> enumerator = SpillableHashJoinEnumerable.join(createDataContext(spillContext), Linq4j.asEnumerable(createLeftRows()), Linq4j.asEnumerable(createRightRows()),
+                new int[]{0}, new int[]{0}, 2, 2, false, false).enumerator();
+        assertThat(enumerator.moveNext(), is(true));
+        enumerator.close();
+        spillContext.close();
+    }
+    
+    private List<String> join(final List<Object[]> leftRows, final List<Object[]> rightRows, final boolean buildLeft, final boolean outer, final long memoryBudget) {
+        MergeSpillContext spillContext = new MergeSpillContext(memoryBudget, null);
+        Enumerable<Object[]> actual = SpillableHashJoinEnumerable.join(createDataContext(spillContext), Linq4j.asEnumerable(leftRows), Linq4j.asEnumerable(rightRows),
+                new int[]{0}, new int[]{0}, 2, 2, buildLeft, outer);
+        List<String> result = new ArrayList<>();
+        try (Enumerator<Object[]> enumerator = actual.enumerator()) {
+            while (enumerator.moveNext()) {
+                result.add(Arrays.toString(enumerator.current()));
+            }
+        }
+        spillContext.close();
+        return result.stream().sorted().collect(Collectors.toList());
+    }
+    
+    private DataContext createDataContext(final MergeSpillContext spillContext) {
+        DataContext result = mock(DataContext.class);
+        when(result.get(SpillableHashJoinEnumerable.SPILL_CONTEXT_VARIABLE)).thenReturn(spillContext);
+        return result;
+    }
+    
+    private List<Object[]> createLeftRows() {
+        return Arrays.asList(new Object[]{1, "a"}, new Object[]{2, "b"}, new Object[]{3, "c"}, new Object[]{null, "d"});
+    }
+    
+    private List<Object[]> createRightRows() {
+        return Arrays.asList(new Object[]{1, "x"}, new Object[]{1, "y"}, new Object[]{2, "z"}, new Object[]{4, "w"}, new Object[]{null, "v"});
+    }
+}
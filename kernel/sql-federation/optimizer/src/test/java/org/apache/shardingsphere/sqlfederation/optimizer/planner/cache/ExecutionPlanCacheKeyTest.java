@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.planner.cache;
+
+import org.apache.calcite.sql.SqlNode;
+import org.apache.calcite.sql.parser.SqlParseException;
+import org.apache.calcite.sql.parser.SqlParser;
+import org.apache.shardingsphere.sqlfederation.optimizer.converter.parameterized.LiteralParameterizedVisitor;
+import org.apache.shardingsphere.sqlfederation.optimizer.statement.SQLStatementCompiler;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.Mockito.mock;
+
+class ExecutionPlanCacheKeyTest {
+    
+    @Test
+    void assertEqualsWithSameLiteralTypes() throws SqlParseException {
+        assertThat(createCacheKey("SELECT * FROM t_order WHERE order_id = 1", 0L), is(createCacheKey("SELECT * FROM t_order WHERE order_id = 2", 0L)));
+    }
+    
+    @Test
+    void assertNotEqualsWithDifferentLiteralTypes() throws SqlParseException {
+        ExecutionPlanCacheKey integerCacheKey = createCacheKey("SELECT * FROM t_order WHERE order_id = 1", 0L);
+        ExecutionPlanCacheKey decimalCacheKey = createCacheKey("SELECT * FROM t_order WHERE order_id = 1.5", 0L);
+        ExecutionPlanCacheKey charCacheKey = createCacheKey("SELECT * FROM t_order WHERE order_id = 'abc'", 0L);
+        assertThat(integerCacheKey.getParameterizedSQL(), is(decimalCacheKey.getParameterizedSQL()));
+        assertThat(integerCacheKey.getParameterizedSQL(), is(charCacheKey.getParameterizedSQL()));
+        assertThat(integerCacheKey, not(decimalCacheKey));
+        assertThat(integerCacheKey, not(charCacheKey));
+        assertThat(decimalCacheKey, not(charCacheKey));
+    }
+    
+    @Test
+    void assertNotEqualsWithDifferentStatisticsVersions() throws SqlParseException {
+        assertThat(createCacheKey("SELECT * FROM t_order WHERE order_id = 1", 0L), not(createCacheKey("SELECT * FROM t_order WHERE order_id = 1", 1L)));
+    }
+    
+    private ExecutionPlanCacheKey createCacheKey(final String sql, final long statisticsVersion) throws SqlParseException {
+        SqlNode sqlNode = SqlParser.create(sql).parseQuery();
+        LiteralParameterizedVisitor visitor = new LiteralParameterizedVisitor(0);
+        sqlNode.accept(visitor);
+        return new ExecutionPlanCacheKey(sqlNode.toString(), visitor.getParameterIndexes(), visitor.getLiteralTypes(), statisticsVersion, sqlNode, "MySQL", mock(SQLStatementCompiler.class));
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.converter;
+
+import org.apache.calcite.config.CalciteConnectionConfig;
+import org.apache.calcite.config.CalciteConnectionConfigImpl;
+import org.apache.calcite.jdbc.JavaTypeFactoryImpl;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.prepare.CalciteCatalogReader;
+import org.apache.calcite.rel.type.RelDataTypeFactory;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.sql.validate.SqlValidator;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereIndex;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.parser.rule.builder.DefaultSQLParserRuleConfigurationBuilder;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.SQLFederationSchema;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.SQLFederationTable;
+import org.apache.shardingsphere.sqlfederation.optimizer.planner.util.SQLFederationPlannerUtils;
+import org.apache.shardingsphere.sqlfederation.optimizer.statement.SQLStatementCompiler;
+import org.apache.shardingsphere.sqlfederation.optimizer.statistic.SQLFederationStatisticBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+
+class EnumerableSortedScanMergeJoinRuleTest {
+    
+    private static final String SCHEMA_NAME = "foo_db";
+    
+    private final SQLParserRule sqlParserRule = new SQLParserRule(new DefaultSQLParserRuleConfigurationBuilder().build());
+    
+    private SQLStatementCompiler sqlStatementCompiler;
+    
+    @BeforeEach
+    void setUp() {
+        ShardingSphereTable orderTable = new ShardingSphereTable("t_order", Arrays.asList(
+                new ShardingSphereColumn("order_id", Types.BIGINT, true, false, false, true, false, false),
+                new ShardingSphereColumn("user_id", Types.INTEGER, false, false, false, true, false, true),
+                new ShardingSphereColumn("status", Types.VARCHAR, false, false, false, true, false, true)), Collections.emptyList(), Collections.emptyList());
+        ShardingSphereTable orderItemTable = new ShardingSphereTable("t_order_item", Arrays.asList(
+                new ShardingSphereColumn("item_id", Types.BIGINT, true, false, false, true, false, false),
+                new ShardingSphereColumn("order_id", Types.BIGINT, false, false, false, true, false, true),
+                new ShardingSphereColumn("user_id", Types.INTEGER, false, false, false, true, false, true),
+                new ShardingSphereColumn("status", Types.VARCHAR, false, false, false, true, false, true)),
+                Collections.singleton(new ShardingSphereIndex("idx_order_id", Collections.singletonList("order_id"), false)), Collections.emptyList());
+        DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "H2");
+        SQLFederationSchema schema = new SQLFederationSchema(SCHEMA_NAME, new ShardingSphereSchema(SCHEMA_NAME, Arrays.asList(orderTable, orderItemTable), Collections.emptyList()),
+                databaseType, new JavaTypeFactoryImpl());
+        SQLFederationStatisticBuilder statisticBuilder = new SQLFederationStatisticBuilder(SCHEMA_NAME, null);
+        ((SQLFederationTable) schema.getTable("t_order")).refreshStatistic(1L, statisticBuilder);
+        ((SQLFederationTable) schema.getTable("t_order_item")).refreshStatistic(1L, statisticBuilder);
+        CalciteConnectionConfig connectionConfig = new CalciteConnectionConfigImpl(new Properties());
+        RelDataTypeFactory relDataTypeFactory = new JavaTypeFactoryImpl();
+        CalciteCatalogReader catalogReader = SQLFederationPlannerUtils.createCatalogReader(SCHEMA_NAME, schema, relDataTypeFactory, connectionConfig, databaseType);
+        SqlValidator validator = SQLFederationPlannerUtils.createSqlValidator(catalogReader, relDataTypeFactory, databaseType, connectionConfig);
+        RelOptCluster cluster = RelOptCluster.create(SQLFederationPlannerUtils.createVolcanoPlanner(), new RexBuilder(relDataTypeFactory));
+        sqlStatementCompiler = new SQLStatementCompiler(SQLFederationPlannerUtils.createSqlToRelConverter(catalogReader, validator, cluster, mock(SQLParserRule.class), databaseType, false));
+    }
+    
+    @Test
+    void assertMergeJoinIndexedKeys() {
+        String actual = compile("SELECT o.order_id, i.item_id FROM t_order o INNER JOIN t_order_item i ON o.order_id = i.order_id");
+        assertThat(actual, containsString("EnumerableMergeJoin"));
+        assertThat(actual, containsString("ORDER BY `order_id`"));
+        assertThat(actual, containsString("`order_id` IS NOT NULL"));
+    }
+    
+    @Test
+    void assertHashJoinNotIndexedKeys() {
+        String actual = compile("SELECT o.order_id, i.item_id FROM t_order o INNER JOIN t_order_item i ON o.user_id = i.user_id");
+        assertThat(actual, containsString("EnumerableSpillableHashJoin"));
+        assertThat(actual, not(containsString("ORDER BY")));
+    }
+    
+    @Test
+    void assertHashJoinOuterJoin() {
+        String actual = compile("SELECT o.order_id, i.item_id FROM t_order o LEFT JOIN t_order_item i ON o.order_id = i.order_id");
+        assertThat(actual, containsString("EnumerableSpillableHashJoin"));
+        assertThat(actual, not(containsString("EnumerableMergeJoin")));
+    }
+    
+    private String compile(final String sql) {
+        return sqlStatementCompiler.compile(sqlParserRule.getSQLParserEngine(TypedSPILoader.getService(DatabaseType.class, "MySQL")).parse(sql, false), "MySQL")
+                .getPhysicalPlan().explain().replaceAll(System.lineSeparator(), " ");
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.statistic;
+
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereIndex;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereDatabaseData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereRowData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereSchemaData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereStatistics;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereTableData;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SQLFederationStatisticBuilderTest {
+    
+    @Test
+    void assertBuildWithoutStatistics() {
+        SQLFederationStatistic actual = new SQLFederationStatisticBuilder("foo_db", null).build(createTable("t_order"));
+        assertThat(actual.getRowCount(), is(nullValue()));
+        assertThat(actual.getKeys(), is(Arrays.asList(ImmutableBitSet.of(0), ImmutableBitSet.of(1, 2))));
+        assertTrue(actual.isKey(ImmutableBitSet.of(0, 3)));
+        assertFalse(actual.isKey(ImmutableBitSet.of(1, 3)));
+        assertTrue(actual.isIndexPrefix(Collections.singletonList(0)));
+        assertTrue(actual.isIndexPrefix(Arrays.asList(1, 2)));
+        assertFalse(actual.isIndexPrefix(Collections.singletonList(2)));
+    }
+    
+    @Test
+    void assertBuildWithShardedTableStatistics() {
+        ShardingSphereTableData tableData = new ShardingSphereTableData("sharding_table_statistics");
+        tableData.getRows().add(new ShardingSphereRowData(Arrays.asList(1, "foo_db", "t_order", "ds_0", "t_order_0", new BigDecimal("1000"), new BigDecimal("8192"))));
+        tableData.getRows().add(new ShardingSphereRowData(Arrays.asList(2, "foo_db", "t_order", "ds_1", "t_order_1", new BigDecimal("3000"), new BigDecimal("8192"))));
+        tableData.getRows().add(new ShardingSphereRowData(Arrays.asList(3, "bar_db", "t_order", "ds_0", "t_order_0", new BigDecimal("10"), new BigDecimal("8192"))));
+        ShardingSphereTableData columnData = new ShardingSphereTableData("sharding_column_statistics");
+        columnData.getRows().add(new ShardingSphereRowData(Arrays.asList(1, "foo_db", "t_order", "ds_0", "t_order_0", "status", new BigDecimal("1000"), BigDecimal.ZERO, null)));
+        SQLFederationStatistic actual = new SQLFederationStatisticBuilder("foo_db", createStatistics(tableData, columnData)).build(createTable("t_order"));
+        assertThat(actual.getRowCount(), is(4000D));
+        assertFalse(actual.isKey(ImmutableBitSet.of(3)));
+    }
+    
+    @Test
+    void assertBuildWithoutKeyFromColumnStatistics() {
+        ShardingSphereTableData tableData = new ShardingSphereTableData("sharding_table_statistics");
+        tableData.getRows().add(new ShardingSphereRowData(Arrays.asList(1, "foo_db", "t_dict", "ds_0", "t_dict", new BigDecimal("100"), new BigDecimal("8192"))));
+        ShardingSphereTableData columnData = new ShardingSphereTableData("sharding_column_statistics");
+        columnData.getRows().add(new ShardingSphereRowData(Arrays.asList(1, "foo_db", "t_dict", "ds_0", "t_dict", "status", new BigDecimal("100"), BigDecimal.ZERO, "{a,m,z}")));
+        columnData.getRows().add(new ShardingSphereRowData(Arrays.asList(2, "foo_db", "t_dict", "ds_0", "t_dict", "name", new BigDecimal("100"), new BigDecimal("5"), null)));
+        SQLFederationStatistic actual = new SQLFederationStatisticBuilder("foo_db", createStatistics(tableData, columnData)).build(createTable("t_dict"));
+        assertThat(actual.getRowCount(), is(100D));
+        assertThat(actual.getKeys(), is(Arrays.asList(ImmutableBitSet.of(0), ImmutableBitSet.of(1, 2))));
+        assertFalse(actual.isKey(ImmutableBitSet.of(3)));
+    }
+    
+    private ShardingSphereTable createTable(final String tableName) {
+        return new ShardingSphereTable(tableName, Arrays.asList(
+                new ShardingSphereColumn("id", Types.BIGINT, true, false, false, true, false, false),
+                new ShardingSphereColumn("name", Types.VARCHAR, false, false, false, true, false, true),
+                new ShardingSphereColumn("code", Types.VARCHAR, false, false, false, true, false, true),
+                new ShardingSphereColumn("status", Types.VARCHAR, false, false, false, true, false, true)),
+                Collections.singleton(new ShardingSphereIndex("uk_name_code", Arrays.asList("name", "code"), true)), Collections.emptyList());
+    }
+    
+    private ShardingSphereStatistics createStatistics(final ShardingSphereTableData tableData, final ShardingSphereTableData columnData) {
+        ShardingSphereSchemaData schemaData = new ShardingSphereSchemaData();
+        schemaData.putTable(tableData.getName(), tableData);
+        schemaData.putTable(columnData.getName(), columnData);
+        ShardingSphereDatabaseData databaseData = new ShardingSphereDatabaseData();
+        databaseData.putSchema("shardingsphere", schemaData);
+        ShardingSphereStatistics result = new ShardingSphereStatistics();
+        result.putDatabase("foo_db", databaseData);
+        return result;
+    }
+}
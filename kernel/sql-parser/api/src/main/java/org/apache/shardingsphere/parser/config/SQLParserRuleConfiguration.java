@@ -17,19 +17,25 @@
 
 package org.apache.shardingsphere.parser.config;
 
+import lombok.AllArgsConstructor;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.config.rule.scope.GlobalRuleConfiguration;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
 
 /**
  * SQL parser rule configuration.
  */
-@RequiredArgsConstructor
+@AllArgsConstructor
 @Getter
 public final class SQLParserRuleConfiguration implements GlobalRuleConfiguration {
     
     private final CacheOption parseTreeCache;
     
     private final CacheOption sqlStatementCache;
+    
+    private final CacheOption sqlStatementShapeCache;
+    
+    public SQLParserRuleConfiguration(final CacheOption parseTreeCache, final CacheOption sqlStatementCache) {
+        this(parseTreeCache, sqlStatementCache, null);
+    }
 }
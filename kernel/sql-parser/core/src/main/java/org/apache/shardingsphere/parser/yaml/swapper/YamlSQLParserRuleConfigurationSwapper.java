@@ -36,6 +36,9 @@ public final class YamlSQLParserRuleConfigurationSwapper implements YamlRuleConf
         YamlSQLParserRuleConfiguration result = new YamlSQLParserRuleConfiguration();
         result.setParseTreeCache(cacheOptionSwapper.swapToYamlConfiguration(data.getParseTreeCache()));
         result.setSqlStatementCache(cacheOptionSwapper.swapToYamlConfiguration(data.getSqlStatementCache()));
+        if (null != data.getSqlStatementShapeCache()) {
+            result.setSqlStatementShapeCache(cacheOptionSwapper.swapToYamlConfiguration(data.getSqlStatementShapeCache()));
+        }
         return result;
     }
     
@@ -47,7 +50,8 @@ public final class YamlSQLParserRuleConfigurationSwapper implements YamlRuleConf
         CacheOption sqlStatementCacheOption = null == yamlConfig.getSqlStatementCache()
                 ? DefaultSQLParserRuleConfigurationBuilder.SQL_STATEMENT_CACHE_OPTION
                 : cacheOptionSwapper.swapToObject(yamlConfig.getSqlStatementCache());
-        return new SQLParserRuleConfiguration(parseTreeCacheOption, sqlStatementCacheOption);
+        CacheOption sqlStatementShapeCacheOption = null == yamlConfig.getSqlStatementShapeCache() ? null : cacheOptionSwapper.swapToObject(yamlConfig.getSqlStatementShapeCache());
+        return new SQLParserRuleConfiguration(parseTreeCacheOption, sqlStatementCacheOption, sqlStatementShapeCacheOption);
     }
     
     @Override
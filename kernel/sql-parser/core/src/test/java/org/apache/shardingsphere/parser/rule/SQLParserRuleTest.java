@@ -34,7 +34,7 @@ class SQLParserRuleTest {
     
     @BeforeEach
     void setup() {
-        sqlParserRule = new SQLParserRule(new SQLParserRuleConfiguration(new CacheOption(2, 4L), new CacheOption(3, 7L)));
+        sqlParserRule = new SQLParserRule(new SQLParserRuleConfiguration(new CacheOption(2, 4L), new CacheOption(3, 7L), new CacheOption(5, 9L)));
     }
     
     @Test
@@ -52,5 +52,7 @@ class SQLParserRuleTest {
         assertThat(sqlParserRule.getParseTreeCache().getMaximumSize(), is(4L));
         assertThat(sqlParserRule.getSqlStatementCache().getInitialCapacity(), is(3));
         assertThat(sqlParserRule.getSqlStatementCache().getMaximumSize(), is(7L));
+        assertThat(sqlParserRule.getSqlStatementShapeCache().getInitialCapacity(), is(5));
+        assertThat(sqlParserRule.getSqlStatementShapeCache().getMaximumSize(), is(9L));
     }
 }
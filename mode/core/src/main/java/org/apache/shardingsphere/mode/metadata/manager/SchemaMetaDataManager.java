@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.mode.metadata.manager;
 
 import com.google.common.base.Strings;
+import org.apache.shardingsphere.infra.connection.kernel.cache.KernelEnginesCache;
 import org.apache.shardingsphere.infra.database.DatabaseTypeEngine;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
@@ -75,7 +76,9 @@ public final class SchemaMetaDataManager {
         if (!metaDataContexts.get().getMetaData().containsDatabase(databaseName)) {
             return;
         }
-        metaDataContexts.get().getMetaData().dropDatabase(metaDataContexts.get().getMetaData().getDatabase(databaseName).getName());
+        String actualDatabaseName = metaDataContexts.get().getMetaData().getDatabase(databaseName).getName();
+        metaDataContexts.get().getMetaData().dropDatabase(actualDatabaseName);
+        KernelEnginesCache.invalidate(actualDatabaseName);
     }
     
     /**
@@ -73,6 +73,7 @@ public final class ShardingSphereDatabaseDataManager {
             return;
         }
         metaDataContexts.get().getStatistics().getDatabase(databaseName).putSchema(schemaName, new ShardingSphereSchemaData());
+        metaDataContexts.get().getStatistics().increaseVersion();
     }
     
     /**
@@ -87,6 +88,7 @@ public final class ShardingSphereDatabaseDataManager {
             return;
         }
         databaseData.removeSchema(schemaName);
+        metaDataContexts.get().getStatistics().increaseVersion();
     }
     
     /**
@@ -104,6 +106,7 @@ public final class ShardingSphereDatabaseDataManager {
             return;
         }
         metaDataContexts.get().getStatistics().getDatabase(databaseName).getSchema(schemaName).putTable(tableName, new ShardingSphereTableData(tableName));
+        metaDataContexts.get().getStatistics().increaseVersion();
     }
     
     /**
@@ -118,6 +121,7 @@ public final class ShardingSphereDatabaseDataManager {
             return;
         }
         metaDataContexts.get().getStatistics().getDatabase(databaseName).getSchema(schemaName).removeTable(tableName);
+        metaDataContexts.get().getStatistics().increaseVersion();
     }
     
     /**
@@ -140,6 +144,7 @@ public final class ShardingSphereDatabaseDataManager {
         ShardingSphereTableData tableData = metaDataContexts.get().getStatistics().getDatabase(databaseName).getSchema(schemaName).getTable(tableName);
         List<ShardingSphereColumn> columns = new ArrayList<>(metaDataContexts.get().getMetaData().getDatabase(databaseName).getSchema(schemaName).getTable(tableName).getAllColumns());
         tableData.getRows().add(new YamlShardingSphereRowDataSwapper(columns).swapToObject(yamlRowData));
+        metaDataContexts.get().getStatistics().increaseVersion();
     }
     
     /**
@@ -156,5 +161,6 @@ public final class ShardingSphereDatabaseDataManager {
             return;
         }
         metaDataContexts.get().getStatistics().getDatabase(databaseName).getSchema(schemaName).getTable(tableName).getRows().removeIf(each -> uniqueKey.equals(each.getUniqueKey()));
+        metaDataContexts.get().getStatistics().increaseVersion();
     }
 }
@@ -18,7 +18,10 @@
 package org.apache.shardingsphere.sql.parser.core.database.parser;
 
 import lombok.RequiredArgsConstructor;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.ListTokenSource;
 import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.Token;
 import org.antlr.v4.runtime.atn.PredictionMode;
 import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.antlr.v4.runtime.tree.ErrorNode;
@@ -27,9 +30,14 @@ import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.sql.parser.api.parser.SQLParser;
 import org.apache.shardingsphere.sql.parser.core.ParseASTNode;
 import org.apache.shardingsphere.sql.parser.core.SQLParserFactory;
+import org.apache.shardingsphere.sql.parser.core.database.shape.SQLShape;
+import org.apache.shardingsphere.sql.parser.core.database.shape.TemplateToken;
 import org.apache.shardingsphere.sql.parser.exception.SQLParsingException;
 import org.apache.shardingsphere.sql.parser.spi.DialectSQLParserFacade;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * SQL parser executor.
  */
@@ -53,9 +61,35 @@ public final class SQLParserExecutor {
         return result;
     }
     
+    /**
+     * Parse SQL shape to parse tree template.
+     *
+     * <p>The tokens of parse tree template are {@link TemplateToken}, so the parse tree can be reused by other SQL with the same shape.</p>
+     *
+     * @param sql SQL to be parsed
+     * @param sqlShape SQL shape
+     * @return parse AST node
+     * @throws SQLParsingException SQL parsing exception
+     */
+    public ParseASTNode parseTemplate(final String sql, final SQLShape sqlShape) {
+        List<TemplateToken> templateTokens = new ArrayList<>(sqlShape.getTokenStream().size());
+        for (Token each : sqlShape.getTokenStream().getTokens()) {
+            templateTokens.add(new TemplateToken(each));
+        }
+        DialectSQLParserFacade sqlParserFacade = DatabaseTypedSPILoader.getService(DialectSQLParserFacade.class, databaseType);
+        ParseASTNode result = twoPhaseParse(sql, SQLParserFactory.newInstance(new CommonTokenStream(new ListTokenSource(templateTokens)), sqlParserFacade.getParserClass()));
+        if (result.getRootNode() instanceof ErrorNode) {
+            throw new SQLParsingException(sql);
+        }
+        return result;
+    }
+    
     private ParseASTNode twoPhaseParse(final String sql) {
         DialectSQLParserFacade sqlParserFacade = DatabaseTypedSPILoader.getService(DialectSQLParserFacade.class, databaseType);
-        SQLParser sqlParser = SQLParserFactory.newInstance(sql, sqlParserFacade.getLexerClass(), sqlParserFacade.getParserClass());
+        return twoPhaseParse(sql, SQLParserFactory.newInstance(sql, sqlParserFacade.getLexerClass(), sqlParserFacade.getParserClass()));
+    }
+    
+    private ParseASTNode twoPhaseParse(final String sql, final SQLParser sqlParser) {
         try {
             ((Parser) sqlParser).getInterpreter().setPredictionMode(PredictionMode.SLL);
             return (ParseASTNode) sqlParser.parse();
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.shape;
+
+import lombok.RequiredArgsConstructor;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.Vocabulary;
+import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.sql.parser.api.parser.SQLLexer;
+import org.apache.shardingsphere.sql.parser.core.SQLParserFactory;
+import org.apache.shardingsphere.sql.parser.spi.DialectSQLParserFacade;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * SQL shape extractor.
+ */
+@RequiredArgsConstructor
+public final class SQLShapeExtractor {
+    
+    private static final Collection<String> LITERAL_TOKEN_NAMES = new HashSet<>(Arrays.asList(
+            "STRING_", "NUMBER_", "INTEGER_", "INT_NUM_", "FLOAT_NUM_", "DECIMAL_NUM_", "HEX_DIGIT_", "BIT_NUM_", "SINGLE_QUOTED_TEXT", "DOUBLE_QUOTED_TEXT", "NCHAR_TEXT", "UCHAR_TEXT"));
+    
+    private static final Map<Class<? extends SQLLexer>, boolean[]> LITERAL_TOKEN_TYPES = new ConcurrentHashMap<>();
+    
+    private final DatabaseType databaseType;
+    
+    /**
+     * Extract SQL shape.
+     *
+     * @param sql SQL
+     * @return SQL shape
+     */
+    public SQLShape extract(final String sql) {
+        Class<? extends SQLLexer> lexerClass = DatabaseTypedSPILoader.getService(DialectSQLParserFacade.class, databaseType).getLexerClass();
+        boolean[] literalTokenTypes = LITERAL_TOKEN_TYPES.computeIfAbsent(lexerClass, this::getLiteralTokenTypes);
+        CommonTokenStream tokenStream = SQLParserFactory.newTokenStream(sql, lexerClass);
+        tokenStream.fill();
+        StringBuilder result = new StringBuilder(sql.length() + 16);
+        for (Token each : tokenStream.getTokens()) {
+            result.append(each.getType()).append(',');
+            if (!isLiteral(literalTokenTypes, each.getType())) {
+                String text = each.getText();
+                result.append(text.length()).append(':').append(text);
+            }
+        }
+        return new SQLShape(result.toString(), tokenStream);
+    }
+    
+    private boolean[] getLiteralTokenTypes(final Class<? extends SQLLexer> lexerClass) {
+        Vocabulary vocabulary = ((Lexer) SQLParserFactory.newTokenStream("", lexerClass).getTokenSource()).getVocabulary();
+        boolean[] result = new boolean[vocabulary.getMaxTokenType() + 1];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = LITERAL_TOKEN_NAMES.contains(vocabulary.getSymbolicName(i));
+        }
+        return result;
+    }
+    
+    private boolean isLiteral(final boolean[] literalTokenTypes, final int tokenType) {
+        return tokenType > 0 && tokenType < literalTokenTypes.length && literalTokenTypes[tokenType];
+    }
+}
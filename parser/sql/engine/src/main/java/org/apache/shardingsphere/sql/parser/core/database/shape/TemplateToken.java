@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.shape;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CommonToken;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenSource;
+
+/**
+ * Template token.
+ *
+ * <p>Template token is referenced by cached parse tree. If tokens of a SQL with the same shape are bound to current thread,
+ * text and position are read from the bound token with the same token index, otherwise from the template token itself.</p>
+ */
+public final class TemplateToken extends CommonToken {
+    
+    private static final long serialVersionUID = -2771565286339052390L;
+    
+    public TemplateToken(final Token token) {
+        super(token);
+    }
+    
+    @Override
+    public String getText() {
+        Token boundToken = TemplateTokenBinder.getBoundToken(getTokenIndex());
+        return null == boundToken ? super.getText() : boundToken.getText();
+    }
+    
+    @Override
+    public int getLine() {
+        Token boundToken = TemplateTokenBinder.getBoundToken(getTokenIndex());
+        return null == boundToken ? super.getLine() : boundToken.getLine();
+    }
+    
+    @Override
+    public int getCharPositionInLine() {
+        Token boundToken = TemplateTokenBinder.getBoundToken(getTokenIndex());
+        return null == boundToken ? super.getCharPositionInLine() : boundToken.getCharPositionInLine();
+    }
+    
+    @Override
+    public int getStartIndex() {
+        Token boundToken = TemplateTokenBinder.getBoundToken(getTokenIndex());
+        return null == boundToken ? super.getStartIndex() : boundToken.getStartIndex();
+    }
+    
+    @Override
+    public int getStopIndex() {
+        Token boundToken = TemplateTokenBinder.getBoundToken(getTokenIndex());
+        return null == boundToken ? super.getStopIndex() : boundToken.getStopIndex();
+    }
+    
+    @Override
+    public TokenSource getTokenSource() {
+        Token boundToken = TemplateTokenBinder.getBoundToken(getTokenIndex());
+        return null == boundToken ? super.getTokenSource() : boundToken.getTokenSource();
+    }
+    
+    @Override
+    public CharStream getInputStream() {
+        Token boundToken = TemplateTokenBinder.getBoundToken(getTokenIndex());
+        return null == boundToken ? super.getInputStream() : boundToken.getInputStream();
+    }
+}
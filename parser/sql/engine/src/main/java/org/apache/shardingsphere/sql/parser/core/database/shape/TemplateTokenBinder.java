@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.shape;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.antlr.v4.runtime.Token;
+
+import java.util.List;
+
+/**
+ * Template token binder.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TemplateTokenBinder {
+    
+    private static final ThreadLocal<List<Token>> BOUND_TOKENS = new ThreadLocal<>();
+    
+    /**
+     * Bind tokens to current thread.
+     *
+     * @param tokens tokens to be bound
+     * @return previous bound tokens, null if absent
+     */
+    public static List<Token> bind(final List<Token> tokens) {
+        List<Token> result = BOUND_TOKENS.get();
+        BOUND_TOKENS.set(tokens);
+        return result;
+    }
+    
+    /**
+     * Restore previous bound tokens.
+     *
+     * @param previousTokens previous bound tokens, null if absent
+     */
+    public static void restore(final List<Token> previousTokens) {
+        if (null == previousTokens) {
+            BOUND_TOKENS.remove();
+        } else {
+            BOUND_TOKENS.set(previousTokens);
+        }
+    }
+    
+    /**
+     * Get bound token.
+     *
+     * @param tokenIndex token index
+     * @return bound token, null if no token is bound to current thread
+     */
+    public static Token getBoundToken(final int tokenIndex) {
+        List<Token> tokens = BOUND_TOKENS.get();
+        return null == tokens || tokenIndex < 0 || tokenIndex >= tokens.size() ? null : tokens.get(tokenIndex);
+    }
+}
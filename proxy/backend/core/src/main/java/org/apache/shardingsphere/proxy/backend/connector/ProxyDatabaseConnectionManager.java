@@ -124,14 +124,19 @@ public final class ProxyDatabaseConnectionManager implements DatabaseConnectionM
     
     private List<Connection> createNewConnections(final String databaseName, final String dataSourceName, final int connectionSize, final ConnectionMode connectionMode) throws SQLException {
         List<Connection> result = ProxyContext.getInstance().getBackendDataSource().getConnections(databaseName.toLowerCase(), dataSourceName, connectionSize, connectionMode);
-        setSessionVariablesIfNecessary(result);
-        for (Connection each : result) {
-            replayTransactionOption(each);
-        }
-        if (connectionSession.getTransactionStatus().isInTransaction()) {
+        try {
+            setSessionVariablesIfNecessary(result);
             for (Connection each : result) {
-                replayMethodsInvocation(each);
+                replayTransactionOption(each);
             }
+            if (connectionSession.getTransactionStatus().isInTransaction()) {
+                for (Connection each : result) {
+                    replayMethodsInvocation(each);
+                }
+            }
+        } catch (final SQLException ex) {
+            releaseConnection(result, ex);
+            throw ex;
         }
         return result;
     }
@@ -142,12 +147,7 @@ public final class ProxyDatabaseConnectionManager implements DatabaseConnectionM
         }
         String databaseType = connections.iterator().next().getMetaData().getDatabaseProductName();
         List<String> setSQLs = connectionSession.getRequiredSessionVariableRecorder().toSetSQLs(databaseType);
-        try {
-            executeSetSessionVariables(connections, setSQLs);
-        } catch (final SQLException ex) {
-            releaseConnection(connections, ex);
-            throw ex;
-        }
+        executeSetSessionVariables(connections, setSQLs);
     }
     
     private void executeSetSessionVariables(final List<Connection> connections, final List<String> setSQLs) throws SQLException {
@@ -166,6 +166,8 @@ public final class ProxyDatabaseConnectionManager implements DatabaseConnectionM
                 each.close();
             } catch (final SQLException ex) {
                 sqlException.setNextException(ex);
+            } finally {
+                ProxyContext.getInstance().getBackendDataSource().releaseConnection(each);
             }
         }
     }
@@ -329,6 +331,8 @@ public final class ProxyDatabaseConnectionManager implements DatabaseConnectionM
                     each.close();
                 } catch (final SQLException ex) {
                     result.add(ex);
+                } finally {
+                    ProxyContext.getInstance().getBackendDataSource().releaseConnection(each);
                 }
             }
             cachedConnections.clear();
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.proxy.backend.connector;
 
+import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
 import org.apache.shardingsphere.infra.binder.context.aware.CursorAware;
 import org.apache.shardingsphere.infra.binder.context.segment.insert.keygen.GeneratedKeyContext;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
@@ -44,7 +45,10 @@ import org.apache.shardingsphere.infra.executor.sql.execute.result.update.Update
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DriverExecutionPrepareEngine;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.StatementOption;
 import org.apache.shardingsphere.infra.merge.MergeEngine;
+import org.apache.shardingsphere.infra.merge.result.BatchMergedResult;
+import org.apache.shardingsphere.infra.merge.result.ColumnBytesMergedResult;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.batch.BatchRowMergedResult;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.schema.util.SystemSchemaUtils;
@@ -78,13 +82,17 @@ import org.apache.shardingsphere.sqlfederation.executor.context.SQLFederationCon
 import org.apache.shardingsphere.transaction.api.TransactionType;
 import org.apache.shardingsphere.transaction.implicit.ImplicitTransactionCallback;
 
+import java.nio.charset.StandardCharsets;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.sql.Types;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
@@ -96,6 +104,8 @@ import java.util.stream.Collectors;
  */
 public final class StandardDatabaseConnector implements DatabaseConnector {
     
+    private static final Collection<Integer> TEXT_RELAY_COLUMN_TYPES = new HashSet<>(Arrays.asList(Types.CHAR, Types.VARCHAR, Types.LONGVARCHAR));
+    
     private final String driverType;
     
     private final QueryContext queryContext;
@@ -118,6 +128,8 @@ public final class StandardDatabaseConnector implements DatabaseConnector {
     
     private MergedResult mergedResult;
     
+    private boolean[] textRelayColumns;
+    
     public StandardDatabaseConnector(final String driverType, final QueryContext queryContext, final ProxyDatabaseConnectionManager databaseConnectionManager) {
         this.driverType = driverType;
         this.queryContext = queryContext;
@@ -278,6 +290,7 @@ public final class StandardDatabaseConnector implements DatabaseConnector {
     private QueryResponseHeader processExecuteQuery(final SQLStatementContext sqlStatementContext, final List<QueryResult> queryResults, final QueryResult queryResultSample) throws SQLException {
         queryHeaders = createQueryHeaders(sqlStatementContext, queryResultSample);
         mergedResult = mergeQuery(sqlStatementContext, queryResults);
+        textRelayColumns = isTextRelayAvailable(queryResults) ? createTextRelayColumns() : null;
         return new QueryResponseHeader(queryHeaders);
     }
     
@@ -307,7 +320,25 @@ public final class StandardDatabaseConnector implements DatabaseConnector {
     private MergedResult mergeQuery(final SQLStatementContext sqlStatementContext, final List<QueryResult> queryResults) throws SQLException {
         MergeEngine mergeEngine = new MergeEngine(contextManager.getMetaDataContexts().getMetaData(),
                 database, contextManager.getMetaDataContexts().getMetaData().getProps(), databaseConnectionManager.getConnectionSession().getConnectionContext());
-        return mergeEngine.merge(queryResults, sqlStatementContext);
+        MergedResult result = mergeEngine.merge(queryResults, sqlStatementContext);
+        int batchSize = contextManager.getMetaDataContexts().getMetaData().getProps().getValue(ConfigurationPropertyKey.PROXY_BACKEND_QUERY_BATCH_SIZE);
+        return batchSize > 0 && result instanceof BatchMergedResult && ((BatchMergedResult) result).isBatchSupported()
+                ? new BatchRowMergedResult((BatchMergedResult) result, batchSize)
+                : result;
+    }
+    
+    private boolean isTextRelayAvailable(final List<QueryResult> queryResults) {
+        return contextManager.getMetaDataContexts().getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.PROXY_BACKEND_QUERY_TEXT_RELAY_ENABLED)
+                && 1 == queryResults.size() && mergedResult instanceof ColumnBytesMergedResult && ((ColumnBytesMergedResult) mergedResult).isColumnBytesSupported()
+                && StandardCharsets.UTF_8.equals(databaseConnectionManager.getConnectionSession().getAttributeMap().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get());
+    }
+    
+    private boolean[] createTextRelayColumns() {
+        boolean[] result = new boolean[queryHeaders.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = TEXT_RELAY_COLUMN_TYPES.contains(queryHeaders.get(i).getColumnType());
+        }
+        return result;
     }
     
     private UpdateResponseHeader processExecuteUpdate(final Collection<UpdateResult> updateResults) {
@@ -344,7 +375,9 @@ public final class StandardDatabaseConnector implements DatabaseConnector {
     public QueryResponseRow getRowData() throws SQLException {
         List<QueryResponseCell> cells = new ArrayList<>(queryHeaders.size());
         for (int columnIndex = 1; columnIndex <= queryHeaders.size(); columnIndex++) {
-            Object data = mergedResult.getValue(columnIndex, Object.class);
+            Object data = null != textRelayColumns && textRelayColumns[columnIndex - 1]
+                    ? ((ColumnBytesMergedResult) mergedResult).getColumnBytes(columnIndex)
+                    : mergedResult.getValue(columnIndex, Object.class);
             cells.add(new QueryResponseCell(queryHeaders.get(columnIndex - 1).getColumnType(), data, queryHeaders.get(columnIndex - 1).getColumnTypeName()));
         }
         return new QueryResponseRow(cells);
@@ -353,6 +386,7 @@ public final class StandardDatabaseConnector implements DatabaseConnector {
     @Override
     public void close() throws SQLException {
         Collection<SQLException> result = new LinkedList<>();
+        closeMergedResult().ifPresent(result::add);
         result.addAll(closeResultSets());
         result.addAll(closeStatements());
         closeSQLFederationEngine().ifPresent(result::add);
@@ -364,6 +398,17 @@ public final class StandardDatabaseConnector implements DatabaseConnector {
         throw ex;
     }
     
+    private Optional<SQLException> closeMergedResult() {
+        if (null != mergedResult) {
+            try {
+                mergedResult.close();
+            } catch (final SQLException ex) {
+                return Optional.of(ex);
+            }
+        }
+        return Optional.empty();
+    }
+    
     private Collection<SQLException> closeResultSets() {
         Collection<SQLException> result = new LinkedList<>();
         for (ResultSet each : cachedResultSets) {
@@ -18,10 +18,15 @@
 package org.apache.shardingsphere.proxy.backend.connector.jdbc.datasource;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.MapMaker;
 import org.apache.shardingsphere.infra.database.core.GlobalDataSourceRegistry;
+import org.apache.shardingsphere.infra.datasource.pool.metadata.DataSourcePoolMetaData;
+import org.apache.shardingsphere.infra.datasource.pool.props.domain.DataSourcePoolProperties;
 import org.apache.shardingsphere.infra.exception.kernel.connection.OverallConnectionNotEnoughException;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.BackendDataSource;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.transaction.api.TransactionType;
 import org.apache.shardingsphere.transaction.rule.TransactionRule;
@@ -33,12 +38,21 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Backend data source of JDBC.
  */
 public final class JDBCBackendDataSource implements BackendDataSource {
     
+    private static final long DEFAULT_RESERVATION_TIMEOUT_MILLIS = 30000L;
+    
+    private final ConcurrentMap<DataSource, Optional<StorageUnitConnectionReservation>> connectionReservations = new MapMaker().weakKeys().makeMap();
+    
+    private final ConcurrentMap<Connection, StorageUnitConnectionReservation> reservedConnections = new MapMaker().weakKeys().makeMap();
+    
     @Override
     public List<Connection> getConnections(final String databaseName, final String dataSourceName, final int connectionSize, final ConnectionMode connectionMode) throws SQLException {
         return getConnections(databaseName, dataSourceName, connectionSize, connectionMode,
@@ -58,8 +72,9 @@ public final class JDBCBackendDataSource implements BackendDataSource {
      */
     public List<Connection> getConnections(final String databaseName, final String dataSourceName,
                                            final int connectionSize, final ConnectionMode connectionMode, final TransactionType transactionType) throws SQLException {
-        DataSource dataSource = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData()
-                .getDatabase(databaseName).getResourceMetaData().getStorageUnits().get(dataSourceName).getDataSource();
+        StorageUnit storageUnit = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData()
+                .getDatabase(databaseName).getResourceMetaData().getStorageUnits().get(dataSourceName);
+        DataSource dataSource = storageUnit.getDataSource();
         if (dataSourceName.contains(".")) {
             String dataSourceStr = dataSourceName.split("\\.")[0];
             if (GlobalDataSourceRegistry.getInstance().getCachedDataSources().containsKey(dataSourceStr)) {
@@ -73,9 +88,66 @@ public final class JDBCBackendDataSource implements BackendDataSource {
         if (ConnectionMode.CONNECTION_STRICTLY == connectionMode) {
             return createConnections(databaseName, dataSourceName, dataSource, connectionSize, transactionType);
         }
-        synchronized (dataSource) {
-            return createConnections(databaseName, dataSourceName, dataSource, connectionSize, transactionType);
+        Optional<StorageUnitConnectionReservation> reservation = connectionReservations.computeIfAbsent(dataSource, key -> createConnectionReservation(storageUnit));
+        if (!reservation.isPresent()) {
+            synchronized (dataSource) {
+                return createConnections(databaseName, dataSourceName, dataSource, connectionSize, transactionType);
+            }
+        }
+        return createReservedConnections(databaseName, dataSourceName, dataSource, connectionSize, transactionType, reservation.get());
+    }
+    
+    private List<Connection> createReservedConnections(final String databaseName, final String dataSourceName, final DataSource dataSource, final int connectionSize,
+                                                       final TransactionType transactionType, final StorageUnitConnectionReservation reservation) throws SQLException {
+        int reservedPermits = reservation.reserve(dataSourceName, connectionSize);
+        List<Connection> result;
+        try {
+            result = createConnections(databaseName, dataSourceName, dataSource, connectionSize, transactionType);
+        } catch (final SQLException ex) {
+            reservation.release(reservedPermits);
+            throw ex;
+        }
+        for (int i = 0; i < reservedPermits; i++) {
+            reservedConnections.put(result.get(i), reservation);
+        }
+        return result;
+    }
+    
+    /**
+     * Release reserved permit of closed connection.
+     *
+     * <p>Reserved permits are held until the borrowed connections are closed, so reservations never exceed the connections the pool can hand out.</p>
+     *
+     * @param connection closed connection
+     */
+    public void releaseConnection(final Connection connection) {
+        StorageUnitConnectionReservation reservation = reservedConnections.remove(connection);
+        if (null != reservation) {
+            reservation.release(1);
+        }
+    }
+    
+    private Optional<StorageUnitConnectionReservation> createConnectionReservation(final StorageUnit storageUnit) {
+        DataSourcePoolProperties dataSourcePoolProps = storageUnit.getDataSourcePoolProperties();
+        Optional<DataSourcePoolMetaData> poolMetaData = TypedSPILoader.findService(DataSourcePoolMetaData.class, dataSourcePoolProps.getPoolClassName());
+        Map<String, Object> poolProps = dataSourcePoolProps.getPoolPropertySynonyms().getStandardProperties();
+        Optional<Object> maxPoolSize = findPoolPropertyValue(poolProps, poolMetaData.orElse(null), "maxPoolSize");
+        if (!maxPoolSize.isPresent()) {
+            return Optional.empty();
+        }
+        Optional<Object> connectionTimeoutMillis = findPoolPropertyValue(poolProps, poolMetaData.orElse(null), "connectionTimeoutMilliseconds");
+        return Optional.of(new StorageUnitConnectionReservation(Integer.parseInt(maxPoolSize.get().toString()),
+                connectionTimeoutMillis.map(optional -> Long.parseLong(optional.toString())).orElse(DEFAULT_RESERVATION_TIMEOUT_MILLIS)));
+    }
+    
+    private Optional<Object> findPoolPropertyValue(final Map<String, Object> poolProps, final DataSourcePoolMetaData poolMetaData, final String standardPropertyName) {
+        if (null != poolProps.get(standardPropertyName)) {
+            return Optional.of(poolProps.get(standardPropertyName));
+        }
+        if (null == poolMetaData) {
+            return Optional.empty();
         }
+        return Optional.ofNullable(poolMetaData.getDefaultProperties().get(poolMetaData.getPropertySynonyms().getOrDefault(standardPropertyName, standardPropertyName)));
     }
     
     private List<Connection> createConnections(final String databaseName, final String dataSourceName,
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.connector.jdbc.datasource;
+
+import org.apache.shardingsphere.infra.exception.kernel.connection.OverallConnectionNotEnoughException;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Connection reservation of storage unit.
+ *
+ * <p>Connections of one query are reserved all together before borrowed, and permits are held until the borrowed connections are closed,
+ * so concurrent reservations never exceed the max pool size.</p>
+ */
+public final class StorageUnitConnectionReservation {
+    
+    private final Semaphore semaphore;
+    
+    private final int maxPermits;
+    
+    private final long timeoutMillis;
+    
+    public StorageUnitConnectionReservation(final int maxPermits, final long timeoutMillis) {
+        this.maxPermits = Math.max(maxPermits, 1);
+        semaphore = new Semaphore(this.maxPermits, true);
+        this.timeoutMillis = timeoutMillis;
+    }
+    
+    /**
+     * Reserve connections.
+     *
+     * <p>Connection size larger than max permits reserves the whole storage unit.</p>
+     *
+     * @param storageUnitName storage unit name
+     * @param connectionSize size of connections to be reserved
+     * @return reserved permits
+     * @throws OverallConnectionNotEnoughException overall connection not enough exception if timeout or interrupted
+     */
+    public int reserve(final String storageUnitName, final int connectionSize) throws OverallConnectionNotEnoughException {
+        int result = Math.min(connectionSize, maxPermits);
+        try {
+            if (semaphore.tryAcquire(result, timeoutMillis, TimeUnit.MILLISECONDS)) {
+                return result;
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new OverallConnectionNotEnoughException(connectionSize, 0, ex);
+        }
+        throw new OverallConnectionNotEnoughException(connectionSize, 0,
+                new TimeoutException(String.format("Reserve %d connections of storage unit `%s` timeout after %d milliseconds.", connectionSize, storageUnitName, timeoutMillis)));
+    }
+    
+    /**
+     * Release reserved permits.
+     *
+     * @param permits reserved permits
+     */
+    public void release(final int permits) {
+        semaphore.release(permits);
+    }
+    
+    /**
+     * Get available permits.
+     *
+     * @return available permits
+     */
+    public int getAvailablePermits() {
+        return semaphore.availablePermits();
+    }
+}
@@ -89,7 +89,21 @@ public final class ConnectionSession {
      * @param grantee grantee
      */
     public void setGrantee(final Grantee grantee) {
-        connectionContext.set(new ConnectionContext(databaseConnectionManager::getUsedDataSourceNames, grantee));
+        ConnectionContext connectionContext = new ConnectionContext(databaseConnectionManager::getUsedDataSourceNames, grantee);
+        connectionContext.setProcessId(processId);
+        this.connectionContext.set(connectionContext);
+    }
+    
+    /**
+     * Set process ID.
+     *
+     * @param processId process ID
+     */
+    public void setProcessId(final String processId) {
+        this.processId = processId;
+        if (null != connectionContext.get()) {
+            connectionContext.get().setProcessId(processId);
+        }
     }
     
     /**
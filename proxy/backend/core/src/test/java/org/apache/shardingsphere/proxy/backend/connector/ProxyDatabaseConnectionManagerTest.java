@@ -72,6 +72,7 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
@@ -121,6 +122,7 @@ class ProxyDatabaseConnectionManagerTest {
         when(metaData.getDatabase("foo_db")).thenReturn(mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS));
         when(metaData.getAllDatabases().iterator().next().getProtocolType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "FIXTURE"));
         when(metaData.getProps().<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE)).thenReturn(0);
+        when(metaData.getProps().<Boolean>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_VIRTUAL_THREAD_ENABLED)).thenReturn(false);
         TransactionRule transactionRule = mock(TransactionRule.class);
         when(transactionRule.getDefaultType()).thenReturn(TransactionType.LOCAL);
         when(metaData.getGlobalRuleMetaData()).thenReturn(new RuleMetaData(Collections.singletonList(transactionRule)));
@@ -268,9 +270,23 @@ class ProxyDatabaseConnectionManagerTest {
         } catch (final SQLException ex) {
             assertThat(ex, is(expectedException));
             verify(connection).close();
+            verify(backendDataSource).releaseConnection(connection);
         }
     }
     
+    @Test
+    void assertGetConnectionsAndFailedToReplayTransactionOption() throws SQLException {
+        when(connectionSession.isReadOnly()).thenReturn(true);
+        Connection connection = mock(Connection.class);
+        SQLException expectedException = new SQLException("");
+        doThrow(expectedException).when(connection).setReadOnly(true);
+        when(backendDataSource.getConnections(anyString(), anyString(), anyInt(), any(ConnectionMode.class))).thenReturn(Collections.singletonList(connection));
+        SQLException actual = assertThrows(SQLException.class, () -> databaseConnectionManager.getConnections("foo_db", "", 0, 1, ConnectionMode.CONNECTION_STRICTLY));
+        assertThat(actual, is(expectedException));
+        verify(connection).close();
+        verify(backendDataSource).releaseConnection(connection);
+    }
+    
     @Test
     void assertGetConnectionsWithoutTransactions() throws SQLException {
         connectionSession.getTransactionStatus().setInTransaction(false);
@@ -26,6 +26,7 @@ import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryRe
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.JDBCDriverType;
 import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.merge.result.ColumnBytesMergedResult;
 import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryMergedResult;
 import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
@@ -50,6 +51,8 @@ import org.apache.shardingsphere.parser.config.SQLParserRuleConfiguration;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.fixture.QueryHeaderBuilderFixture;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseCell;
+import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeaderBuilder;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeaderBuilderEngine;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
@@ -75,6 +78,7 @@ import java.sql.Types;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.Properties;
@@ -172,6 +176,26 @@ class StandardDatabaseConnectorTest {
         }
     }
     
+    @Test
+    void assertGetRowDataWithTextRelayColumns() throws SQLException, NoSuchFieldException, IllegalAccessException {
+        SQLStatementContext sqlStatementContext = mock(SQLStatementContext.class, RETURNS_DEEP_STUBS);
+        when(sqlStatementContext.getDatabaseType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "FIXTURE"));
+        DatabaseConnector engine = createDatabaseConnector(JDBCDriverType.STATEMENT, createQueryContext(sqlStatementContext));
+        QueryHeader varcharQueryHeader = mock(QueryHeader.class);
+        when(varcharQueryHeader.getColumnType()).thenReturn(Types.VARCHAR);
+        QueryHeader integerQueryHeader = mock(QueryHeader.class);
+        when(integerQueryHeader.getColumnType()).thenReturn(Types.INTEGER);
+        Plugins.getMemberAccessor().set(StandardDatabaseConnector.class.getDeclaredField("queryHeaders"), engine, Arrays.asList(varcharQueryHeader, integerQueryHeader));
+        ColumnBytesMergedResult mergedResult = mock(ColumnBytesMergedResult.class);
+        when(mergedResult.getColumnBytes(1)).thenReturn(new byte[]{'f', 'o', 'o'});
+        when(mergedResult.getValue(2, Object.class)).thenReturn(1);
+        Plugins.getMemberAccessor().set(StandardDatabaseConnector.class.getDeclaredField("mergedResult"), engine, mergedResult);
+        Plugins.getMemberAccessor().set(StandardDatabaseConnector.class.getDeclaredField("textRelayColumns"), engine, new boolean[]{true, false});
+        Iterator<QueryResponseCell> actual = engine.getRowData().getCells().iterator();
+        assertThat(actual.next().getData(), is(new byte[]{'f', 'o', 'o'}));
+        assertThat(actual.next().getData(), is(1));
+    }
+    
     private DatabaseConnector createDatabaseConnector(final String driverType, final QueryContext queryContext) {
         DatabaseConnector result = new StandardDatabaseConnector(driverType, queryContext, databaseConnectionManager);
         databaseConnectionManager.add(result);
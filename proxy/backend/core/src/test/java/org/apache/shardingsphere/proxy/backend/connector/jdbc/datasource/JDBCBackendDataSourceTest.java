@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.proxy.backend.connector.jdbc.datasource;
 
 import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.exception.kernel.connection.OverallConnectionNotEnoughException;
@@ -25,6 +26,7 @@ import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMod
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.resource.ResourceMetaData;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
 import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.metadata.persist.MetaDataPersistService;
@@ -53,11 +55,17 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.BrokenBarrierException;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
@@ -65,6 +73,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.when;
@@ -76,6 +85,22 @@ class JDBCBackendDataSourceTest {
     
     private static final String DATA_SOURCE_PATTERN = "ds_%s";
     
+    private static final String BOUNDED_DATA_SOURCE_NAME = "bounded_ds";
+    
+    private static final int BOUNDED_POOL_SIZE = 4;
+    
+    private static final String DEFAULT_POOL_SIZE_DATA_SOURCE_NAME = "default_pool_size_ds";
+    
+    private static final String UNKNOWN_POOL_DATA_SOURCE_NAME = "unknown_pool_ds";
+    
+    private final Semaphore boundedPool = new Semaphore(BOUNDED_POOL_SIZE);
+    
+    private final CyclicBarrier boundedPoolBarrier = new CyclicBarrier(2);
+    
+    private final AtomicBoolean boundedPoolBarrierEnabled = new AtomicBoolean();
+    
+    private final DataSource boundedDataSource = mockBoundedDataSource();
+    
     @BeforeEach
     void setUp() {
         ContextManager contextManager = mockContextManager();
@@ -95,6 +120,53 @@ class JDBCBackendDataSourceTest {
         when(result.getName()).thenReturn("schema");
         when(result.getProtocolType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "FIXTURE"));
         mockDataSources(2).forEach((key, value) -> when(result.getResourceMetaData().getStorageUnits().get(key).getDataSource()).thenReturn(value));
+        StorageUnit boundedStorageUnit = mock(StorageUnit.class, RETURNS_DEEP_STUBS);
+        when(boundedStorageUnit.getDataSource()).thenReturn(boundedDataSource);
+        Map<String, Object> poolProps = new HashMap<>(2, 1F);
+        poolProps.put("maxPoolSize", BOUNDED_POOL_SIZE);
+        poolProps.put("connectionTimeoutMilliseconds", 5000L);
+        when(boundedStorageUnit.getDataSourcePoolProperties().getPoolPropertySynonyms().getStandardProperties()).thenReturn(poolProps);
+        when(result.getResourceMetaData().getStorageUnits().get(BOUNDED_DATA_SOURCE_NAME)).thenReturn(boundedStorageUnit);
+        StorageUnit defaultPoolSizeStorageUnit = mockUnconfiguredStorageUnit("com.zaxxer.hikari.HikariDataSource");
+        when(result.getResourceMetaData().getStorageUnits().get(DEFAULT_POOL_SIZE_DATA_SOURCE_NAME)).thenReturn(defaultPoolSizeStorageUnit);
+        StorageUnit unknownPoolStorageUnit = mockUnconfiguredStorageUnit("org.foo.UnknownDataSource");
+        when(result.getResourceMetaData().getStorageUnits().get(UNKNOWN_POOL_DATA_SOURCE_NAME)).thenReturn(unknownPoolStorageUnit);
+        return result;
+    }
+    
+    @SneakyThrows(SQLException.class)
+    private StorageUnit mockUnconfiguredStorageUnit(final String poolClassName) {
+        StorageUnit result = mock(StorageUnit.class, RETURNS_DEEP_STUBS);
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        when(result.getDataSource()).thenReturn(dataSource);
+        when(result.getDataSourcePoolProperties().getPoolClassName()).thenReturn(poolClassName);
+        when(result.getDataSourcePoolProperties().getPoolPropertySynonyms().getStandardProperties()).thenReturn(Collections.emptyMap());
+        return result;
+    }
+    
+    @SneakyThrows(SQLException.class)
+    private DataSource mockBoundedDataSource() {
+        DataSource result = mock(DataSource.class);
+        when(result.getConnection()).thenAnswer(invocation -> borrowBoundedConnection());
+        return result;
+    }
+    
+    private Connection borrowBoundedConnection() throws SQLException, InterruptedException {
+        if (boundedPoolBarrierEnabled.get()) {
+            try {
+                boundedPoolBarrier.await(200L, TimeUnit.MILLISECONDS);
+            } catch (final BrokenBarrierException | TimeoutException ignored) {
+            }
+        }
+        if (!boundedPool.tryAcquire(1000L, TimeUnit.MILLISECONDS)) {
+            throw new SQLException("Bounded pool is exhausted.");
+        }
+        Connection result = mock(Connection.class);
+        doAnswer(invocation -> {
+            boundedPool.release();
+            return null;
+        }).when(result).close();
         return result;
     }
     
@@ -137,6 +209,38 @@ class JDBCBackendDataSourceTest {
         executorService.shutdown();
     }
     
+    @Test
+    void assertGetConnectionsConcurrentlyWhileHoldingConnections() throws Exception {
+        JDBCBackendDataSource jdbcBackendDataSource = new JDBCBackendDataSource();
+        List<Connection> heldConnections = jdbcBackendDataSource.getConnections("schema", BOUNDED_DATA_SOURCE_NAME, 2, ConnectionMode.MEMORY_STRICTLY);
+        boundedPoolBarrierEnabled.set(true);
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        Future<Integer> moreConnections = executorService.submit(new GetAndCloseConnectionsTask(jdbcBackendDataSource));
+        Future<Integer> otherConnections = executorService.submit(new GetAndCloseConnectionsTask(jdbcBackendDataSource));
+        assertThat(moreConnections.get(10L, TimeUnit.SECONDS), is(2));
+        assertThat(otherConnections.get(10L, TimeUnit.SECONDS), is(2));
+        for (Connection each : heldConnections) {
+            each.close();
+            jdbcBackendDataSource.releaseConnection(each);
+        }
+        assertThat(boundedPool.availablePermits(), is(BOUNDED_POOL_SIZE));
+        executorService.shutdown();
+    }
+    
+    @Test
+    void assertGetConnectionsWithDefaultPoolSizeWhileHoldingConnections() throws SQLException {
+        JDBCBackendDataSource jdbcBackendDataSource = new JDBCBackendDataSource();
+        assertThat(jdbcBackendDataSource.getConnections("schema", DEFAULT_POOL_SIZE_DATA_SOURCE_NAME, 2, ConnectionMode.MEMORY_STRICTLY).size(), is(2));
+        assertThat(jdbcBackendDataSource.getConnections("schema", DEFAULT_POOL_SIZE_DATA_SOURCE_NAME, 2, ConnectionMode.MEMORY_STRICTLY).size(), is(2));
+    }
+    
+    @Test
+    void assertGetConnectionsWithUnknownPoolSizeWhileHoldingConnections() throws SQLException {
+        JDBCBackendDataSource jdbcBackendDataSource = new JDBCBackendDataSource();
+        assertThat(jdbcBackendDataSource.getConnections("schema", UNKNOWN_POOL_DATA_SOURCE_NAME, 2, ConnectionMode.MEMORY_STRICTLY).size(), is(2));
+        assertThat(jdbcBackendDataSource.getConnections("schema", UNKNOWN_POOL_DATA_SOURCE_NAME, 2, ConnectionMode.MEMORY_STRICTLY).size(), is(2));
+    }
+    
     @RequiredArgsConstructor
     private class CallableTask implements Callable<List<Connection>> {
         
@@ -157,4 +261,24 @@ class JDBCBackendDataSourceTest {
             }
         }
     }
+    
+    @RequiredArgsConstructor
+    private class GetAndCloseConnectionsTask implements Callable<Integer> {
+        
+        private final JDBCBackendDataSource jdbcBackendDataSource;
+        
+        @Override
+        public Integer call() throws SQLException {
+            try (MockedStatic<ProxyContext> proxyContext = mockStatic(ProxyContext.class, RETURNS_DEEP_STUBS)) {
+                ContextManager contextManager = JDBCBackendDataSourceTest.this.mockContextManager();
+                proxyContext.when(() -> ProxyContext.getInstance().getContextManager()).thenReturn(contextManager);
+                List<Connection> connections = jdbcBackendDataSource.getConnections("schema", BOUNDED_DATA_SOURCE_NAME, 2, ConnectionMode.MEMORY_STRICTLY);
+                for (Connection each : connections) {
+                    each.close();
+                    jdbcBackendDataSource.releaseConnection(each);
+                }
+                return connections.size();
+            }
+        }
+    }
 }
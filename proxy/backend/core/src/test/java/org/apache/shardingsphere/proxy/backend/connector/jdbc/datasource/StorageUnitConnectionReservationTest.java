@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.connector.jdbc.datasource;
+
+import org.apache.shardingsphere.infra.exception.kernel.connection.OverallConnectionNotEnoughException;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.concurrent.TimeoutException;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class StorageUnitConnectionReservationTest {
+    
+    @Test
+    void assertReserveAndRelease() throws SQLException {
+        StorageUnitConnectionReservation reservation = new StorageUnitConnectionReservation(10, 100L);
+        int first = reservation.reserve("foo_ds", 4);
+        int second = reservation.reserve("foo_ds", 6);
+        assertThat(first, is(4));
+        assertThat(second, is(6));
+        assertThat(reservation.getAvailablePermits(), is(0));
+        reservation.release(first);
+        reservation.release(second);
+        assertThat(reservation.getAvailablePermits(), is(10));
+    }
+    
+    @Test
+    void assertReserveMoreThanMaxPermits() throws SQLException {
+        StorageUnitConnectionReservation reservation = new StorageUnitConnectionReservation(3, 100L);
+        assertThat(reservation.reserve("foo_ds", 5), is(3));
+        assertThat(reservation.getAvailablePermits(), is(0));
+    }
+    
+    @Test
+    void assertReserveWithoutPositiveMaxPermits() throws SQLException {
+        StorageUnitConnectionReservation reservation = new StorageUnitConnectionReservation(0, 100L);
+        assertThat(reservation.reserve("foo_ds", 2), is(1));
+    }
+    
+    @Test
+    void assertReserveTimeout() throws SQLException {
+        StorageUnitConnectionReservation reservation = new StorageUnitConnectionReservation(2, 10L);
+        reservation.reserve("foo_ds", 2);
+        OverallConnectionNotEnoughException actual = assertThrows(OverallConnectionNotEnoughException.class, () -> reservation.reserve("foo_ds", 1));
+        assertThat(actual.getCause(), instanceOf(TimeoutException.class));
+        assertThat(reservation.getAvailablePermits(), is(0));
+    }
+}
@@ -79,11 +79,11 @@ public final class ShowProcessListExecutor implements DatabaseAdminQueryExecutor
         rowValues.add(TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis() - process.getStartMillis()));
         String sql = null;
         if (process.isIdle()) {
-            rowValues.add("");
+            rowValues.add(getSpillState(process, "Spilled "));
         } else {
             int processDoneCount = process.getCompletedUnitCount().get();
             String statePrefix = "Executing ";
-            rowValues.add(statePrefix + processDoneCount + "/" + process.getTotalUnitCount().get());
+            rowValues.add(statePrefix + processDoneCount + "/" + process.getTotalUnitCount().get() + getSpillState(process, ", spilled "));
             sql = process.getSql();
         }
         if (null != sql && sql.length() > 100 && !showFullProcesslist) {
@@ -93,6 +93,11 @@ public final class ShowProcessListExecutor implements DatabaseAdminQueryExecutor
         return new MemoryQueryResultDataRow(rowValues);
     }
     
+    private String getSpillState(final Process process, final String statePrefix) {
+        int spillCount = process.getSpillCount().get();
+        return 0 == spillCount ? "" : statePrefix + spillCount + " runs (" + process.getSpillBytes().get() + " bytes)";
+    }
+    
     private QueryResultMetaData createQueryResultMetaData() {
         List<RawQueryResultColumnMetaData> columns = new ArrayList<>(8);
         columns.add(new RawQueryResultColumnMetaData("", "Id", "Id", Types.VARCHAR, "VARCHAR", 20, 0));
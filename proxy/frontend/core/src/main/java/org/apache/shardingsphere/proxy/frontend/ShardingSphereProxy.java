@@ -38,6 +38,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.proxy.backend.context.BackendExecutorContext;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.frontend.executor.ConnectionThreadExecutorGroup;
+import org.apache.shardingsphere.proxy.frontend.executor.UserExecutorGroup;
 import org.apache.shardingsphere.proxy.frontend.netty.ServerHandlerInitializer;
 import org.apache.shardingsphere.proxy.frontend.protocol.FrontDatabaseProtocolTypeFactory;
 
@@ -59,6 +61,7 @@ public final class ShardingSphereProxy {
     public ShardingSphereProxy() {
         bossGroup = Epoll.isAvailable() ? new EpollEventLoopGroup(1) : new NioEventLoopGroup(1);
         workerGroup = getWorkerGroup();
+        setExecutorThreadType();
         Runtime.getRuntime().addShutdownHook(new Thread(this::close));
     }
     
@@ -67,6 +70,13 @@ public final class ShardingSphereProxy {
         return Epoll.isAvailable() ? new EpollEventLoopGroup(workerThreads) : new NioEventLoopGroup(workerThreads);
     }
     
+    private void setExecutorThreadType() {
+        boolean virtualThreadEnabled = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps()
+                .<Boolean>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_VIRTUAL_THREAD_ENABLED);
+        UserExecutorGroup.getInstance().setVirtualThreadEnabled(virtualThreadEnabled);
+        ConnectionThreadExecutorGroup.getInstance().setVirtualThreadEnabled(virtualThreadEnabled);
+    }
+    
     /**
      * Start ShardingSphere-Proxy.
      *
@@ -165,6 +175,7 @@ public final class ShardingSphereProxy {
         }
         bossGroup.shutdownGracefully();
         workerGroup.shutdownGracefully();
+        UserExecutorGroup.getInstance().close();
         BackendExecutorContext.getInstance().getExecutorEngine().close();
         ProxyContext.getInstance().getContextManager().close();
         isClosed = true;
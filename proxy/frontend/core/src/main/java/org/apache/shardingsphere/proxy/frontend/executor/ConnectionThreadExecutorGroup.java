@@ -19,11 +19,14 @@ package org.apache.shardingsphere.proxy.frontend.executor;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.apache.shardingsphere.infra.executor.kernel.thread.VirtualThreadExecutorBuilder;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
@@ -33,6 +36,7 @@ import java.util.concurrent.TimeUnit;
  * <p>
  * Manage the thread for each connection session invoking.
  * This ensure XA transaction framework processed by current thread id.
+ * If virtual thread is enabled, the only worker is a virtual thread, which keeps the same thread identity for XA transaction too.
  * </p>
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
@@ -42,6 +46,9 @@ public final class ConnectionThreadExecutorGroup {
     
     private final Map<Integer, ExecutorService> executorServices = new ConcurrentHashMap<>();
     
+    @Setter
+    private volatile boolean virtualThreadEnabled;
+    
     /**
      * Get connection thread executor group.
      *
@@ -61,7 +68,11 @@ public final class ConnectionThreadExecutorGroup {
     }
     
     private ExecutorService newSingleThreadExecutorService(final int connectionId) {
-        return new ThreadPoolExecutor(0, 1, 1L, TimeUnit.HOURS, new LinkedBlockingQueue<>(), runnable -> new Thread(runnable, String.format("Connection-%d-ThreadExecutor", connectionId)));
+        return new ThreadPoolExecutor(0, 1, 1L, TimeUnit.HOURS, new LinkedBlockingQueue<>(), createThreadFactory(String.format("Connection-%d-ThreadExecutor", connectionId)));
+    }
+    
+    private ThreadFactory createThreadFactory(final String threadName) {
+        return virtualThreadEnabled && VirtualThreadExecutorBuilder.isSupported() ? VirtualThreadExecutorBuilder.buildThreadFactory(threadName) : runnable -> new Thread(runnable, threadName);
     }
     
     /**
@@ -17,7 +17,8 @@
 
 package org.apache.shardingsphere.proxy.frontend.executor;
 
-import lombok.Getter;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceManager;
 
 import java.util.concurrent.ExecutorService;
@@ -25,19 +26,16 @@ import java.util.concurrent.ExecutorService;
 /**
  * User executor group.
  */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class UserExecutorGroup {
     
     private static final String NAME_FORMAT = "Command-%d";
     
     private static final UserExecutorGroup INSTANCE = new UserExecutorGroup();
     
-    @Getter
-    private final ExecutorService executorService;
+    private volatile ExecutorServiceManager executorServiceManager = new ExecutorServiceManager(0, NAME_FORMAT);
     
-    private UserExecutorGroup() {
-        ExecutorServiceManager executorServiceManager = new ExecutorServiceManager(0, NAME_FORMAT);
-        executorService = executorServiceManager.getExecutorService();
-    }
+    private boolean virtualThreadEnabled;
     
     /**
      * Get instance of user executor group.
@@ -47,4 +45,37 @@ public final class UserExecutorGroup {
     public static UserExecutorGroup getInstance() {
         return INSTANCE;
     }
+    
+    /**
+     * Get executor service.
+     *
+     * @return executor service
+     */
+    public ExecutorService getExecutorService() {
+        return executorServiceManager.getExecutorService();
+    }
+    
+    /**
+     * Set whether to execute commands with virtual threads.
+     *
+     * <p>Previous executor service rejects new commands and is terminated after the running commands finished, which are not interrupted.</p>
+     *
+     * @param virtualThreadEnabled whether to use virtual thread
+     */
+    public synchronized void setVirtualThreadEnabled(final boolean virtualThreadEnabled) {
+        if (this.virtualThreadEnabled == virtualThreadEnabled) {
+            return;
+        }
+        ExecutorServiceManager previousExecutorServiceManager = executorServiceManager;
+        executorServiceManager = new ExecutorServiceManager(0, NAME_FORMAT, virtualThreadEnabled);
+        this.virtualThreadEnabled = virtualThreadEnabled;
+        previousExecutorServiceManager.shutdown();
+    }
+    
+    /**
+     * Close executor service.
+     */
+    public synchronized void close() {
+        executorServiceManager.close();
+    }
 }
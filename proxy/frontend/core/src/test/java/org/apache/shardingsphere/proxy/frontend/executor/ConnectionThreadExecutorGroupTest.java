@@ -19,6 +19,11 @@ package org.apache.shardingsphere.proxy.frontend.executor;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
@@ -32,6 +37,20 @@ class ConnectionThreadExecutorGroupTest {
         ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(connectionId);
     }
     
+    @Test
+    void assertRegisterWithVirtualThreadEnabled() throws ExecutionException, InterruptedException {
+        int connectionId = 3;
+        ConnectionThreadExecutorGroup.getInstance().setVirtualThreadEnabled(true);
+        try {
+            ConnectionThreadExecutorGroup.getInstance().register(connectionId);
+            ExecutorService executorService = ConnectionThreadExecutorGroup.getInstance().get(connectionId);
+            assertThat(executorService.submit(Thread::currentThread).get(), is(executorService.submit(Thread::currentThread).get()));
+        } finally {
+            ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(connectionId);
+            ConnectionThreadExecutorGroup.getInstance().setVirtualThreadEnabled(false);
+        }
+    }
+    
     @Test
     void assertUnregister() {
         int connectionId = 2;
@@ -31,6 +31,8 @@ import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.ext
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.protocol.util.PostgreSQLTextBitUtils;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.protocol.util.PostgreSQLTextBoolUtils;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.execute.PostgreSQLPortalSuspendedPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.text.PostgreSQLTextProtocolValue;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.text.PostgreSQLTextProtocolValueFactory;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLCommandCompletePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.handshake.PostgreSQLParameterStatusPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLIdentifierPacket;
@@ -58,6 +60,7 @@ import org.apache.shardingsphere.sql.parser.statement.core.statement.dal.SetStat
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -80,6 +83,8 @@ public final class Portal {
     
     private ResponseHeader responseHeader;
     
+    private List<PostgreSQLTextProtocolValue> textProtocolValues = Collections.emptyList();
+    
     public Portal(final String name, final PostgreSQLServerPreparedStatement preparedStatement, final List<Object> params, final List<PostgreSQLValueFormat> resultFormats,
                   final ProxyDatabaseConnectionManager databaseConnectionManager) throws SQLException {
         this.name = name;
@@ -105,6 +110,17 @@ public final class Portal {
      */
     public void bind() throws SQLException {
         responseHeader = proxyBackendHandler.execute();
+        if (responseHeader instanceof QueryResponseHeader) {
+            textProtocolValues = createTextProtocolValues(((QueryResponseHeader) responseHeader).getQueryHeaders());
+        }
+    }
+    
+    private List<PostgreSQLTextProtocolValue> createTextProtocolValues(final List<QueryHeader> queryHeaders) {
+        List<PostgreSQLTextProtocolValue> result = new ArrayList<>(queryHeaders.size());
+        for (QueryHeader each : queryHeaders) {
+            result.add(PostgreSQLTextProtocolValueFactory.getTextProtocolValue(each.getColumnType()));
+        }
+        return result;
     }
     
     /**
@@ -172,7 +188,7 @@ public final class Portal {
     }
     
     private PostgreSQLPacket nextPacket() throws SQLException {
-        return new PostgreSQLDataRowPacket(getData(proxyBackendHandler.getRowData()));
+        return new PostgreSQLDataRowPacket(getData(proxyBackendHandler.getRowData()), textProtocolValues);
     }
     
     private List<Object> getData(final QueryResponseRow queryResponseRow) {
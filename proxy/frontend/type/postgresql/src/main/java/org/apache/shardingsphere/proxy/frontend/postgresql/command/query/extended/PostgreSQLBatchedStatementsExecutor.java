@@ -22,14 +22,19 @@ import org.apache.shardingsphere.infra.binder.context.aware.ParameterAware;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.engine.SQLBindEngine;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.connection.kernel.BatchRouteTemplate;
 import org.apache.shardingsphere.infra.connection.kernel.KernelProcessor;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.infra.executor.audit.SQLAuditEngine;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
+import org.apache.shardingsphere.infra.executor.sql.context.CoalescedInsertValues;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.InsertValuesCoalescer;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
@@ -45,6 +50,7 @@ import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.statement.JDBCBackendStatement;
 import org.apache.shardingsphere.proxy.backend.context.BackendExecutorContext;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
@@ -59,10 +65,12 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
 
 /**
@@ -72,6 +80,8 @@ public final class PostgreSQLBatchedStatementsExecutor {
     
     private final KernelProcessor kernelProcessor = new KernelProcessor();
     
+    private final BatchRouteTemplate routeTemplate = new BatchRouteTemplate();
+    
     private final JDBCExecutor jdbcExecutor;
     
     private final ConnectionSession connectionSession;
@@ -132,7 +142,7 @@ public final class PostgreSQLBatchedStatementsExecutor {
         RuleMetaData globalRuleMetaData = metaDataContexts.getMetaData().getGlobalRuleMetaData();
         ShardingSphereDatabase currentDatabase = metaDataContexts.getMetaData().getDatabase(connectionSession.getCurrentDatabaseName());
         SQLAuditEngine.audit(queryContext, globalRuleMetaData, currentDatabase);
-        return kernelProcessor.generateExecutionContext(queryContext, globalRuleMetaData, metaDataContexts.getMetaData().getProps());
+        return kernelProcessor.generateExecutionContext(queryContext, globalRuleMetaData, metaDataContexts.getMetaData().getProps(), routeTemplate);
     }
     
     /**
@@ -143,10 +153,45 @@ public final class PostgreSQLBatchedStatementsExecutor {
      */
     public int executeBatch() throws SQLException {
         connectionSession.getDatabaseConnectionManager().handleAutoCommit();
+        if (metaDataContexts.getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.BATCH_INSERT_COALESCE_ENABLED)) {
+            coalesceInsertValues();
+        }
         addBatchedParametersToPreparedStatements();
         return executeBatchedPreparedStatements();
     }
     
+    private void coalesceInsertValues() {
+        ShardingSphereDatabase database = metaDataContexts.getMetaData().getDatabase(connectionSession.getUsedDatabaseName());
+        SQLParserRule sqlParserRule = metaDataContexts.getMetaData().getGlobalRuleMetaData().getSingleRule(SQLParserRule.class);
+        Map<ExecutionUnit, List<List<Object>>> coalescedExecutionUnitParams = new LinkedHashMap<>(executionUnitParams.size(), 1F);
+        for (Entry<ExecutionUnit, List<List<Object>>> entry : executionUnitParams.entrySet()) {
+            Optional<InsertValuesCoalescer> coalescer = entry.getValue().size() < 2
+                    ? Optional.empty()
+                    : createInsertValuesCoalescer(database, sqlParserRule, entry.getKey(), entry.getValue().get(0).size());
+            if (!coalescer.isPresent()) {
+                coalescedExecutionUnitParams.put(entry.getKey(), entry.getValue());
+                continue;
+            }
+            for (CoalescedInsertValues each : coalescer.get().coalesce(entry.getValue())) {
+                SQLUnit sqlUnit = new SQLUnit(each.getSql(), each.getParameterSets().get(0), entry.getKey().getSqlUnit().getTableRouteMappers());
+                coalescedExecutionUnitParams.put(new ExecutionUnit(entry.getKey().getDataSourceName(), sqlUnit), each.getParameterSets());
+            }
+        }
+        executionUnitParams.clear();
+        executionUnitParams.putAll(coalescedExecutionUnitParams);
+    }
+    
+    private Optional<InsertValuesCoalescer> createInsertValuesCoalescer(final ShardingSphereDatabase database, final SQLParserRule sqlParserRule, final ExecutionUnit executionUnit,
+                                                                        final int parameterCount) {
+        DatabaseType storageType = database.getResourceMetaData().getStorageUnits().get(executionUnit.getDataSourceName()).getStorageType();
+        int maxParameterCount = new DatabaseTypeRegistry(storageType).getDialectDatabaseMetaData().getMaxParameterCount();
+        if (maxParameterCount < parameterCount * 2) {
+            return Optional.empty();
+        }
+        String sql = executionUnit.getSqlUnit().getSql();
+        return InsertValuesCoalescer.newInstance(sql, sqlParserRule.getSQLParserEngine(storageType).parse(sql, true), parameterCount, maxParameterCount);
+    }
+    
     private void addBatchedParametersToPreparedStatements() throws SQLException {
         Collection<ShardingSphereRule> rules = metaDataContexts.getMetaData().getDatabase(connectionSession.getUsedDatabaseName()).getRuleMetaData().getRules();
         int maxConnectionsSizePerQuery = metaDataContexts.getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY);
@@ -25,6 +25,8 @@ import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.Pos
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLEmptyQueryResponsePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLRowDescriptionPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.simple.PostgreSQLComQueryPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.text.PostgreSQLTextProtocolValue;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.text.PostgreSQLTextProtocolValueFactory;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLCommandCompletePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.handshake.PostgreSQLParameterStatusPacket;
 import org.apache.shardingsphere.infra.database.core.metadata.database.enums.QuoteCharacter;
@@ -54,6 +56,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
+import java.util.List;
 
 /**
  * Command query executor for PostgreSQL.
@@ -67,6 +70,8 @@ public final class PostgreSQLComQueryExecutor implements QueryCommandExecutor {
     @Getter
     private volatile ResponseType responseType;
     
+    private List<PostgreSQLTextProtocolValue> textProtocolValues = Collections.emptyList();
+    
     public PostgreSQLComQueryExecutor(final PortalContext portalContext, final PostgreSQLComQueryPacket packet, final ConnectionSession connectionSession) throws SQLException {
         this.portalContext = portalContext;
         DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "PostgreSQL");
@@ -86,13 +91,23 @@ public final class PostgreSQLComQueryExecutor implements QueryCommandExecutor {
     
     private PostgreSQLRowDescriptionPacket createRowDescriptionPacket(final QueryResponseHeader queryResponseHeader) {
         responseType = ResponseType.QUERY;
-        return new PostgreSQLRowDescriptionPacket(createColumnDescriptions(queryResponseHeader));
+        List<QueryHeader> queryHeaders = queryResponseHeader.getQueryHeaders();
+        textProtocolValues = createTextProtocolValues(queryHeaders);
+        return new PostgreSQLRowDescriptionPacket(createColumnDescriptions(queryHeaders));
+    }
+    
+    private List<PostgreSQLTextProtocolValue> createTextProtocolValues(final List<QueryHeader> queryHeaders) {
+        List<PostgreSQLTextProtocolValue> result = new ArrayList<>(queryHeaders.size());
+        for (QueryHeader each : queryHeaders) {
+            result.add(PostgreSQLTextProtocolValueFactory.getTextProtocolValue(each.getColumnType()));
+        }
+        return result;
     }
     
-    private Collection<PostgreSQLColumnDescription> createColumnDescriptions(final QueryResponseHeader queryResponseHeader) {
+    private Collection<PostgreSQLColumnDescription> createColumnDescriptions(final List<QueryHeader> queryHeaders) {
         Collection<PostgreSQLColumnDescription> result = new LinkedList<>();
         int columnIndex = 0;
-        for (QueryHeader each : queryResponseHeader.getQueryHeaders()) {
+        for (QueryHeader each : queryHeaders) {
             result.add(new PostgreSQLColumnDescription(each.getColumnLabel(), ++columnIndex, each.getColumnType(), each.getColumnLength(), each.getColumnTypeName()));
         }
         return result;
@@ -126,7 +141,7 @@ public final class PostgreSQLComQueryExecutor implements QueryCommandExecutor {
     
     @Override
     public PostgreSQLPacket getQueryRowPacket() throws SQLException {
-        return new PostgreSQLDataRowPacket(proxyBackendHandler.getRowData().getData());
+        return new PostgreSQLDataRowPacket(proxyBackendHandler.getRowData().getData(), textProtocolValues);
     }
     
     @Override
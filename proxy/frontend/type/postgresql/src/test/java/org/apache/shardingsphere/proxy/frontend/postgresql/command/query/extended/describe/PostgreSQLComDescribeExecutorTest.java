@@ -397,6 +397,7 @@ class PostgreSQLComDescribeExecutorTest {
                 new ShardingSphereColumn("pad", Types.CHAR, true, false, false, true, false, false));
         when(schema.getTable(TABLE_NAME)).thenReturn(new ShardingSphereTable(TABLE_NAME, columns, Collections.emptyList(), Collections.emptyList()));
         when(result.getMetaDataContexts().getMetaData().getDatabase(DATABASE_NAME).getProtocolType()).thenReturn(DATABASE_TYPE);
+        when(result.getMetaDataContexts().getMetaData().getDatabase(DATABASE_NAME).getRuleMetaData().getRules()).thenReturn(Collections.emptyList());
         StorageUnit storageUnit = mock(StorageUnit.class, RETURNS_DEEP_STUBS);
         when(storageUnit.getStorageType()).thenReturn(DATABASE_TYPE);
         when(result.getMetaDataContexts().getMetaData().getDatabase(DATABASE_NAME).getResourceMetaData().getStorageUnits()).thenReturn(Collections.singletonMap("ds_0", storageUnit));
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.encrypt;
+
+import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
+import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContext;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AES encrypt algorithm benchmark, which encrypts and decrypts values of one column, compares with creating cipher for every value.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class AESEncryptAlgorithmBenchmark {
+    
+    @Param("1000000")
+    private int valueCount;
+    
+    private EncryptAlgorithm algorithm;
+    
+    private AlgorithmSQLContext algorithmSQLContext;
+    
+    private SecretKeySpec secretKeySpec;
+    
+    private List<Object> plainValues;
+    
+    private List<Object> cipherValues;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        Properties props = new Properties();
+        props.setProperty("aes-key-value", "123456abc");
+        props.setProperty("digest-algorithm-name", "SHA-1");
+        algorithm = TypedSPILoader.getService(EncryptAlgorithm.class, "AES", props);
+        algorithmSQLContext = new AlgorithmSQLContext("foo_db", "foo_schema", "t_user", "user_name");
+        secretKeySpec = new SecretKeySpec(Arrays.copyOf("123456abc".getBytes(StandardCharsets.UTF_8), 16), "AES");
+        plainValues = new ArrayList<>(valueCount);
+        for (int i = 0; i < valueCount; i++) {
+            plainValues.add("user_name_" + i);
+        }
+        cipherValues = algorithm.batchEncrypt(plainValues, algorithmSQLContext);
+    }
+    
+    /**
+     * Encrypt with new cipher for every value.
+     *
+     * @return cipher values
+     * @throws GeneralSecurityException general security exception
+     */
+    @Benchmark
+    public List<Object> encryptWithNewCipher() throws GeneralSecurityException {
+        List<Object> result = new ArrayList<>(valueCount);
+        for (Object each : plainValues) {
+            Cipher cipher = Cipher.getInstance("AES");
+            cipher.init(Cipher.ENCRYPT_MODE, secretKeySpec);
+            result.add(Base64.getEncoder().encodeToString(cipher.doFinal(String.valueOf(each).getBytes(StandardCharsets.UTF_8))));
+        }
+        return result;
+    }
+    
+    /**
+     * Encrypt value by value.
+     *
+     * @return cipher values
+     */
+    @Benchmark
+    public List<Object> encrypt() {
+        List<Object> result = new ArrayList<>(valueCount);
+        for (Object each : plainValues) {
+            result.add(algorithm.encrypt(each, algorithmSQLContext));
+        }
+        return result;
+    }
+    
+    /**
+     * Encrypt in batch.
+     *
+     * @return cipher values
+     */
+    @Benchmark
+    public List<Object> batchEncrypt() {
+        return algorithm.batchEncrypt(plainValues, algorithmSQLContext);
+    }
+    
+    /**
+     * Decrypt in batch.
+     *
+     * @return plain values
+     */
+    @Benchmark
+    public List<Object> batchDecrypt() {
+        return algorithm.batchDecrypt(cipherValues, algorithmSQLContext);
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.executor;
+
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executor thread benchmark, which simulates count of connections executing a blocking JDBC round trip at the same time.
+ *
+ * <p>
+ * Virtual thread only takes effect on JDK 21 and above, otherwise platform thread is used for both sides.
+ * Blocking inside synchronized block simulates JDBC drivers which pin virtual threads to carrier threads.
+ * </p>
+ *
+ * <p>
+ * Besides time, peak count of live platform threads is reported as footprint, and allocation rate is reported by GC profiler which is attached by benchmark launcher.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class ExecutorThreadBenchmark {
+    
+    private static final long ROUND_TRIP_MILLIS = 5L;
+    
+    @Param({"1000", "10000"})
+    private int connectionCount;
+    
+    @Param({"false", "true"})
+    private boolean virtualThreadEnabled;
+    
+    @Param({"false", "true"})
+    private boolean synchronizedBlocking;
+    
+    private ExecutorServiceManager executorServiceManager;
+    
+    private Object[] driverLocks;
+    
+    private List<Future<?>> futures;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        executorServiceManager = new ExecutorServiceManager(0, virtualThreadEnabled);
+        driverLocks = new Object[connectionCount];
+        for (int i = 0; i < connectionCount; i++) {
+            driverLocks[i] = new Object();
+        }
+        futures = new ArrayList<>(connectionCount);
+    }
+    
+    /**
+     * Execute round trips of all connections.
+     *
+     * @param footprint executor thread footprint
+     * @throws ExecutionException execution exception
+     * @throws InterruptedException interrupted exception
+     */
+    @Benchmark
+    public void execute(final ExecutorThreadFootprint footprint) throws ExecutionException, InterruptedException {
+        ExecutorService executorService = executorServiceManager.getExecutorService();
+        futures.clear();
+        for (int i = 0; i < connectionCount; i++) {
+            Object driverLock = driverLocks[i];
+            Runnable roundTrip = synchronizedBlocking ? () -> executeSynchronizedRoundTrip(driverLock) : ExecutorThreadBenchmark::executeRoundTrip;
+            futures.add(executorService.submit(roundTrip));
+        }
+        for (Future<?> each : futures) {
+            each.get();
+        }
+        footprint.record();
+    }
+    
+    private static void executeSynchronizedRoundTrip(final Object driverLock) {
+        synchronized (driverLock) {
+            executeRoundTrip();
+        }
+    }
+    
+    private static void executeRoundTrip() {
+        try {
+            Thread.sleep(ROUND_TRIP_MILLIS);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    /**
+     * Tear down.
+     */
+    @TearDown
+    public void tearDown() {
+        executorServiceManager.close();
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.executor;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Executor thread footprint counters, which report peak count of live platform threads during each iteration.
+ *
+ * <p>Every platform thread reserves its own native stack, while virtual threads keep their stacks in heap and are covered by the allocation rate of GC profiler.</p>
+ */
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.EVENTS)
+public class ExecutorThreadFootprint {
+    
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+    
+    private long peakPlatformThreads;
+    
+    /**
+     * Reset.
+     */
+    @Setup(Level.Iteration)
+    public void reset() {
+        THREAD_MX_BEAN.resetPeakThreadCount();
+        peakPlatformThreads = 0L;
+    }
+    
+    /**
+     * Record peak count of live platform threads.
+     */
+    public void record() {
+        peakPlatformThreads = Math.max(peakPlatformThreads, THREAD_MX_BEAN.getPeakThreadCount());
+    }
+    
+    /**
+     * Get peak count of live platform threads.
+     *
+     * @return peak count of live platform threads
+     */
+    public long peakPlatformThreads() {
+        return peakPlatformThreads;
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.kernel;
+
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.connection.kernel.cache.KernelEnginesCache;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.rewrite.SQLRewriteEntry;
+import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Kernel engines benchmark, which compares building route and rewrite engines per statement with getting them from cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class KernelEnginesBenchmark {
+    
+    private KernelPipelineEnvironment environment;
+    
+    private ShardingSphereDatabase database;
+    
+    private RuleMetaData globalRuleMetaData;
+    
+    private ConfigurationProperties props;
+    
+    /**
+     * Set up.
+     *
+     * @throws SQLException SQL exception
+     * @throws IOException IO exception
+     */
+    @Setup
+    public void setUp() throws SQLException, IOException {
+        environment = new KernelPipelineEnvironment();
+        database = environment.getDatabase();
+        globalRuleMetaData = environment.getMetaData().getGlobalRuleMetaData();
+        props = environment.getMetaData().getProps();
+    }
+    
+    /**
+     * Create engines for every statement.
+     *
+     * @param blackhole blackhole
+     */
+    @Benchmark
+    public void createEngines(final Blackhole blackhole) {
+        blackhole.consume(new SQLRouteEngine(database.getRuleMetaData().getRules(), props));
+        blackhole.consume(new SQLRewriteEntry(database, globalRuleMetaData, props));
+    }
+    
+    /**
+     * Get cached engines.
+     *
+     * @param blackhole blackhole
+     */
+    @Benchmark
+    public void getCachedEngines(final Blackhole blackhole) {
+        blackhole.consume(KernelEnginesCache.get(database, globalRuleMetaData, props).getRouteEngine());
+        blackhole.consume(KernelEnginesCache.get(database, globalRuleMetaData, props).getRewriteEntry());
+    }
+    
+    /**
+     * Tear down.
+     *
+     * @throws SQLException SQL exception
+     */
+    @TearDown
+    public void tearDown() throws SQLException {
+        environment.close();
+    }
+}
@@ -0,0 +1,255 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.kernel;
+
+import lombok.Getter;
+import org.apache.shardingsphere.driver.api.yaml.YamlShardingSphereDataSourceFactory;
+import org.apache.shardingsphere.driver.jdbc.core.connection.ShardingSphereConnection;
+import org.apache.shardingsphere.driver.jdbc.core.datasource.ShardingSphereDataSource;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.engine.SQLBindEngine;
+import org.apache.shardingsphere.infra.connection.kernel.KernelProcessor;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultColumnMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.type.RawMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.merge.MergeEngine;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.parser.SQLParserEngine;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Kernel pipeline environment.
+ *
+ * <p>Boots a ShardingSphere data source with sharding, readwrite-splitting and encrypt rules over in-memory H2 databases, and exposes every kernel stage separately.</p>
+ */
+@Getter
+public final class KernelPipelineEnvironment implements AutoCloseable {
+    
+    private static final String CONFIG_FILE = "benchmark/kernel/kernel-pipeline.yaml";
+    
+    private static final String[] STORAGE_URLS = {
+            "jdbc:h2:mem:benchmark_ds_0;DB_CLOSE_DELAY=-1;MODE=MYSQL;IGNORECASE=TRUE;CASE_INSENSITIVE_IDENTIFIERS=TRUE",
+            "jdbc:h2:mem:benchmark_ds_1;DB_CLOSE_DELAY=-1;MODE=MYSQL;IGNORECASE=TRUE;CASE_INSENSITIVE_IDENTIFIERS=TRUE"};
+    
+    private static final int TABLE_COUNT_PER_DATABASE = 4;
+    
+    private static final int ORDER_COUNT = 1000;
+    
+    private final ShardingSphereDataSource dataSource;
+    
+    private final ShardingSphereConnection connection;
+    
+    private final ShardingSphereMetaData metaData;
+    
+    private final ShardingSphereDatabase database;
+    
+    private final SQLParserEngine sqlParserEngine;
+    
+    private final KernelProcessor kernelProcessor = new KernelProcessor();
+    
+    public KernelPipelineEnvironment() throws SQLException, IOException {
+        createActualTables();
+        dataSource = (ShardingSphereDataSource) YamlShardingSphereDataSourceFactory.createDataSource(loadConfiguration());
+        connection = (ShardingSphereConnection) dataSource.getConnection();
+        metaData = connection.getContextManager().getMetaDataContexts().getMetaData();
+        database = metaData.getDatabase(connection.getCurrentDatabaseName());
+        sqlParserEngine = metaData.getGlobalRuleMetaData().getSingleRule(SQLParserRule.class).getSQLParserEngine(database.getProtocolType());
+        insertOrders();
+    }
+    
+    private void createActualTables() throws SQLException {
+        for (String each : STORAGE_URLS) {
+            try (
+                    Connection storageConnection = DriverManager.getConnection(each, "sa", "");
+                    Statement statement = storageConnection.createStatement()) {
+                for (int i = 0; i < TABLE_COUNT_PER_DATABASE; i++) {
+                    statement.execute(String.format("DROP TABLE IF EXISTS t_order_%d", i));
+                    statement.execute(String.format("CREATE TABLE t_order_%d (order_id BIGINT PRIMARY KEY, user_id INT NOT NULL, status_cipher VARCHAR(255), amount DECIMAL(10, 2))", i));
+                }
+            }
+        }
+    }
+    
+    private byte[] loadConfiguration() throws IOException {
+        try (
+                InputStream inputStream = KernelPipelineEnvironment.class.getClassLoader().getResourceAsStream(CONFIG_FILE);
+                ByteArrayOutputStream result = new ByteArrayOutputStream()) {
+            byte[] buffer = new byte[4096];
+            int length;
+            while (-1 != (length = inputStream.read(buffer))) {
+                result.write(buffer, 0, length);
+            }
+            return result.toByteArray();
+        }
+    }
+    
+    private void insertOrders() throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement("INSERT INTO t_order (order_id, user_id, status, amount) VALUES (?, ?, ?, ?)")) {
+            for (int i = 1; i <= ORDER_COUNT; i++) {
+                preparedStatement.setLong(1, i);
+                preparedStatement.setInt(2, i % 10);
+                preparedStatement.setString(3, "status_" + i % 5);
+                preparedStatement.setBigDecimal(4, new BigDecimal(i % 100));
+                preparedStatement.addBatch();
+            }
+            preparedStatement.executeBatch();
+        }
+    }
+    
+    /**
+     * Parse SQL.
+     *
+     * @param sql SQL to be parsed
+     * @param useCache whether to use the SQL statement cache
+     * @return SQL statement
+     */
+    public SQLStatement parse(final String sql, final boolean useCache) {
+        return sqlParserEngine.parse(sql, useCache);
+    }
+    
+    /**
+     * Bind SQL statement.
+     *
+     * @param sqlStatement SQL statement
+     * @param params parameters
+     * @return SQL statement context
+     */
+    public SQLStatementContext bind(final SQLStatement sqlStatement, final List<Object> params) {
+        return new SQLBindEngine(metaData, database.getName(), new HintValueContext()).bind(sqlStatement, params);
+    }
+    
+    /**
+     * Create query context.
+     *
+     * @param sqlStatementContext SQL statement context
+     * @param sql SQL
+     * @param params parameters
+     * @return query context
+     */
+    public QueryContext createQueryContext(final SQLStatementContext sqlStatementContext, final String sql, final List<Object> params) {
+        return new QueryContext(sqlStatementContext, sql, params, new HintValueContext(), connection.getDatabaseConnectionManager().getConnectionContext(), metaData);
+    }
+    
+    /**
+     * Generate execution context.
+     *
+     * @param queryContext query context
+     * @return execution context
+     */
+    public ExecutionContext generateExecutionContext(final QueryContext queryContext) {
+        return kernelProcessor.generateExecutionContext(queryContext, metaData.getGlobalRuleMetaData(), metaData.getProps());
+    }
+    
+    /**
+     * Execute every execution unit directly on its storage unit and keep the rows in memory.
+     *
+     * @param executionContext execution context
+     * @return shard query results
+     * @throws SQLException SQL exception
+     */
+    public Collection<ShardQueryResult> executeQuery(final ExecutionContext executionContext) throws SQLException {
+        Collection<ShardQueryResult> result = new LinkedList<>();
+        for (ExecutionUnit each : executionContext.getExecutionUnits()) {
+            DataSource storageDataSource = database.getResourceMetaData().getStorageUnits().get(each.getDataSourceName()).getDataSource();
+            try (
+                    Connection storageConnection = storageDataSource.getConnection();
+                    PreparedStatement preparedStatement = storageConnection.prepareStatement(each.getSqlUnit().getSql())) {
+                for (int i = 0; i < each.getSqlUnit().getParameters().size(); i++) {
+                    preparedStatement.setObject(i + 1, each.getSqlUnit().getParameters().get(i));
+                }
+                try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                    result.add(createShardQueryResult(resultSet));
+                }
+            }
+        }
+        return result;
+    }
+    
+    private ShardQueryResult createShardQueryResult(final ResultSet resultSet) throws SQLException {
+        ResultSetMetaData resultSetMetaData = resultSet.getMetaData();
+        int columnCount = resultSetMetaData.getColumnCount();
+        List<RawQueryResultColumnMetaData> columns = new ArrayList<>(columnCount);
+        for (int i = 1; i <= columnCount; i++) {
+            columns.add(new RawQueryResultColumnMetaData(resultSetMetaData.getTableName(i), resultSetMetaData.getColumnName(i), resultSetMetaData.getColumnLabel(i),
+                    resultSetMetaData.getColumnType(i), resultSetMetaData.getColumnTypeName(i), resultSetMetaData.getPrecision(i), resultSetMetaData.getScale(i)));
+        }
+        List<MemoryQueryResultDataRow> rows = new ArrayList<>();
+        while (resultSet.next()) {
+            List<Object> values = new ArrayList<>(columnCount);
+            for (int i = 1; i <= columnCount; i++) {
+                values.add(resultSet.getObject(i));
+            }
+            rows.add(new MemoryQueryResultDataRow(values));
+        }
+        return new ShardQueryResult(new RawQueryResultMetaData(columns), rows);
+    }
+    
+    /**
+     * Create merge engine.
+     *
+     * @return merge engine
+     */
+    public MergeEngine createMergeEngine() {
+        return new MergeEngine(metaData, database, metaData.getProps(), connection.getDatabaseConnectionManager().getConnectionContext());
+    }
+    
+    /**
+     * Create query results which can be consumed once.
+     *
+     * @param shardQueryResults shard query results
+     * @return query results
+     */
+    public List<QueryResult> createQueryResults(final Collection<ShardQueryResult> shardQueryResults) {
+        List<QueryResult> result = new ArrayList<>(shardQueryResults.size());
+        for (ShardQueryResult each : shardQueryResults) {
+            result.add(new RawMemoryQueryResult(each.getMetaData(), each.getRows()));
+        }
+        return result;
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        connection.close();
+        dataSource.close();
+    }
+}
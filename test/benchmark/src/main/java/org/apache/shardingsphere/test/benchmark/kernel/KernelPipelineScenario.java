@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.kernel;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Kernel pipeline scenario.
+ */
+@RequiredArgsConstructor
+@Getter
+public enum KernelPipelineScenario {
+    
+    POINT_SELECT("SELECT order_id, user_id, status, amount FROM t_order WHERE user_id = ? AND order_id = ?", Arrays.asList(1, 1L), true),
+    
+    IN_LIST_SELECT("SELECT order_id, user_id, status, amount FROM t_order WHERE order_id IN (?, ?, ?, ?, ?, ?, ?, ?)", Arrays.asList(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L), true),
+    
+    MULTI_ROW_INSERT(createMultiRowInsertSQL(), createMultiRowInsertParameters(), false),
+    
+    ORDER_BY_SELECT("SELECT order_id, user_id, status, amount FROM t_order ORDER BY amount DESC, order_id", Collections.emptyList(), true),
+    
+    GROUP_BY_SELECT("SELECT user_id, COUNT(order_id) AS order_count, SUM(amount) AS total_amount FROM t_order GROUP BY user_id ORDER BY user_id", Collections.emptyList(), true);
+    
+    private static final int INSERT_ROW_COUNT = 10;
+    
+    private final String sql;
+    
+    private final List<Object> parameters;
+    
+    private final boolean query;
+    
+    private static String createMultiRowInsertSQL() {
+        StringBuilder result = new StringBuilder("INSERT INTO t_order (order_id, user_id, status, amount) VALUES ");
+        for (int i = 0; i < INSERT_ROW_COUNT; i++) {
+            result.append(0 == i ? "" : ", ").append("(?, ?, ?, ?)");
+        }
+        return result.toString();
+    }
+    
+    private static List<Object> createMultiRowInsertParameters() {
+        List<Object> result = new ArrayList<>(INSERT_ROW_COUNT * 4);
+        for (int i = 0; i < INSERT_ROW_COUNT; i++) {
+            result.addAll(Arrays.asList(100000L + i, i, "status_" + i, new BigDecimal(i)));
+        }
+        return result;
+    }
+}
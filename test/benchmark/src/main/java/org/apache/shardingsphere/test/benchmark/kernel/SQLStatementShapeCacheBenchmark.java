@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.kernel;
+
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngine;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SQL statement shape cache benchmark, which parses text protocol SQL with a different literal on every invocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class SQLStatementShapeCacheBenchmark {
+    
+    private static final int DISTINCT_SQL_COUNT = 4096;
+    
+    @Param({"POINT_SELECT", "IN_LIST_SELECT", "MULTI_ROW_INSERT", "ORDER_BY_SELECT", "GROUP_BY_SELECT"})
+    private KernelPipelineScenario scenario;
+    
+    @Param({"false", "true"})
+    private boolean shapeCacheEnabled;
+    
+    private SQLStatementParserEngine sqlStatementParserEngine;
+    
+    private String[] sqls;
+    
+    private int index;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "MySQL");
+        CacheOption sqlStatementShapeCacheOption = shapeCacheEnabled ? new CacheOption(128, 1024L) : null;
+        sqlStatementParserEngine = new SQLStatementParserEngine(databaseType, new CacheOption(2000, 65535L), new CacheOption(128, 1024L), sqlStatementShapeCacheOption);
+        sqls = new String[DISTINCT_SQL_COUNT];
+        for (int i = 0; i < DISTINCT_SQL_COUNT; i++) {
+            sqls[i] = inlineParameters(scenario.getSql(), i);
+        }
+    }
+    
+    private String inlineParameters(final String sql, final int seed) {
+        StringBuilder result = new StringBuilder(sql.length() + 64);
+        int parameterIndex = 0;
+        for (char each : sql.toCharArray()) {
+            if ('?' == each) {
+                result.append(0 == parameterIndex++ % 3 ? "'value_" + seed + "'" : String.valueOf(seed * 31 + parameterIndex));
+            } else {
+                result.append(each);
+            }
+        }
+        return result.toString();
+    }
+    
+    /**
+     * Parse.
+     *
+     * @return SQL statement
+     */
+    @Benchmark
+    public SQLStatement parse() {
+        index = (index + 1) % DISTINCT_SQL_COUNT;
+        return sqlStatementParserEngine.parse(sqls[index], false);
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.pipeline;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSource;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.DumperCommonContext;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.InventoryDumperContext;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.mapper.TableAndSchemaNameMapper;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.IngestPosition;
+import org.apache.shardingsphere.data.pipeline.core.metadata.model.PipelineColumnMetaData;
+import org.apache.shardingsphere.data.pipeline.core.preparer.inventory.calculator.InventorySampledPositionCalculator;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inventory sampled position calculator benchmark, which splits a H2 table of {@value #ROW_COUNT} rows with string or multiple columns unique key.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class InventorySampledPositionCalculatorBenchmark {
+    
+    static final int ROW_COUNT = 10000000;
+    
+    @Param({"STRING", "COMPOSITE"})
+    private String uniqueKeyType;
+    
+    @Param({"1000000", "100000"})
+    private long shardingSize;
+    
+    private HikariDataSource dataSource;
+    
+    private InventorySampledPositionCalculator calculator;
+    
+    /**
+     * Set up.
+     *
+     * @throws SQLException SQL exception
+     */
+    @Setup
+    public void setUp() throws SQLException {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:benchmark_pipeline;DB_CLOSE_DELAY=-1;MODE=MySQL");
+        dataSource.setUsername("sa");
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS t_order");
+            if ("STRING".equals(uniqueKeyType)) {
+                statement.execute("CREATE TABLE t_order (order_id VARCHAR(36) PRIMARY KEY, status VARCHAR(16))");
+                statement.execute(String.format("INSERT INTO t_order SELECT RANDOM_UUID(), 'OK' FROM SYSTEM_RANGE(1, %d)", ROW_COUNT));
+            } else {
+                statement.execute("CREATE TABLE t_order (user_id INT, order_id VARCHAR(36), status VARCHAR(16), PRIMARY KEY (user_id, order_id))");
+                statement.execute(String.format("INSERT INTO t_order SELECT MOD(X, 10000), RANDOM_UUID(), 'OK' FROM SYSTEM_RANGE(1, %d)", ROW_COUNT));
+            }
+        }
+        DumperCommonContext commonContext = new DumperCommonContext("ds_0", null, null, new TableAndSchemaNameMapper(Collections.emptyMap()));
+        InventoryDumperContext dumperContext = new InventoryDumperContext(commonContext);
+        dumperContext.setActualTableName("t_order");
+        dumperContext.setLogicTableName("t_order");
+        dumperContext.setUniqueKeyColumns("STRING".equals(uniqueKeyType)
+                ? Collections.singletonList(new PipelineColumnMetaData(1, "order_id", Types.VARCHAR, "VARCHAR", false, true, true))
+                : Arrays.asList(new PipelineColumnMetaData(1, "user_id", Types.INTEGER, "INT", false, true, true),
+                        new PipelineColumnMetaData(2, "order_id", Types.VARCHAR, "VARCHAR", false, true, true)));
+        calculator = new InventorySampledPositionCalculator(new PipelineDataSource(dataSource, TypedSPILoader.getService(DatabaseType.class, "MySQL")), dumperContext);
+    }
+    
+    /**
+     * Tear down.
+     */
+    @TearDown
+    public void tearDown() {
+        dataSource.close();
+    }
+    
+    /**
+     * Get positions.
+     *
+     * @return positions
+     */
+    @Benchmark
+    public Collection<IngestPosition> getPositions() {
+        return calculator.getPositions(ROW_COUNT, shardingSize);
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.pipeline;
+
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannelCreator;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.finished.IngestFinishedPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.PlaceholderRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pipeline channel benchmark, which simulates incremental ingestion pushing every change record on its own and one importer fetching batches.
+ *
+ * <p>One operation fetches one batch, so records per second is score times batch size.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class PipelineChannelBenchmark {
+    
+    private static final long FETCH_TIMEOUT_MILLIS = 1000L;
+    
+    @Param({"MEMORY", "RING_BUFFER"})
+    private String channelType;
+    
+    @Param({"1", "100", "1000"})
+    private int batchSize;
+    
+    private PipelineChannel channel;
+    
+    private volatile boolean running;
+    
+    private Thread producer;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        channel = TypedSPILoader.getService(PipelineChannelCreator.class, channelType).newInstance(batchSize, records -> {
+        });
+        running = true;
+        List<Record> records = Collections.singletonList(new PlaceholderRecord(new IngestFinishedPosition()));
+        producer = new Thread(() -> {
+            while (running) {
+                channel.push(records);
+            }
+        });
+        producer.start();
+    }
+    
+    /**
+     * Fetch one batch of records.
+     *
+     * @return fetched records
+     */
+    @Benchmark
+    public List<Record> fetch() {
+        return channel.fetch(batchSize, FETCH_TIMEOUT_MILLIS);
+    }
+    
+    /**
+     * Tear down.
+     *
+     * @throws InterruptedException interrupted exception
+     */
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        running = false;
+        while (producer.isAlive()) {
+            channel.poll();
+        }
+        producer.join();
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.protocol;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.MySQLTextResultSetRowPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.protocol.MySQLTextProtocolValue;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.protocol.MySQLTextProtocolValueFactory;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLDataRowPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.text.PostgreSQLTextProtocolValue;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.text.PostgreSQLTextProtocolValueFactory;
+import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Text row packet benchmark, which writes {@value #TOTAL_ROW_COUNT} rows of BIGINT, INT, VARCHAR, DECIMAL and TIMESTAMP columns with text protocol into a reused byte buf.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class TextRowPacketBenchmark {
+    
+    private static final int TOTAL_ROW_COUNT = 1000000;
+    
+    private static final int DISTINCT_ROW_COUNT = 1024;
+    
+    private static final List<Integer> COLUMN_TYPES = Arrays.asList(Types.BIGINT, Types.INTEGER, Types.VARCHAR, Types.DECIMAL, Types.TIMESTAMP);
+    
+    @Param({"MySQL", "PostgreSQL"})
+    private String protocol;
+    
+    @Param
+    private TextProtocolValueStyle style;
+    
+    private List<Collection<Object>> rows;
+    
+    private List<MySQLTextProtocolValue> mysqlTextProtocolValues;
+    
+    private List<PostgreSQLTextProtocolValue> postgresqlTextProtocolValues;
+    
+    private ByteBuf byteBuf;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        rows = createRows();
+        mysqlTextProtocolValues = new ArrayList<>(COLUMN_TYPES.size());
+        postgresqlTextProtocolValues = new ArrayList<>(COLUMN_TYPES.size());
+        if (TextProtocolValueStyle.TYPED == style) {
+            for (int each : COLUMN_TYPES) {
+                mysqlTextProtocolValues.add(MySQLTextProtocolValueFactory.getTextProtocolValue(each));
+                postgresqlTextProtocolValues.add(PostgreSQLTextProtocolValueFactory.getTextProtocolValue(each));
+            }
+        }
+        byteBuf = PooledByteBufAllocator.DEFAULT.buffer(1024);
+    }
+    
+    private List<Collection<Object>> createRows() {
+        List<Collection<Object>> result = new ArrayList<>(DISTINCT_ROW_COUNT);
+        long baseMillis = Timestamp.valueOf("2024-01-01 00:00:00").getTime();
+        for (int i = 0; i < DISTINCT_ROW_COUNT; i++) {
+            Timestamp createTime = new Timestamp(baseMillis + i * 1000L * 3607L);
+            createTime.setNanos(0 == i % 2 ? 0 : i * 1000000 % 1000000000);
+            result.add(Arrays.asList(1000000000000L + i, i % 10, "status_" + i % 5, BigDecimal.valueOf(i * 37L, 2), createTime));
+        }
+        return result;
+    }
+    
+    /**
+     * Write rows.
+     *
+     * @return written bytes
+     */
+    @Benchmark
+    public long writeRows() {
+        return "MySQL".equals(protocol) ? writeMySQLRows() : writePostgreSQLRows();
+    }
+    
+    private long writeMySQLRows() {
+        MySQLPacketPayload payload = new MySQLPacketPayload(byteBuf, StandardCharsets.UTF_8);
+        long result = 0L;
+        for (int i = 0; i < TOTAL_ROW_COUNT; i++) {
+            byteBuf.clear();
+            new MySQLTextResultSetRowPacket(rows.get(i % DISTINCT_ROW_COUNT), mysqlTextProtocolValues).write(payload);
+            result += byteBuf.readableBytes();
+        }
+        return result;
+    }
+    
+    private long writePostgreSQLRows() {
+        PostgreSQLPacketPayload payload = new PostgreSQLPacketPayload(byteBuf, StandardCharsets.UTF_8);
+        long result = 0L;
+        for (int i = 0; i < TOTAL_ROW_COUNT; i++) {
+            byteBuf.clear();
+            new PostgreSQLDataRowPacket(rows.get(i % DISTINCT_ROW_COUNT), postgresqlTextProtocolValues).write(payload);
+            result += byteBuf.readableBytes();
+        }
+        return result;
+    }
+    
+    /**
+     * Tear down.
+     */
+    @TearDown
+    public void tearDown() {
+        byteBuf.release();
+    }
+}
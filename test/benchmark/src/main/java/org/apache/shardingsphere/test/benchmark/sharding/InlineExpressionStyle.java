@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.sharding;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Inline expression style.
+ */
+@RequiredArgsConstructor
+@Getter
+public enum InlineExpressionStyle {
+    
+    COMPILED("t_order_${order_id % 4}", "t_order_${(order_id + user_id) % 4}", "t_order_${value % 4}"),
+    
+    GROOVY("t_order_${(order_id as long) % 4}", "t_order_${(order_id + user_id as long) % 4}", "t_order_${(value as long) % 4}");
+    
+    private final String standardExpression;
+    
+    private final String complexExpression;
+    
+    private final String hintExpression;
+}
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.sharding;
+
+import org.apache.shardingsphere.infra.datanode.DataNodeInfo;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sharding.api.sharding.complex.ComplexKeysShardingValue;
+import org.apache.shardingsphere.sharding.api.sharding.hint.HintShardingValue;
+import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
+import org.apache.shardingsphere.sharding.algorithm.sharding.hint.HintInlineShardingAlgorithm;
+import org.apache.shardingsphere.sharding.algorithm.sharding.inline.ComplexInlineShardingAlgorithm;
+import org.apache.shardingsphere.sharding.algorithm.sharding.inline.InlineShardingAlgorithm;
+import org.apache.shardingsphere.sharding.spi.ShardingAlgorithm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inline sharding algorithm benchmark, which compares compiled inline expressions with Groovy closure evaluation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class InlineShardingAlgorithmBenchmark {
+    
+    private static final List<String> AVAILABLE_TARGET_NAMES = Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
+    
+    private static final DataNodeInfo DATA_NODE_INFO = new DataNodeInfo("t_order_", 1, '0');
+    
+    @Param
+    private InlineExpressionStyle style;
+    
+    private InlineShardingAlgorithm inlineShardingAlgorithm;
+    
+    private ComplexInlineShardingAlgorithm complexInlineShardingAlgorithm;
+    
+    private HintInlineShardingAlgorithm hintInlineShardingAlgorithm;
+    
+    private PreciseShardingValue<Comparable<?>> preciseShardingValue;
+    
+    private ComplexKeysShardingValue<Comparable<?>> complexKeysShardingValue;
+    
+    private HintShardingValue<Comparable<?>> hintShardingValue;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        inlineShardingAlgorithm = (InlineShardingAlgorithm) TypedSPILoader.getService(ShardingAlgorithm.class, "INLINE", createProperties(style.getStandardExpression()));
+        complexInlineShardingAlgorithm = (ComplexInlineShardingAlgorithm) TypedSPILoader.getService(ShardingAlgorithm.class, "COMPLEX_INLINE", createProperties(style.getComplexExpression()));
+        hintInlineShardingAlgorithm = (HintInlineShardingAlgorithm) TypedSPILoader.getService(ShardingAlgorithm.class, "HINT_INLINE", createProperties(style.getHintExpression()));
+        preciseShardingValue = new PreciseShardingValue<>("t_order", "order_id", DATA_NODE_INFO, 10001L);
+        Map<String, Collection<Comparable<?>>> columnNameAndShardingValuesMap = new LinkedHashMap<>(2, 1F);
+        columnNameAndShardingValuesMap.put("order_id", Arrays.asList(10001L, 10002L));
+        columnNameAndShardingValuesMap.put("user_id", Arrays.asList(1, 2));
+        complexKeysShardingValue = new ComplexKeysShardingValue<>("t_order", columnNameAndShardingValuesMap, Collections.emptyMap());
+        hintShardingValue = new HintShardingValue<>("t_order", "order_id", Arrays.asList(10001L, 10002L, 10003L, 10004L));
+    }
+    
+    private Properties createProperties(final String algorithmExpression) {
+        Properties result = new Properties();
+        result.setProperty("algorithm-expression", algorithmExpression);
+        return result;
+    }
+    
+    /**
+     * Do standard inline sharding.
+     *
+     * @return sharding target name
+     */
+    @Benchmark
+    public String doStandardSharding() {
+        return inlineShardingAlgorithm.doSharding(AVAILABLE_TARGET_NAMES, preciseShardingValue);
+    }
+    
+    /**
+     * Do complex inline sharding.
+     *
+     * @return sharding target names
+     */
+    @Benchmark
+    public Collection<String> doComplexSharding() {
+        return complexInlineShardingAlgorithm.doSharding(AVAILABLE_TARGET_NAMES, complexKeysShardingValue);
+    }
+    
+    /**
+     * Do hint inline sharding.
+     *
+     * @return sharding target names
+     */
+    @Benchmark
+    public Collection<String> doHintSharding() {
+        return hintInlineShardingAlgorithm.doSharding(AVAILABLE_TARGET_NAMES, hintShardingValue);
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.sharding;
+
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultColumnMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.type.RawMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.sharding.merge.dql.orderby.OrderByLoserTreeStreamMergedResult;
+import org.apache.shardingsphere.sharding.merge.dql.orderby.OrderByStreamMergedResult;
+import org.apache.shardingsphere.test.benchmark.kernel.KernelPipelineEnvironment;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Order by stream merged result benchmark, which merges {@value #TOTAL_ROW_COUNT} rows sorted by a decimal and a long column from different count of shards.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class OrderByStreamMergedResultBenchmark {
+    
+    private static final String SQL = "SELECT order_id, user_id, status, amount FROM t_order ORDER BY amount DESC, order_id";
+    
+    private static final int TOTAL_ROW_COUNT = 65536;
+    
+    @Param({"8", "64", "512"})
+    private int shardCount;
+    
+    @Param
+    private OrderByStreamMergeStyle style;
+    
+    private KernelPipelineEnvironment environment;
+    
+    private SelectStatementContext selectStatementContext;
+    
+    private ShardingSphereSchema schema;
+    
+    private RawQueryResultMetaData metaData;
+    
+    private List<List<MemoryQueryResultDataRow>> shardRows;
+    
+    /**
+     * Set up.
+     *
+     * @throws SQLException SQL exception
+     * @throws IOException IO exception
+     */
+    @Setup
+    public void setUp() throws SQLException, IOException {
+        environment = new KernelPipelineEnvironment();
+        selectStatementContext = (SelectStatementContext) environment.bind(environment.parse(SQL, false), Collections.emptyList());
+        Map<String, Integer> columnLabelIndexMap = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        columnLabelIndexMap.put("order_id", 1);
+        columnLabelIndexMap.put("user_id", 2);
+        columnLabelIndexMap.put("status", 3);
+        columnLabelIndexMap.put("amount", 4);
+        selectStatementContext.setIndexes(columnLabelIndexMap);
+        schema = environment.getDatabase().getSchema(environment.getDatabase().getName());
+        metaData = new RawQueryResultMetaData(Arrays.asList(
+                new RawQueryResultColumnMetaData("t_order", "order_id", "order_id", Types.BIGINT, "BIGINT", 19, 0, true, true, false),
+                new RawQueryResultColumnMetaData("t_order", "user_id", "user_id", Types.INTEGER, "INT", 10, 0, true, true, false),
+                new RawQueryResultColumnMetaData("t_order", "status", "status", Types.VARCHAR, "VARCHAR", 255, 0, false, false, false),
+                new RawQueryResultColumnMetaData("t_order", "amount", "amount", Types.DECIMAL, "DECIMAL", 10, 2, true, false, false)));
+        shardRows = createShardRows();
+    }
+    
+    private List<List<MemoryQueryResultDataRow>> createShardRows() {
+        List<List<MemoryQueryResultDataRow>> result = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            result.add(new ArrayList<>(TOTAL_ROW_COUNT / shardCount + 1));
+        }
+        Random random = new Random(0L);
+        for (int i = 0; i < TOTAL_ROW_COUNT; i++) {
+            BigDecimal amount = BigDecimal.valueOf((TOTAL_ROW_COUNT - i) / 16, 2);
+            result.get(random.nextInt(shardCount)).add(new MemoryQueryResultDataRow(Arrays.asList((long) i, i % 10, "status_" + i % 5, amount)));
+        }
+        return result;
+    }
+    
+    /**
+     * Merge.
+     *
+     * @param blackhole blackhole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void merge(final Blackhole blackhole) throws SQLException {
+        List<QueryResult> queryResults = new ArrayList<>(shardCount);
+        for (List<MemoryQueryResultDataRow> each : shardRows) {
+            queryResults.add(new RawMemoryQueryResult(metaData, each));
+        }
+        MergedResult mergedResult = OrderByStreamMergeStyle.LOSER_TREE == style
+                ? new OrderByLoserTreeStreamMergedResult(queryResults, selectStatementContext, schema)
+                : new OrderByStreamMergedResult(queryResults, selectStatementContext, schema);
+        while (mergedResult.next()) {
+            blackhole.consume(mergedResult.getValue(1, Object.class));
+        }
+    }
+    
+    /**
+     * Tear down.
+     *
+     * @throws SQLException SQL exception
+     */
+    @TearDown
+    public void tearDown() throws SQLException {
+        environment.close();
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.sharding;
+
+import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContext;
+import org.apache.shardingsphere.infra.algorithm.keygen.core.KeyGenerateAlgorithm;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Snowflake key generate algorithm benchmark, which generates keys of insert statements with different count of values from {@value #THREAD_COUNT} threads at the same time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Threads(SnowflakeKeyGenerateAlgorithmBenchmark.THREAD_COUNT)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class SnowflakeKeyGenerateAlgorithmBenchmark {
+    
+    static final int THREAD_COUNT = 64;
+    
+    @Param({"1", "100", "10000"})
+    private int keyGenerateCount;
+    
+    private KeyGenerateAlgorithm algorithm;
+    
+    private AlgorithmSQLContext algorithmSQLContext;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        algorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SNOWFLAKE");
+        algorithmSQLContext = new AlgorithmSQLContext("foo_db", "foo_schema", "t_order", "order_id");
+    }
+    
+    /**
+     * Generate keys.
+     *
+     * @return generated keys
+     */
+    @Benchmark
+    public Collection<? extends Comparable<?>> generateKeys() {
+        return algorithm.generateKeys(algorithmSQLContext, keyGenerateCount);
+    }
+}
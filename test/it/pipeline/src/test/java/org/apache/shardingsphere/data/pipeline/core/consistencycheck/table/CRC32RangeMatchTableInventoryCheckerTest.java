@@ -0,0 +1,184 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.consistencycheck.table;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.apache.commons.lang3.RandomStringUtils;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.ConsistencyCheckJobItemProgressContext;
+import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSource;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.range.QueryRange;
+import org.apache.shardingsphere.data.pipeline.core.metadata.model.PipelineColumnMetaData;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.database.schema.QualifiedTable;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CRC32RangeMatchTableInventoryCheckerTest {
+    
+    private static final int RECORDS_COUNT = 10000;
+    
+    private PipelineDataSource sourceDataSource;
+    
+    private PipelineDataSource targetDataSource;
+    
+    private ConsistencyCheckJobItemProgressContext progressContext;
+    
+    @BeforeEach
+    void setUp() throws SQLException {
+        sourceDataSource = createDataSource("crc32_source_" + RandomStringUtils.randomAlphanumeric(9));
+        targetDataSource = createDataSource("crc32_target_" + RandomStringUtils.randomAlphanumeric(9));
+        progressContext = new ConsistencyCheckJobItemProgressContext("foo_job", 0, "H2");
+    }
+    
+    private PipelineDataSource createDataSource(final String databaseName) throws SQLException {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(String.format("jdbc:h2:mem:%s;DATABASE_TO_UPPER=false;MODE=MySQL", databaseName));
+        dataSource.setUsername("root");
+        dataSource.setPassword("root");
+        dataSource.setMaximumPoolSize(10);
+        PipelineDataSource result = new PipelineDataSource(dataSource, TypedSPILoader.getService(DatabaseType.class, "H2"));
+        try (Connection connection = result.getConnection()) {
+            connection.createStatement().execute("CREATE TABLE t_order (order_id INT PRIMARY KEY, user_id INT NOT NULL, status VARCHAR(12))");
+            PreparedStatement preparedStatement = connection.prepareStatement("INSERT INTO t_order (order_id, user_id, status) VALUES (?, ?, ?)");
+            for (int i = 1; i <= RECORDS_COUNT; i++) {
+                preparedStatement.setInt(1, i);
+                preparedStatement.setInt(2, i % 10);
+                preparedStatement.setString(3, "OK");
+                preparedStatement.addBatch();
+            }
+            preparedStatement.executeBatch();
+        }
+        return result;
+    }
+    
+    @AfterEach
+    void tearDown() throws SQLException {
+        sourceDataSource.close();
+        targetDataSource.close();
+    }
+    
+    @Test
+    void assertCheckMatched() {
+        assertTrue(createChecker().checkSingleTableInventoryData().isMatched());
+        assertThat(progressContext.getCheckedRecordsCount().get(), is((long) RECORDS_COUNT));
+        assertThat(progressContext.getSourceTableCheckPositions().get("t_order"), is((long) RECORDS_COUNT));
+        assertThat(progressContext.getTargetTableCheckPositions().get("t_order"), is((long) RECORDS_COUNT));
+        assertTrue(progressContext.getMismatchedTableRanges().isEmpty());
+    }
+    
+    @Test
+    void assertCheckNotMatched() throws SQLException {
+        try (
+                Connection connection = targetDataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("UPDATE t_order SET status='FAILED' WHERE order_id=4321");
+            statement.execute("DELETE FROM t_order WHERE order_id=7000");
+        }
+        assertFalse(createChecker().checkSingleTableInventoryData().isMatched());
+        assertThat(progressContext.getCheckedRecordsCount().get(), is((long) RECORDS_COUNT));
+        Collection<QueryRange> actual = progressContext.getMismatchedTableRanges().get("t_order");
+        assertThat(actual.size(), is(2));
+        Iterator<QueryRange> iterator = actual.iterator();
+        assertMismatchedRange(iterator.next(), 4321L);
+        assertMismatchedRange(iterator.next(), 7000L);
+    }
+    
+    private void assertMismatchedRange(final QueryRange actual, final long expectedMismatchedKey) {
+        long lower = (long) actual.getLower();
+        long upper = (long) actual.getUpper();
+        assertTrue(actual.isLowerInclusive());
+        assertTrue(lower <= expectedMismatchedKey && expectedMismatchedKey <= upper);
+        assertThat(upper - lower + 1L, lessThanOrEqualTo(10L));
+    }
+    
+    @Test
+    void assertCheckFromCheckedPosition() throws SQLException {
+        try (
+                Connection connection = targetDataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("DELETE FROM t_order WHERE order_id=100");
+        }
+        progressContext.getSourceTableCheckPositions().put("t_order", 5000);
+        assertTrue(createChecker().checkSingleTableInventoryData().isMatched());
+        assertThat(progressContext.getCheckedRecordsCount().get(), is((long) RECORDS_COUNT / 2));
+    }
+    
+    @Test
+    void assertCheckFromCheckedPositionWithMismatchedRanges() {
+        progressContext.getSourceTableCheckPositions().put("t_order", RECORDS_COUNT);
+        progressContext.getMismatchedTableRanges().put("t_order", new ConcurrentLinkedQueue<>(Collections.singleton(new QueryRange(4321L, true, 4321L))));
+        assertFalse(createChecker().checkSingleTableInventoryData().isMatched());
+        progressContext.getSourceTableCheckPositions().put("t_order", 5000);
+        assertFalse(createChecker().checkSingleTableInventoryData().isMatched());
+        assertThat(progressContext.getMismatchedTableRanges().get("t_order").size(), is(1));
+    }
+    
+    @Test
+    void assertCheckSparseKeys() throws SQLException {
+        for (PipelineDataSource each : Arrays.asList(sourceDataSource, targetDataSource)) {
+            try (
+                    Connection connection = each.getConnection();
+                    Statement statement = connection.createStatement()) {
+                statement.execute("INSERT INTO t_order (order_id, user_id, status) VALUES (1000000000, 0, 'OK'), (2000000000, 0, 'OK')");
+            }
+        }
+        assertTrue(createChecker().checkSingleTableInventoryData().isMatched());
+        assertThat(progressContext.getCheckedRecordsCount().get(), is((long) RECORDS_COUNT + 2L));
+        assertThat(progressContext.getSourceTableCheckPositions().get("t_order"), is(2000000000L));
+    }
+    
+    @Test
+    void assertCheckEmptyTables() throws SQLException {
+        for (PipelineDataSource each : Arrays.asList(sourceDataSource, targetDataSource)) {
+            try (
+                    Connection connection = each.getConnection();
+                    Statement statement = connection.createStatement()) {
+                statement.execute("DELETE FROM t_order");
+            }
+        }
+        assertTrue(createChecker().checkSingleTableInventoryData().isMatched());
+        assertThat(progressContext.getCheckedRecordsCount().get(), is(0L));
+    }
+    
+    private CRC32RangeMatchTableInventoryChecker createChecker() {
+        QualifiedTable table = new QualifiedTable(null, "t_order");
+        PipelineColumnMetaData uniqueKey = new PipelineColumnMetaData(1, "order_id", Types.INTEGER, "integer", false, true, true);
+        TableInventoryCheckParameter param = new TableInventoryCheckParameter("foo_job", sourceDataSource, targetDataSource, table, table,
+                Arrays.asList("order_id", "user_id", "status"), Collections.singletonList(uniqueKey), null, progressContext);
+        return new CRC32RangeMatchTableInventoryChecker(param, 1000, 2, 10);
+    }
+}
@@ -44,6 +44,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
@@ -57,6 +58,8 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -112,6 +115,17 @@ class PipelineDataSourceSinkTest {
         verify(preparedStatement).addBatch();
     }
     
+    @Test
+    void assertWriteMultiRowInsertDataRecords() throws SQLException {
+        when(connection.prepareStatement(any())).thenReturn(preparedStatement);
+        when(channel.fetch(anyInt(), anyLong())).thenReturn(mockRecords(getDataRecord(PipelineSQLOperationType.INSERT), getDataRecord(PipelineSQLOperationType.INSERT, 2)));
+        importer.run();
+        verify(connection).prepareStatement("INSERT INTO test_table(id,user,status) VALUES(?,?,?),(?,?,?)");
+        verify(preparedStatement, times(6)).setObject(anyInt(), any());
+        verify(preparedStatement).executeUpdate();
+        verify(connection).commit();
+    }
+    
     @Test
     void assertDeleteDataRecord() throws SQLException {
         DataRecord deleteRecord = getDataRecord(PipelineSQLOperationType.DELETE);
@@ -137,6 +151,19 @@ class PipelineDataSourceSinkTest {
         verify(preparedStatement).executeUpdate();
     }
     
+    @Test
+    void assertBatchUpdateDataRecords() throws SQLException {
+        when(connection.prepareStatement(any())).thenReturn(preparedStatement);
+        when(channel.fetch(anyInt(), anyLong())).thenReturn(mockRecords(getDataRecord(PipelineSQLOperationType.UPDATE), getDataRecord(PipelineSQLOperationType.UPDATE, 2)));
+        when(preparedStatement.executeBatch()).thenReturn(new int[]{1, 1});
+        importer.run();
+        verify(preparedStatement).setObject(3, 1);
+        verify(preparedStatement).setObject(3, 2);
+        verify(preparedStatement, times(2)).addBatch();
+        verify(preparedStatement, never()).executeUpdate();
+        verify(connection).commit();
+    }
+    
     @Test
     void assertUpdatePrimaryKeyDataRecord() throws SQLException {
         DataRecord updateRecord = getUpdatePrimaryKeyDataRecord();
@@ -160,14 +187,17 @@ class PipelineDataSourceSinkTest {
         return result;
     }
     
-    private List<Record> mockRecords(final DataRecord dataRecord) {
-        List<Record> result = new LinkedList<>();
-        result.add(dataRecord);
+    private List<Record> mockRecords(final DataRecord... dataRecords) {
+        List<Record> result = new LinkedList<>(Arrays.asList(dataRecords));
         result.add(new FinishedRecord(new IngestFinishedPosition()));
         return result;
     }
     
     private DataRecord getDataRecord(final PipelineSQLOperationType type) {
+        return getDataRecord(type, 1);
+    }
+    
+    private DataRecord getDataRecord(final PipelineSQLOperationType type, final int id) {
         Integer idOldValue = null;
         Integer userOldValue = null;
         Integer idValue = null;
@@ -175,19 +205,19 @@ class PipelineDataSourceSinkTest {
         PipelineSQLOperationType statusOldValue = null;
         PipelineSQLOperationType statusValue = null;
         if (PipelineSQLOperationType.INSERT == type) {
-            idValue = 1;
+            idValue = id;
             userValue = 10;
             statusValue = type;
         }
         if (PipelineSQLOperationType.UPDATE == type) {
-            idOldValue = 1;
+            idOldValue = id;
             idValue = idOldValue;
             userOldValue = 10;
             userValue = 20;
             statusValue = type;
         }
         if (PipelineSQLOperationType.DELETE == type) {
-            idOldValue = 1;
+            idOldValue = id;
             userOldValue = 10;
             statusOldValue = type;
         }
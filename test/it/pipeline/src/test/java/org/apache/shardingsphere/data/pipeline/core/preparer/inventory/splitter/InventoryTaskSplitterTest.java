@@ -23,6 +23,7 @@ import org.apache.shardingsphere.data.pipeline.core.metadata.model.PipelineColum
 import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourceManager;
 import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSource;
 import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.pk.type.IntegerPrimaryKeyIngestPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.pk.type.StringPrimaryKeyIngestPosition;
 import org.apache.shardingsphere.data.pipeline.core.metadata.loader.PipelineTableMetaDataUtils;
 import org.apache.shardingsphere.data.pipeline.core.metadata.loader.StandardPipelineTableMetaDataLoader;
 import org.apache.shardingsphere.data.pipeline.core.task.InventoryTask;
@@ -45,6 +46,7 @@ import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class InventoryTaskSplitterTest {
@@ -113,6 +115,41 @@ class InventoryTaskSplitterTest {
         assertThat(keyPosition.getEndValue(), is(999L));
     }
     
+    @Test
+    void assertSplitWithStringPrimaryBySampling() throws SQLException {
+        initStringPrimaryEnvironment(dumperContext.getCommonContext());
+        try (PipelineDataSource dataSource = dataSourceManager.getDataSource(dumperContext.getCommonContext().getDataSourceConfig())) {
+            dumperContext.setUniqueKeyColumns(PipelineTableMetaDataUtils.getUniqueKeyColumns(null, "t_order", new StandardPipelineTableMetaDataLoader(dataSource)));
+            List<InventoryTask> actual = inventoryTaskSplitter.split(jobItemContext);
+            assertThat(actual.size(), is(10));
+            StringPrimaryKeyIngestPosition firstPosition = (StringPrimaryKeyIngestPosition) actual.get(0).getTaskProgress().getPosition();
+            assertThat(firstPosition.getBeginValue(), is("k001"));
+            assertThat(firstPosition.getEndValue(), is("k010"));
+            StringPrimaryKeyIngestPosition secondPosition = (StringPrimaryKeyIngestPosition) actual.get(1).getTaskProgress().getPosition();
+            assertThat(secondPosition.getBeginValue(), is("k011"));
+            assertThat(secondPosition.getEndValue(), is("k020"));
+            StringPrimaryKeyIngestPosition lastPosition = (StringPrimaryKeyIngestPosition) actual.get(9).getTaskProgress().getPosition();
+            assertThat(lastPosition.getBeginValue(), is("k091"));
+            assertNull(lastPosition.getEndValue());
+        }
+    }
+    
+    @Test
+    void assertSplitWithMultipleColumnsKeyBySampling() throws SQLException {
+        initUnionPrimaryEnvironmentWithDuplicatedFirstColumn(dumperContext.getCommonContext());
+        try (PipelineDataSource dataSource = dataSourceManager.getDataSource(dumperContext.getCommonContext().getDataSourceConfig())) {
+            dumperContext.setUniqueKeyColumns(PipelineTableMetaDataUtils.getUniqueKeyColumns(null, "t_order", new StandardPipelineTableMetaDataLoader(dataSource)));
+            List<InventoryTask> actual = inventoryTaskSplitter.split(jobItemContext);
+            assertThat(actual.size(), is(10));
+            IntegerPrimaryKeyIngestPosition firstPosition = (IntegerPrimaryKeyIngestPosition) actual.get(0).getTaskProgress().getPosition();
+            assertThat(firstPosition.getBeginValue(), is(1L));
+            assertThat(firstPosition.getEndValue(), is(5L));
+            IntegerPrimaryKeyIngestPosition lastPosition = (IntegerPrimaryKeyIngestPosition) actual.get(9).getTaskProgress().getPosition();
+            assertThat(lastPosition.getBeginValue(), is(46L));
+            assertThat(lastPosition.getEndValue(), is(Long.MAX_VALUE));
+        }
+    }
+    
     @Test
     void assertSplitWithoutPrimaryButWithUniqueIndex() throws SQLException {
         initUniqueIndexOnNotNullColumnEnvironment(dumperContext.getCommonContext());
@@ -176,6 +213,32 @@ class InventoryTaskSplitterTest {
         }
     }
     
+    private void initStringPrimaryEnvironment(final DumperCommonContext dumperContext) throws SQLException {
+        DataSource dataSource = dataSourceManager.getDataSource(dumperContext.getDataSourceConfig());
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS t_order");
+            statement.execute("CREATE TABLE t_order (order_id VARCHAR(12) PRIMARY KEY, user_id VARCHAR(12))");
+            for (int i = 1; i <= 100; i++) {
+                statement.execute(String.format("INSERT INTO t_order (order_id, user_id) VALUES ('k%03d', 'x')", i));
+            }
+        }
+    }
+    
+    private void initUnionPrimaryEnvironmentWithDuplicatedFirstColumn(final DumperCommonContext dumperContext) throws SQLException {
+        DataSource dataSource = dataSourceManager.getDataSource(dumperContext.getDataSourceConfig());
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS t_order");
+            statement.execute("CREATE TABLE t_order (order_id INT, user_id VARCHAR(12), PRIMARY KEY (order_id, user_id))");
+            for (int i = 1; i <= 50; i++) {
+                statement.execute(String.format("INSERT INTO t_order (order_id, user_id) VALUES (%d, 'xxx'), (%d, 'yyy')", i, i));
+            }
+        }
+    }
+    
     private void initUnionPrimaryEnvironment(final DumperCommonContext dumperContext) throws SQLException {
         DataSource dataSource = dataSourceManager.getDataSource(dumperContext.getDataSourceConfig());
         try (
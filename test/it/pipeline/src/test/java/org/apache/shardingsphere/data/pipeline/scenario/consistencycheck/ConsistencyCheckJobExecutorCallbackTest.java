@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.data.pipeline.scenario.consistencycheck;
 
 import org.apache.shardingsphere.data.pipeline.core.context.PipelineContextKey;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.range.QueryRange;
 import org.apache.shardingsphere.data.pipeline.core.job.JobStatus;
 import org.apache.shardingsphere.data.pipeline.core.job.api.PipelineAPIFactory;
 import org.apache.shardingsphere.data.pipeline.core.job.id.PipelineJobIdUtils;
@@ -41,6 +42,7 @@ import java.util.Optional;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ConsistencyCheckJobExecutorCallbackTest {
     
@@ -63,6 +65,10 @@ class ConsistencyCheckJobExecutorCallbackTest {
         ConsistencyCheckJobItemContext actual = callback.buildJobItemContext(jobConfig, 0, jobItemProgress.orElse(null), null, null);
         assertThat(actual.getProgressContext().getSourceTableCheckPositions(), is(expectTableCheckPosition));
         assertThat(actual.getProgressContext().getTargetTableCheckPositions(), is(expectTableCheckPosition));
+        QueryRange actualMismatchedRange = actual.getProgressContext().getMismatchedTableRanges().get("t_order").iterator().next();
+        assertThat(actualMismatchedRange.getLower(), is(10L));
+        assertTrue(actualMismatchedRange.isLowerInclusive());
+        assertThat(actualMismatchedRange.getUpper(), is(20L));
     }
     
     private YamlConsistencyCheckJobItemProgress createYamlConsistencyCheckJobItemProgress(final Map<String, Object> expectTableCheckPosition) {
@@ -70,6 +76,7 @@ class ConsistencyCheckJobExecutorCallbackTest {
         result.setStatus(JobStatus.RUNNING.name());
         result.setSourceTableCheckPositions(expectTableCheckPosition);
         result.setTargetTableCheckPositions(expectTableCheckPosition);
+        result.setMismatchedTableRanges(Collections.singletonMap("t_order", Collections.singletonList("i,10,20")));
         return result;
     }
     
@@ -25,17 +25,28 @@ import org.apache.shardingsphere.test.it.data.pipeline.core.util.PipelineContext
 import javax.sql.DataSource;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Optional;
 
 /**
  * Pipeline SQL builder for H2.
  */
 public final class H2PipelineSQLBuilder implements DialectPipelineSQLBuilder {
     
+    @Override
+    public boolean isSupportMultiRowInsert() {
+        return true;
+    }
+    
     @Override
     public String buildCheckEmptyTableSQL(final String qualifiedTableName) {
         return String.format("SELECT * FROM %s LIMIT 1", qualifiedTableName);
     }
     
+    @Override
+    public Optional<String> buildRangeCRC32SQL(final String qualifiedTableName, final String columnName, final String uniqueKey) {
+        return Optional.of(String.format("SELECT BIT_XOR_AGG(ORA_HASH(%s)) AS checksum, COUNT(1) AS cnt FROM %s WHERE %s>=? AND %s<=?", columnName, qualifiedTableName, uniqueKey, uniqueKey));
+    }
+    
     @Override
     public Collection<String> buildCreateTableSQLs(final DataSource dataSource, final String schemaName, final String tableName) {
         ShardingSpherePreconditions.checkState("t_order".equalsIgnoreCase(tableName), () -> new CreateTableSQLGenerateException(tableName));